@@ -0,0 +1,105 @@
+package com.nava.samiyuri.assets;
+
+import com.nava.samiyuri.knowledge.KnowledgeBaseWriter;
+import com.nava.samiyuri.langpack.LanguagePackWriter;
+import com.nava.samiyuri.names.NameBlocklistWriter;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+/**
+ * AssetCompiler - Build-time entry point that compiles the app's data assets.
+ * <p>
+ * Run by the {@code generateAssets} Gradle task, which passes one
+ * {@code <kind> <source> <target>} triple per asset. Kinds:
+ * - {@code knowledge}: the growing tips TSV to a knowledge base file
+ * - {@code blocklist}: the name blocklist TSV to an automaton file
+ * - {@code langpacks}: a directory of {@code <language>.pack} sources to a
+ *   directory of compiled packs, replacing whatever packs were there
+ * <p>
+ * Only the pure-Java writers are used, so this compiles and runs without the
+ * Android SDK on the classpath. It is not packaged into the app.
+ *
+ * @author Neriou
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class AssetCompiler {
+
+    private static final String PACK_SOURCE_SUFFIX = ".pack";
+    private static final String PACK_SUFFIX = ".smlp";
+
+    private AssetCompiler() {
+        // Entry point only
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0 || args.length % 3 != 0) {
+            throw new IllegalArgumentException("Usage: AssetCompiler (<kind> <source> <target>)...");
+        }
+        for (int i = 0; i < args.length; i += 3) {
+            File source = new File(args[i + 1]);
+            File target = new File(args[i + 2]);
+            switch (args[i]) {
+                case "knowledge":
+                    compileKnowledge(source, target);
+                    break;
+                case "blocklist":
+                    compileBlocklist(source, target);
+                    break;
+                case "langpacks":
+                    compileLanguagePacks(source, target);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown asset kind: " + args[i]);
+            }
+        }
+    }
+
+    private static void compileKnowledge(File source, File target) throws IOException {
+        try (Reader in = reader(source); OutputStream out = output(target)) {
+            KnowledgeBaseWriter.write(KnowledgeBaseWriter.readSource(in), out);
+        }
+    }
+
+    private static void compileBlocklist(File source, File target) throws IOException {
+        try (Reader in = reader(source); OutputStream out = output(target)) {
+            NameBlocklistWriter.write(NameBlocklistWriter.readSource(in), out);
+        }
+    }
+
+    private static void compileLanguagePacks(File sourceDirectory, File targetDirectory) throws IOException {
+        File[] stale = targetDirectory.listFiles((dir, name) -> name.endsWith(PACK_SUFFIX));
+        if (stale != null) {
+            for (File pack : stale) {
+                Files.delete(pack.toPath());
+            }
+        }
+        File[] sources = sourceDirectory.listFiles((dir, name) -> name.endsWith(PACK_SOURCE_SUFFIX));
+        if (sources == null || sources.length == 0) {
+            throw new IOException("No language pack sources in " + sourceDirectory);
+        }
+        for (File source : sources) {
+            String name = source.getName();
+            String language = name.substring(0, name.length() - PACK_SOURCE_SUFFIX.length());
+            try (Reader in = reader(source);
+                 OutputStream out = output(new File(targetDirectory, language + PACK_SUFFIX))) {
+                LanguagePackWriter.write(LanguagePackWriter.readSource(language, in), out);
+            }
+        }
+    }
+
+    private static Reader reader(File source) throws IOException {
+        return new InputStreamReader(Files.newInputStream(source.toPath()), StandardCharsets.UTF_8);
+    }
+
+    private static OutputStream output(File target) throws IOException {
+        Files.createDirectories(target.getParentFile().toPath());
+        return Files.newOutputStream(target.toPath());
+    }
+}
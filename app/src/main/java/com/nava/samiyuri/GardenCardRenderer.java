@@ -0,0 +1,132 @@
+package com.nava.samiyuri;
+
+import android.content.Context;
+import android.view.View;
+
+import com.nava.samiyuri.databinding.ActivityMainBinding;
+import com.nava.samiyuri.text.TextPrecomputer;
+
+import java.util.List;
+
+/**
+ * GardenCardRenderer - Applies {@link GardenCardState}s to the buddy card, touching only what changed.
+ * <p>
+ * Every carousel switch used to set the name, avatar, both text lines and eight
+ * visibility flags, and every mood tick formatted the status again, even when
+ * the card already showed exactly that. Each of those calls can request a
+ * layout pass or a redraw of the card, which slow GPUs feel.
+ * <p>
+ * Key Features:
+ * - Compares each new state with the last rendered one, field by field, see
+ *   {@link GardenCardState#changesFrom}
+ * - Strings are formatted only for lines that change
+ * - Hidden text lines are not updated; they are filled in when shown again
+ * - Text lines are measured in the background by {@link TextPrecomputer};
+ *   {@link #prefetch} measures every buddy's lines ahead of the first switch
+ * - The first render after creation, or after a recycled view tree is attached,
+ *   applies everything
+ * <p>
+ * Use from the main thread.
+ *
+ * @author Neriou
+ * @version 1.0
+ * @since 2026-10-18
+ */
+final class GardenCardRenderer {
+
+    private final Context context;
+    private final ActivityMainBinding binding;
+    private final GardenScreenState state;
+
+    /**
+     * Views shown only for actual plant buddies.
+     */
+    private final View[] careViews;
+
+    private GardenCardState rendered;
+
+    /**
+     * Creates a renderer for a garden screen's card.
+     *
+     * @param context The garden screen
+     * @param binding The screen's views
+     * @param state The retained state that caches decoded avatars
+     */
+    GardenCardRenderer(Context context, ActivityMainBinding binding, GardenScreenState state) {
+        this.context = context;
+        this.binding = binding;
+        this.state = state;
+        this.careViews = new View[] {
+                binding.buddyStatus,
+                binding.buddyGrowthStage,
+                binding.labelIWant,
+                binding.buttonWaterBuddy,
+                binding.buttonAnalyzePlant,
+                binding.labelPlantAnalysis,
+                binding.buttonSunlight,
+                binding.buttonInfo
+        };
+    }
+
+    /**
+     * Returns the card currently on screen.
+     *
+     * @return The last rendered state, or null before the first render
+     */
+    GardenCardState getRendered() {
+        return rendered;
+    }
+
+    /**
+     * Measures the name and growth stage lines of cards that may be shown later.
+     * <p>
+     * Until a line is measured its view keeps the previous text, so the carousel
+     * would briefly show the last buddy's name on a switch to one not seen yet.
+     *
+     * @param cards The card of every loaded buddy
+     */
+    void prefetch(List<GardenCardState> cards) {
+        TextPrecomputer precomputer = TextPrecomputer.getInstance();
+        for (GardenCardState card : cards) {
+            precomputer.prefetch(binding.buddyName, card.name);
+            if (card.careVisible) {
+                precomputer.prefetch(binding.buddyGrowthStage,
+                        context.getString(card.growthStageResource, card.name));
+            }
+        }
+    }
+
+    /**
+     * Shows a card state, updating only the views that differ from the last one.
+     *
+     * @param next The card to show
+     */
+    void render(GardenCardState next) {
+        int changes = next.changesFrom(rendered);
+        if (changes == 0) {
+            return;
+        }
+        TextPrecomputer precomputer = TextPrecomputer.getInstance();
+
+        if ((changes & GardenCardState.NAME) != 0) {
+            precomputer.setTextAsync(binding.buddyName, next.name);
+        }
+        if ((changes & GardenCardState.AVATAR) != 0) {
+            binding.buddyAvatar.setImageDrawable(state.getAvatar(context, next.avatarResource));
+        }
+        if ((changes & GardenCardState.CARE_VISIBILITY) != 0) {
+            int visibility = next.careVisible ? View.VISIBLE : View.GONE;
+            for (View view : careViews) {
+                view.setVisibility(visibility);
+            }
+        }
+        if ((changes & GardenCardState.STATUS) != 0) {
+            precomputer.setTextAsync(binding.buddyStatus, context.getString(next.statusResource));
+        }
+        if ((changes & GardenCardState.GROWTH_STAGE) != 0) {
+            precomputer.setTextAsync(binding.buddyGrowthStage,
+                    context.getString(next.growthStageResource, next.name));
+        }
+        rendered = next;
+    }
+}
@@ -0,0 +1,162 @@
+package com.nava.samiyuri;
+
+import java.util.Objects;
+
+/**
+ * GardenCardState - What the garden screen's buddy card shows, as one immutable value.
+ * <p>
+ * The garden screen describes the card it wants with a new state and hands it to
+ * {@link GardenCardRenderer}, which compares it with the card already on screen
+ * and only touches the views that differ.
+ * <p>
+ * Texts are kept as resource ids and the buddy name, so building a state never
+ * formats a string; the renderer formats only what changed. What changed is
+ * decided by {@link #changesFrom}, which needs no views and runs on the JVM.
+ *
+ * @author Neriou
+ * @version 1.0
+ * @since 2026-10-18
+ */
+final class GardenCardState {
+
+    /** The name line changes. */
+    static final int NAME = 1;
+
+    /** The avatar changes. */
+    static final int AVATAR = 1 << 1;
+
+    /** The status, growth stage and care actions are shown or hidden. */
+    static final int CARE_VISIBILITY = 1 << 2;
+
+    /** The status line changes. */
+    static final int STATUS = 1 << 3;
+
+    /** The growth stage line changes. */
+    static final int GROWTH_STAGE = 1 << 4;
+
+    /**
+     * The buddy's display name.
+     */
+    final String name;
+
+    /**
+     * The avatar drawable for the buddy's current mood.
+     */
+    final int avatarResource;
+
+    /**
+     * Whether the status, growth stage and care actions are shown; false for the
+     * "add new buddy" placeholder.
+     */
+    final boolean careVisible;
+
+    /**
+     * The mood status line, or 0 when care is hidden.
+     */
+    final int statusResource;
+
+    /**
+     * The growth stage line, formatted with the buddy name, or 0 when care is hidden.
+     */
+    final int growthStageResource;
+
+    private GardenCardState(String name, int avatarResource, boolean careVisible,
+                            int statusResource, int growthStageResource) {
+        this.name = name;
+        this.avatarResource = avatarResource;
+        this.careVisible = careVisible;
+        this.statusResource = statusResource;
+        this.growthStageResource = growthStageResource;
+    }
+
+    /**
+     * Creates the card of an actual plant buddy.
+     *
+     * @param name The buddy's display name
+     * @param avatarResource The avatar for its current mood
+     * @param statusResource The mood status line
+     * @return The card state
+     */
+    static GardenCardState forPlant(String name, int avatarResource, int statusResource) {
+        // The card currently always shows the seed stage
+        return new GardenCardState(name, avatarResource, true, statusResource, R.string.stage_seed);
+    }
+
+    /**
+     * Creates the card of the "add new buddy" placeholder.
+     *
+     * @param name The placeholder's title
+     * @param avatarResource The placeholder's icon
+     * @return The card state
+     */
+    static GardenCardState forPlaceholder(String name, int avatarResource) {
+        return new GardenCardState(name, avatarResource, false, 0, 0);
+    }
+
+    /**
+     * Returns this card with another mood.
+     *
+     * @param avatarResource The avatar for the new mood
+     * @param statusResource The status line for the new mood
+     * @return The updated card state
+     */
+    GardenCardState withMood(int avatarResource, int statusResource) {
+        return new GardenCardState(name, avatarResource, careVisible,
+                careVisible ? statusResource : 0, growthStageResource);
+    }
+
+    /**
+     * Returns which parts of the card must be updated to go from one state to this one.
+     * <p>
+     * Text lines are only reported while care is visible; hidden lines are filled
+     * in when they are shown again.
+     *
+     * @param previous The card on screen, or null if nothing was rendered yet
+     * @return A combination of {@link #NAME}, {@link #AVATAR}, {@link #CARE_VISIBILITY},
+     *         {@link #STATUS} and {@link #GROWTH_STAGE}; 0 if nothing changes
+     */
+    int changesFrom(GardenCardState previous) {
+        if (equals(previous)) {
+            return 0;
+        }
+        boolean full = previous == null;
+        int changes = 0;
+        if (full || !Objects.equals(previous.name, name)) {
+            changes |= NAME;
+        }
+        if (full || previous.avatarResource != avatarResource) {
+            changes |= AVATAR;
+        }
+        if (full || previous.careVisible != careVisible) {
+            changes |= CARE_VISIBILITY;
+        }
+        if (careVisible) {
+            if ((changes & CARE_VISIBILITY) != 0 || previous.statusResource != statusResource) {
+                changes |= STATUS;
+            }
+            // The growth stage line is formatted with the name
+            if ((changes & (CARE_VISIBILITY | NAME)) != 0
+                    || previous.growthStageResource != growthStageResource) {
+                changes |= GROWTH_STAGE;
+            }
+        }
+        return changes;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        GardenCardState that = (GardenCardState) o;
+        return avatarResource == that.avatarResource
+                && careVisible == that.careVisible
+                && statusResource == that.statusResource
+                && growthStageResource == that.growthStageResource
+                && Objects.equals(name, that.name);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, avatarResource, careVisible, statusResource, growthStageResource);
+    }
+}
@@ -0,0 +1,263 @@
+package com.nava.samiyuri;
+
+import android.content.Context;
+import android.content.pm.ActivityInfo;
+import android.content.res.Configuration;
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.drawable.BitmapDrawable;
+import android.graphics.drawable.Drawable;
+import android.os.Handler;
+import android.os.Looper;
+
+import androidx.lifecycle.ViewModel;
+
+import com.nava.samiyuri.cache.CacheGovernor;
+import com.nava.samiyuri.cache.GovernedCache;
+import com.nava.samiyuri.device.DevicePerformance;
+import com.nava.samiyuri.search.BuddySearchIndex;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * GardenScreenState - Everything the garden screen knows that outlives its views.
+ * <p>
+ * Rotating the device or changing the locale recreates {@link MainActivity}.
+ * Without this holder, recreation rebuilt the plant list from the launch Intent,
+ * reset the carousel and mood positions, and started a second mood loop while the
+ * first one was only stopped in {@code onDestroy()}. The state now lives in a
+ * {@link ViewModel} that survives recreation, so a new activity only rebinds its
+ * views.
+ * <p>
+ * Key Features:
+ * - Loaded plant buddies, carousel position and mood position are kept as-is
+ * - A single mood cycling loop that outlives recreation and only stops when the
+ *   garden screen is really closed
+ * - Decoded avatars are shared between activity instances through a governed cache;
+ *   on low-end devices they are rasterized once at reduced resolution, so the card
+ *   blits a small bitmap instead of redrawing vector paths
+ * - The jump-to-buddy search index, updated as buddies are added or renamed
+ * <p>
+ * Fields are only accessed on the main thread.
+ *
+ * @author Neriou
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class GardenScreenState extends ViewModel {
+
+    /**
+     * Time between automatic mood changes in milliseconds.
+     */
+    static final long MOOD_CYCLE_INTERVAL = 3000;
+
+    /**
+     * Maximum number of decoded avatars kept for reuse on a mid-range device.
+     * <p>
+     * Two species with three moods each, plus the "add" placeholder, with room
+     * for the species that follow.
+     */
+    private static final int MAX_CACHED_AVATARS = 16;
+
+    /**
+     * Configuration changes that invalidate decoded avatars.
+     */
+    private static final int AVATAR_CONFIG_CHANGES =
+            ActivityInfo.CONFIG_DENSITY | ActivityInfo.CONFIG_UI_MODE;
+
+    /**
+     * MoodTickListener - Receives mood cycling ticks while a garden screen is attached.
+     */
+    interface MoodTickListener {
+
+        /**
+         * Called on the main thread every {@link #MOOD_CYCLE_INTERVAL} milliseconds.
+         */
+        void onMoodTick();
+    }
+
+    /**
+     * List containing all plant buddy instances that the user can interact with.
+     * <p>
+     * Includes named radish and lettuce plants, plus an "Add New Buddy" placeholder
+     * for future expansion functionality. Null until the first garden screen loads it.
+     */
+    List<MainActivity.Plant> plantBuddies;
+
+    /**
+     * Prefix index over buddy names for jump-to-buddy search.
+     */
+    final BuddySearchIndex searchIndex = new BuddySearchIndex();
+
+    /**
+     * Carousel position of each buddy, so search results map to cards directly.
+     */
+    final Map<Long, Integer> buddyPositions = new HashMap<>();
+
+    /**
+     * Current plant index in the carousel.
+     */
+    int currentPlantIndex = 0;
+
+    /**
+     * Current mood index for the mood cycling feature (0=happy, 1=sad, 2=thirsty).
+     */
+    int currentMoodIndex = 0;
+
+    /**
+     * Direction of the last card swipe: true = next, false = previous.
+     */
+    boolean isMovingToNext = true;
+
+    private final Handler moodCyclingHandler = new Handler(Looper.getMainLooper());
+    private final Runnable moodCyclingRunnable = new Runnable() {
+        @Override
+        public void run() {
+            // Ticks while no screen is attached (mid-recreation) are simply skipped
+            if (moodTickListener != null) {
+                moodTickListener.onMoodTick();
+            }
+
+            // Schedule the next mood change
+            moodCyclingHandler.postDelayed(this, MOOD_CYCLE_INTERVAL);
+        }
+    };
+    private boolean moodCyclingStarted;
+    private MoodTickListener moodTickListener;
+
+    private final GovernedCache<Integer, Drawable.ConstantState> avatars =
+            CacheGovernor.getInstance().register(GovernedCache.<Integer, Drawable.ConstantState>counting(
+                    "garden-avatars", GovernedCache.Priority.HIGH,
+                    DevicePerformance.getTier().scaleCacheSize(MAX_CACHED_AVATARS)));
+    private Configuration avatarConfiguration;
+
+    /**
+     * Returns whether the plant buddies have already been loaded.
+     *
+     * @return true if a previous garden screen already loaded the plants
+     */
+    boolean isLoaded() {
+        return plantBuddies != null;
+    }
+
+    /**
+     * Adds a buddy to the carousel and the search index.
+     * <p>
+     * Calling it again for the same id renames the buddy in the index.
+     *
+     * @param plant The buddy to add; the "add" placeholder is not searchable
+     * @param position The buddy's position in {@link #plantBuddies}
+     */
+    void indexBuddy(MainActivity.Plant plant, int position) {
+        if (plant.getId() == 0) {
+            return;
+        }
+        searchIndex.put(plant.getId(), plant.getName() != null ? plant.getName() : "");
+        buddyPositions.put(plant.getId(), position);
+    }
+
+    /**
+     * Attaches a garden screen to this state.
+     *
+     * @param listener Receives mood ticks until {@link #detach(MoodTickListener)}
+     * @param configuration The screen's current configuration
+     */
+    void attach(MoodTickListener listener, Configuration configuration) {
+        moodTickListener = listener;
+
+        // Avatars decoded for another density or night mode must not be reused
+        if (avatarConfiguration != null && (avatarConfiguration.diff(configuration) & AVATAR_CONFIG_CHANGES) != 0) {
+            avatars.clear();
+        }
+        avatarConfiguration = new Configuration(configuration);
+    }
+
+    /**
+     * Detaches a garden screen that is being destroyed.
+     *
+     * @param listener The listener passed to {@link #attach}
+     */
+    void detach(MoodTickListener listener) {
+        if (moodTickListener == listener) {
+            moodTickListener = null;
+        }
+    }
+
+    /**
+     * Starts the automatic mood cycling loop unless it is already running.
+     */
+    void startMoodCycling() {
+        if (moodCyclingStarted) {
+            return;
+        }
+        moodCyclingStarted = true;
+
+        // Start the mood cycling with an initial delay
+        moodCyclingHandler.postDelayed(moodCyclingRunnable, MOOD_CYCLE_INTERVAL);
+    }
+
+    /**
+     * Returns the avatar drawable for a mood resource, decoding it only once.
+     * <p>
+     * Each call returns a new drawable that shares its decoded data with the cached
+     * one, so it can be used by any view without affecting the others.
+     *
+     * @param context Context of the screen that will show the avatar
+     * @param drawableRes The avatar's drawable resource
+     * @return A drawable ready to be set on an image view
+     */
+    Drawable getAvatar(Context context, int drawableRes) {
+        Drawable.ConstantState cached = avatars.get(drawableRes);
+        if (cached != null) {
+            return cached.newDrawable(context.getResources());
+        }
+
+        Drawable drawable = context.getDrawable(drawableRes);
+        float scale = DevicePerformance.getTier().getAvatarScale();
+        if (drawable != null && scale < 1f) {
+            drawable = rasterize(context, drawable, scale);
+        }
+        if (drawable != null && drawable.getConstantState() != null) {
+            avatars.put(drawableRes, drawable.getConstantState());
+        }
+        return drawable;
+    }
+
+    /**
+     * Draws a drawable into a bitmap at a fraction of its intrinsic size.
+     *
+     * @return A bitmap drawable that scales back up to the view, or the original
+     *         drawable if it has no intrinsic size
+     */
+    private static Drawable rasterize(Context context, Drawable drawable, float scale) {
+        int width = Math.round(drawable.getIntrinsicWidth() * scale);
+        int height = Math.round(drawable.getIntrinsicHeight() * scale);
+        if (width <= 0 || height <= 0) {
+            return drawable;
+        }
+        Bitmap software = Bitmap.createBitmap(width, height, Bitmap.Config.ARGB_8888);
+        drawable.setBounds(0, 0, width, height);
+        drawable.draw(new Canvas(software));
+
+        // Keep the pixels in graphics memory only, like the story illustrations
+        Bitmap hardware = software.copy(Bitmap.Config.HARDWARE, false);
+        if (hardware != null) {
+            software.recycle();
+            software = hardware;
+        }
+        BitmapDrawable bitmapDrawable = new BitmapDrawable(context.getResources(), software);
+        bitmapDrawable.setFilterBitmap(true);
+        return bitmapDrawable;
+    }
+
+    @Override
+    protected void onCleared() {
+        // The garden screen is gone for good - stop the loop and release the avatars
+        moodCyclingHandler.removeCallbacks(moodCyclingRunnable);
+        moodTickListener = null;
+        CacheGovernor.getInstance().unregister(avatars);
+        avatars.clear();
+    }
+}
@@ -0,0 +1,139 @@
+package com.nava.samiyuri;
+
+import android.content.Context;
+import android.content.SharedPreferences;
+import android.content.res.Configuration;
+import android.content.res.Resources;
+
+import com.nava.samiyuri.langpack.LanguagePackManager;
+
+import java.util.Locale;
+
+/**
+ * LanguagePreferences - Persistence and application of the child's chosen language.
+ * <p>
+ * The language is chosen once during onboarding and remembered for future app
+ * launches. This class is the single place that knows where the choice is stored
+ * and how it is applied to the app's resources, so every screen renders text in
+ * the same language.
+ * <p>
+ * Supported language codes:
+ * - English: "en" (ISO 639-1)
+ * - Spanish: "es" (ISO 639-1)
+ * - Quechua: "qu" (ISO 639-1)
+ * - Aymara: "ay" (ISO 639-1)
+ * - Ashaninka: "cni" (ISO 639-3, fallback to Spanish if not supported)
+ *
+ * @author Neriou
+ * @version 1.0
+ * @since 2025-07-06
+ */
+public final class LanguagePreferences {
+
+    /**
+     * SharedPreferences key for storing the selected language code.
+     * <p>
+     * This constant ensures consistency across the app when retrieving
+     * the user's language preference. The key is intentionally descriptive
+     * to avoid conflicts with other app preferences.
+     */
+    private static final String LANGUAGE_PREFERENCE_KEY = "selected_language_code";
+
+    /**
+     * SharedPreferences file name for app-wide settings.
+     * <p>
+     * Using a dedicated preferences file for app settings ensures clean
+     * separation from other potential SharedPreferences files and makes
+     * data management more organized for future features.
+     */
+    static final String PREFERENCES_FILE_NAME = "samiyura_settings";
+
+    /**
+     * Language used when the selected one cannot be applied.
+     * <p>
+     * Spanish is the primary official language of Peru and the most widely
+     * understood fallback for speakers of the indigenous languages we support.
+     */
+    private static final String FALLBACK_LANGUAGE_CODE = "es";
+
+    private LanguagePreferences() {
+        // Static utility
+    }
+
+    /**
+     * Retrieves the previously selected language preference from storage.
+     * <p>
+     * If no language preference exists, it returns null, indicating that
+     * the language selection screen should be shown. This supports the app's
+     * goal of showing the language selection only once per installation.
+     *
+     * @param context The context to access SharedPreferences
+     * @return The saved language code, or null if no preference exists
+     */
+    public static String getSaved(Context context) {
+        SharedPreferences preferences =
+                context.getSharedPreferences(PREFERENCES_FILE_NAME, Context.MODE_PRIVATE);
+        return preferences.getString(LANGUAGE_PREFERENCE_KEY, null);
+    }
+
+    /**
+     * Saves the selected language preference to persistent storage.
+     * <p>
+     * The preference is written asynchronously with {@code apply()}, so the
+     * caller never waits for the disk.
+     *
+     * @param context The context to access SharedPreferences
+     * @param languageCode The ISO language code to save (e.g., "en", "es", "qu")
+     */
+    public static void save(Context context, String languageCode) {
+        context.getSharedPreferences(PREFERENCES_FILE_NAME, Context.MODE_PRIVATE)
+                .edit()
+                .putString(LANGUAGE_PREFERENCE_KEY, languageCode)
+                .apply();
+    }
+
+    /**
+     * Applies the specified language locale to the given context's resources.
+     * <p>
+     * The change takes effect immediately, so every view inflated afterwards
+     * renders text in the selected language. The locale change affects:
+     * - All text loaded from strings.xml resources
+     * - Date, time and number formatting
+     * - Text direction (important for potential RTL language support)
+     * <p>
+     * For indigenous languages that may not be fully supported by Android's
+     * built-in locale system, the method gracefully falls back to Spanish
+     * to ensure the app remains functional.
+     *
+     * <p>
+     * The language's content pack (story text and other longer content) starts
+     * loading in the background at the same time.
+     *
+     * @param context The context whose resources should use the locale
+     * @param languageCode The ISO language code to apply (e.g., "en", "es", "qu")
+     */
+    public static void apply(Context context, String languageCode) {
+        try {
+            applyLocale(context, new Locale(languageCode));
+        } catch (Exception e) {
+            // If there's any issue with the locale change, fall back to Spanish
+            applyLocale(context, new Locale(FALLBACK_LANGUAGE_CODE));
+        }
+        LanguagePackManager.getInstance(context).select(languageCode);
+    }
+
+    /**
+     * Updates the default locale and the resources configuration.
+     */
+    @SuppressWarnings("deprecation")
+    private static void applyLocale(Context context, Locale locale) {
+        // Set this as the default locale for the JVM
+        // This affects formatting and other locale-sensitive operations
+        Locale.setDefault(locale);
+
+        Resources resources = context.getResources();
+        Configuration configuration = resources.getConfiguration();
+        configuration.setLocale(locale);
+        resources.updateConfiguration(configuration, resources.getDisplayMetrics());
+    }
+}
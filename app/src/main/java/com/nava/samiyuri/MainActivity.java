@@ -1,22 +1,46 @@
 package com.nava.samiyuri;
 
 import android.content.Intent;
+import android.graphics.Bitmap;
 import android.os.Bundle;
-import android.os.Handler;
-import android.os.Looper;
+import android.text.Editable;
+import android.text.TextWatcher;
 import android.view.View;
+import android.view.ViewGroup;
+import android.view.ViewTreeObserver;
 import android.view.animation.Animation;
 import android.view.animation.AnimationUtils;
+import android.widget.FrameLayout;
+import android.widget.ImageView;
 import android.widget.Toast;
 
+import androidx.annotation.Nullable;
 import androidx.appcompat.app.AppCompatActivity;
 import androidx.core.graphics.Insets;
 import androidx.core.view.ViewCompat;
 import androidx.core.view.WindowInsetsCompat;
+import androidx.lifecycle.ViewModelProvider;
 
 import com.nava.samiyuri.databinding.ActivityMainBinding;
+import com.nava.samiyuri.device.DevicePerformance;
+import com.nava.samiyuri.device.DeviceTier;
+import com.nava.samiyuri.garden.CareAction;
+import com.nava.samiyuri.garden.PlantRecord;
+import com.nava.samiyuri.history.CareTimelineActivity;
+import com.nava.samiyuri.knowledge.GrowingTip;
+import com.nava.samiyuri.knowledge.KnowledgeBase;
+import com.nava.samiyuri.light.AmbientLightMonitor;
+import com.nava.samiyuri.narration.NarrationPlayer;
+import com.nava.samiyuri.overview.GardenOverviewActivity;
+import com.nava.samiyuri.overview.SpriteAtlas;
+import com.nava.samiyuri.snapshot.LaunchSnapshotStore;
+import com.nava.samiyuri.sound.SoundEffect;
+import com.nava.samiyuri.sound.SoundEffects;
+import com.nava.samiyuri.storage.GardenStore;
+import com.nava.samiyuri.text.TextPrecomputer;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -31,7 +55,10 @@ import java.util.List;
  * - Smooth card-like sliding animations between plant buddies
  * - Interactive buttons with visual press feedback
  * - Localized strings for international accessibility
- * - Optimized for low-spec Android devices (API 30+)
+ * - Optimized for low-spec Android devices (API 30+): animations, avatar resolution
+ *   and caches follow the {@link DeviceTier} decided at start-up
+ * - Leaves a launch snapshot behind when it goes to the background; a cold start
+ *   shows it in the first frame and cross-fades to the live screen once built
  * <p>
  * The design philosophy follows "Less Screen, More Garden" - encouraging real-world
  * plant care through digital guidance and positive reinforcement.
@@ -43,68 +70,126 @@ import java.util.List;
 public class MainActivity extends AppCompatActivity {
 
     /**
-     * View binding instance for type-safe access to layout components.
-     * <p>
-     * Using ViewBinding instead of findViewById() for better performance
-     * and compile-time safety, especially important on low-spec devices.
+     * Intent extra with the carousel position to resume on, set when launching
+     * from a launch snapshot.
      */
-    private ActivityMainBinding binding;
+    public static final String EXTRA_PLANT_INDEX = "PLANT_INDEX";
 
     /**
-     * List containing all plant buddy instances that the user can interact with.
-     * <p>
-     * Includes named radish and lettuce plants, plus an "Add New Buddy" placeholder
-     * for future expansion functionality.
+     * Intent extra with the mood to resume in, set when launching from a launch snapshot.
      */
-    private List<Plant> plantBuddies;
+    public static final String EXTRA_MOOD_INDEX = "MOOD_INDEX";
 
     /**
-     * Current plant index in the carousel.
-     * <p>
-     * Used to track which plant buddy is currently being displayed
-     * and to handle navigation between different plants.
+     * Duration of the cross-fade from the launch snapshot to the live screen,
+     * before the device tier's animation scale.
      */
-    private int currentPlantIndex = 0;
+    private static final long SNAPSHOT_FADE_MILLIS = 250;
 
     /**
-     * Handler for managing timed operations on the main UI thread.
+     * View binding instance for type-safe access to layout components.
      * <p>
-     * Specifically used for the automatic mood cycling feature that
-     * changes plant emotions every 3 seconds for presentation purposes.
+     * Using ViewBinding instead of findViewById() for better performance
+     * and compile-time safety, especially important on low-spec devices.
      */
-    private Handler moodCyclingHandler;
+    private ActivityMainBinding binding;
 
     /**
-     * Runnable task for cycling through different plant moods.
+     * Plant buddies, carousel position and mood loop retained across recreation.
      * <p>
-     * This creates a presentation-friendly experience where plants
-     * show all their emotional states automatically.
+     * Rotating the device or changing the locale only rebinds views to this state;
+     * nothing is reloaded.
      */
-    private Runnable moodCyclingRunnable;
+    private GardenScreenState state;
 
     /**
-     * Current mood index for the mood cycling feature.
-     * <p>
-     * Tracks which emotion is currently being displayed as part
-     * of the automatic presentation cycling.
+     * Applies card states to the buddy card, touching only the views that change.
      */
-    private int currentMoodIndex = 0;
+    private GardenCardRenderer cardRenderer;
 
     /**
-     * Flag to track the direction of the last card swipe.
-     * <p>
-     * Used to determine which sliding animation to apply:
-     * true = moving to next (slide right), false = moving to previous (slide left)
+     * The launch snapshot shown over the screen while it is built, or null once it has faded out.
+     */
+    private ImageView launchSnapshotView;
+
+    /**
+     * Receives mood cycling ticks from the retained state while this screen is alive.
      */
-    private boolean isMovingToNext = true;
+    private final GardenScreenState.MoodTickListener moodTickListener = () -> {
+        // Only cycle moods for actual plants, not the "add new buddy" placeholder
+        if (state.currentPlantIndex < state.plantBuddies.size() - 1) {
+            cyclePlantMood();
+        }
+    };
 
     @Override
     protected void onCreate(Bundle savedInstanceState) {
         super.onCreate(savedInstanceState);
 
-        // Initialize view binding for type-safe access to UI components
-        binding = ActivityMainBinding.inflate(getLayoutInflater());
-        setContentView(binding.getRoot());
+        // A returning child sees their garden as they left it while the real screen is built
+        Bitmap launchImage = savedInstanceState == null && getIntent().hasExtra(EXTRA_PLANT_INDEX)
+                ? LaunchSnapshotStore.getInstance(this).takeImage()
+                : null;
+        if (launchImage != null) {
+            showLaunchSnapshot(launchImage);
+        } else {
+            createGardenScreen(null);
+        }
+    }
+
+    /**
+     * Shows the launch snapshot and builds the garden screen behind it.
+     * <p>
+     * The snapshot alone is cheap to lay out, so it makes the first frame. The
+     * real screen is only built once that frame has been drawn.
+     *
+     * @param image The picture of the garden screen saved when it was last hidden
+     */
+    private void showLaunchSnapshot(Bitmap image) {
+        FrameLayout frame = new FrameLayout(this);
+        ImageView snapshotView = new ImageView(this);
+        snapshotView.setScaleType(ImageView.ScaleType.FIT_XY);
+        snapshotView.setImageBitmap(image);
+        frame.addView(snapshotView, new FrameLayout.LayoutParams(
+                ViewGroup.LayoutParams.MATCH_PARENT, ViewGroup.LayoutParams.MATCH_PARENT));
+        setContentView(frame);
+        launchSnapshotView = snapshotView;
+
+        snapshotView.getViewTreeObserver().addOnPreDrawListener(new ViewTreeObserver.OnPreDrawListener() {
+            @Override
+            public boolean onPreDraw() {
+                snapshotView.getViewTreeObserver().removeOnPreDrawListener(this);
+                // Posted during the traversal, so it runs once the frame is drawn
+                snapshotView.post(() -> {
+                    if (!isDestroyed()) {
+                        createGardenScreen(frame);
+                    }
+                });
+                return true;
+            }
+        });
+    }
+
+    /**
+     * Builds the garden screen and binds it to the retained state.
+     *
+     * @param snapshotFrame The frame showing the launch snapshot, which the screen is
+     *                      added beneath before the snapshot fades out; null to make
+     *                      the screen the content view directly
+     */
+    private void createGardenScreen(@Nullable FrameLayout snapshotFrame) {
+        // Attach the tree pre-built during onboarding when available,
+        // otherwise initialize view binding for type-safe access to UI components
+        binding = MainScreenPrewarmer.take(this);
+        if (binding == null) {
+            binding = ActivityMainBinding.inflate(getLayoutInflater());
+        }
+        if (snapshotFrame == null) {
+            setContentView(binding.getRoot());
+        } else {
+            snapshotFrame.addView(binding.getRoot(), 0, new FrameLayout.LayoutParams(
+                    ViewGroup.LayoutParams.MATCH_PARENT, ViewGroup.LayoutParams.MATCH_PARENT));
+        }
 
         // Handle system window insets for modern Android edge-to-edge display
         ViewCompat.setOnApplyWindowInsetsListener(binding.getRoot(), (v, insets) -> {
@@ -112,12 +197,61 @@ public class MainActivity extends AppCompatActivity {
             v.setPadding(systemBars.left, systemBars.top, systemBars.right, systemBars.bottom);
             return insets;
         });
+        if (snapshotFrame != null) {
+            // The window insets were dispatched before this tree was attached
+            binding.getRoot().requestApplyInsets();
+        }
+
+        // Measure the mood status lines in the background before the first mood change
+        TextPrecomputer.getInstance().prefetch(binding.buddyStatus,
+                getString(R.string.status_happy),
+                getString(R.string.status_needs_attention),
+                getString(R.string.status_thirsty));
+
+        // Reuse the state of a previous instance after a configuration change
+        state = new ViewModelProvider(this).get(GardenScreenState.class);
+        state.attach(moodTickListener, getResources().getConfiguration());
+        cardRenderer = new GardenCardRenderer(this, binding, state);
 
         // Initialize core functionality
-        setupPlantBuddies();
+        boolean restored = state.isLoaded();
+        if (!restored) {
+            setupPlantBuddies();
+        }
+        prefetchCardText();
         updateUI();
+        if (state.currentPlantIndex < state.plantBuddies.size() - 1) {
+            // Keep the status text in step with the retained or resumed mood avatar
+            updateStatusForMood(state.currentMoodIndex);
+        }
         setupClickListeners();
         startMoodCycling();
+
+        if (snapshotFrame != null) {
+            fadeOutLaunchSnapshot();
+        }
+    }
+
+    /**
+     * Cross-fades from the launch snapshot to the live screen beneath it.
+     * <p>
+     * The live card shows the same buddy and mood as the snapshot, so only the
+     * sharpness changes. Low-end devices swap instantly instead.
+     */
+    private void fadeOutLaunchSnapshot() {
+        ImageView snapshotView = launchSnapshotView;
+        launchSnapshotView = null;
+        Runnable remove = () -> ((ViewGroup) snapshotView.getParent()).removeView(snapshotView);
+
+        DeviceTier tier = DevicePerformance.getTier();
+        if (!tier.hasAnimations()) {
+            remove.run();
+            return;
+        }
+        snapshotView.animate()
+                .alpha(0f)
+                .setDuration((long) (SNAPSHOT_FADE_MILLIS * tier.getAnimationScale()))
+                .withEndAction(remove);
     }
 
     /**
@@ -125,10 +259,12 @@ public class MainActivity extends AppCompatActivity {
      * <p>
      * Creates Plant objects for the radish and lettuce that were named during the
      * ceremony activity, plus adds an "Add New Buddy" option for future features.
-     * The plants start with happy mood states as the default presentation state.
+     * The plants start with happy mood states as the default presentation state,
+     * unless the garden is resumed from a launch snapshot, which restores the
+     * buddy and mood it shows.
      */
     private void setupPlantBuddies() {
-        plantBuddies = new ArrayList<>();
+        List<Plant> plantBuddies = new ArrayList<>();
 
         // Retrieve plant names from the naming ceremony activity
         Intent intent = getIntent();
@@ -137,11 +273,47 @@ public class MainActivity extends AppCompatActivity {
 
         // Create plant buddy instances with happy default states
         // Using happy variants as the starting point for mood cycling
-        plantBuddies.add(new Plant(radishName, "radish", R.drawable.plant_radish_happy));
-        plantBuddies.add(new Plant(lettuceName, "lettuce", R.drawable.iceberg_lettuce_happy));
+        plantBuddies.add(new Plant(GardenStore.STARTER_RADISH_ID, radishName,
+                PlantRecord.SPECIES_RADISH, R.drawable.plant_radish_happy));
+        plantBuddies.add(new Plant(GardenStore.STARTER_LETTUCE_ID, lettuceName,
+                PlantRecord.SPECIES_LETTUCE, R.drawable.iceberg_lettuce_happy));
 
         // Add expansion placeholder for future "add new plant" functionality
-        plantBuddies.add(new Plant("Add New Buddy", "add", R.drawable.ic_add));
+        plantBuddies.add(new Plant(0, "Add New Buddy", "add", R.drawable.ic_add));
+
+        state.plantBuddies = plantBuddies;
+        for (int i = 0; i < plantBuddies.size(); i++) {
+            state.indexBuddy(plantBuddies.get(i), i);
+        }
+
+        // Match the launch snapshot, so the live card fades in without a jump
+        int plantIndex = intent.getIntExtra(EXTRA_PLANT_INDEX, 0);
+        if (plantIndex > 0 && plantIndex < plantBuddies.size()) {
+            state.currentPlantIndex = plantIndex;
+        }
+        Plant currentPlant = plantBuddies.get(state.currentPlantIndex);
+        int[] moods = SpriteAtlas.getMoodDrawables(currentPlant.getType());
+        int moodIndex = intent.getIntExtra(EXTRA_MOOD_INDEX, 0);
+        if (moods != null && moodIndex > 0 && moodIndex < moods.length) {
+            state.currentMoodIndex = moodIndex;
+            currentPlant.setImageResource(moods[moodIndex]);
+        }
+    }
+
+    /**
+     * Measures every buddy's name and growth stage lines in the background, so
+     * carousel switches find them ready.
+     */
+    private void prefetchCardText() {
+        List<GardenCardState> cards = new ArrayList<>();
+        for (Plant plant : state.plantBuddies) {
+            if (plant.getType().equals("add")) {
+                cards.add(GardenCardState.forPlaceholder(plant.getName(), plant.getImageResource()));
+            } else {
+                cards.add(GardenCardState.forPlant(plant.getName(), plant.getImageResource(), R.string.status_happy));
+            }
+        }
+        cardRenderer.prefetch(cards);
     }
 
     /**
@@ -159,66 +331,28 @@ public class MainActivity extends AppCompatActivity {
      * <p>
      * For the "add new buddy" placeholder, it hides all plant-specific UI elements
      * to create a clean, focused interface for the expansion feature.
+     * <p>
+     * The card is described as a {@link GardenCardState}; the renderer only updates
+     * the views that differ from the card already on screen.
      */
     private void updateUI() {
         // Safety check to prevent crashes if plant list is empty
-        if (plantBuddies.isEmpty()) return;
+        if (state.plantBuddies.isEmpty()) return;
 
-        Plant currentPlant = plantBuddies.get(currentPlantIndex);
-
-        // Update plant name and avatar image
-        binding.buddyName.setText(currentPlant.getName());
-        binding.buddyAvatar.setImageResource(currentPlant.getImageResource());
+        Plant currentPlant = state.plantBuddies.get(state.currentPlantIndex);
 
         // Handle UI visibility based on plant type
         if (currentPlant.getType().equals("add")) {
             // Hide all plant-specific UI for the "add new buddy" placeholder
-            hideAllPlantSpecificUI();
+            cardRenderer.render(GardenCardState.forPlaceholder(
+                    currentPlant.getName(), currentPlant.getImageResource()));
         } else {
-            // Show all plant-specific UI for actual plant buddies
-            showAllPlantSpecificUI();
-
-            // Set plant-specific status and growth information
-            binding.buddyStatus.setText(getString(R.string.status_happy));
-            binding.buddyGrowthStage.setText(getString(R.string.stage_seed, currentPlant.getName()));
+            // Show all plant-specific UI, with status and growth information
+            cardRenderer.render(GardenCardState.forPlant(
+                    currentPlant.getName(), currentPlant.getImageResource(), R.string.status_happy));
         }
     }
 
-    /**
-     * Hides all UI elements that are specific to plant care and monitoring.
-     * <p>
-     * This method is called when the "Add New Buddy" placeholder is selected,
-     * creating a clean interface that focuses attention on the expansion feature
-     * rather than confusing users with irrelevant plant care options.
-     */
-    private void hideAllPlantSpecificUI() {
-        binding.buddyStatus.setVisibility(View.GONE);
-        binding.buddyGrowthStage.setVisibility(View.GONE);
-        binding.labelIWant.setVisibility(View.GONE);
-        binding.buttonWaterBuddy.setVisibility(View.GONE);
-        binding.buttonAnalyzePlant.setVisibility(View.GONE);
-        binding.labelPlantAnalysis.setVisibility(View.GONE);
-        binding.buttonSunlight.setVisibility(View.GONE);
-        binding.buttonInfo.setVisibility(View.GONE);
-    }
-
-    /**
-     * Shows all UI elements that are specific to plant care and monitoring.
-     * <p>
-     * This method is called when an actual plant buddy is selected,
-     * providing the full interface for plant care, monitoring, and interaction.
-     */
-    private void showAllPlantSpecificUI() {
-        binding.buddyStatus.setVisibility(View.VISIBLE);
-        binding.buddyGrowthStage.setVisibility(View.VISIBLE);
-        binding.labelIWant.setVisibility(View.VISIBLE);
-        binding.buttonWaterBuddy.setVisibility(View.VISIBLE);
-        binding.buttonAnalyzePlant.setVisibility(View.VISIBLE);
-        binding.labelPlantAnalysis.setVisibility(View.VISIBLE);
-        binding.buttonSunlight.setVisibility(View.VISIBLE);
-        binding.buttonInfo.setVisibility(View.VISIBLE);
-    }
-
     /**
      * Starts the automatic mood cycling feature for presentation purposes.
      * <p>
@@ -228,25 +362,12 @@ public class MainActivity extends AppCompatActivity {
      * off all the different plant emotions and states.
      * <p>
      * The cycling only affects actual plant buddies, not the "add new buddy" placeholder.
+     * The loop is owned by {@link GardenScreenState} and keeps its rhythm across
+     * configuration changes.
      */
     private void startMoodCycling() {
-        moodCyclingHandler = new Handler(Looper.getMainLooper());
-
-        moodCyclingRunnable = new Runnable() {
-            @Override
-            public void run() {
-                // Only cycle moods for actual plants, not the "add new buddy" placeholder
-                if (currentPlantIndex < plantBuddies.size() - 1) {
-                    cyclePlantMood();
-                }
-
-                // Schedule the next mood change in 3 seconds
-                moodCyclingHandler.postDelayed(this, 3000);
-            }
-        };
-
-        // Start the mood cycling with an initial delay
-        moodCyclingHandler.postDelayed(moodCyclingRunnable, 3000);
+        // The loop lives in the retained state, so recreation never starts a second one
+        state.startMoodCycling();
     }
 
     /**
@@ -262,46 +383,27 @@ public class MainActivity extends AppCompatActivity {
      * real-world plant care actions.
      */
     private void cyclePlantMood() {
-        if (plantBuddies.isEmpty() || currentPlantIndex >= plantBuddies.size() - 1) {
+        if (state.plantBuddies.isEmpty() || state.currentPlantIndex >= state.plantBuddies.size() - 1) {
             return;
         }
 
-        Plant currentPlant = plantBuddies.get(currentPlantIndex);
-        String plantType = currentPlant.getType();
-
-        // Define mood resources for each plant type
-        int[] radishMoods = {
-                R.drawable.plant_radish_happy,
-                R.drawable.plant_radish_sad,
-                R.drawable.plant_radish_thirsty
-        };
-
-        int[] lettuceMoods = {
-                R.drawable.iceberg_lettuce_happy,
-                R.drawable.iceberg_lettuce_sad,
-                R.drawable.iceberg_lettuce_thirsty
-        };
-
-        // Get the appropriate mood array based on plant type
-        int[] currentMoods;
-        if (plantType.equals("radish")) {
-            currentMoods = radishMoods;
-        } else if (plantType.equals("lettuce")) {
-            currentMoods = lettuceMoods;
-        } else {
+        Plant currentPlant = state.plantBuddies.get(state.currentPlantIndex);
+
+        // Mood avatars for this species; the overview grid draws the same set
+        int[] currentMoods = SpriteAtlas.getMoodDrawables(currentPlant.getType());
+        if (currentMoods == null) {
             return; // Skip mood cycling for non-plant types
         }
 
         // Update to next mood in the cycle
-        currentMoodIndex = (currentMoodIndex + 1) % currentMoods.length;
-        int newImageResource = currentMoods[currentMoodIndex];
+        state.currentMoodIndex = (state.currentMoodIndex + 1) % currentMoods.length;
+        int newImageResource = currentMoods[state.currentMoodIndex];
 
-        // Update the plant's image resource and refresh the UI
+        // Update the plant's image resource and refresh the UI, with the status
+        // text matching the current mood for better user feedback
         currentPlant.setImageResource(newImageResource);
-        binding.buddyAvatar.setImageResource(newImageResource);
-
-        // Update status text to match the current mood for better user feedback
-        updateStatusForMood(currentMoodIndex);
+        cardRenderer.render(cardRenderer.getRendered()
+                .withMood(newImageResource, getStatusForMood(state.currentMoodIndex)));
     }
 
     /**
@@ -313,21 +415,42 @@ public class MainActivity extends AppCompatActivity {
      * @param moodIndex The current mood index (0=happy, 1=sad, 2=thirsty)
      */
     private void updateStatusForMood(int moodIndex) {
-        String statusText;
+        GardenCardState card = cardRenderer.getRendered();
+        cardRenderer.render(card.withMood(card.avatarResource, getStatusForMood(moodIndex)));
+    }
+
+    /**
+     * Returns the status text resource for a plant mood.
+     *
+     * @param moodIndex The mood index (0=happy, 1=sad, 2=thirsty)
+     * @return The status string resource
+     */
+    private static int getStatusForMood(int moodIndex) {
         switch (moodIndex) {
-            case 0: // Happy
-                statusText = getString(R.string.status_happy);
-                break;
             case 1: // Sad
-                statusText = getString(R.string.status_needs_attention);
-                break;
+                return R.string.status_needs_attention;
             case 2: // Thirsty
-                statusText = getString(R.string.status_thirsty);
-                break;
+                return R.string.status_thirsty;
+            case 0: // Happy
             default:
-                statusText = getString(R.string.status_happy);
+                return R.string.status_happy;
         }
-        binding.buddyStatus.setText(statusText);
+    }
+
+    /**
+     * Reads the status line currently on the card aloud.
+     * <p>
+     * The clip is named after the status string and looked up in the language the
+     * string is shown in; statuses not recorded in that language stay silent.
+     */
+    private void narrateStatus() {
+        int statusResource = cardRenderer.getRendered().statusResource;
+        if (statusResource == 0) {
+            return; // The "add" placeholder has no status
+        }
+        String language = getResources().getConfiguration().getLocales().get(0).getLanguage();
+        NarrationPlayer.getInstance(this).speak(language,
+                Collections.singletonList(getResources().getResourceEntryName(statusResource)));
     }
 
     /**
@@ -343,14 +466,25 @@ public class MainActivity extends AppCompatActivity {
      * <p>
      * Content is updated only when the card is completely off-screen to prevent
      * visual artifacts while maintaining the illusion of physical card movement.
+     * <p>
+     * Animation lengths follow the device tier; low-end devices switch the card
+     * instantly instead of stuttering through the slide.
      *
      * @param newIndex The index of the plant buddy to transition to
      */
     private void animateAndSwitch(final int newIndex) {
+        DeviceTier tier = DevicePerformance.getTier();
+        if (!tier.hasAnimations()) {
+            state.currentPlantIndex = newIndex;
+            updateUI();
+            return;
+        }
+
         // Determine slide out animation based on navigation direction
-        Animation slideOut = isMovingToNext ?
+        Animation slideOut = state.isMovingToNext ?
                 AnimationUtils.loadAnimation(this, R.anim.slide_out_left) :
                 AnimationUtils.loadAnimation(this, R.anim.slide_out_right);
+        slideOut.scaleCurrentDuration(tier.getAnimationScale());
 
         slideOut.setAnimationListener(new Animation.AnimationListener() {
             @Override
@@ -363,13 +497,14 @@ public class MainActivity extends AppCompatActivity {
             @Override
             public void onAnimationEnd(Animation animation) {
                 // Card is now completely off-screen - safe to update content
-                currentPlantIndex = newIndex;
+                state.currentPlantIndex = newIndex;
                 updateUI();
 
                 // Start slide in animation with new content
-                Animation slideIn = isMovingToNext ?
+                Animation slideIn = state.isMovingToNext ?
                         AnimationUtils.loadAnimation(MainActivity.this, R.anim.slide_in_right) :
                         AnimationUtils.loadAnimation(MainActivity.this, R.anim.slide_in_left);
+                slideIn.scaleCurrentDuration(tier.getAnimationScale());
 
                 slideIn.setAnimationListener(new Animation.AnimationListener() {
                     @Override
@@ -404,25 +539,34 @@ public class MainActivity extends AppCompatActivity {
     }
 
     /**
-     * Adds visual press feedback animation to any view.
+     * Adds press feedback to any view: a soft tick and a scale animation.
      * <p>
      * This method applies a subtle scale animation that provides immediate
      * visual feedback when buttons are pressed, making the interface feel
-     * more responsive and tactile.
+     * more responsive and tactile. The tick plays as soon as the finger lands,
+     * not when it lifts. Low-end devices skip the animation and keep the ripple
+     * and the tick only.
      *
      * @param view The view to animate when pressed
      */
     private void addPressAnimation(View view) {
+        boolean animate = DevicePerformance.getTier().hasPressFeedback();
+        SoundEffects soundEffects = SoundEffects.getInstance(this);
         view.setOnTouchListener((v, event) -> {
             switch (event.getAction()) {
                 case android.view.MotionEvent.ACTION_DOWN:
-                    // Scale down slightly when pressed
-                    v.animate().scaleX(0.95f).scaleY(0.95f).setDuration(100);
+                    soundEffects.play(SoundEffect.NAVIGATE);
+                    if (animate) {
+                        // Scale down slightly when pressed
+                        v.animate().scaleX(0.95f).scaleY(0.95f).setDuration(100);
+                    }
                     break;
                 case android.view.MotionEvent.ACTION_UP:
                 case android.view.MotionEvent.ACTION_CANCEL:
-                    // Scale back to normal when released
-                    v.animate().scaleX(1.0f).scaleY(1.0f).setDuration(100);
+                    if (animate) {
+                        // Scale back to normal when released
+                        v.animate().scaleX(1.0f).scaleY(1.0f).setDuration(100);
+                    }
                     break;
             }
             return false; // Allow other touch events to proceed
@@ -435,6 +579,9 @@ public class MainActivity extends AppCompatActivity {
      * This method configures the touch interactions for:
      * - Navigation arrows (left/right carousel movement)
      * - Menu icon (opens settings)
+     * - Header title (opens the overview of all buddies)
+     * - Long press on the buddy card (opens its care history)
+     * - Status line (reads the buddy's status aloud)
      * - Care action buttons (water, sunlight, lab analysis)
      * - Information button (growing tips and plant facts)
      * <p>
@@ -445,6 +592,7 @@ public class MainActivity extends AppCompatActivity {
 
         // Add press animations to interactive elements for better tactile feedback
         addPressAnimation(binding.menuIcon);
+        addPressAnimation(binding.headerTitle);
         addPressAnimation(binding.arrowLeft);
         addPressAnimation(binding.arrowRight);
 
@@ -454,32 +602,112 @@ public class MainActivity extends AppCompatActivity {
             startActivity(intent);
         });
 
+        // Header title - opens the overview of every buddy at once
+        binding.headerTitle.setOnClickListener(v -> {
+            Intent intent = new Intent(MainActivity.this, GardenOverviewActivity.class);
+            startActivity(intent);
+        });
+
+        // Long-pressing a buddy's card - opens its care history
+        binding.centralCard.setOnLongClickListener(v -> {
+            Plant currentPlant = state.plantBuddies.get(state.currentPlantIndex);
+            if (currentPlant.getId() == 0) {
+                return false; // The "add" placeholder has no history
+            }
+            startActivity(CareTimelineActivity.newIntent(this, currentPlant.getId(), currentPlant.getName()));
+            return true;
+        });
+
         // Left arrow - navigate to previous plant buddy
         binding.arrowLeft.setOnClickListener(v -> {
-            isMovingToNext = false; // Set direction for animation
-            int newIndex = (currentPlantIndex - 1 + plantBuddies.size()) % plantBuddies.size();
+            state.isMovingToNext = false; // Set direction for animation
+            int newIndex = (state.currentPlantIndex - 1 + state.plantBuddies.size()) % state.plantBuddies.size();
             animateAndSwitch(newIndex);
         });
 
         // Right arrow - navigate to next plant buddy
         binding.arrowRight.setOnClickListener(v -> {
-            isMovingToNext = true; // Set direction for animation
-            int newIndex = (currentPlantIndex + 1) % plantBuddies.size();
+            state.isMovingToNext = true; // Set direction for animation
+            int newIndex = (state.currentPlantIndex + 1) % state.plantBuddies.size();
             animateAndSwitch(newIndex);
         });
 
+        // Status line - read aloud for children who cannot read yet
+        binding.buddyStatus.setOnClickListener(v -> narrateStatus());
+
+        // Search field - jumps to the best matching buddy as the child types
+        setupBuddySearch();
+
         // Plant care action buttons - provide positive feedback for care actions
         setupCareActionButtons();
 
         // Information button - provides educational content about plant care
         binding.buttonInfo.setOnClickListener(v -> {
-            Plant currentPlant = plantBuddies.get(currentPlantIndex);
+            Plant currentPlant = state.plantBuddies.get(state.currentPlantIndex);
             Toast.makeText(MainActivity.this,
-                    getString(R.string.buddy_info_message),
-                    Toast.LENGTH_SHORT).show();
+                    getGrowingTip(currentPlant),
+                    Toast.LENGTH_LONG).show();
+        });
+    }
+
+    /**
+     * Sets up jump-to-buddy search.
+     * <p>
+     * Every keystroke queries the retained prefix index over normalized buddy
+     * names, so "nawi" finds "Ñawi" and "qumir" finds "Q'umir", and the best
+     * match is shown at once without a sliding animation. The plant list itself
+     * is never scanned.
+     */
+    private void setupBuddySearch() {
+        binding.searchBuddy.addTextChangedListener(new TextWatcher() {
+            @Override
+            public void beforeTextChanged(CharSequence s, int start, int count, int after) {
+                // Not used
+            }
+
+            @Override
+            public void onTextChanged(CharSequence s, int start, int before, int count) {
+                List<Long> matches = state.searchIndex.search(s.toString(), 1);
+                if (matches.isEmpty()) {
+                    return;
+                }
+                Integer position = state.buddyPositions.get(matches.get(0));
+                if (position != null && position != state.currentPlantIndex) {
+                    state.currentPlantIndex = position;
+                    updateUI();
+                }
+            }
+
+            @Override
+            public void afterTextChanged(Editable s) {
+                // Not used
+            }
         });
     }
 
+    /**
+     * Returns the growing tip for a plant buddy in the current app language.
+     * <p>
+     * Tips come from the offline knowledge base, which is memory-mapped in the
+     * background at start-up; the lookup itself is a binary search over the mapped
+     * file. Until the knowledge base is available, the general info message is shown.
+     *
+     * @param plant The plant buddy the tip is for
+     * @return The tip text to show
+     */
+    private String getGrowingTip(Plant plant) {
+        KnowledgeBase knowledgeBase = KnowledgeBase.getIfLoaded();
+        if (knowledgeBase != null) {
+            // The card currently always shows the seed stage, see GardenCardState
+            String language = getResources().getConfiguration().getLocales().get(0).getLanguage();
+            GrowingTip tip = knowledgeBase.getTip(plant.getType(), 0, language);
+            if (tip != null) {
+                return tip.getText();
+            }
+        }
+        return getString(R.string.buddy_info_message);
+    }
+
     /**
      * Sets up the plant care action buttons with appropriate feedback messages.
      * <p>
@@ -488,41 +716,116 @@ public class MainActivity extends AppCompatActivity {
      * - Give sunlight: Simulates providing light to the plant
      * - Lab analysis: Encourages observation of the real plant
      * <p>
-     * Each action provides encouraging feedback through localized toast messages
-     * that reinforce positive plant care behaviors and guide children toward
-     * real-world interaction with their physical plants.
+     * Giving sunlight also tells the ambient light sensor which buddy the tablet is
+     * standing next to, so the light it measures is credited to that buddy.
+     * <p>
+     * Each action provides encouraging feedback through its own sound and a
+     * localized toast message that reinforce positive plant care behaviors and
+     * guide children toward real-world interaction with their physical plants.
+     * <p>
+     * Every action is also recorded in the buddy's care history. Recording only
+     * enqueues the write on the garden store's I/O thread, so the tap never waits
+     * for the disk.
      */
     private void setupCareActionButtons() {
+        GardenStore gardenStore = GardenStore.getInstance(this);
+        SoundEffects soundEffects = SoundEffects.getInstance(this);
 
         // Water buddy button - encourages real-world watering
         binding.buttonWaterBuddy.setOnClickListener(v -> {
-            Plant currentPlant = plantBuddies.get(currentPlantIndex);
+            Plant currentPlant = state.plantBuddies.get(state.currentPlantIndex);
+            soundEffects.play(SoundEffect.WATER);
+            gardenStore.recordCare(currentPlant.getId(), CareAction.WATER);
             String message = getString(R.string.buddy_watered_message, currentPlant.getName());
             Toast.makeText(MainActivity.this, message, Toast.LENGTH_SHORT).show();
         });
 
         // Give sunlight button - encourages proper plant positioning for light
+        // The tablet's light sensor then measures the light this buddy receives
+        AmbientLightMonitor lightMonitor = AmbientLightMonitor.getInstance(this);
         binding.buttonAnalyzePlant.setOnClickListener(v -> {
-            Plant currentPlant = plantBuddies.get(currentPlantIndex);
-            String message = getString(R.string.buddy_sunlight_message, currentPlant.getName());
+            Plant currentPlant = state.plantBuddies.get(state.currentPlantIndex);
+            soundEffects.play(SoundEffect.SUN);
+            gardenStore.recordCare(currentPlant.getId(), CareAction.SUNLIGHT);
+            lightMonitor.setActivePlant(currentPlant.getId());
+
+            int sunshineMinutes = lightMonitor.getIntegrator()
+                    .getBrightLightMinutes(currentPlant.getId(), System.currentTimeMillis());
+            String message = sunshineMinutes > 0
+                    ? getString(R.string.buddy_light_dose_message, currentPlant.getName(), sunshineMinutes)
+                    : getString(R.string.buddy_sunlight_message, currentPlant.getName());
             Toast.makeText(MainActivity.this, message, Toast.LENGTH_SHORT).show();
         });
 
         // Lab analysis button - encourages observation and scientific thinking
         binding.buttonSunlight.setOnClickListener(v -> {
-            Plant currentPlant = plantBuddies.get(currentPlantIndex);
+            Plant currentPlant = state.plantBuddies.get(state.currentPlantIndex);
+            soundEffects.play(SoundEffect.LAB);
+            gardenStore.recordCare(currentPlant.getId(), CareAction.LAB_CHECK);
             String message = getString(R.string.buddy_lab_analysis_message, currentPlant.getName());
             Toast.makeText(MainActivity.this, message, Toast.LENGTH_SHORT).show();
         });
     }
 
+    @Override
+    protected void onStart() {
+        super.onStart();
+
+        // Light readings are only delivered while the app is in the foreground
+        AmbientLightMonitor.getInstance(this).start();
+
+        // Keep the sound effects stream open only while the garden is visible
+        SoundEffects.getInstance(this).start();
+    }
+
+    @Override
+    protected void onPause() {
+        super.onPause();
+
+        // The window is still visible here, so the next launch can start from this frame
+        captureLaunchSnapshot();
+    }
+
+    /**
+     * Saves what the garden screen shows for the next cold start.
+     */
+    private void captureLaunchSnapshot() {
+        // Nothing worth keeping while the screen is being built or only recreated
+        if (binding == null || launchSnapshotView != null || isChangingConfigurations()) {
+            return;
+        }
+        String radishName = null;
+        String lettuceName = null;
+        for (Plant plant : state.plantBuddies) {
+            if (plant.getId() == GardenStore.STARTER_RADISH_ID) {
+                radishName = plant.getName();
+            } else if (plant.getId() == GardenStore.STARTER_LETTUCE_ID) {
+                lettuceName = plant.getName();
+            }
+        }
+        if (radishName == null || lettuceName == null) {
+            return;
+        }
+        LaunchSnapshotStore.getInstance(this).capture(this, binding.getRoot(),
+                radishName, lettuceName, state.currentPlantIndex, state.currentMoodIndex);
+    }
+
+    @Override
+    protected void onStop() {
+        super.onStop();
+        AmbientLightMonitor.getInstance(this).stop();
+        SoundEffects.getInstance(this).stop();
+        NarrationPlayer.getInstance(this).stop();
+    }
+
     @Override
     protected void onDestroy() {
         super.onDestroy();
 
-        // Clean up resources to prevent memory leaks
-        if (moodCyclingHandler != null && moodCyclingRunnable != null) {
-            moodCyclingHandler.removeCallbacks(moodCyclingRunnable);
+        // Stop receiving mood ticks; the retained state stops the loop itself
+        // once the garden screen is finished rather than recreated
+        if (state != null) {
+            state.detach(moodTickListener);
         }
 
         // Release view binding reference
@@ -546,7 +849,15 @@ public class MainActivity extends AppCompatActivity {
      * - "lettuce" - A leafy green companion plant
      * - "add" - A special placeholder for adding new plant buddies
      */
-    private static class Plant {
+    static class Plant {
+
+        /**
+         * The persistent identifier of this plant buddy in the garden store.
+         * <p>
+         * Used to attach care history to the right buddy. The "add" placeholder
+         * uses 0, which never identifies a real plant.
+         */
+        private final long id;
 
         /**
          * The user-assigned name for this plant buddy.
@@ -579,16 +890,27 @@ public class MainActivity extends AppCompatActivity {
          * This constructor initializes all the essential properties needed
          * to display and interact with a plant buddy in the user interface.
          *
+         * @param id The persistent identifier of this plant buddy
          * @param name The user-assigned name for this plant buddy
          * @param type The botanical type ("radish", "lettuce", or "add")
          * @param imageResource The drawable resource ID for the plant's image
          */
-        public Plant(String name, String type, int imageResource) {
+        public Plant(long id, String name, String type, int imageResource) {
+            this.id = id;
             this.name = name;
             this.type = type;
             this.imageResource = imageResource;
         }
 
+        /**
+         * Returns the persistent identifier of this plant buddy.
+         *
+         * @return The plant's identifier in the garden store
+         */
+        public long getId() {
+            return id;
+        }
+
         /**
          * Returns the user-assigned name for this plant buddy.
          * <p>
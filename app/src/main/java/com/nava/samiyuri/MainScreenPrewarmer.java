@@ -0,0 +1,201 @@
+package com.nava.samiyuri;
+
+import android.app.Activity;
+import android.content.MutableContextWrapper;
+import android.content.res.Configuration;
+import android.os.Handler;
+import android.os.HandlerThread;
+import android.os.Process;
+import android.os.SystemClock;
+import android.util.Log;
+import android.view.LayoutInflater;
+
+import androidx.annotation.MainThread;
+import androidx.annotation.Nullable;
+
+import com.nava.samiyuri.databinding.ActivityMainBinding;
+
+/**
+ * MainScreenPrewarmer - Builds the garden screen's view tree before it is needed.
+ * <p>
+ * {@code activity_main.xml} is the heaviest layout in the app: nested
+ * ConstraintLayouts, vector icons and several Material buttons. Inflating it
+ * synchronously in {@link MainActivity#onCreate} caused a visible pause right
+ * after "Start Adventure" on low-spec devices. While the child is still reading
+ * the story or typing names, this class inflates and binds the hierarchy on a
+ * background looper so the garden screen only has to attach it.
+ * <p>
+ * Key Features:
+ * - Inflation runs on a dedicated low-priority {@link HandlerThread}
+ * - Views are created against a {@link MutableContextWrapper}, which is re-pointed
+ *   to the real {@link MainActivity} at hand-off so clicks, toasts and navigation
+ *   use the right context
+ * - Uses a clone of the onboarding host's inflater, keeping AppCompat and
+ *   Material widget substitution identical to a normal inflation
+ * - Hand-off never waits: if the tree is not ready yet, or the configuration
+ *   changed since it was built (locale, orientation), the garden screen simply
+ *   inflates as before
+ * <p>
+ * At most one pre-warmed tree exists at a time. All public methods must be called
+ * on the main thread.
+ *
+ * @author Neriou
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class MainScreenPrewarmer {
+
+    private static final String TAG = "MainScreenPrewarmer";
+
+    /**
+     * The pre-warm in progress or waiting for hand-off, or null if there is none.
+     */
+    private static Prewarm pending;
+
+    private MainScreenPrewarmer() {
+        // Static utility
+    }
+
+    /**
+     * Starts building the garden screen in the background.
+     * <p>
+     * Calling this again for the same host is a no-op, so screens may call it
+     * from every lifecycle callback where pre-warming is worthwhile.
+     *
+     * @param host The activity that will launch {@link MainActivity}
+     */
+    @MainThread
+    public static void start(Activity host) {
+        if (pending != null) {
+            if (pending.context.getBaseContext() == host) {
+                return;
+            }
+            discard();
+        }
+        pending = new Prewarm(host);
+        pending.begin();
+    }
+
+    /**
+     * Drops the pre-warmed tree, if any, that was built for the given host.
+     * <p>
+     * Hosts call this when they are destroyed without handing off to the garden
+     * screen, so the tree never outlives the context it references.
+     *
+     * @param host The activity that started the pre-warm
+     */
+    @MainThread
+    public static void cancel(Activity host) {
+        if (pending != null && pending.context.getBaseContext() == host) {
+            discard();
+        }
+    }
+
+    /**
+     * Hands the pre-warmed tree over to the garden screen.
+     * <p>
+     * The returned binding is re-parented to {@code activity} and the pre-warmer
+     * forgets about it. If nothing usable is ready, any work in progress is
+     * abandoned and null is returned; the caller then inflates normally.
+     *
+     * @param activity The garden screen that will attach the tree
+     * @return The pre-built binding, or null if the caller must inflate itself
+     */
+    @MainThread
+    @Nullable
+    static ActivityMainBinding take(MainActivity activity) {
+        Prewarm prewarm = pending;
+        pending = null;
+        if (prewarm == null) {
+            return null;
+        }
+
+        ActivityMainBinding binding = prewarm.finish();
+        if (binding == null) {
+            if (BuildConfig.DEBUG) {
+                Log.d(TAG, "Garden screen not ready at hand-off, inflating on the main thread");
+            }
+            return null;
+        }
+        if (prewarm.configuration.diff(activity.getResources().getConfiguration()) != 0) {
+            if (BuildConfig.DEBUG) {
+                Log.d(TAG, "Configuration changed since pre-warm, discarding pre-built garden screen");
+            }
+            prewarm.context.setBaseContext(activity.getApplicationContext());
+            return null;
+        }
+
+        prewarm.context.setBaseContext(activity);
+        return binding;
+    }
+
+    private static void discard() {
+        pending.finish();
+        pending.context.setBaseContext(pending.context.getApplicationContext());
+        pending = null;
+    }
+
+    /**
+     * Prewarm - One background inflation of the garden screen.
+     */
+    private static final class Prewarm {
+
+        private final MutableContextWrapper context;
+        private final LayoutInflater inflater;
+        private final Configuration configuration;
+        private final HandlerThread thread;
+
+        /**
+         * The finished binding, guarded by {@code this}.
+         */
+        private ActivityMainBinding binding;
+
+        /**
+         * Set once the result has been claimed or abandoned, guarded by {@code this}.
+         */
+        private boolean finished;
+
+        Prewarm(Activity host) {
+            context = new MutableContextWrapper(host);
+            inflater = host.getLayoutInflater().cloneInContext(context);
+            configuration = new Configuration(host.getResources().getConfiguration());
+            thread = new HandlerThread("layout-prewarm", Process.THREAD_PRIORITY_BACKGROUND);
+        }
+
+        void begin() {
+            thread.start();
+            new Handler(thread.getLooper()).post(() -> {
+                long startedAt = SystemClock.uptimeMillis();
+                ActivityMainBinding built = null;
+                try {
+                    built = ActivityMainBinding.inflate(inflater);
+                } catch (RuntimeException e) {
+                    // Not fatal: the garden screen falls back to inflating itself
+                    Log.w(TAG, "Background inflation of the garden screen failed", e);
+                }
+                synchronized (this) {
+                    if (!finished) {
+                        binding = built;
+                    }
+                }
+                if (BuildConfig.DEBUG) {
+                    Log.d(TAG, "Garden screen pre-warmed in " + (SystemClock.uptimeMillis() - startedAt) + " ms");
+                }
+                thread.quitSafely();
+            });
+        }
+
+        /**
+         * Claims the result and stops the background thread.
+         *
+         * @return The binding if inflation already completed, otherwise null
+         */
+        synchronized ActivityMainBinding finish() {
+            finished = true;
+            thread.quitSafely();
+            ActivityMainBinding result = binding;
+            binding = null;
+            return result;
+        }
+    }
+}
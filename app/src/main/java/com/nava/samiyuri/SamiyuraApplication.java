@@ -0,0 +1,70 @@
+package com.nava.samiyuri;
+
+import android.app.Application;
+
+import com.nava.samiyuri.cache.CacheGovernor;
+import com.nava.samiyuri.device.DevicePerformance;
+import com.nava.samiyuri.diagnostics.MainThreadWatchdog;
+import com.nava.samiyuri.knowledge.KnowledgeBase;
+import com.nava.samiyuri.names.NameBlocklist;
+import com.nava.samiyuri.snapshot.LaunchSnapshotStore;
+import com.nava.samiyuri.sound.SoundEffects;
+import com.nava.samiyuri.storage.GardenCompactionJobService;
+import com.nava.samiyuri.storage.GardenStore;
+import com.nava.samiyuri.text.FontPreloader;
+import com.nava.samiyuri.widget.BuddyWidgetUpdater;
+
+/**
+ * SamiyuraApplication - Process-wide start-up for the Samiyura garden companion.
+ * <p>
+ * Starts loading the persisted garden on its background I/O thread as early as
+ * possible, so it is ready by the time the child reaches the garden screen,
+ * decodes the last picture of a returning child's garden, decodes the app fonts
+ * while the splash is shown, renders the sound effects, keeps the home-screen
+ * widget following the garden, and schedules the idle-time journal compaction.
+ *
+ * @author Neriou
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class SamiyuraApplication extends Application {
+
+    @Override
+    public void onCreate() {
+        super.onCreate();
+
+        // Debug builds only: report disk, network and slow calls on the UI thread
+        MainThreadWatchdog.install(this);
+
+        // Decide once how much visual work this device can take, before any cache
+        // or screen sizes itself from it
+        DevicePerformance.init(this);
+
+        // Let every registered cache shrink before the system has to kill us
+        registerComponentCallbacks(CacheGovernor.getInstance());
+
+        // Decode the last picture of the garden so a returning child skips the splash
+        LaunchSnapshotStore.getInstance(this).preload();
+
+        // Decode the fonts before the first screen inflates its text views
+        FontPreloader.getInstance(this).preload();
+
+        // Begin loading the garden off the main thread
+        GardenStore.getInstance(this);
+
+        // Map the growing tips so the info button never waits for the disk
+        KnowledgeBase.preload(this);
+
+        // Map the name blocklist so naming a buddy can be checked on every keystroke
+        NameBlocklist.preload(this);
+
+        // Render the care sounds so the first tap is heard right away
+        SoundEffects.getInstance(this).preload();
+
+        // Push mood changes to the home-screen widget as care is recorded
+        BuddyWidgetUpdater.getInstance(this).start();
+
+        // Keep the journal small and the backup fresh while the device sleeps
+        GardenCompactionJobService.schedule(this);
+    }
+}
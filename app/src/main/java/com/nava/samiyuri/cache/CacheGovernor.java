@@ -0,0 +1,163 @@
+package com.nava.samiyuri.cache;
+
+import android.content.ComponentCallbacks2;
+import android.content.res.Configuration;
+import android.util.Log;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * CacheGovernor - Central memory-pressure policy for every cache in the app.
+ * <p>
+ * Caches register themselves with a {@link GovernedCache.Priority}. When the
+ * system reports memory pressure through {@code onTrimMemory} or
+ * {@code onLowMemory}, the governor shrinks caches in priority order - all
+ * low-priority caches first, then normal, then high - releasing a larger share
+ * the more severe the signal. Giving memory back voluntarily makes it much less
+ * likely that the system kills the app on low-spec devices.
+ * <p>
+ * The governor is registered once as a component callback by the application.
+ *
+ * @author Neriou
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class CacheGovernor implements ComponentCallbacks2 {
+
+    private static final String TAG = "CacheGovernor";
+
+    private static final CacheGovernor INSTANCE = new CacheGovernor();
+
+    private final List<GovernedCache<?, ?>> caches = new CopyOnWriteArrayList<>();
+
+    /**
+     * Returns the process-wide governor.
+     *
+     * @return The shared governor
+     */
+    public static CacheGovernor getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Places a cache under the governor's control.
+     *
+     * @param cache The cache to govern
+     * @return The same cache, for fluent declaration
+     */
+    public <K, V> GovernedCache<K, V> register(GovernedCache<K, V> cache) {
+        caches.add(cache);
+        return cache;
+    }
+
+    /**
+     * Releases a cache from the governor, e.g. when its owner is destroyed.
+     *
+     * @param cache The cache to release
+     */
+    public void unregister(GovernedCache<?, ?> cache) {
+        caches.remove(cache);
+    }
+
+    /**
+     * Returns statistics for every registered cache.
+     *
+     * @return One snapshot per cache, in registration order
+     */
+    public List<CacheStats> getStats() {
+        List<CacheStats> stats = new ArrayList<>(caches.size());
+        for (GovernedCache<?, ?> cache : caches) {
+            stats.add(cache.stats());
+        }
+        return stats;
+    }
+
+    /**
+     * Shrinks caches for the given trim level.
+     *
+     * @param level A {@link ComponentCallbacks2} trim level
+     * @return The total cost released across all caches
+     */
+    public int trim(int level) {
+        int released = 0;
+        for (GovernedCache.Priority priority : GovernedCache.Priority.values()) {
+            float fraction = releaseFraction(priority, level);
+            if (fraction <= 0) {
+                continue;
+            }
+            for (GovernedCache<?, ?> cache : caches) {
+                if (cache.getPriority() == priority) {
+                    released += cache.trimTo((int) (cache.size() * (1f - fraction)));
+                }
+            }
+        }
+        return released;
+    }
+
+    @Override
+    public void onTrimMemory(int level) {
+        int released = trim(level);
+        Log.i(TAG, "onTrimMemory(" + level + ") released " + released);
+        logStats();
+    }
+
+    /**
+     * Writes one diagnostics line per registered cache to the debug log.
+     */
+    public void logStats() {
+        for (CacheStats stats : getStats()) {
+            Log.d(TAG, stats.toString());
+        }
+    }
+
+    @Override
+    public void onLowMemory() {
+        onTrimMemory(TRIM_MEMORY_COMPLETE);
+    }
+
+    @Override
+    public void onConfigurationChanged(Configuration newConfig) {
+        // Not used - caches keyed by locale or density handle their own invalidation
+    }
+
+    /**
+     * Share of a cache's current size to release for a priority at a trim level.
+     * <p>
+     * The running levels are reported while the app is in the foreground, so they
+     * are handled gently; the background levels mean the process is a candidate
+     * for being killed, so they release far more.
+     */
+    static float releaseFraction(GovernedCache.Priority priority, int level) {
+        int severity;
+        if (level >= TRIM_MEMORY_COMPLETE) {
+            severity = 4;
+        } else if (level >= TRIM_MEMORY_MODERATE) {
+            severity = 3;
+        } else if (level >= TRIM_MEMORY_BACKGROUND) {
+            severity = 2;
+        } else if (level >= TRIM_MEMORY_UI_HIDDEN) {
+            severity = 1;
+        } else if (level >= TRIM_MEMORY_RUNNING_CRITICAL) {
+            severity = 3;
+        } else if (level >= TRIM_MEMORY_RUNNING_LOW) {
+            severity = 2;
+        } else if (level >= TRIM_MEMORY_RUNNING_MODERATE) {
+            severity = 1;
+        } else {
+            return 0;
+        }
+
+        switch (priority) {
+            case LOW:
+                return severity >= 2 ? 1f : 0.5f;
+            case NORMAL:
+                return severity >= 3 ? 1f : severity == 2 ? 0.5f : 0f;
+            case HIGH:
+                return severity >= 4 ? 1f : severity == 3 ? 0.5f : 0f;
+            default:
+                return 0;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.nava.samiyuri.cache;
+
+import java.util.Locale;
+
+/**
+ * CacheStats - An immutable snapshot of one cache's size and effectiveness.
+ *
+ * @author Neriou
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class CacheStats {
+
+    private final String name;
+    private final GovernedCache.Priority priority;
+    private final int size;
+    private final int maxSize;
+    private final int entryCount;
+    private final long hitCount;
+    private final long missCount;
+    private final long evictionCount;
+
+    CacheStats(String name, GovernedCache.Priority priority, int size, int maxSize, int entryCount,
+               long hitCount, long missCount, long evictionCount) {
+        this.name = name;
+        this.priority = priority;
+        this.size = size;
+        this.maxSize = maxSize;
+        this.entryCount = entryCount;
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.evictionCount = evictionCount;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public GovernedCache.Priority getPriority() {
+        return priority;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public int getEntryCount() {
+        return entryCount;
+    }
+
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    public long getMissCount() {
+        return missCount;
+    }
+
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     * @return Fraction of lookups that were hits, or 0 if there were no lookups
+     */
+    public double getHitRate() {
+        long lookups = hitCount + missCount;
+        return lookups == 0 ? 0 : (double) hitCount / lookups;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT, "%s[%s] %d/%d in %d entries, hit rate %.1f%%, %d evictions",
+                name, priority, size, maxSize, entryCount, getHitRate() * 100, evictionCount);
+    }
+}
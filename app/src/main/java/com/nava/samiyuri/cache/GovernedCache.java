@@ -0,0 +1,223 @@
+package com.nava.samiyuri.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * GovernedCache - A size-bounded LRU cache that the {@link CacheGovernor} can shrink.
+ * <p>
+ * Every cache in the app (avatar bitmaps, thumbnails, parsed paths, localized
+ * strings...) is an instance of this class registered with the governor. Each
+ * entry has a cost measured by a {@link Sizer}, usually its size in bytes, and
+ * the cache evicts least-recently-used entries once the total cost exceeds its
+ * budget. Hits, misses and evictions are counted for diagnostics.
+ * <p>
+ * All methods are synchronized, so a cache can be shared between the UI thread
+ * and background loaders.
+ *
+ * @param <K> Key type
+ * @param <V> Value type
+ * @author Neriou
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class GovernedCache<K, V> {
+
+    /**
+     * Priority - How hard the governor tries to keep a cache when memory is tight.
+     * <p>
+     * Low-priority caches are cheap to rebuild or rarely visible and are shrunk
+     * first; high-priority caches hold what is on screen right now.
+     */
+    public enum Priority {
+        LOW,
+        NORMAL,
+        HIGH
+    }
+
+    /**
+     * Sizer - Measures the cost of one cache entry.
+     *
+     * @param <K> Key type
+     * @param <V> Value type
+     */
+    public interface Sizer<K, V> {
+
+        /**
+         * @return The cost of the entry, in the same unit as the cache budget
+         */
+        int sizeOf(K key, V value);
+    }
+
+    private final String name;
+    private final Priority priority;
+    private final Sizer<K, V> sizer;
+    private final LinkedHashMap<K, V> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    private int maxSize;
+    private int size;
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+
+    /**
+     * Creates a cache. Register it with {@link CacheGovernor#register(GovernedCache)}.
+     *
+     * @param name Human-readable name shown in diagnostics
+     * @param priority How long the cache is kept under memory pressure
+     * @param maxSize Budget in the sizer's unit
+     * @param sizer Measures the cost of each entry
+     */
+    public GovernedCache(String name, Priority priority, int maxSize, Sizer<K, V> sizer) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize <= 0");
+        }
+        this.name = name;
+        this.priority = priority;
+        this.maxSize = maxSize;
+        this.sizer = sizer;
+    }
+
+    /**
+     * Creates a cache where every entry costs one unit, i.e. bounded by entry count.
+     */
+    public static <K, V> GovernedCache<K, V> counting(String name, Priority priority, int maxEntries) {
+        return new GovernedCache<>(name, priority, maxEntries, (key, value) -> 1);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Priority getPriority() {
+        return priority;
+    }
+
+    /**
+     * Returns the cached value and marks it as recently used.
+     *
+     * @param key The key to look up
+     * @return The cached value, or null on a miss
+     */
+    public synchronized V get(K key) {
+        V value = entries.get(key);
+        if (value != null) {
+            hitCount++;
+        } else {
+            missCount++;
+        }
+        return value;
+    }
+
+    /**
+     * Stores a value, evicting least-recently-used entries if over budget.
+     *
+     * @param key The key
+     * @param value The value; must not be null
+     * @return The previous value for the key, or null
+     */
+    public synchronized V put(K key, V value) {
+        V previous = entries.put(key, value);
+        size += safeSizeOf(key, value);
+        if (previous != null) {
+            size -= safeSizeOf(key, previous);
+        }
+        trimTo(maxSize);
+        return previous;
+    }
+
+    /**
+     * Removes an entry.
+     *
+     * @param key The key
+     * @return The removed value, or null
+     */
+    public synchronized V remove(K key) {
+        V previous = entries.remove(key);
+        if (previous != null) {
+            size -= safeSizeOf(key, previous);
+        }
+        return previous;
+    }
+
+    /**
+     * Changes the budget, evicting immediately if the cache is now over it.
+     * <p>
+     * Used to size caches for the device's performance tier.
+     *
+     * @param maxSize The new budget
+     */
+    public synchronized void resize(int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize <= 0");
+        }
+        this.maxSize = maxSize;
+        trimTo(maxSize);
+    }
+
+    /**
+     * Evicts least-recently-used entries until the total cost is at most the target.
+     *
+     * @param targetSize The cost to shrink to; 0 empties the cache
+     * @return The cost released
+     */
+    public synchronized int trimTo(int targetSize) {
+        int before = size;
+        Iterator<Map.Entry<K, V>> iterator = entries.entrySet().iterator();
+        while (size > targetSize && iterator.hasNext()) {
+            Map.Entry<K, V> eldest = iterator.next();
+            iterator.remove();
+            size -= safeSizeOf(eldest.getKey(), eldest.getValue());
+            evictionCount++;
+            onEvicted(eldest.getKey(), eldest.getValue());
+        }
+        return before - size;
+    }
+
+    /**
+     * Removes every entry.
+     */
+    public synchronized void clear() {
+        trimTo(0);
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    public synchronized int maxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Returns a consistent snapshot of this cache's statistics.
+     *
+     * @return The current statistics
+     */
+    public synchronized CacheStats stats() {
+        return new CacheStats(name, priority, size, maxSize, entries.size(),
+                hitCount, missCount, evictionCount);
+    }
+
+    /**
+     * Called after an entry is evicted for space or by the governor.
+     * <p>
+     * Subclasses holding native resources (e.g. bitmaps owned only by this cache)
+     * can release them here. The default does nothing.
+     *
+     * @param key The evicted key
+     * @param value The evicted value
+     */
+    protected void onEvicted(K key, V value) {
+        // No-op by default
+    }
+
+    private int safeSizeOf(K key, V value) {
+        int cost = sizer.sizeOf(key, value);
+        if (cost < 0) {
+            throw new IllegalStateException("Negative size for " + key + " in cache " + name);
+        }
+        return cost;
+    }
+}
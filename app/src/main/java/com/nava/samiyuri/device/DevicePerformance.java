@@ -0,0 +1,51 @@
+package com.nava.samiyuri.device;
+
+import android.content.Context;
+import android.util.Log;
+
+/**
+ * DevicePerformance - Holds the device tier decided at start-up.
+ * <p>
+ * The tier is decided once, in {@code SamiyuraApplication}, before any screen
+ * or cache is created, and never changes while the process lives, so every
+ * screen makes the same choices. Code that runs before that (unit tests, for
+ * instance) sees {@link DeviceTier#MID}.
+ *
+ * @author Neriou
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class DevicePerformance {
+
+    private static final String TAG = "DevicePerformance";
+
+    private static volatile DeviceTier tier;
+
+    private DevicePerformance() {
+        // Static utility
+    }
+
+    /**
+     * Decides the device tier unless it is already known.
+     *
+     * @param context Any context
+     */
+    public static synchronized void init(Context context) {
+        if (tier != null) {
+            return;
+        }
+        DeviceSignals signals = DeviceSignals.read(context);
+        tier = DeviceTier.classify(signals);
+        Log.i(TAG, "Device tier " + tier + " for " + signals);
+    }
+
+    /**
+     * Returns the tier of this device.
+     *
+     * @return The tier decided at start-up, or {@link DeviceTier#MID} before that
+     */
+    public static DeviceTier getTier() {
+        DeviceTier current = tier;
+        return current != null ? current : DeviceTier.MID;
+    }
+}
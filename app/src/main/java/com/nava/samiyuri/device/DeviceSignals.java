@@ -0,0 +1,92 @@
+package com.nava.samiyuri.device;
+
+import android.app.ActivityManager;
+import android.content.Context;
+import android.hardware.display.DisplayManager;
+import android.os.PowerManager;
+import android.view.Display;
+
+/**
+ * DeviceSignals - The hardware facts the device tier is decided from.
+ * <p>
+ * Read once from the system services; an immutable value so the classification
+ * itself can be tested without a device.
+ *
+ * @author Neriou
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class DeviceSignals {
+
+    /** Heap limit per app in megabytes, see {@link ActivityManager#getMemoryClass()}. */
+    final int memoryClassMb;
+
+    /** Whether the system declares itself a low-RAM (Android Go) device. */
+    final boolean lowRamDevice;
+
+    /** Total physical memory in bytes. */
+    final long totalMemoryBytes;
+
+    /** Number of CPU cores available to the app. */
+    final int cpuCores;
+
+    /** Refresh rate of the default display in Hz. */
+    final float refreshRate;
+
+    /** Whether battery saver was on when the app started. */
+    final boolean powerSave;
+
+    /**
+     * Creates a set of signals.
+     *
+     * @param memoryClassMb Heap limit per app in megabytes
+     * @param lowRamDevice Whether the device is a low-RAM device
+     * @param totalMemoryBytes Total physical memory in bytes
+     * @param cpuCores Number of CPU cores
+     * @param refreshRate Display refresh rate in Hz
+     * @param powerSave Whether battery saver is on
+     */
+    public DeviceSignals(int memoryClassMb, boolean lowRamDevice, long totalMemoryBytes,
+                         int cpuCores, float refreshRate, boolean powerSave) {
+        this.memoryClassMb = memoryClassMb;
+        this.lowRamDevice = lowRamDevice;
+        this.totalMemoryBytes = totalMemoryBytes;
+        this.cpuCores = cpuCores;
+        this.refreshRate = refreshRate;
+        this.powerSave = powerSave;
+    }
+
+    /**
+     * Reads the signals of the device the app runs on.
+     *
+     * @param context Any context
+     * @return The current signals
+     */
+    public static DeviceSignals read(Context context) {
+        ActivityManager activityManager = context.getSystemService(ActivityManager.class);
+        ActivityManager.MemoryInfo memoryInfo = new ActivityManager.MemoryInfo();
+        activityManager.getMemoryInfo(memoryInfo);
+
+        DisplayManager displayManager = context.getSystemService(DisplayManager.class);
+        Display display = displayManager.getDisplay(Display.DEFAULT_DISPLAY);
+        PowerManager powerManager = context.getSystemService(PowerManager.class);
+
+        return new DeviceSignals(
+                activityManager.getMemoryClass(),
+                activityManager.isLowRamDevice(),
+                memoryInfo.totalMem,
+                Runtime.getRuntime().availableProcessors(),
+                display != null ? display.getRefreshRate() : 60f,
+                powerManager != null && powerManager.isPowerSaveMode());
+    }
+
+    @Override
+    public String toString() {
+        return "DeviceSignals{memoryClass=" + memoryClassMb + "MB"
+                + ", lowRam=" + lowRamDevice
+                + ", totalMemory=" + (totalMemoryBytes >> 20) + "MB"
+                + ", cores=" + cpuCores
+                + ", refreshRate=" + refreshRate
+                + ", powerSave=" + powerSave + '}';
+    }
+}
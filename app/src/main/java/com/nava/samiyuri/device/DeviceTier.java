@@ -0,0 +1,137 @@
+package com.nava.samiyuri.device;
+
+/**
+ * DeviceTier - How much visual work a device can take, and what the app does at each level.
+ * <p>
+ * The app runs on everything from school-issued Android Go tablets to recent
+ * phones. Instead of one experience that stutters on the former, each device
+ * is placed in a tier once at start-up (see {@link DevicePerformance}), and the
+ * screens ask the tier how to animate, at what resolution to draw avatars, how
+ * much to cache and how far to prepare ahead.
+ * <p>
+ * Tiers:
+ * - LOW: Android Go devices, 2 GB of memory or less, a heap limit of 128 MB or
+ *   less, four cores or fewer, or battery saver on - no card or press
+ *   animations, avatars drawn at half resolution, half-size caches, one page of
+ *   look-ahead
+ * - MID: everything else - shortened animations, full resolution
+ * - HIGH: 6 GB or more with a heap limit of at least 256 MB, eight cores and a
+ *   display of 90 Hz or faster - full animations, larger caches and deeper
+ *   look-ahead
+ * <p>
+ * The heap limit is checked besides total memory because the caches live on the
+ * Java heap: a device with plenty of memory but a small per-app limit would run
+ * out of heap with the larger caches.
+ *
+ * @author Neriou
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public enum DeviceTier {
+    LOW(0f, false, 0.5f, 0.5f, 1),
+    MID(0.75f, true, 1f, 1f, 2),
+    HIGH(1f, true, 1f, 1.5f, 3);
+
+    private static final long LOW_MEMORY_BYTES = 2L << 30;
+    private static final long HIGH_MEMORY_BYTES = 6L << 30;
+    private static final int LOW_MEMORY_CLASS_MB = 128;
+    private static final int HIGH_MEMORY_CLASS_MB = 256;
+    private static final int LOW_CORES = 4;
+    private static final int HIGH_CORES = 8;
+    private static final float HIGH_REFRESH_RATE = 90f;
+
+    private final float animationScale;
+    private final boolean pressFeedback;
+    private final float avatarScale;
+    private final float cacheScale;
+    private final int prefetchDepth;
+
+    DeviceTier(float animationScale, boolean pressFeedback, float avatarScale, float cacheScale, int prefetchDepth) {
+        this.animationScale = animationScale;
+        this.pressFeedback = pressFeedback;
+        this.avatarScale = avatarScale;
+        this.cacheScale = cacheScale;
+        this.prefetchDepth = prefetchDepth;
+    }
+
+    /**
+     * Places a device in a tier.
+     *
+     * @param signals The device's hardware facts
+     * @return The tier the device belongs to
+     */
+    public static DeviceTier classify(DeviceSignals signals) {
+        if (signals.lowRamDevice
+                || signals.totalMemoryBytes <= LOW_MEMORY_BYTES
+                || signals.memoryClassMb <= LOW_MEMORY_CLASS_MB
+                || signals.cpuCores <= LOW_CORES
+                || signals.powerSave) {
+            return LOW;
+        }
+        if (signals.totalMemoryBytes >= HIGH_MEMORY_BYTES
+                && signals.memoryClassMb >= HIGH_MEMORY_CLASS_MB
+                && signals.cpuCores >= HIGH_CORES
+                && signals.refreshRate >= HIGH_REFRESH_RATE) {
+            return HIGH;
+        }
+        return MID;
+    }
+
+    /**
+     * Returns whether transitions such as the card slide should run at all.
+     *
+     * @return false when content should change instantly
+     */
+    public boolean hasAnimations() {
+        return animationScale > 0f;
+    }
+
+    /**
+     * Returns the factor animation durations are multiplied by on this tier.
+     * <p>
+     * Animations are designed for the best devices; shorter ones drop fewer
+     * frames where rendering is slower.
+     *
+     * @return Duration factor, 0 when animations are off
+     */
+    public float getAnimationScale() {
+        return animationScale;
+    }
+
+    /**
+     * Returns whether buttons shrink slightly while pressed.
+     *
+     * @return true if press animations are worth their frames
+     */
+    public boolean hasPressFeedback() {
+        return pressFeedback;
+    }
+
+    /**
+     * Returns the resolution vector images are rasterized at, relative to the screen.
+     *
+     * @return 1 for full resolution, less to draw cheaper, scaled-up bitmaps
+     */
+    public float getAvatarScale() {
+        return avatarScale;
+    }
+
+    /**
+     * Scales a cache's capacity for this tier.
+     *
+     * @param maxEntries The capacity designed for a mid-range device
+     * @return The capacity to use, at least 1
+     */
+    public int scaleCacheSize(int maxEntries) {
+        return Math.max(1, Math.round(maxEntries * cacheScale));
+    }
+
+    /**
+     * Returns how many pages or screens to prepare ahead of the one shown.
+     *
+     * @return Look-ahead depth, at least 1
+     */
+    public int getPrefetchDepth() {
+        return prefetchDepth;
+    }
+}
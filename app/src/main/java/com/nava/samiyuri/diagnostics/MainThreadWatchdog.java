@@ -0,0 +1,194 @@
+package com.nava.samiyuri.diagnostics;
+
+import android.content.Context;
+import android.content.pm.ApplicationInfo;
+import android.os.Looper;
+import android.os.StrictMode;
+import android.os.SystemClock;
+import android.os.strictmode.Violation;
+import android.util.Log;
+import android.util.Printer;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.Locale;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MainThreadWatchdog - Debug-build detector for work that does not belong on the UI thread.
+ * <p>
+ * On our low-spec target devices every disk access or long callback on the main
+ * thread is a dropped frame. This watchdog catches two kinds of problems while
+ * developers and testers use a debug build:
+ * <p>
+ * - Disk reads, disk writes, network access, unbuffered I/O and custom slow calls
+ *   on the main thread, reported by {@link StrictMode}
+ * - Main looper message dispatches (handler callbacks, click listeners, frame
+ *   callbacks) that take longer than {@link #SLOW_DISPATCH_THRESHOLD_MS}
+ * <p>
+ * Violations are grouped by stack signature in a {@link ViolationAggregator} and a
+ * ranked report is written to {@code files/diagnostics/main-thread-report.txt}.
+ * Run a scenario, pull the report with {@code adb shell run-as}, and compare it
+ * against the previous build to keep the UI thread clean as features are added.
+ * <p>
+ * Does nothing on release (non-debuggable) builds.
+ *
+ * @author Neriou
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class MainThreadWatchdog {
+
+    private static final String TAG = "MainThreadWatchdog";
+
+    /**
+     * Dispatches longer than this are reported; three frames at 60 Hz.
+     */
+    static final long SLOW_DISPATCH_THRESHOLD_MS = 48;
+
+    /**
+     * Minimum time between two report writes, so a burst of violations costs one write.
+     */
+    private static final long REPORT_DEBOUNCE_MS = 5000;
+
+    /**
+     * Prefix of the looper's end-of-dispatch log line.
+     */
+    private static final String FINISHED_PREFIX = "<<<<< Finished to ";
+
+    static final String REPORT_DIRECTORY = "diagnostics";
+    static final String REPORT_FILE_NAME = "main-thread-report.txt";
+
+    private static MainThreadWatchdog instance;
+
+    private final File reportFile;
+    private final ViolationAggregator aggregator;
+    private final ScheduledExecutorService reportExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "main-thread-watchdog");
+        thread.setPriority(Thread.MIN_PRIORITY);
+        return thread;
+    });
+    private boolean reportScheduled;
+
+    private MainThreadWatchdog(Context context) {
+        File directory = new File(context.getFilesDir(), REPORT_DIRECTORY);
+        reportFile = new File(directory, REPORT_FILE_NAME);
+        aggregator = new ViolationAggregator(context.getPackageName());
+    }
+
+    /**
+     * Installs the watchdog if this is a debuggable build.
+     * <p>
+     * Call once, as early as possible in {@code Application.onCreate()}.
+     *
+     * @param context Any context of the app
+     */
+    public static synchronized void install(Context context) {
+        if (instance != null) {
+            return;
+        }
+        if ((context.getApplicationInfo().flags & ApplicationInfo.FLAG_DEBUGGABLE) == 0) {
+            return;
+        }
+
+        instance = new MainThreadWatchdog(context.getApplicationContext());
+        instance.watchStrictMode();
+        instance.watchDispatches();
+        Log.i(TAG, "Watching the main thread; report at " + instance.reportFile);
+    }
+
+    private void watchStrictMode() {
+        StrictMode.setThreadPolicy(new StrictMode.ThreadPolicy.Builder()
+                .detectDiskReads()
+                .detectDiskWrites()
+                .detectNetwork()
+                .detectUnbufferedIo()
+                .detectCustomSlowCalls()
+                .penaltyListener(reportExecutor, this::onViolation)
+                .build());
+    }
+
+    private void onViolation(Violation violation) {
+        String kind = violation.getClass().getSimpleName();
+        if (aggregator.record(kind, violation.getStackTrace(), 0)) {
+            Log.w(TAG, "New main-thread violation: " + kind, violation);
+        }
+        scheduleReport();
+    }
+
+    /**
+     * Times every main looper dispatch through the looper's message logging hook.
+     */
+    private void watchDispatches() {
+        Looper.getMainLooper().setMessageLogging(new Printer() {
+
+            private long dispatchStartedAt;
+
+            @Override
+            public void println(String message) {
+                // The looper prints ">>>>> Dispatching to ..." before and "<<<<< Finished to ..." after
+                if (message.startsWith(">>>>>")) {
+                    dispatchStartedAt = SystemClock.uptimeMillis();
+                } else if (message.startsWith("<<<<<") && dispatchStartedAt != 0) {
+                    long duration = SystemClock.uptimeMillis() - dispatchStartedAt;
+                    dispatchStartedAt = 0;
+                    if (duration > SLOW_DISPATCH_THRESHOLD_MS) {
+                        onSlowDispatch(message, duration);
+                    }
+                }
+            }
+        });
+    }
+
+    private void onSlowDispatch(String message, long duration) {
+        String description = message.startsWith(FINISHED_PREFIX)
+                ? message.substring(FINISHED_PREFIX.length()) : message;
+        if (aggregator.record("SlowDispatch", description, duration)) {
+            Log.w(TAG, "Slow main-thread dispatch (" + duration + " ms): " + description);
+        }
+        scheduleReport();
+    }
+
+    private synchronized void scheduleReport() {
+        if (reportScheduled) {
+            return;
+        }
+        reportScheduled = true;
+        reportExecutor.schedule(this::writeReport, REPORT_DEBOUNCE_MS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Writes the ranked report, replacing the previous one atomically.
+     */
+    private void writeReport() {
+        synchronized (this) {
+            reportScheduled = false;
+        }
+
+        File directory = reportFile.getParentFile();
+        if (!directory.isDirectory() && !directory.mkdirs()) {
+            Log.w(TAG, "Cannot create " + directory);
+            return;
+        }
+        File temp = new File(directory, REPORT_FILE_NAME + ".tmp");
+        String header = "Samiyura main-thread report, "
+                + new SimpleDateFormat("yyyy-MM-dd HH:mm:ss", Locale.US).format(new Date());
+        try (Writer out = new OutputStreamWriter(new FileOutputStream(temp), StandardCharsets.UTF_8)) {
+            aggregator.writeReport(out, header);
+        } catch (IOException e) {
+            Log.w(TAG, "Cannot write main-thread report", e);
+            return;
+        }
+        if (!temp.renameTo(reportFile)) {
+            Log.w(TAG, "Cannot replace " + reportFile);
+        }
+    }
+}
@@ -0,0 +1,246 @@
+package com.nava.samiyuri.diagnostics;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ViolationAggregator - Groups main-thread violations by where they happen.
+ * <p>
+ * The same slow call usually fires many times per session. Reporting every
+ * occurrence would bury the few distinct problems, so violations are grouped by a
+ * short stack signature and the groups are ranked: the most frequent and most
+ * expensive call sites come first.
+ * <p>
+ * Key Features:
+ * - Signatures prefer the app's own frames, so a disk read deep inside the
+ *   framework is attributed to the app method that triggered it
+ * - Counts, total and worst duration per group
+ * - Plain-text report that is easy to diff between builds
+ * <p>
+ * Thread-safe. Has no Android dependencies, so it can be tested on the JVM.
+ *
+ * @author Neriou
+ * @version 1.0
+ * @since 2026-10-18
+ */
+final class ViolationAggregator {
+
+    /**
+     * Number of frames that make up a signature.
+     */
+    static final int SIGNATURE_FRAMES = 3;
+
+    /**
+     * Number of frames printed per group in the report.
+     */
+    private static final int REPORT_FRAMES = 8;
+
+    private final String appPackage;
+    private final Map<String, Group> groups = new LinkedHashMap<>();
+    private long totalCount;
+
+    /**
+     * Creates an aggregator.
+     *
+     * @param appPackage Package prefix of the app's own code, e.g. "com.nava.samiyuri"
+     */
+    ViolationAggregator(String appPackage) {
+        this.appPackage = appPackage;
+    }
+
+    /**
+     * Records one violation with a captured stack.
+     *
+     * @param kind Short name of the violation, e.g. "DiskReadViolation"
+     * @param stack The stack of the offending thread at violation time
+     * @param durationMillis How long the call took, or 0 if unknown
+     * @return true if this is the first occurrence of the signature
+     */
+    synchronized boolean record(String kind, StackTraceElement[] stack, long durationMillis) {
+        String signature = kind + " " + signatureOf(stack);
+        Group group = groups.get(signature);
+        boolean first = group == null;
+        if (first) {
+            group = new Group(kind, frames(stack));
+            groups.put(signature, group);
+        }
+        group.add(durationMillis);
+        totalCount++;
+        return first;
+    }
+
+    /**
+     * Records one violation identified by a description instead of a stack.
+     * <p>
+     * Used for slow message dispatches, where only the handler and callback are known.
+     *
+     * @param kind Short name of the violation, e.g. "SlowDispatch"
+     * @param description What was running; instance hashes are stripped for grouping
+     * @param durationMillis How long the call took
+     * @return true if this is the first occurrence of the description
+     */
+    synchronized boolean record(String kind, String description, long durationMillis) {
+        String normalized = normalizeDescription(description);
+        String signature = kind + " " + normalized;
+        Group group = groups.get(signature);
+        boolean first = group == null;
+        if (first) {
+            List<String> lines = new ArrayList<>();
+            lines.add(normalized);
+            group = new Group(kind, lines);
+            groups.put(signature, group);
+        }
+        group.add(durationMillis);
+        totalCount++;
+        return first;
+    }
+
+    /**
+     * Returns the groups ranked by count, then by total duration.
+     *
+     * @return A snapshot of the groups, worst first
+     */
+    synchronized List<Group> ranked() {
+        List<Group> result = new ArrayList<>();
+        for (Group group : groups.values()) {
+            result.add(group.copy());
+        }
+        Collections.sort(result, (a, b) -> {
+            if (a.count != b.count) {
+                return Long.compare(b.count, a.count);
+            }
+            return Long.compare(b.totalMillis, a.totalMillis);
+        });
+        return result;
+    }
+
+    /**
+     * Writes the ranked report.
+     *
+     * @param out Destination of the report
+     * @param header First line of the report
+     * @throws IOException If writing fails
+     */
+    void writeReport(Writer out, String header) throws IOException {
+        List<Group> ranked = ranked();
+        long total;
+        synchronized (this) {
+            total = totalCount;
+        }
+
+        out.write(header);
+        out.write('\n');
+        out.write("Violations: " + ranked.size() + " distinct, " + total + " total\n");
+
+        int rank = 1;
+        for (Group group : ranked) {
+            out.write('\n');
+            out.write("#" + rank++ + "  " + group.kind + "  x" + group.count);
+            if (group.totalMillis > 0) {
+                out.write("  total " + group.totalMillis + " ms  max " + group.maxMillis + " ms");
+            }
+            out.write('\n');
+            for (String line : group.lines) {
+                out.write("    " + line + '\n');
+            }
+        }
+        out.flush();
+    }
+
+    /**
+     * Builds the grouping signature of a stack.
+     * <p>
+     * The first {@link #SIGNATURE_FRAMES} frames of app code are used; when the
+     * stack has no app frames, the top frames are used instead.
+     *
+     * @param stack The captured stack, innermost frame first
+     * @return The signature
+     */
+    String signatureOf(StackTraceElement[] stack) {
+        StringBuilder signature = new StringBuilder();
+        int used = 0;
+        for (StackTraceElement frame : stack) {
+            if (used == SIGNATURE_FRAMES) {
+                break;
+            }
+            if (isAppFrame(frame)) {
+                appendFrame(signature, frame);
+                used++;
+            }
+        }
+        if (used == 0) {
+            for (int i = 0; i < stack.length && i < SIGNATURE_FRAMES; i++) {
+                appendFrame(signature, stack[i]);
+            }
+        }
+        return signature.toString();
+    }
+
+    private boolean isAppFrame(StackTraceElement frame) {
+        String className = frame.getClassName();
+        return className.startsWith(appPackage)
+                && !className.startsWith(ViolationAggregator.class.getPackage().getName());
+    }
+
+    private List<String> frames(StackTraceElement[] stack) {
+        List<String> lines = new ArrayList<>();
+        for (int i = 0; i < stack.length && lines.size() < REPORT_FRAMES; i++) {
+            lines.add(stack[i].toString());
+        }
+        return lines;
+    }
+
+    private static void appendFrame(StringBuilder signature, StackTraceElement frame) {
+        if (signature.length() > 0) {
+            signature.append(" <- ");
+        }
+        // Line numbers are left out so that unrelated edits do not split a group
+        signature.append(frame.getClassName()).append('.').append(frame.getMethodName());
+    }
+
+    /**
+     * Removes identity hashes such as "{1a2b3c}" and "@1a2b3c" from a description.
+     */
+    static String normalizeDescription(String description) {
+        return description
+                .replaceAll("\\{[0-9a-f]+\\}", "{}")
+                .replaceAll("@[0-9a-f]+", "")
+                .trim();
+    }
+
+    /**
+     * Group - All occurrences of one signature.
+     */
+    static final class Group {
+
+        final String kind;
+        final List<String> lines;
+        long count;
+        long totalMillis;
+        long maxMillis;
+
+        Group(String kind, List<String> lines) {
+            this.kind = kind;
+            this.lines = lines;
+        }
+
+        void add(long durationMillis) {
+            count++;
+            totalMillis += durationMillis;
+            maxMillis = Math.max(maxMillis, durationMillis);
+        }
+
+        Group copy() {
+            Group copy = new Group(kind, lines);
+            copy.count = count;
+            copy.totalMillis = totalMillis;
+            copy.maxMillis = maxMillis;
+            return copy;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.nava.samiyuri.garden;
+
+/**
+ * CareAction - The kinds of care a child can give to a plant buddy.
+ * <p>
+ * Each action carries a stable numeric code that is written to disk by the
+ * garden snapshot and journal formats. The codes must never be reordered or
+ * reused, otherwise gardens exported by older versions of the app would be
+ * read back with the wrong history.
+ *
+ * @author Neriou
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public enum CareAction {
+
+    /** The child watered the real plant. */
+    WATER(1),
+
+    /** The child moved the real plant into the sunlight. */
+    SUNLIGHT(2),
+
+    /** The child observed the real plant during a "lab analysis". */
+    LAB_CHECK(3);
+
+    /**
+     * Stable on-disk code for this action.
+     */
+    private final int code;
+
+    CareAction(int code) {
+        this.code = code;
+    }
+
+    /**
+     * Returns the stable on-disk code for this action.
+     *
+     * @return The numeric code written to snapshots and journals
+     */
+    public int getCode() {
+        return code;
+    }
+
+    /**
+     * Resolves an on-disk code back to its action.
+     *
+     * @param code The numeric code read from disk
+     * @return The matching action
+     * @throws IllegalArgumentException If the code is unknown to this version of the app
+     */
+    public static CareAction fromCode(int code) {
+        switch (code) {
+            case 1:
+                return WATER;
+            case 2:
+                return SUNLIGHT;
+            case 3:
+                return LAB_CHECK;
+            default:
+                throw new IllegalArgumentException("Unknown care action code: " + code);
+        }
+    }
+}
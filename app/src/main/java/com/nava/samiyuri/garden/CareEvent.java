@@ -0,0 +1,62 @@
+package com.nava.samiyuri.garden;
+
+/**
+ * CareEvent - One entry in a plant buddy's care history.
+ * <p>
+ * Every press of a care action button produces one event. Events are small,
+ * immutable and never edited after they are recorded, which makes the history
+ * cheap to append to and safe to copy between devices.
+ *
+ * @author Neriou
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class CareEvent {
+
+    private final long plantId;
+    private final CareAction action;
+    private final long timestampMillis;
+
+    /**
+     * Creates a new care event.
+     *
+     * @param plantId Identifier of the plant that received the care
+     * @param action The kind of care given
+     * @param timestampMillis Wall-clock time the care was given
+     */
+    public CareEvent(long plantId, CareAction action, long timestampMillis) {
+        this.plantId = plantId;
+        this.action = action;
+        this.timestampMillis = timestampMillis;
+    }
+
+    public long getPlantId() {
+        return plantId;
+    }
+
+    public CareAction getAction() {
+        return action;
+    }
+
+    public long getTimestampMillis() {
+        return timestampMillis;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof CareEvent)) return false;
+        CareEvent other = (CareEvent) o;
+        return plantId == other.plantId
+                && action == other.action
+                && timestampMillis == other.timestampMillis;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Long.hashCode(plantId);
+        result = 31 * result + action.hashCode();
+        result = 31 * result + Long.hashCode(timestampMillis);
+        return result;
+    }
+}
@@ -0,0 +1,119 @@
+package com.nava.samiyuri.garden;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Garden - The in-memory aggregate of everything a class garden contains.
+ * <p>
+ * A garden groups the plant buddies, their care history and the metadata of the
+ * photos taken of the real plants. It is the unit that is exported to and
+ * imported from a {@link GardenSnapshot}.
+ * <p>
+ * This class is intentionally a plain container: it performs no I/O and is not
+ * thread-safe. Callers confine it to one thread or synchronize externally.
+ *
+ * @author Neriou
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class Garden {
+
+    /**
+     * Plants keyed by identifier, in the order they were first added.
+     * <p>
+     * Insertion order is preserved so that the carousel shows buddies in the
+     * order the child named them.
+     */
+    private final Map<Long, PlantRecord> plants = new LinkedHashMap<>();
+
+    /**
+     * Care history for all plants, in the order it was recorded.
+     */
+    private final List<CareEvent> careEvents = new ArrayList<>();
+
+    /**
+     * Photo metadata for all plants, in the order the photos were taken.
+     */
+    private final List<PhotoRecord> photos = new ArrayList<>();
+
+    /**
+     * Adds a plant, or replaces the existing plant with the same identifier.
+     *
+     * @param plant The plant record to store
+     */
+    public void putPlant(PlantRecord plant) {
+        plants.put(plant.getId(), plant);
+    }
+
+    /**
+     * Returns the plant with the given identifier.
+     *
+     * @param plantId The plant identifier
+     * @return The plant record, or null if the garden has no such plant
+     */
+    public PlantRecord getPlant(long plantId) {
+        return plants.get(plantId);
+    }
+
+    /**
+     * Returns all plants in insertion order.
+     *
+     * @return An unmodifiable view of the plants
+     */
+    public List<PlantRecord> getPlants() {
+        return Collections.unmodifiableList(new ArrayList<>(plants.values()));
+    }
+
+    /**
+     * Returns the next free plant identifier.
+     *
+     * @return One more than the highest identifier in use, starting at 1
+     */
+    public long nextPlantId() {
+        long max = 0;
+        for (long id : plants.keySet()) {
+            max = Math.max(max, id);
+        }
+        return max + 1;
+    }
+
+    /**
+     * Appends a care event to the history.
+     *
+     * @param event The care event to record
+     */
+    public void addCareEvent(CareEvent event) {
+        careEvents.add(event);
+    }
+
+    /**
+     * Returns the care history in recording order.
+     *
+     * @return An unmodifiable view of the care events
+     */
+    public List<CareEvent> getCareEvents() {
+        return Collections.unmodifiableList(careEvents);
+    }
+
+    /**
+     * Appends photo metadata.
+     *
+     * @param photo The photo record to store
+     */
+    public void addPhoto(PhotoRecord photo) {
+        photos.add(photo);
+    }
+
+    /**
+     * Returns all photo metadata in the order it was added.
+     *
+     * @return An unmodifiable view of the photo records
+     */
+    public List<PhotoRecord> getPhotos() {
+        return Collections.unmodifiableList(photos);
+    }
+}
@@ -0,0 +1,383 @@
+package com.nava.samiyuri.garden;
+
+import static com.nava.samiyuri.garden.GardenSnapshotFormat.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * GardenSnapshot - A read-only, memory-mapped view over a garden snapshot file.
+ * <p>
+ * Opening a snapshot only maps the file and validates its header. No record is
+ * decoded until it is asked for, and each accessor reads just the bytes of the
+ * field it returns. Importing a large class garden is therefore near-instant,
+ * and the data lives in the page cache rather than being copied onto the heap.
+ * <p>
+ * Care events and photos are stored sorted by plant, so the history of a single
+ * buddy is located by binary search instead of scanning the whole table.
+ * <p>
+ * All accessors use absolute reads on the shared mapping and are safe to call
+ * from several threads at once.
+ *
+ * @author Neriou
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class GardenSnapshot {
+
+    /**
+     * Conventional file extension for exported gardens.
+     */
+    public static final String FILE_EXTENSION = GardenSnapshotFormat.FILE_EXTENSION;
+
+    private final MappedByteBuffer buffer;
+    private final int version;
+    private final long createdAtMillis;
+    private final int plantCount;
+    private final int plantStride;
+    private final int eventCount;
+    private final int eventStride;
+    private final int photoCount;
+    private final int photoStride;
+    private final int plantTable;
+    private final int eventTable;
+    private final int photoTable;
+    private final int stringPool;
+    private final int stringPoolLength;
+
+    private GardenSnapshot(MappedByteBuffer buffer) throws IOException {
+        this.buffer = buffer;
+
+        if (buffer.capacity() < HEADER_SIZE || buffer.getInt(H_MAGIC) != MAGIC) {
+            throw new IOException("Not a garden snapshot");
+        }
+        version = buffer.getInt(H_VERSION);
+        if (version < 1 || version > VERSION) {
+            throw new IOException("Unsupported garden snapshot version " + version);
+        }
+
+        createdAtMillis = buffer.getLong(H_CREATED_AT);
+        plantCount = buffer.getInt(H_PLANT_COUNT);
+        plantStride = buffer.getInt(H_PLANT_STRIDE);
+        eventCount = buffer.getInt(H_EVENT_COUNT);
+        eventStride = buffer.getInt(H_EVENT_STRIDE);
+        photoCount = buffer.getInt(H_PHOTO_COUNT);
+        photoStride = buffer.getInt(H_PHOTO_STRIDE);
+        plantTable = buffer.getInt(H_PLANT_TABLE);
+        eventTable = buffer.getInt(H_EVENT_TABLE);
+        photoTable = buffer.getInt(H_PHOTO_TABLE);
+        stringPool = buffer.getInt(H_STRING_POOL);
+        stringPoolLength = buffer.getInt(H_STRING_POOL_LENGTH);
+
+        // Reject files whose tables would read past the end of the mapping
+        if (plantStride < PLANT_STRIDE || eventStride < EVENT_STRIDE || photoStride < PHOTO_STRIDE
+                || !fits(plantTable, plantCount, plantStride)
+                || !fits(eventTable, eventCount, eventStride)
+                || !fits(photoTable, photoCount, photoStride)
+                || !fits(stringPool, stringPoolLength, 1)) {
+            throw new IOException("Corrupt garden snapshot");
+        }
+    }
+
+    /**
+     * Maps a snapshot file for lazy reading.
+     * <p>
+     * The file channel is closed before returning; the mapping stays valid until
+     * the snapshot is garbage collected.
+     *
+     * @param file The snapshot file to open
+     * @return A lazily-read view of the snapshot
+     * @throws IOException If the file cannot be mapped or is not a valid snapshot
+     */
+    public static GardenSnapshot open(File file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            mapped.order(ByteOrder.LITTLE_ENDIAN);
+            return new GardenSnapshot(mapped);
+        }
+    }
+
+    public int getVersion() {
+        return version;
+    }
+
+    public long getCreatedAtMillis() {
+        return createdAtMillis;
+    }
+
+    // ------------------------------------------------------------------
+    // Plants
+    // ------------------------------------------------------------------
+
+    public int getPlantCount() {
+        return plantCount;
+    }
+
+    public long getPlantId(int index) {
+        return buffer.getLong(plantBase(index) + P_ID);
+    }
+
+    public String getPlantName(int index) {
+        int base = plantBase(index);
+        return readString(buffer.getInt(base + P_NAME_OFFSET), buffer.getInt(base + P_NAME_LENGTH));
+    }
+
+    public String getPlantSpecies(int index) {
+        int base = plantBase(index);
+        return readString(buffer.getInt(base + P_SPECIES_OFFSET), buffer.getInt(base + P_SPECIES_LENGTH));
+    }
+
+    public int getPlantGrowthStage(int index) {
+        return buffer.getInt(plantBase(index) + P_GROWTH_STAGE);
+    }
+
+    /**
+     * Decodes the full plant record at the given index.
+     *
+     * @param index Zero-based plant index
+     * @return The decoded plant record
+     */
+    public PlantRecord readPlant(int index) {
+        int base = plantBase(index);
+        return new PlantRecord(
+                buffer.getLong(base + P_ID),
+                getPlantName(index),
+                getPlantSpecies(index),
+                buffer.getInt(base + P_GROWTH_STAGE),
+                buffer.getLong(base + P_CREATED_AT),
+                buffer.getLong(base + P_UPDATED_AT));
+    }
+
+    /**
+     * Finds the table index of a plant by identifier.
+     *
+     * @param plantId The plant identifier
+     * @return The zero-based index, or -1 if the snapshot has no such plant
+     */
+    public int indexOfPlant(long plantId) {
+        for (int i = 0; i < plantCount; i++) {
+            if (getPlantId(i) == plantId) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // ------------------------------------------------------------------
+    // Care events
+    // ------------------------------------------------------------------
+
+    public int getCareEventCount() {
+        return eventCount;
+    }
+
+    /**
+     * Decodes the care event at the given index.
+     *
+     * @param index Zero-based index into the care event table
+     * @return The decoded care event
+     */
+    public CareEvent readCareEvent(int index) {
+        int base = eventTable + checkIndex(index, eventCount) * eventStride;
+        return new CareEvent(
+                buffer.getLong(base + E_PLANT_ID),
+                CareAction.fromCode(buffer.getInt(base + E_ACTION)),
+                buffer.getLong(base + E_TIMESTAMP));
+    }
+
+    /**
+     * Returns when the care event at the given index happened, without decoding it.
+     *
+     * @param index Zero-based index into the care event table
+     * @return The event's timestamp in milliseconds
+     */
+    public long getCareEventTimestamp(int index) {
+        return buffer.getLong(eventTable + checkIndex(index, eventCount) * eventStride + E_TIMESTAMP);
+    }
+
+    /**
+     * Returns the index of the first care event belonging to a plant.
+     * <p>
+     * Events for one plant are contiguous, so together with
+     * {@link #getCareEventCountForPlant(long)} this addresses a plant's whole history.
+     *
+     * @param plantId The plant identifier
+     * @return The index of the plant's first event, or where it would be inserted
+     */
+    public int firstCareEventIndex(long plantId) {
+        return lowerBound(eventTable, eventCount, eventStride, E_PLANT_ID, plantId);
+    }
+
+    /**
+     * Returns how many care events a plant has, without decoding any of them.
+     *
+     * @param plantId The plant identifier
+     * @return The number of care events recorded for the plant
+     */
+    public int getCareEventCountForPlant(long plantId) {
+        return upperBound(eventTable, eventCount, eventStride, E_PLANT_ID, plantId)
+                - firstCareEventIndex(plantId);
+    }
+
+    /**
+     * Decodes the care history of a single plant, oldest first.
+     *
+     * @param plantId The plant identifier
+     * @return The plant's care events
+     */
+    public List<CareEvent> readCareEventsForPlant(long plantId) {
+        int from = firstCareEventIndex(plantId);
+        int to = from + getCareEventCountForPlant(plantId);
+        List<CareEvent> result = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            result.add(readCareEvent(i));
+        }
+        return result;
+    }
+
+    // ------------------------------------------------------------------
+    // Photos
+    // ------------------------------------------------------------------
+
+    public int getPhotoCount() {
+        return photoCount;
+    }
+
+    /**
+     * Decodes the photo metadata at the given index.
+     *
+     * @param index Zero-based index into the photo table
+     * @return The decoded photo record
+     */
+    public PhotoRecord readPhoto(int index) {
+        int base = photoTable + checkIndex(index, photoCount) * photoStride;
+        return new PhotoRecord(
+                buffer.getLong(base + F_PLANT_ID),
+                buffer.getLong(base + F_TAKEN_AT),
+                buffer.getInt(base + F_WIDTH),
+                buffer.getInt(base + F_HEIGHT),
+                readString(buffer.getInt(base + F_PATH_OFFSET), buffer.getInt(base + F_PATH_LENGTH)));
+    }
+
+    /**
+     * Decodes the photo metadata of a single plant, oldest first.
+     *
+     * @param plantId The plant identifier
+     * @return The plant's photo records
+     */
+    public List<PhotoRecord> readPhotosForPlant(long plantId) {
+        int from = lowerBound(photoTable, photoCount, photoStride, F_PLANT_ID, plantId);
+        int to = upperBound(photoTable, photoCount, photoStride, F_PLANT_ID, plantId);
+        List<PhotoRecord> result = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            result.add(readPhoto(i));
+        }
+        return result;
+    }
+
+    // ------------------------------------------------------------------
+    // Full materialization
+    // ------------------------------------------------------------------
+
+    /**
+     * Decodes the entire snapshot into a mutable {@link Garden}.
+     * <p>
+     * This defeats the purpose of lazy reading and is only meant for background
+     * work that must rewrite the whole garden, such as merging or compaction.
+     *
+     * @return A new garden containing every record in the snapshot
+     */
+    public Garden toGarden() {
+        Garden garden = new Garden();
+        for (int i = 0; i < plantCount; i++) {
+            garden.putPlant(readPlant(i));
+        }
+        for (int i = 0; i < eventCount; i++) {
+            garden.addCareEvent(readCareEvent(i));
+        }
+        for (int i = 0; i < photoCount; i++) {
+            garden.addPhoto(readPhoto(i));
+        }
+        return garden;
+    }
+
+    // ------------------------------------------------------------------
+    // Internals
+    // ------------------------------------------------------------------
+
+    private int plantBase(int index) {
+        return plantTable + checkIndex(index, plantCount) * plantStride;
+    }
+
+    private boolean fits(int offset, int count, int stride) {
+        return offset >= 0 && count >= 0
+                && (long) offset + (long) count * stride <= buffer.capacity();
+    }
+
+    private static int checkIndex(int index, int count) {
+        if (index < 0 || index >= count) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of " + count);
+        }
+        return index;
+    }
+
+    /**
+     * Binary search over a table sorted by a long key, returning the first index
+     * whose key is greater than or equal to the given key.
+     */
+    private int lowerBound(int table, int count, int stride, int keyOffset, long key) {
+        int low = 0;
+        int high = count;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (buffer.getLong(table + mid * stride + keyOffset) < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Binary search over a table sorted by a long key, returning the first index
+     * whose key is greater than the given key.
+     * <p>
+     * Used instead of {@code lowerBound(key + 1)}, which overflows for the largest key.
+     */
+    private int upperBound(int table, int count, int stride, int keyOffset, long key) {
+        int low = 0;
+        int high = count;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (buffer.getLong(table + mid * stride + keyOffset) <= key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Decodes a UTF-8 string from the string pool using absolute reads only.
+     */
+    private String readString(int offset, int length) {
+        if (offset < 0 || length < 0 || (long) offset + length > stringPoolLength) {
+            throw new IllegalStateException("Corrupt string reference in garden snapshot");
+        }
+        byte[] bytes = new byte[length];
+        int start = stringPool + offset;
+        for (int i = 0; i < length; i++) {
+            bytes[i] = buffer.get(start + i);
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
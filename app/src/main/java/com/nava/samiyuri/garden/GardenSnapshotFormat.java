@@ -0,0 +1,89 @@
+package com.nava.samiyuri.garden;
+
+/**
+ * GardenSnapshotFormat - Layout constants shared by the snapshot writer and reader.
+ * <p>
+ * A snapshot file is laid out so that it can be produced in one sequential pass
+ * and consumed by memory-mapping, without ever deserializing it as a whole:
+ * <pre>
+ *   +-------------------+  offset 0
+ *   | header            |  HEADER_SIZE bytes
+ *   +-------------------+
+ *   | plant table       |  plantCount  * plantStride fixed-size records
+ *   +-------------------+
+ *   | care event table  |  eventCount  * eventStride records, sorted by plant then time
+ *   +-------------------+
+ *   | photo table       |  photoCount  * photoStride records, sorted by plant then time
+ *   +-------------------+
+ *   | string pool       |  UTF-8 bytes referenced by (offset, length) pairs
+ *   +-------------------+
+ * </pre>
+ * All numbers are little-endian, which matches the byte order of every ARM and
+ * x86 device we target and avoids byte swapping on read.
+ * <p>
+ * Record strides are stored in the header rather than assumed. A future version
+ * may append fields to the end of a record, and older readers will still find
+ * every field they know about at the same relative position.
+ *
+ * @author Neriou
+ * @version 1.0
+ * @since 2026-10-18
+ */
+final class GardenSnapshotFormat {
+
+    /** File magic, the ASCII bytes "SMYG" read as a little-endian int. */
+    static final int MAGIC = 0x47594D53;
+
+    /** Current format version written by this build. */
+    static final int VERSION = 1;
+
+    /** Conventional file extension for exported gardens. */
+    static final String FILE_EXTENSION = ".smyg";
+
+    // Header field offsets
+    static final int HEADER_SIZE = 64;
+    static final int H_MAGIC = 0;
+    static final int H_VERSION = 4;
+    static final int H_CREATED_AT = 8;
+    static final int H_PLANT_COUNT = 16;
+    static final int H_PLANT_STRIDE = 20;
+    static final int H_EVENT_COUNT = 24;
+    static final int H_EVENT_STRIDE = 28;
+    static final int H_PHOTO_COUNT = 32;
+    static final int H_PHOTO_STRIDE = 36;
+    static final int H_PLANT_TABLE = 40;
+    static final int H_EVENT_TABLE = 44;
+    static final int H_PHOTO_TABLE = 48;
+    static final int H_STRING_POOL = 52;
+    static final int H_STRING_POOL_LENGTH = 56;
+
+    // Plant record: id, name ref, species ref, growth stage, created, updated
+    static final int PLANT_STRIDE = 44;
+    static final int P_ID = 0;
+    static final int P_NAME_OFFSET = 8;
+    static final int P_NAME_LENGTH = 12;
+    static final int P_SPECIES_OFFSET = 16;
+    static final int P_SPECIES_LENGTH = 20;
+    static final int P_GROWTH_STAGE = 24;
+    static final int P_CREATED_AT = 28;
+    static final int P_UPDATED_AT = 36;
+
+    // Care event record: plant id, timestamp, action code
+    static final int EVENT_STRIDE = 20;
+    static final int E_PLANT_ID = 0;
+    static final int E_TIMESTAMP = 8;
+    static final int E_ACTION = 16;
+
+    // Photo record: plant id, taken at, width, height, path ref
+    static final int PHOTO_STRIDE = 32;
+    static final int F_PLANT_ID = 0;
+    static final int F_TAKEN_AT = 8;
+    static final int F_WIDTH = 16;
+    static final int F_HEIGHT = 20;
+    static final int F_PATH_OFFSET = 24;
+    static final int F_PATH_LENGTH = 28;
+
+    private GardenSnapshotFormat() {
+        // Constants only
+    }
+}
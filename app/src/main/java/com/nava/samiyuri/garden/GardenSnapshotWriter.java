@@ -0,0 +1,237 @@
+package com.nava.samiyuri.garden;
+
+import static com.nava.samiyuri.garden.GardenSnapshotFormat.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * GardenSnapshotWriter - Writes a {@link Garden} as a binary snapshot file.
+ * <p>
+ * The file is produced in a single sequential pass through a small reusable
+ * buffer, so exporting a large class garden neither seeks nor holds a second
+ * copy of the whole file in memory. Only the string pool is assembled up front,
+ * because its size must be known before the header can be written.
+ * <p>
+ * Writes go to a temporary sibling file that is renamed over the target once
+ * complete. A teacher unplugging the tablet mid-export therefore leaves either
+ * the previous snapshot or the new one, never a truncated file.
+ * <p>
+ * See {@link GardenSnapshotFormat} for the exact file layout.
+ *
+ * @author Neriou
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class GardenSnapshotWriter {
+
+    /**
+     * Size of the reusable output buffer.
+     * <p>
+     * 64 KB keeps the number of write system calls low while staying small
+     * enough to be irrelevant on low-memory devices.
+     */
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private GardenSnapshotWriter() {
+        // Static utility
+    }
+
+    /**
+     * Writes the garden to the target file, replacing it atomically.
+     *
+     * @param garden The garden to export
+     * @param target The snapshot file to create or replace
+     * @param createdAtMillis Wall-clock time recorded in the snapshot header
+     * @throws IOException If the file cannot be written
+     */
+    public static void write(Garden garden, File target, long createdAtMillis) throws IOException {
+        List<PlantRecord> plants = garden.getPlants();
+        List<CareEvent> events = sortedEvents(garden.getCareEvents());
+        List<PhotoRecord> photos = sortedPhotos(garden.getPhotos());
+
+        // Assemble the string pool first so every offset is known before writing
+        StringPool pool = new StringPool();
+        int[] plantStrings = new int[plants.size() * 4];
+        for (int i = 0; i < plants.size(); i++) {
+            PlantRecord plant = plants.get(i);
+            pool.add(plant.getName(), plantStrings, i * 4);
+            pool.add(plant.getSpecies(), plantStrings, i * 4 + 2);
+        }
+        int[] photoStrings = new int[photos.size() * 2];
+        for (int i = 0; i < photos.size(); i++) {
+            pool.add(photos.get(i).getRelativePath(), photoStrings, i * 2);
+        }
+
+        int plantTable = HEADER_SIZE;
+        int eventTable = plantTable + plants.size() * PLANT_STRIDE;
+        int photoTable = eventTable + events.size() * EVENT_STRIDE;
+        int stringPool = photoTable + photos.size() * PHOTO_STRIDE;
+
+        File temp = new File(target.getPath() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp.toPath(),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+
+            ByteBuffer out = ByteBuffer.allocateDirect(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+
+            // Header
+            out.putInt(MAGIC);
+            out.putInt(VERSION);
+            out.putLong(createdAtMillis);
+            out.putInt(plants.size());
+            out.putInt(PLANT_STRIDE);
+            out.putInt(events.size());
+            out.putInt(EVENT_STRIDE);
+            out.putInt(photos.size());
+            out.putInt(PHOTO_STRIDE);
+            out.putInt(plantTable);
+            out.putInt(eventTable);
+            out.putInt(photoTable);
+            out.putInt(stringPool);
+            out.putInt(pool.size());
+            while (out.position() < HEADER_SIZE) {
+                out.put((byte) 0);
+            }
+
+            // Plant table
+            for (int i = 0; i < plants.size(); i++) {
+                ensureCapacity(channel, out, PLANT_STRIDE);
+                PlantRecord plant = plants.get(i);
+                out.putLong(plant.getId());
+                out.putInt(plantStrings[i * 4]);
+                out.putInt(plantStrings[i * 4 + 1]);
+                out.putInt(plantStrings[i * 4 + 2]);
+                out.putInt(plantStrings[i * 4 + 3]);
+                out.putInt(plant.getGrowthStage());
+                out.putLong(plant.getCreatedAtMillis());
+                out.putLong(plant.getUpdatedAtMillis());
+            }
+
+            // Care event table
+            for (CareEvent event : events) {
+                ensureCapacity(channel, out, EVENT_STRIDE);
+                out.putLong(event.getPlantId());
+                out.putLong(event.getTimestampMillis());
+                out.putInt(event.getAction().getCode());
+            }
+
+            // Photo table
+            for (int i = 0; i < photos.size(); i++) {
+                ensureCapacity(channel, out, PHOTO_STRIDE);
+                PhotoRecord photo = photos.get(i);
+                out.putLong(photo.getPlantId());
+                out.putLong(photo.getTakenAtMillis());
+                out.putInt(photo.getWidth());
+                out.putInt(photo.getHeight());
+                out.putInt(photoStrings[i * 2]);
+                out.putInt(photoStrings[i * 2 + 1]);
+            }
+
+            // String pool
+            flush(channel, out);
+            ByteBuffer poolBytes = ByteBuffer.wrap(pool.bytes());
+            while (poolBytes.hasRemaining()) {
+                channel.write(poolBytes);
+            }
+            channel.force(false);
+        }
+
+        if (!temp.renameTo(target)) {
+            //noinspection ResultOfMethodCallIgnored
+            temp.delete();
+            throw new IOException("Could not replace snapshot " + target);
+        }
+    }
+
+    /**
+     * Flushes the buffer if fewer than the required bytes remain.
+     */
+    private static void ensureCapacity(FileChannel channel, ByteBuffer out, int required)
+            throws IOException {
+        if (out.remaining() < required) {
+            flush(channel, out);
+        }
+    }
+
+    /**
+     * Writes all buffered bytes to the channel and resets the buffer.
+     */
+    private static void flush(FileChannel channel, ByteBuffer out) throws IOException {
+        out.flip();
+        while (out.hasRemaining()) {
+            channel.write(out);
+        }
+        out.clear();
+    }
+
+    /**
+     * Sorts care events by plant, then time, so readers can binary search a plant's history.
+     */
+    private static List<CareEvent> sortedEvents(List<CareEvent> events) {
+        List<CareEvent> sorted = new ArrayList<>(events);
+        Collections.sort(sorted, (a, b) -> {
+            int byPlant = Long.compare(a.getPlantId(), b.getPlantId());
+            return byPlant != 0 ? byPlant : Long.compare(a.getTimestampMillis(), b.getTimestampMillis());
+        });
+        return sorted;
+    }
+
+    /**
+     * Sorts photos by plant, then time, so readers can binary search a plant's photos.
+     */
+    private static List<PhotoRecord> sortedPhotos(List<PhotoRecord> photos) {
+        List<PhotoRecord> sorted = new ArrayList<>(photos);
+        Collections.sort(sorted, (a, b) -> {
+            int byPlant = Long.compare(a.getPlantId(), b.getPlantId());
+            return byPlant != 0 ? byPlant : Long.compare(a.getTakenAtMillis(), b.getTakenAtMillis());
+        });
+        return sorted;
+    }
+
+    /**
+     * Deduplicating UTF-8 string pool.
+     * <p>
+     * Species names repeat for every plant, so each distinct string is stored once
+     * and shared by every record that references it.
+     */
+    private static final class StringPool {
+
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        private final Map<String, int[]> offsets = new HashMap<>();
+
+        /**
+         * Adds a string and stores its (offset, length) reference into the target array.
+         */
+        void add(String value, int[] target, int index) {
+            int[] ref = offsets.get(value);
+            if (ref == null) {
+                byte[] encoded = value.getBytes(StandardCharsets.UTF_8);
+                ref = new int[]{bytes.size(), encoded.length};
+                bytes.write(encoded, 0, encoded.length);
+                offsets.put(value, ref);
+            }
+            target[index] = ref[0];
+            target[index + 1] = ref[1];
+        }
+
+        int size() {
+            return bytes.size();
+        }
+
+        byte[] bytes() {
+            return bytes.toByteArray();
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.nava.samiyuri.garden;
+
+/**
+ * PhotoRecord - Metadata describing a photo of a real plant.
+ * <p>
+ * Only the metadata travels with a garden snapshot. The image itself stays in
+ * app storage and is referenced by a path relative to the garden directory, so
+ * that a snapshot remains small enough to copy quickly between classroom tablets.
+ *
+ * @author Neriou
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class PhotoRecord {
+
+    private final long plantId;
+    private final long takenAtMillis;
+    private final int width;
+    private final int height;
+    private final String relativePath;
+
+    /**
+     * Creates a new photo record.
+     *
+     * @param plantId Identifier of the plant shown in the photo
+     * @param takenAtMillis Wall-clock time the photo was taken
+     * @param width Image width in pixels
+     * @param height Image height in pixels
+     * @param relativePath Path of the image file, relative to the garden directory
+     */
+    public PhotoRecord(long plantId, long takenAtMillis, int width, int height, String relativePath) {
+        this.plantId = plantId;
+        this.takenAtMillis = takenAtMillis;
+        this.width = width;
+        this.height = height;
+        this.relativePath = relativePath;
+    }
+
+    public long getPlantId() {
+        return plantId;
+    }
+
+    public long getTakenAtMillis() {
+        return takenAtMillis;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    public String getRelativePath() {
+        return relativePath;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof PhotoRecord)) return false;
+        PhotoRecord other = (PhotoRecord) o;
+        return plantId == other.plantId
+                && takenAtMillis == other.takenAtMillis
+                && width == other.width
+                && height == other.height
+                && relativePath.equals(other.relativePath);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Long.hashCode(plantId);
+        result = 31 * result + Long.hashCode(takenAtMillis);
+        result = 31 * result + relativePath.hashCode();
+        return result;
+    }
+}
@@ -0,0 +1,99 @@
+package com.nava.samiyuri.garden;
+
+/**
+ * PlantRecord - The persistent description of a single plant buddy.
+ * <p>
+ * Unlike the lightweight UI model used by {@code MainActivity}, this record only
+ * holds data that survives across launches and devices: identity, the name chosen
+ * during the naming ceremony, the species and the growth stage. Moods and drawable
+ * resources are derived from this data and care history, so they are not stored.
+ * <p>
+ * Instances are immutable, which keeps them safe to share between the UI thread
+ * and background persistence work without copying.
+ *
+ * @author Neriou
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class PlantRecord {
+
+    /** Species identifier for the radish buddy. */
+    public static final String SPECIES_RADISH = "radish";
+
+    /** Species identifier for the lettuce buddy. */
+    public static final String SPECIES_LETTUCE = "lettuce";
+
+    private final long id;
+    private final String name;
+    private final String species;
+    private final int growthStage;
+    private final long createdAtMillis;
+    private final long updatedAtMillis;
+
+    /**
+     * Creates a new plant record.
+     *
+     * @param id Unique plant identifier within the garden
+     * @param name The user-assigned name for this plant buddy
+     * @param species The species identifier (e.g. {@link #SPECIES_RADISH})
+     * @param growthStage Zero-based growth stage, from seed (0) to harvest (5)
+     * @param createdAtMillis Wall-clock time the buddy was named
+     * @param updatedAtMillis Wall-clock time of the last edit to this record
+     */
+    public PlantRecord(long id, String name, String species, int growthStage,
+                       long createdAtMillis, long updatedAtMillis) {
+        this.id = id;
+        this.name = name;
+        this.species = species;
+        this.growthStage = growthStage;
+        this.createdAtMillis = createdAtMillis;
+        this.updatedAtMillis = updatedAtMillis;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getSpecies() {
+        return species;
+    }
+
+    public int getGrowthStage() {
+        return growthStage;
+    }
+
+    public long getCreatedAtMillis() {
+        return createdAtMillis;
+    }
+
+    public long getUpdatedAtMillis() {
+        return updatedAtMillis;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof PlantRecord)) return false;
+        PlantRecord other = (PlantRecord) o;
+        return id == other.id
+                && growthStage == other.growthStage
+                && createdAtMillis == other.createdAtMillis
+                && updatedAtMillis == other.updatedAtMillis
+                && name.equals(other.name)
+                && species.equals(other.species);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Long.hashCode(id);
+        result = 31 * result + name.hashCode();
+        result = 31 * result + species.hashCode();
+        result = 31 * result + growthStage;
+        result = 31 * result + Long.hashCode(updatedAtMillis);
+        return result;
+    }
+}
@@ -0,0 +1,69 @@
+package com.nava.samiyuri.history;
+
+import java.text.DateFormat;
+import java.text.SimpleDateFormat;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * CareDateFormats - Cached date formatters for the child's chosen language.
+ * <p>
+ * Building a locale-aware formatter resolves the best pattern for the locale and
+ * loads its month and weekday names, which is far too slow to do per timeline
+ * row. Formatters are built once per language and reused by every row.
+ * <p>
+ * Quechua has date data on recent devices; Aymara and Ashaninka usually do not,
+ * and a locale without data formats months as "M01". Those fall back to Spanish,
+ * like the rest of the app.
+ * <p>
+ * Formatters are not thread-safe; use from the main thread only.
+ *
+ * @author Neriou
+ * @version 1.0
+ * @since 2026-10-18
+ */
+final class CareDateFormats {
+
+    /**
+     * Skeleton for timeline rows: weekday, day, short month, hour and minutes.
+     */
+    private static final String SKELETON = "EEEdMMMjmm";
+
+    private static final String FALLBACK_LANGUAGE_CODE = "es";
+
+    private static final Map<String, DateFormat> FORMATS = new HashMap<>();
+
+    private CareDateFormats() {
+        // Static utility
+    }
+
+    /**
+     * Returns the timeline formatter for a language.
+     * <p>
+     * Callers pass the language their resources are already configured with,
+     * which is the one chosen during onboarding, so no preference is read here.
+     *
+     * @param languageCode The language code, e.g. "qu"
+     * @return A formatter for the language, shared by all callers
+     */
+    static DateFormat forLanguage(String languageCode) {
+        DateFormat format = FORMATS.get(languageCode);
+        if (format == null) {
+            Locale locale = hasDateData(languageCode) ? new Locale(languageCode) : new Locale(FALLBACK_LANGUAGE_CODE);
+            String pattern = android.text.format.DateFormat.getBestDateTimePattern(locale, SKELETON);
+            format = new SimpleDateFormat(pattern, locale);
+            FORMATS.put(languageCode, format);
+        }
+        return format;
+    }
+
+    private static boolean hasDateData(String languageCode) {
+        for (Locale available : DateFormat.getAvailableLocales()) {
+            if (available.getLanguage().equals(languageCode)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
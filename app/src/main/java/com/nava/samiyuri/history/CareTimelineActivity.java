@@ -0,0 +1,108 @@
+package com.nava.samiyuri.history;
+
+import android.content.Context;
+import android.content.Intent;
+import android.os.Bundle;
+import android.view.View;
+import android.widget.AbsListView;
+
+import androidx.appcompat.app.AppCompatActivity;
+import androidx.core.graphics.Insets;
+import androidx.core.view.ViewCompat;
+import androidx.core.view.WindowInsetsCompat;
+
+import com.nava.samiyuri.R;
+import com.nava.samiyuri.databinding.ActivityCareTimelineBinding;
+import com.nava.samiyuri.storage.CareHistory;
+import com.nava.samiyuri.storage.GardenStore;
+
+/**
+ * CareTimelineActivity - Scrollable history of every care action given to one buddy.
+ * <p>
+ * Opened by long-pressing a buddy's card on the garden screen. Events are shown
+ * newest first and streamed from disk page by page through a
+ * {@link CareTimelineAdapter}, so scrolling back through months of waterings never
+ * loads the whole history. Dates are formatted in the language chosen during
+ * onboarding.
+ *
+ * @author Neriou
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class CareTimelineActivity extends AppCompatActivity {
+
+    private static final String EXTRA_PLANT_ID = "PLANT_ID";
+    private static final String EXTRA_PLANT_NAME = "PLANT_NAME";
+
+    private ActivityCareTimelineBinding binding;
+    private CareTimelineAdapter adapter;
+
+    /**
+     * Creates the intent that opens a buddy's timeline.
+     *
+     * @param context Context to start from
+     * @param plantId The buddy's identifier
+     * @param plantName The buddy's name, shown in the title
+     * @return The intent to start
+     */
+    public static Intent newIntent(Context context, long plantId, String plantName) {
+        Intent intent = new Intent(context, CareTimelineActivity.class);
+        intent.putExtra(EXTRA_PLANT_ID, plantId);
+        intent.putExtra(EXTRA_PLANT_NAME, plantName);
+        return intent;
+    }
+
+    @Override
+    protected void onCreate(Bundle savedInstanceState) {
+        super.onCreate(savedInstanceState);
+        binding = ActivityCareTimelineBinding.inflate(getLayoutInflater());
+        setContentView(binding.getRoot());
+
+        // Handle system window insets for modern Android edge-to-edge display
+        ViewCompat.setOnApplyWindowInsetsListener(binding.getRoot(), (v, insets) -> {
+            Insets systemBars = insets.getInsets(WindowInsetsCompat.Type.systemBars());
+            v.setPadding(systemBars.left, systemBars.top, systemBars.right, systemBars.bottom);
+            return insets;
+        });
+
+        String plantName = getIntent().getStringExtra(EXTRA_PLANT_NAME);
+        binding.timelineTitle.setText(getString(R.string.care_timeline_title, plantName));
+
+        long plantId = getIntent().getLongExtra(EXTRA_PLANT_ID, 0);
+        GardenStore.getInstance(this).openCareHistory(plantId, this::showHistory);
+    }
+
+    @Override
+    protected void onDestroy() {
+        super.onDestroy();
+        if (adapter != null) {
+            adapter.close();
+        }
+    }
+
+    private void showHistory(CareHistory history) {
+        if (isDestroyed()) {
+            return;
+        }
+        if (history == null || history.size() == 0) {
+            binding.timelineEmpty.setVisibility(View.VISIBLE);
+            return;
+        }
+
+        // The chosen language was applied to the resources at start-up
+        String language = getResources().getConfiguration().getLocales().get(0).getLanguage();
+        adapter = new CareTimelineAdapter(history, getLayoutInflater(), CareDateFormats.forLanguage(language));
+        binding.timelineList.setAdapter(adapter);
+        binding.timelineList.setOnScrollListener(new AbsListView.OnScrollListener() {
+            @Override
+            public void onScrollStateChanged(AbsListView view, int scrollState) {
+                // Not used
+            }
+
+            @Override
+            public void onScroll(AbsListView view, int firstVisibleItem, int visibleItemCount, int totalItemCount) {
+                adapter.prefetch(firstVisibleItem, visibleItemCount);
+            }
+        });
+    }
+}
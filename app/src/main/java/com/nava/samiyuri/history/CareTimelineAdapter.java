@@ -0,0 +1,178 @@
+package com.nava.samiyuri.history;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.view.LayoutInflater;
+import android.view.View;
+import android.view.ViewGroup;
+import android.widget.BaseAdapter;
+
+import com.nava.samiyuri.R;
+import com.nava.samiyuri.cache.CacheGovernor;
+import com.nava.samiyuri.cache.GovernedCache;
+import com.nava.samiyuri.databinding.ItemCareEventBinding;
+import com.nava.samiyuri.device.DevicePerformance;
+import com.nava.samiyuri.garden.CareEvent;
+import com.nava.samiyuri.storage.CareHistory;
+
+import java.text.DateFormat;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * CareTimelineAdapter - Binds timeline rows to pages of a {@link CareHistory}.
+ * <p>
+ * The list knows the total number of events from the start, but only a few pages
+ * around the scroll position are ever in memory. A page that is not loaded yet
+ * shows placeholder rows while it is read on a background thread; pages ahead of
+ * the scroll position are requested before they come into view.
+ * <p>
+ * Key Features:
+ * - Loaded pages live in a governed cache of {@link #MAX_LOADED_PAGES} pages, so
+ *   memory stays the same for a week of history or a whole school year
+ * - One reader thread; a page is never requested twice while it is loading
+ * - Rows are recycled by the list, and each bind formats one date with a cached
+ *   formatter
+ *
+ * @author Neriou
+ * @version 1.0
+ * @since 2026-10-18
+ */
+final class CareTimelineAdapter extends BaseAdapter {
+
+    /**
+     * Pages kept in memory on a mid-range device: the visible ones plus prefetched
+     * pages on both sides.
+     */
+    private static final int MAX_LOADED_PAGES = 6;
+
+    /**
+     * How many rows beyond the visible ones are loaded ahead of time: half a page
+     * per step of look-ahead, a full page on a mid-range device.
+     */
+    private static final int PREFETCH_ROWS =
+            CareHistory.PAGE_SIZE * DevicePerformance.getTier().getPrefetchDepth() / 2;
+
+    private final CareHistory history;
+    private final LayoutInflater inflater;
+    private final DateFormat dateFormat;
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+    private final ExecutorService reader = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "care-history");
+        thread.setPriority(Thread.NORM_PRIORITY - 1);
+        return thread;
+    });
+    private final GovernedCache<Integer, List<CareEvent>> pages =
+            CacheGovernor.getInstance().register(GovernedCache.<Integer, List<CareEvent>>counting(
+                    "care-history-pages", GovernedCache.Priority.NORMAL,
+                    DevicePerformance.getTier().scaleCacheSize(MAX_LOADED_PAGES)));
+    private final Set<Integer> loading = new HashSet<>();
+    private boolean closed;
+
+    CareTimelineAdapter(CareHistory history, LayoutInflater inflater, DateFormat dateFormat) {
+        this.history = history;
+        this.inflater = inflater;
+        this.dateFormat = dateFormat;
+    }
+
+    @Override
+    public int getCount() {
+        return history.size();
+    }
+
+    @Override
+    public CareEvent getItem(int position) {
+        List<CareEvent> page = pages.get(position / history.getPageSize());
+        int offset = position % history.getPageSize();
+        return page != null && offset < page.size() ? page.get(offset) : null;
+    }
+
+    @Override
+    public long getItemId(int position) {
+        return position;
+    }
+
+    @Override
+    public View getView(int position, View convertView, ViewGroup parent) {
+        ItemCareEventBinding row = convertView != null
+                ? (ItemCareEventBinding) convertView.getTag()
+                : null;
+        if (row == null) {
+            row = ItemCareEventBinding.inflate(inflater, parent, false);
+            row.getRoot().setTag(row);
+        }
+
+        CareEvent event = getItem(position);
+        if (event == null) {
+            // Not loaded yet - the row is rebound when its page arrives
+            requestPage(position / history.getPageSize());
+            row.careEventIcon.setImageDrawable(null);
+            row.careEventAction.setText(R.string.care_event_loading);
+            row.careEventDate.setText(null);
+            return row.getRoot();
+        }
+
+        switch (event.getAction()) {
+            case WATER:
+                row.careEventIcon.setImageResource(R.drawable.icon_water);
+                row.careEventAction.setText(R.string.care_event_water);
+                break;
+            case SUNLIGHT:
+                row.careEventIcon.setImageResource(R.drawable.icon_sun);
+                row.careEventAction.setText(R.string.care_event_sunlight);
+                break;
+            default:
+                row.careEventIcon.setImageResource(R.drawable.icon_analysis);
+                row.careEventAction.setText(R.string.care_event_lab_check);
+                break;
+        }
+        row.careEventDate.setText(dateFormat.format(new Date(event.getTimestampMillis())));
+        return row.getRoot();
+    }
+
+    /**
+     * Loads the pages around the visible rows, ahead of the scroll.
+     *
+     * @param firstVisible First visible position
+     * @param visibleCount Number of visible rows
+     */
+    void prefetch(int firstVisible, int visibleCount) {
+        int pageSize = history.getPageSize();
+        int firstPage = Math.max(0, (firstVisible - PREFETCH_ROWS) / pageSize);
+        int lastPage = Math.min(history.getPageCount() - 1,
+                (firstVisible + visibleCount + PREFETCH_ROWS) / pageSize);
+        for (int page = firstPage; page <= lastPage; page++) {
+            requestPage(page);
+        }
+    }
+
+    /**
+     * Stops reading and releases every loaded page.
+     */
+    void close() {
+        closed = true;
+        reader.shutdownNow();
+        CacheGovernor.getInstance().unregister(pages);
+        pages.clear();
+    }
+
+    private void requestPage(int page) {
+        if (closed || pages.get(page) != null || !loading.add(page)) {
+            return;
+        }
+        reader.execute(() -> {
+            List<CareEvent> events = history.readPage(page);
+            mainHandler.post(() -> {
+                loading.remove(page);
+                if (!closed) {
+                    pages.put(page, events);
+                    notifyDataSetChanged();
+                }
+            });
+        });
+    }
+}
@@ -0,0 +1,50 @@
+package com.nava.samiyuri.knowledge;
+
+/**
+ * GrowingTip - One piece of growing advice for a species at a growth stage.
+ *
+ * @author Neriou
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class GrowingTip {
+
+    private final String species;
+    private final int growthStage;
+    private final String language;
+    private final String text;
+
+    /**
+     * @param species Species identifier, e.g. {@code PlantRecord.SPECIES_RADISH}
+     * @param growthStage Zero-based growth stage, from seed (0) to harvest (5)
+     * @param language ISO language code of the text
+     * @param text The tip itself
+     */
+    public GrowingTip(String species, int growthStage, String language, String text) {
+        this.species = species;
+        this.growthStage = growthStage;
+        this.language = language;
+        this.text = text;
+    }
+
+    public String getSpecies() {
+        return species;
+    }
+
+    public int getGrowthStage() {
+        return growthStage;
+    }
+
+    public String getLanguage() {
+        return language;
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    @Override
+    public String toString() {
+        return species + "/" + growthStage + "/" + language + ": " + text;
+    }
+}
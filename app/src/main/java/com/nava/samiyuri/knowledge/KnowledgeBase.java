@@ -0,0 +1,442 @@
+package com.nava.samiyuri.knowledge;
+
+import android.content.Context;
+import android.content.res.AssetFileDescriptor;
+import android.util.Log;
+
+import androidx.annotation.Nullable;
+
+import com.nava.samiyuri.text.TextNormalizer;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static com.nava.samiyuri.knowledge.KnowledgeBaseFormat.*;
+
+/**
+ * KnowledgeBase - Offline growing tips per species and growth stage, in every app language.
+ * <p>
+ * The tips ship as one compact asset with a prebuilt inverted index (see
+ * {@link KnowledgeBaseFormat}). The asset is memory-mapped and read in place:
+ * opening it costs one mapping, a tip lookup is a binary search over fixed-size
+ * records, and a keyword search is a binary search over the sorted term table.
+ * Only the strings actually returned are decoded onto the heap.
+ * <p>
+ * Unlike story text, tips are not split into the per-language packs of
+ * {@link com.nava.samiyuri.langpack.LanguagePackManager}. One index covers every
+ * language, so a search can fill a partly translated language's results with
+ * Spanish and English tips in a single pass; per-pack indexes would need a
+ * lookup in each fallback pack and a merge. All tips together take about
+ * 20 kilobytes, and only the pages that are read leave storage.
+ * <p>
+ * Key Features:
+ * - Lookups fall back from the chosen language to Spanish, then English, so a
+ *   language with missing tips still gets useful advice
+ * - Accent- and apostrophe-insensitive keyword search with prefix matching on the
+ *   last word, suitable for search-as-you-type
+ * - Loaded once in the background by {@link #preload(Context)}
+ * <p>
+ * Thread-safe: the mapped buffer is only read with absolute gets.
+ *
+ * @author Neriou
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class KnowledgeBase {
+
+    private static final String TAG = "KnowledgeBase";
+
+    /** Asset path of the compiled knowledge base; stored uncompressed in the APK. */
+    public static final String ASSET_PATH = "knowledge/tips.smkb";
+
+    /** Languages tried after the requested one, in order. */
+    private static final String[] FALLBACK_LANGUAGES = {"es", "en"};
+
+    private static volatile KnowledgeBase instance;
+    private static boolean preloadStarted;
+
+    private final ByteBuffer buffer;
+    private final int tipCount;
+    private final int tipTable;
+    private final int termCount;
+    private final int termTable;
+    private final int stringPool;
+
+    /**
+     * Language and species dictionaries; a handful of short strings.
+     */
+    private final String[] languages;
+    private final String[] species;
+
+    /**
+     * Wraps a compiled knowledge base.
+     *
+     * @param buffer The compiled bytes, typically memory-mapped
+     * @throws IOException If the data is not a supported knowledge base
+     */
+    public KnowledgeBase(ByteBuffer buffer) throws IOException {
+        this.buffer = buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        if (buffer.capacity() < HEADER_SIZE || this.buffer.getInt(H_MAGIC) != MAGIC) {
+            throw new IOException("Not a knowledge base");
+        }
+        if (this.buffer.getInt(H_VERSION) > VERSION) {
+            throw new IOException("Unsupported knowledge base version " + this.buffer.getInt(H_VERSION));
+        }
+        if (this.buffer.getInt(H_TIP_STRIDE) < TIP_STRIDE || this.buffer.getInt(H_TERM_STRIDE) < TERM_STRIDE) {
+            throw new IOException("Corrupt knowledge base header");
+        }
+        tipCount = this.buffer.getInt(H_TIP_COUNT);
+        tipTable = this.buffer.getInt(H_TIP_TABLE);
+        termCount = this.buffer.getInt(H_TERM_COUNT);
+        termTable = this.buffer.getInt(H_TERM_TABLE);
+        stringPool = this.buffer.getInt(H_STRING_POOL);
+
+        languages = readDictionary(this.buffer.getInt(H_LANGUAGE_TABLE), this.buffer.getInt(H_LANGUAGE_COUNT));
+        species = readDictionary(this.buffer.getInt(H_SPECIES_TABLE), this.buffer.getInt(H_SPECIES_COUNT));
+    }
+
+    /**
+     * Memory-maps the knowledge base from the app's assets.
+     * <p>
+     * Performs disk I/O; call off the main thread.
+     *
+     * @param context Any context
+     * @return The opened knowledge base
+     * @throws IOException If the asset is missing, compressed or corrupt
+     */
+    public static KnowledgeBase openAsset(Context context) throws IOException {
+        try (AssetFileDescriptor descriptor = context.getAssets().openFd(ASSET_PATH);
+             FileInputStream in = descriptor.createInputStream()) {
+            FileChannel channel = in.getChannel();
+            return new KnowledgeBase(channel.map(FileChannel.MapMode.READ_ONLY,
+                    descriptor.getStartOffset(), descriptor.getLength()));
+        }
+    }
+
+    /**
+     * Starts mapping the bundled knowledge base on a background thread.
+     * <p>
+     * Safe to call more than once; only the first call does any work.
+     *
+     * @param context Any context; only the application context is used
+     */
+    public static synchronized void preload(Context context) {
+        if (preloadStarted) {
+            return;
+        }
+        preloadStarted = true;
+        Context appContext = context.getApplicationContext();
+        new Thread(() -> {
+            try {
+                instance = openAsset(appContext);
+            } catch (IOException e) {
+                Log.e(TAG, "Cannot open knowledge base", e);
+            }
+        }, "knowledge-load").start();
+    }
+
+    /**
+     * Returns the bundled knowledge base if {@link #preload(Context)} has finished.
+     *
+     * @return The knowledge base, or null while it is still loading or unavailable
+     */
+    @Nullable
+    public static KnowledgeBase getIfLoaded() {
+        return instance;
+    }
+
+    /**
+     * Looks up the tip for a species and growth stage.
+     *
+     * @param speciesId Species identifier, e.g. {@code PlantRecord.SPECIES_RADISH}
+     * @param growthStage Zero-based growth stage
+     * @param language Preferred ISO language code
+     * @return The tip in the preferred or a fallback language, or null if there is none
+     */
+    @Nullable
+    public GrowingTip getTip(String speciesId, int growthStage, String language) {
+        int speciesIndex = indexOf(species, speciesId);
+        if (speciesIndex < 0) {
+            return null;
+        }
+        int tip = findTip(speciesIndex, growthStage, indexOf(languages, language));
+        for (int i = 0; tip < 0 && i < FALLBACK_LANGUAGES.length; i++) {
+            tip = findTip(speciesIndex, growthStage, indexOf(languages, FALLBACK_LANGUAGES[i]));
+        }
+        return tip < 0 ? null : readTip(tip);
+    }
+
+    /**
+     * Finds tips containing every word of a query.
+     * <p>
+     * The last word also matches as a prefix, so partial input while typing
+     * already finds results. Tips in the given language are returned; tips only
+     * available in a fallback language are returned in that language.
+     *
+     * @param query Free text typed by the user
+     * @param language Preferred ISO language code
+     * @param limit Maximum number of results
+     * @return Matching tips in table order (species, stage)
+     */
+    public List<GrowingTip> search(String query, String language, int limit) {
+        List<String> words = queryWords(query);
+        List<GrowingTip> results = new ArrayList<>();
+        if (words.isEmpty()) {
+            return results;
+        }
+
+        // Intersect the postings of all words; the last one as a prefix
+        int[] matches = null;
+        for (int i = 0; i < words.size(); i++) {
+            boolean prefix = i == words.size() - 1;
+            int[] postings = postingsFor(words.get(i).getBytes(StandardCharsets.UTF_8), prefix);
+            matches = matches == null ? postings : intersect(matches, postings);
+            if (matches.length == 0) {
+                return results;
+            }
+        }
+
+        // Keep one tip per species and stage, in the best available language
+        int preferred = indexOf(languages, language);
+        for (int tip : matches) {
+            if (results.size() == limit) {
+                break;
+            }
+            int record = tipTable + tip * buffer.getInt(H_TIP_STRIDE);
+            int speciesIndex = buffer.get(record + T_SPECIES) & 0xFF;
+            int stage = buffer.get(record + T_STAGE) & 0xFF;
+            int tipLanguage = buffer.get(record + T_LANGUAGE) & 0xFF;
+            if (tipLanguage == bestLanguage(speciesIndex, stage, preferred)) {
+                results.add(readTip(tip));
+            }
+        }
+        return results;
+    }
+
+    public int getTipCount() {
+        return tipCount;
+    }
+
+    public int getTermCount() {
+        return termCount;
+    }
+
+    // ------------------------------------------------------------------
+    // Tip table
+    // ------------------------------------------------------------------
+
+    private int findTip(int speciesIndex, int stage, int languageIndex) {
+        if (languageIndex < 0) {
+            return -1;
+        }
+        int key = (speciesIndex << 16) | (stage << 8) | languageIndex;
+        int stride = buffer.getInt(H_TIP_STRIDE);
+        int low = 0;
+        int high = tipCount - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int record = tipTable + middle * stride;
+            int candidate = ((buffer.get(record + T_SPECIES) & 0xFF) << 16)
+                    | ((buffer.get(record + T_STAGE) & 0xFF) << 8)
+                    | (buffer.get(record + T_LANGUAGE) & 0xFF);
+            if (candidate < key) {
+                low = middle + 1;
+            } else if (candidate > key) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -1;
+    }
+
+    private int bestLanguage(int speciesIndex, int stage, int preferred) {
+        if (findTip(speciesIndex, stage, preferred) >= 0) {
+            return preferred;
+        }
+        for (String fallback : FALLBACK_LANGUAGES) {
+            int languageIndex = indexOf(languages, fallback);
+            if (findTip(speciesIndex, stage, languageIndex) >= 0) {
+                return languageIndex;
+            }
+        }
+        return -1;
+    }
+
+    private GrowingTip readTip(int tip) {
+        int record = tipTable + tip * buffer.getInt(H_TIP_STRIDE);
+        return new GrowingTip(
+                species[buffer.get(record + T_SPECIES) & 0xFF],
+                buffer.get(record + T_STAGE) & 0xFF,
+                languages[buffer.get(record + T_LANGUAGE) & 0xFF],
+                readString(record + T_TEXT_OFFSET));
+    }
+
+    // ------------------------------------------------------------------
+    // Inverted index
+    // ------------------------------------------------------------------
+
+    /**
+     * Returns the ascending tip indices of a term, or of every term starting with it.
+     */
+    private int[] postingsFor(byte[] term, boolean prefix) {
+        int first = lowerBound(term);
+        if (!prefix) {
+            if (first < termCount && compareTerm(first, term, false) == 0) {
+                return readPostings(first);
+            }
+            return new int[0];
+        }
+
+        // Union of all terms in the prefix range
+        int[] union = new int[0];
+        for (int t = first; t < termCount && compareTerm(t, term, true) == 0; t++) {
+            union = merge(union, readPostings(t));
+        }
+        return union;
+    }
+
+    /**
+     * Index of the first term that is not less than {@code term}.
+     */
+    private int lowerBound(byte[] term) {
+        int low = 0;
+        int high = termCount;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (compareTerm(middle, term, false) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Compares a stored term with {@code term} byte by byte, without decoding it.
+     *
+     * @param prefixOnly Compare only the first {@code term.length} bytes
+     */
+    private int compareTerm(int index, byte[] term, boolean prefixOnly) {
+        int record = termTable + index * buffer.getInt(H_TERM_STRIDE);
+        int offset = stringPool + buffer.getInt(record + W_TERM_OFFSET);
+        int length = buffer.getInt(record + W_TERM_LENGTH);
+        int common = Math.min(length, term.length);
+        for (int i = 0; i < common; i++) {
+            int result = Integer.compare(buffer.get(offset + i) & 0xFF, term[i] & 0xFF);
+            if (result != 0) {
+                return result;
+            }
+        }
+        if (prefixOnly && length >= term.length) {
+            return 0;
+        }
+        return Integer.compare(length, term.length);
+    }
+
+    private int[] readPostings(int index) {
+        int record = termTable + index * buffer.getInt(H_TERM_STRIDE);
+        int offset = buffer.getInt(record + W_POSTINGS_OFFSET);
+        int[] postings = new int[buffer.getInt(record + W_POSTINGS_COUNT)];
+        for (int i = 0; i < postings.length; i++) {
+            postings[i] = buffer.getInt(offset + i * 4);
+        }
+        return postings;
+    }
+
+    private static int[] intersect(int[] a, int[] b) {
+        int[] result = new int[Math.min(a.length, b.length)];
+        int count = 0;
+        int i = 0;
+        int j = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                result[count++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    private static int[] merge(int[] a, int[] b) {
+        int[] result = new int[a.length + b.length];
+        int count = 0;
+        int i = 0;
+        int j = 0;
+        while (i < a.length || j < b.length) {
+            int next;
+            if (j == b.length || (i < a.length && a[i] < b[j])) {
+                next = a[i++];
+            } else if (i == a.length || b[j] < a[i]) {
+                next = b[j++];
+            } else {
+                next = a[i++];
+                j++;
+            }
+            result[count++] = next;
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    private static List<String> queryWords(String query) {
+        List<String> words = new ArrayList<>();
+        StringBuilder word = new StringBuilder();
+        for (int i = 0; i <= query.length(); i++) {
+            char folded = i < query.length() ? TextNormalizer.fold(query.charAt(i)) : ' ';
+            if (folded == TextNormalizer.DROPPED) {
+                continue;
+            }
+            if (TextNormalizer.isWordChar(folded)) {
+                word.append(folded);
+            } else if (word.length() > 0) {
+                words.add(word.toString());
+                word.setLength(0);
+            }
+        }
+        return words;
+    }
+
+    // ------------------------------------------------------------------
+    // Strings
+    // ------------------------------------------------------------------
+
+    private String[] readDictionary(int table, int count) {
+        String[] values = new String[count];
+        for (int i = 0; i < count; i++) {
+            values[i] = readString(table + i * STRING_REF_SIZE);
+        }
+        return values;
+    }
+
+    private String readString(int refPosition) {
+        int offset = stringPool + buffer.getInt(refPosition);
+        int length = buffer.getInt(refPosition + 4);
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = buffer.get(offset + i);
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static int indexOf(String[] values, String value) {
+        for (int i = 0; i < values.length; i++) {
+            if (values[i].equals(value)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,82 @@
+package com.nava.samiyuri.knowledge;
+
+/**
+ * KnowledgeBaseFormat - Layout constants shared by the knowledge base writer and reader.
+ * <p>
+ * The knowledge base is a single read-only asset, memory-mapped at run time:
+ * <pre>
+ *   +-------------------+  offset 0
+ *   | header            |  HEADER_SIZE bytes
+ *   +-------------------+
+ *   | language table    |  languageCount string refs
+ *   +-------------------+
+ *   | species table     |  speciesCount string refs
+ *   +-------------------+
+ *   | tip table         |  tipCount * tipStride, sorted by species, stage, language
+ *   +-------------------+
+ *   | term table        |  termCount * termStride, sorted by normalized UTF-8 term
+ *   +-------------------+
+ *   | postings          |  ascending tip indices per term
+ *   +-------------------+
+ *   | string pool       |  UTF-8 bytes referenced by (offset, length) pairs
+ *   +-------------------+
+ * </pre>
+ * All numbers are little-endian, like the garden snapshot format. Terms are the
+ * words of every tip after {@code TextNormalizer} folding, so the inverted index
+ * is accent- and apostrophe-insensitive.
+ *
+ * @author Neriou
+ * @version 1.0
+ * @since 2026-10-18
+ */
+final class KnowledgeBaseFormat {
+
+    /** File magic, the ASCII bytes "SMKB" read as a little-endian int. */
+    static final int MAGIC = 0x424B4D53;
+
+    /** Current format version written by this build. */
+    static final int VERSION = 1;
+
+    // Header field offsets
+    static final int HEADER_SIZE = 64;
+    static final int H_MAGIC = 0;
+    static final int H_VERSION = 4;
+    static final int H_LANGUAGE_COUNT = 8;
+    static final int H_SPECIES_COUNT = 12;
+    static final int H_TIP_COUNT = 16;
+    static final int H_TIP_STRIDE = 20;
+    static final int H_TERM_COUNT = 24;
+    static final int H_TERM_STRIDE = 28;
+    static final int H_LANGUAGE_TABLE = 32;
+    static final int H_SPECIES_TABLE = 36;
+    static final int H_TIP_TABLE = 40;
+    static final int H_TERM_TABLE = 44;
+    static final int H_POSTINGS = 48;
+    static final int H_STRING_POOL = 52;
+    static final int H_STRING_POOL_LENGTH = 56;
+
+    // String ref: offset and length within the string pool
+    static final int STRING_REF_SIZE = 8;
+
+    // Tip record: species index, stage, language index, text ref
+    static final int TIP_STRIDE = 12;
+    static final int T_SPECIES = 0;
+    static final int T_STAGE = 1;
+    static final int T_LANGUAGE = 2;
+    static final int T_TEXT_OFFSET = 4;
+    static final int T_TEXT_LENGTH = 8;
+
+    // Term record: term ref, absolute postings offset, postings count
+    static final int TERM_STRIDE = 16;
+    static final int W_TERM_OFFSET = 0;
+    static final int W_TERM_LENGTH = 4;
+    static final int W_POSTINGS_OFFSET = 8;
+    static final int W_POSTINGS_COUNT = 12;
+
+    /** Words shorter than this are not indexed. */
+    static final int MIN_TERM_LENGTH = 3;
+
+    private KnowledgeBaseFormat() {
+        // Constants only
+    }
+}
@@ -0,0 +1,254 @@
+package com.nava.samiyuri.knowledge;
+
+import com.nava.samiyuri.text.TextNormalizer;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import static com.nava.samiyuri.knowledge.KnowledgeBaseFormat.*;
+
+/**
+ * KnowledgeBaseWriter - Compiles growing tips into the memory-mappable knowledge base.
+ * <p>
+ * Tips are authored as a tab-separated text file ({@code app/src/knowledge/tips.tsv})
+ * with one tip per line: species, growth stage, language, text. Lines starting with
+ * '#' are comments. The asset is compiled during the build by the
+ * {@code generateAssets} Gradle task and is not checked in.
+ * <p>
+ * The output is deterministic: the same tips always produce the same bytes.
+ *
+ * @author Neriou
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class KnowledgeBaseWriter {
+
+    /**
+     * Very common words that would only bloat the index.
+     */
+    private static final Set<String> STOP_WORDS = new HashSet<>(Arrays.asList(
+            "the", "and", "for", "with", "your", "its", "are", "that", "this", "from", "when",
+            "los", "las", "del", "con", "para", "por", "que", "una", "sus", "cuando", "esta"));
+
+    private KnowledgeBaseWriter() {
+        // Static utility
+    }
+
+    /**
+     * Parses the tab-separated tip source.
+     *
+     * @param source The source text
+     * @return The tips in file order
+     * @throws IOException If reading fails or a line is malformed
+     */
+    public static List<GrowingTip> readSource(Reader source) throws IOException {
+        List<GrowingTip> tips = new ArrayList<>();
+        BufferedReader reader = new BufferedReader(source);
+        String line;
+        int lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.trim().isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            String[] fields = line.split("\t", 4);
+            if (fields.length != 4) {
+                throw new IOException("Line " + lineNumber + ": expected species, stage, language, text");
+            }
+            try {
+                tips.add(new GrowingTip(fields[0].trim(), Integer.parseInt(fields[1].trim()),
+                        fields[2].trim(), fields[3].trim()));
+            } catch (NumberFormatException e) {
+                throw new IOException("Line " + lineNumber + ": bad growth stage " + fields[1]);
+            }
+        }
+        return tips;
+    }
+
+    /**
+     * Compiles tips into the knowledge base format.
+     *
+     * @param tips The tips to include
+     * @param out Destination of the compiled bytes
+     * @throws IOException If writing fails
+     */
+    public static void write(List<GrowingTip> tips, OutputStream out) throws IOException {
+        // Dictionaries of languages and species, sorted for determinism
+        List<String> languages = new ArrayList<>(new TreeSet<>(collect(tips, true)));
+        List<String> species = new ArrayList<>(new TreeSet<>(collect(tips, false)));
+
+        // Tip table order: species, stage, language
+        List<GrowingTip> sorted = new ArrayList<>(tips);
+        Collections.sort(sorted, (a, b) -> {
+            int result = Integer.compare(species.indexOf(a.getSpecies()), species.indexOf(b.getSpecies()));
+            if (result == 0) {
+                result = Integer.compare(a.getGrowthStage(), b.getGrowthStage());
+            }
+            if (result == 0) {
+                result = Integer.compare(languages.indexOf(a.getLanguage()), languages.indexOf(b.getLanguage()));
+            }
+            return result;
+        });
+        for (int i = 1; i < sorted.size(); i++) {
+            GrowingTip previous = sorted.get(i - 1);
+            GrowingTip current = sorted.get(i);
+            if (previous.getSpecies().equals(current.getSpecies())
+                    && previous.getGrowthStage() == current.getGrowthStage()
+                    && previous.getLanguage().equals(current.getLanguage())) {
+                throw new IOException("Duplicate tip " + current.getSpecies() + "/"
+                        + current.getGrowthStage() + "/" + current.getLanguage());
+            }
+        }
+
+        // Inverted index: term -> ascending tip indices. TreeMap on the UTF-8 bytes
+        // keeps terms in the unsigned byte order the reader's binary search expects.
+        Map<String, TreeSet<Integer>> index = new TreeMap<>(KnowledgeBaseWriter::compareUtf8);
+        for (int i = 0; i < sorted.size(); i++) {
+            for (String term : terms(sorted.get(i).getText())) {
+                TreeSet<Integer> postings = index.get(term);
+                if (postings == null) {
+                    postings = new TreeSet<>();
+                    index.put(term, postings);
+                }
+                postings.add(i);
+            }
+        }
+
+        int postingsTotal = 0;
+        for (TreeSet<Integer> postings : index.values()) {
+            postingsTotal += postings.size();
+        }
+
+        int languageTable = HEADER_SIZE;
+        int speciesTable = languageTable + languages.size() * STRING_REF_SIZE;
+        int tipTable = speciesTable + species.size() * STRING_REF_SIZE;
+        int termTable = tipTable + sorted.size() * TIP_STRIDE;
+        int postingsStart = termTable + index.size() * TERM_STRIDE;
+        int stringPool = postingsStart + postingsTotal * 4;
+
+        ByteArrayOutputStream pool = new ByteArrayOutputStream();
+        ByteBuffer tables = ByteBuffer.allocate(stringPool).order(ByteOrder.LITTLE_ENDIAN);
+
+        tables.putInt(H_MAGIC, MAGIC);
+        tables.putInt(H_VERSION, VERSION);
+        tables.putInt(H_LANGUAGE_COUNT, languages.size());
+        tables.putInt(H_SPECIES_COUNT, species.size());
+        tables.putInt(H_TIP_COUNT, sorted.size());
+        tables.putInt(H_TIP_STRIDE, TIP_STRIDE);
+        tables.putInt(H_TERM_COUNT, index.size());
+        tables.putInt(H_TERM_STRIDE, TERM_STRIDE);
+        tables.putInt(H_LANGUAGE_TABLE, languageTable);
+        tables.putInt(H_SPECIES_TABLE, speciesTable);
+        tables.putInt(H_TIP_TABLE, tipTable);
+        tables.putInt(H_TERM_TABLE, termTable);
+        tables.putInt(H_POSTINGS, postingsStart);
+        tables.putInt(H_STRING_POOL, stringPool);
+
+        for (int i = 0; i < languages.size(); i++) {
+            putString(tables, languageTable + i * STRING_REF_SIZE, languages.get(i), pool);
+        }
+        for (int i = 0; i < species.size(); i++) {
+            putString(tables, speciesTable + i * STRING_REF_SIZE, species.get(i), pool);
+        }
+
+        for (int i = 0; i < sorted.size(); i++) {
+            GrowingTip tip = sorted.get(i);
+            if (tip.getGrowthStage() < 0 || tip.getGrowthStage() > 255) {
+                throw new IOException("Growth stage out of range: " + tip);
+            }
+            int record = tipTable + i * TIP_STRIDE;
+            tables.put(record + T_SPECIES, (byte) species.indexOf(tip.getSpecies()));
+            tables.put(record + T_STAGE, (byte) tip.getGrowthStage());
+            tables.put(record + T_LANGUAGE, (byte) languages.indexOf(tip.getLanguage()));
+            putString(tables, record + T_TEXT_OFFSET, tip.getText(), pool);
+        }
+
+        int term = 0;
+        int posting = postingsStart;
+        for (Map.Entry<String, TreeSet<Integer>> entry : index.entrySet()) {
+            int record = termTable + term++ * TERM_STRIDE;
+            putString(tables, record + W_TERM_OFFSET, entry.getKey(), pool);
+            tables.putInt(record + W_POSTINGS_OFFSET, posting);
+            tables.putInt(record + W_POSTINGS_COUNT, entry.getValue().size());
+            for (int tipIndex : entry.getValue()) {
+                tables.putInt(posting, tipIndex);
+                posting += 4;
+            }
+        }
+
+        tables.putInt(H_STRING_POOL_LENGTH, pool.size());
+        out.write(tables.array());
+        pool.writeTo(out);
+        out.flush();
+    }
+
+    /**
+     * Splits text into the normalized terms that are indexed.
+     *
+     * @param text Tip text
+     * @return Distinct indexable terms
+     */
+    static Set<String> terms(String text) {
+        Set<String> terms = new TreeSet<>();
+        StringBuilder word = new StringBuilder();
+        for (int i = 0; i <= text.length(); i++) {
+            char folded = i < text.length() ? TextNormalizer.fold(text.charAt(i)) : ' ';
+            if (folded == TextNormalizer.DROPPED) {
+                continue;
+            }
+            if (TextNormalizer.isWordChar(folded)) {
+                word.append(folded);
+            } else if (word.length() > 0) {
+                String candidate = word.toString();
+                if (candidate.length() >= MIN_TERM_LENGTH && !STOP_WORDS.contains(candidate)) {
+                    terms.add(candidate);
+                }
+                word.setLength(0);
+            }
+        }
+        return terms;
+    }
+
+    static int compareUtf8(String a, String b) {
+        byte[] left = a.getBytes(StandardCharsets.UTF_8);
+        byte[] right = b.getBytes(StandardCharsets.UTF_8);
+        int length = Math.min(left.length, right.length);
+        for (int i = 0; i < length; i++) {
+            int result = Integer.compare(left[i] & 0xFF, right[i] & 0xFF);
+            if (result != 0) {
+                return result;
+            }
+        }
+        return Integer.compare(left.length, right.length);
+    }
+
+    private static Set<String> collect(List<GrowingTip> tips, boolean languages) {
+        Set<String> values = new HashSet<>();
+        for (GrowingTip tip : tips) {
+            values.add(languages ? tip.getLanguage() : tip.getSpecies());
+        }
+        return values;
+    }
+
+    private static void putString(ByteBuffer tables, int position, String value, ByteArrayOutputStream pool) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        tables.putInt(position, pool.size());
+        tables.putInt(position + 4, bytes.length);
+        pool.write(bytes, 0, bytes.length);
+    }
+}
@@ -0,0 +1,231 @@
+package com.nava.samiyuri.langpack;
+
+import android.content.Context;
+import android.content.res.AssetFileDescriptor;
+
+import androidx.annotation.Nullable;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+
+import static com.nava.samiyuri.langpack.LanguagePackFormat.*;
+
+/**
+ * LanguagePack - The memory-mapped content of one language.
+ * <p>
+ * Looking up an entry is a binary search over the pack's sorted entry table,
+ * comparing keys in place in the mapped file; only the value that is returned
+ * is decoded. Nothing of the pack is read into the heap up front, so holding a
+ * pack costs address space, not memory, and pages the app never asks for are
+ * never read from storage.
+ * <p>
+ * Thread-safe: the mapped buffer is only read with absolute gets.
+ *
+ * @author Neriou
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class LanguagePack {
+
+    /** Asset directory of the packs bundled with the app; stored uncompressed in the APK. */
+    public static final String ASSET_DIRECTORY = "langpacks/";
+
+    private final ByteBuffer buffer;
+    private final int entryCount;
+    private final int entryTable;
+    private final int data;
+    private final String language;
+    private final String fallbackLanguage;
+
+    /**
+     * Wraps a compiled pack.
+     *
+     * @param buffer The compiled bytes, typically memory-mapped
+     * @throws IOException If the data is not a supported language pack
+     */
+    public LanguagePack(ByteBuffer buffer) throws IOException {
+        this.buffer = buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        if (buffer.capacity() < HEADER_SIZE || this.buffer.getInt(H_MAGIC) != MAGIC) {
+            throw new IOException("Not a language pack");
+        }
+        if (this.buffer.getInt(H_VERSION) > VERSION) {
+            throw new IOException("Unsupported language pack format " + this.buffer.getInt(H_VERSION));
+        }
+        entryCount = this.buffer.getInt(H_ENTRY_COUNT);
+        entryTable = this.buffer.getInt(H_ENTRY_TABLE);
+        data = this.buffer.getInt(H_DATA);
+        if (entryCount < 0 || (long) entryTable + (long) entryCount * ENTRY_STRIDE > data
+                || data > buffer.capacity()) {
+            throw new IOException("Corrupt language pack header");
+        }
+        language = readLanguage(H_LANGUAGE);
+        fallbackLanguage = readLanguage(H_FALLBACK);
+        if (language == null) {
+            throw new IOException("Language pack without a language");
+        }
+    }
+
+    /**
+     * Memory-maps a pack bundled with the app.
+     *
+     * @param context Any context
+     * @param language The pack's language code
+     * @return The bundled pack
+     * @throws IOException If there is no bundled pack for the language, or it is
+     *         compressed or corrupt
+     */
+    public static LanguagePack openAsset(Context context, String language) throws IOException {
+        try (AssetFileDescriptor descriptor = context.getAssets().openFd(ASSET_DIRECTORY + language + EXTENSION);
+             FileInputStream in = descriptor.createInputStream()) {
+            FileChannel channel = in.getChannel();
+            return new LanguagePack(channel.map(FileChannel.MapMode.READ_ONLY,
+                    descriptor.getStartOffset(), descriptor.getLength()));
+        }
+    }
+
+    /**
+     * Memory-maps a pack installed as a file.
+     *
+     * @param file The compiled pack
+     * @return The pack
+     * @throws IOException If the file cannot be read or is not a pack
+     */
+    public static LanguagePack open(File file) throws IOException {
+        try (RandomAccessFile in = new RandomAccessFile(file, "r")) {
+            FileChannel channel = in.getChannel();
+            return new LanguagePack(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * Returns the file name of a language's compiled pack.
+     *
+     * @param language The language code
+     * @return The file name, e.g. "qu.smlp"
+     */
+    public static String fileName(String language) {
+        return language + EXTENSION;
+    }
+
+    /**
+     * Returns the language of this pack.
+     *
+     * @return The ISO 639 language code
+     */
+    public String getLanguage() {
+        return language;
+    }
+
+    /**
+     * Returns the language whose pack supplies entries this one lacks.
+     *
+     * @return The fallback language code, or null if the pack is complete
+     */
+    @Nullable
+    public String getFallbackLanguage() {
+        return fallbackLanguage;
+    }
+
+    /**
+     * Returns the version of this pack's content.
+     *
+     * @return The content version; higher is newer
+     */
+    public int getVersion() {
+        return buffer.getInt(H_PACK_VERSION);
+    }
+
+    /**
+     * Returns the number of entries in this pack.
+     *
+     * @return Entry count
+     */
+    public int size() {
+        return entryCount;
+    }
+
+    /**
+     * Returns an entry's text.
+     *
+     * @param key The entry name, e.g. "story"
+     * @return The text, or null if this pack has no such entry
+     */
+    @Nullable
+    public String getString(String key) {
+        int index = find(key);
+        if (index < 0) {
+            return null;
+        }
+        int record = entryTable + index * ENTRY_STRIDE;
+        int offset = data + buffer.getInt(record + E_VALUE_OFFSET);
+        int length = buffer.getInt(record + E_VALUE_LENGTH);
+        byte[] bytes = new byte[length];
+        ByteBuffer value = buffer.duplicate();
+        value.position(offset);
+        value.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns whether this pack has an entry.
+     *
+     * @param key The entry name
+     * @return true if {@link #getString(String)} would return text
+     */
+    public boolean contains(String key) {
+        return find(key) >= 0;
+    }
+
+    private int find(String key) {
+        int low = 0;
+        int high = entryCount - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int comparison = compareKey(mid, key);
+            if (comparison < 0) {
+                low = mid + 1;
+            } else if (comparison > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Compares an entry's ASCII key with a key, in place in the mapped file.
+     */
+    private int compareKey(int index, String key) {
+        int record = entryTable + index * ENTRY_STRIDE;
+        int offset = data + buffer.getInt(record + E_KEY_OFFSET);
+        int length = buffer.getInt(record + E_KEY_LENGTH);
+        int common = Math.min(length, key.length());
+        for (int i = 0; i < common; i++) {
+            int difference = (buffer.get(offset + i) & 0xFF) - key.charAt(i);
+            if (difference != 0) {
+                return difference;
+            }
+        }
+        return length - key.length();
+    }
+
+    @Nullable
+    private String readLanguage(int offset) {
+        StringBuilder code = new StringBuilder(LANGUAGE_CODE_SIZE);
+        for (int i = 0; i < LANGUAGE_CODE_SIZE; i++) {
+            byte b = buffer.get(offset + i);
+            if (b == 0) {
+                break;
+            }
+            code.append((char) b);
+        }
+        return code.length() > 0 ? code.toString() : null;
+    }
+}
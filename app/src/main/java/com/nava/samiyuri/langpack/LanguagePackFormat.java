@@ -0,0 +1,59 @@
+package com.nava.samiyuri.langpack;
+
+/**
+ * LanguagePackFormat - Layout constants shared by the language pack writer and reader.
+ * <p>
+ * A language pack holds all language-specific content of one language as a
+ * single read-only string table, memory-mapped at run time:
+ * <pre>
+ *   +-------------------+  offset 0
+ *   | header            |  HEADER_SIZE bytes
+ *   +-------------------+
+ *   | entry table       |  entryCount * ENTRY_STRIDE records, sorted by key
+ *   +-------------------+
+ *   | string data       |  UTF-8 keys and values, referenced by the entries
+ *   +-------------------+
+ * </pre>
+ * All numbers are little-endian, like the other compiled assets. Keys are
+ * ASCII, so comparing their bytes orders them like {@link String#compareTo}.
+ * Language codes are stored as up to four ASCII bytes, zero-padded.
+ *
+ * @author Neriou
+ * @version 1.0
+ * @since 2026-10-18
+ */
+final class LanguagePackFormat {
+
+    /** File magic, the ASCII bytes "SMLP" read as a little-endian int. */
+    static final int MAGIC = 0x504C4D53;
+
+    /** Current format version written by this build. */
+    static final int VERSION = 1;
+
+    /** File extension of compiled packs. */
+    static final String EXTENSION = ".smlp";
+
+    // Header field offsets
+    static final int HEADER_SIZE = 32;
+    static final int H_MAGIC = 0;
+    static final int H_VERSION = 4;
+    static final int H_PACK_VERSION = 8;
+    static final int H_ENTRY_COUNT = 12;
+    static final int H_ENTRY_TABLE = 16;
+    static final int H_DATA = 20;
+    static final int H_LANGUAGE = 24;
+    static final int H_FALLBACK = 28;
+
+    /** Longest language code that fits a header field. */
+    static final int LANGUAGE_CODE_SIZE = 4;
+
+    // Entry record layout; offsets are relative to the string data
+    static final int ENTRY_STRIDE = 16;
+    static final int E_KEY_OFFSET = 0;
+    static final int E_KEY_LENGTH = 4;
+    static final int E_VALUE_OFFSET = 8;
+    static final int E_VALUE_LENGTH = 12;
+
+    private LanguagePackFormat() {
+    }
+}
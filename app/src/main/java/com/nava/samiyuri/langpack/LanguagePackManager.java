@@ -0,0 +1,250 @@
+package com.nava.samiyuri.langpack;
+
+import android.content.Context;
+import android.util.Log;
+
+import androidx.annotation.Nullable;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * LanguagePackManager - Keeps the pack of the chosen language, and only that one, loaded.
+ * <p>
+ * Story text grows with every language the app speaks. Instead of loading all
+ * of it, the app selects one language
+ * and this manager maps that language's {@link LanguagePack} in the background,
+ * together with the pack it falls back to, if any. Selecting another language
+ * maps the new packs and lets the old ones go.
+ * <p>
+ * Growing tips are not part of the packs; they stay in the
+ * {@link com.nava.samiyuri.knowledge.KnowledgeBase}, which explains why.
+ * Narration clips are assets of their own, see
+ * {@link com.nava.samiyuri.narration.NarrationClips}.
+ * <p>
+ * Key Features:
+ * - Packs are versioned separately from the app: a pack installed in
+ *   {@link #INSTALLED_DIRECTORY} replaces the bundled one when its version is
+ *   higher, so a language can be added or corrected without an app update
+ * - Loading happens on a low-priority background thread; switching languages
+ *   never blocks the screen that switches
+ * - Entries missing from a partly translated pack come from its fallback pack
+ * - A language without any pack uses the Spanish one, like the rest of the app
+ * <p>
+ * Thread-safe.
+ *
+ * @author Neriou
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class LanguagePackManager {
+
+    private static final String TAG = "LanguagePackManager";
+
+    /**
+     * Directory under the app's files directory for packs installed after the app.
+     */
+    public static final String INSTALLED_DIRECTORY = "langpacks";
+
+    /**
+     * Language used when the selected one has no pack at all.
+     */
+    private static final String DEFAULT_LANGUAGE = "es";
+
+    private static volatile LanguagePackManager instance;
+
+    private final Context context;
+    private final ExecutorService loader = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "langpack-load");
+        thread.setPriority(Thread.NORM_PRIORITY - 1);
+        return thread;
+    });
+
+    /**
+     * Packs of the selected language once loaded; replaced as a whole on switch.
+     */
+    private volatile LoadedPacks current;
+
+    private String selectedLanguage;
+    private Future<LoadedPacks> pending;
+
+    private LanguagePackManager(Context context) {
+        this.context = context.getApplicationContext();
+    }
+
+    /**
+     * Returns the process-wide language pack manager.
+     *
+     * @param context Any context; only the application context is kept
+     * @return The shared instance
+     */
+    public static LanguagePackManager getInstance(Context context) {
+        if (instance == null) {
+            synchronized (LanguagePackManager.class) {
+                if (instance == null) {
+                    instance = new LanguagePackManager(context);
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Selects the language whose packs are kept loaded, loading them in the background.
+     * <p>
+     * Selecting the language that is already selected does nothing.
+     *
+     * @param language The language code, e.g. "qu"
+     */
+    public synchronized void select(String language) {
+        if (language.equals(selectedLanguage)) {
+            return;
+        }
+        selectedLanguage = language;
+        pending = loader.submit(() -> {
+            LoadedPacks packs = load(language);
+            current = packs;
+            return packs;
+        });
+    }
+
+    /**
+     * Returns an entry of the selected language without waiting.
+     *
+     * @param key The entry name
+     * @return The text, or null if no pack has it or the packs are still loading
+     */
+    @Nullable
+    public String getString(String key) {
+        LoadedPacks packs = current;
+        return packs != null ? packs.getString(key) : null;
+    }
+
+    /**
+     * Returns an entry of a language, selecting it and waiting for its packs if needed.
+     * <p>
+     * Mapping a pack is quick, and packs selected ahead of time are usually ready,
+     * but call this off the main thread when the language may have just changed.
+     *
+     * @param language The language code
+     * @param key The entry name
+     * @return The text, or null if neither the language's pack nor its fallback has it
+     * @throws IOException If the packs cannot be loaded
+     */
+    @Nullable
+    public String awaitString(String language, String key) throws IOException {
+        return awaitPacks(language).getString(key);
+    }
+
+    /**
+     * Returns the language an entry is shown in, which is the fallback pack's
+     * language when the selected pack does not have the entry.
+     * <p>
+     * Waits for the packs like {@link #awaitString(String, String)}.
+     *
+     * @param language The language code
+     * @param key The entry name
+     * @return The language of the pack providing the entry, or null if none has it
+     * @throws IOException If the packs cannot be loaded
+     */
+    @Nullable
+    public String awaitEntryLanguage(String language, String key) throws IOException {
+        LanguagePack pack = awaitPacks(language).find(key);
+        return pack != null ? pack.getLanguage() : null;
+    }
+
+    private LoadedPacks awaitPacks(String language) throws IOException {
+        Future<LoadedPacks> future;
+        synchronized (this) {
+            select(language);
+            future = pending;
+        }
+        try {
+            LoadedPacks packs = future.get();
+            if (packs.primary == null) {
+                throw new IOException("No language pack for " + language);
+            }
+            return packs;
+        } catch (ExecutionException e) {
+            throw new IOException("Failed to load language pack " + language, e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while loading language pack " + language, e);
+        }
+    }
+
+    private LoadedPacks load(String language) {
+        LanguagePack primary = openNewest(language);
+        if (primary == null && !language.equals(DEFAULT_LANGUAGE)) {
+            Log.d(TAG, "No language pack for " + language + ", using " + DEFAULT_LANGUAGE);
+            primary = openNewest(DEFAULT_LANGUAGE);
+        }
+        LanguagePack fallback = null;
+        if (primary != null && primary.getFallbackLanguage() != null) {
+            fallback = openNewest(primary.getFallbackLanguage());
+        }
+        return new LoadedPacks(primary, fallback);
+    }
+
+    /**
+     * Opens the newest pack of a language, installed or bundled.
+     *
+     * @return The pack, or null if there is none
+     */
+    @Nullable
+    private LanguagePack openNewest(String language) {
+        LanguagePack bundled = null;
+        try {
+            bundled = LanguagePack.openAsset(context, language);
+        } catch (FileNotFoundException e) {
+            // Not bundled; it may still be installed
+        } catch (IOException e) {
+            Log.e(TAG, "Cannot open bundled language pack " + language, e);
+        }
+
+        File installedFile = new File(new File(context.getFilesDir(), INSTALLED_DIRECTORY),
+                LanguagePack.fileName(language));
+        if (installedFile.isFile()) {
+            try {
+                LanguagePack installed = LanguagePack.open(installedFile);
+                if (bundled == null || installed.getVersion() > bundled.getVersion()) {
+                    return installed;
+                }
+            } catch (IOException e) {
+                Log.e(TAG, "Ignoring unreadable language pack " + installedFile, e);
+            }
+        }
+        return bundled;
+    }
+
+    /**
+     * LoadedPacks - The packs of one selected language.
+     */
+    private static final class LoadedPacks {
+
+        final LanguagePack primary;
+        final LanguagePack fallback;
+
+        LoadedPacks(LanguagePack primary, LanguagePack fallback) {
+            this.primary = primary;
+            this.fallback = fallback;
+        }
+
+        String getString(String key) {
+            LanguagePack pack = find(key);
+            return pack != null ? pack.getString(key) : null;
+        }
+
+        LanguagePack find(String key) {
+            if (primary != null && primary.contains(key)) {
+                return primary;
+            }
+            return fallback != null && fallback.contains(key) ? fallback : null;
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package com.nava.samiyuri.langpack;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static com.nava.samiyuri.langpack.LanguagePackFormat.*;
+
+/**
+ * LanguagePackWriter - Compiles a language's content into a memory-mappable pack.
+ * <p>
+ * Each language is authored as one UTF-8 text file,
+ * {@code app/src/langpacks/<language>.pack}:
+ * <pre>
+ *   # Comment lines before the first entry start with '#'
+ *   @version 3
+ *   @fallback es
+ *
+ *   [story]
+ *   Lines of the entry, kept exactly as written,
+ *   up to the next [name] line.
+ * </pre>
+ * {@code @version} numbers the pack's content and must be raised whenever it
+ * changes, so a newer pack installed later wins over the bundled one.
+ * {@code @fallback} names the language whose pack supplies entries this one
+ * lacks. The packs are compiled during the build by the {@code generateAssets}
+ * Gradle task and are not checked in.
+ * <p>
+ * The output is deterministic: the same source always produces the same bytes.
+ *
+ * @author Neriou
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class LanguagePackWriter {
+
+    private static final Pattern ENTRY_START = Pattern.compile("\\[([a-z0-9._-]+)]");
+    private static final Pattern LANGUAGE_CODE = Pattern.compile("[a-z]{2," + LANGUAGE_CODE_SIZE + "}");
+
+    private LanguagePackWriter() {
+        // Static utility
+    }
+
+    /**
+     * Source - A parsed pack source.
+     */
+    public static final class Source {
+
+        public final String language;
+        public final int version;
+        public final String fallbackLanguage;
+
+        /**
+         * Entry texts by name, in key order.
+         */
+        public final Map<String, String> entries;
+
+        Source(String language, int version, String fallbackLanguage, Map<String, String> entries) {
+            this.language = language;
+            this.version = version;
+            this.fallbackLanguage = fallbackLanguage;
+            this.entries = entries;
+        }
+    }
+
+    /**
+     * Parses a pack source.
+     *
+     * @param language The pack's language code, e.g. "qu"
+     * @param source The source text
+     * @return The parsed pack
+     * @throws IOException If reading fails or the source is malformed
+     */
+    public static Source readSource(String language, Reader source) throws IOException {
+        checkLanguage(language, "language");
+        BufferedReader reader = new BufferedReader(source);
+        int version = 0;
+        String fallback = null;
+        Map<String, String> entries = new TreeMap<>();
+        String key = null;
+        StringBuilder text = new StringBuilder();
+        String line;
+        int lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            Matcher start = ENTRY_START.matcher(line);
+            if (start.matches()) {
+                if (key != null) {
+                    putEntry(entries, key, text);
+                }
+                key = start.group(1);
+                if (entries.containsKey(key)) {
+                    throw new IOException("Line " + lineNumber + ": duplicate entry " + key);
+                }
+                text.setLength(0);
+            } else if (key != null) {
+                text.append(line).append('\n');
+            } else if (line.startsWith("@version ")) {
+                try {
+                    version = Integer.parseInt(line.substring("@version ".length()).trim());
+                } catch (NumberFormatException e) {
+                    throw new IOException("Line " + lineNumber + ": bad version", e);
+                }
+            } else if (line.startsWith("@fallback ")) {
+                fallback = line.substring("@fallback ".length()).trim();
+                checkLanguage(fallback, "Line " + lineNumber + ": fallback language");
+            } else if (!line.startsWith("#") && !line.trim().isEmpty()) {
+                throw new IOException("Line " + lineNumber + ": text before the first entry");
+            }
+        }
+        if (key != null) {
+            putEntry(entries, key, text);
+        }
+        if (version <= 0) {
+            throw new IOException("Pack " + language + " has no @version");
+        }
+        if (language.equals(fallback)) {
+            throw new IOException("Pack " + language + " falls back to itself");
+        }
+        return new Source(language, version, fallback, entries);
+    }
+
+    /**
+     * Compiles a parsed pack.
+     *
+     * @param source The pack to compile
+     * @param out Destination of the compiled bytes
+     * @throws IOException If writing fails
+     */
+    public static void write(Source source, OutputStream out) throws IOException {
+        ByteArrayOutputStream data = new ByteArrayOutputStream();
+        int entryTable = HEADER_SIZE;
+        int dataStart = entryTable + source.entries.size() * ENTRY_STRIDE;
+        ByteBuffer table = ByteBuffer.allocate(dataStart).order(ByteOrder.LITTLE_ENDIAN);
+
+        table.putInt(H_MAGIC, MAGIC);
+        table.putInt(H_VERSION, VERSION);
+        table.putInt(H_PACK_VERSION, source.version);
+        table.putInt(H_ENTRY_COUNT, source.entries.size());
+        table.putInt(H_ENTRY_TABLE, entryTable);
+        table.putInt(H_DATA, dataStart);
+        putLanguage(table, H_LANGUAGE, source.language);
+        putLanguage(table, H_FALLBACK, source.fallbackLanguage);
+
+        int record = entryTable;
+        for (Map.Entry<String, String> entry : source.entries.entrySet()) {
+            byte[] key = entry.getKey().getBytes(StandardCharsets.US_ASCII);
+            byte[] value = entry.getValue().getBytes(StandardCharsets.UTF_8);
+            table.putInt(record + E_KEY_OFFSET, data.size());
+            table.putInt(record + E_KEY_LENGTH, key.length);
+            data.write(key);
+            table.putInt(record + E_VALUE_OFFSET, data.size());
+            table.putInt(record + E_VALUE_LENGTH, value.length);
+            data.write(value);
+            record += ENTRY_STRIDE;
+        }
+
+        out.write(table.array());
+        data.writeTo(out);
+        out.flush();
+    }
+
+    private static void putEntry(Map<String, String> entries, String key, StringBuilder text) {
+        // Blank lines before the next entry separate entries, they are not content
+        int end = text.length();
+        while (end > 0 && Character.isWhitespace(text.charAt(end - 1))) {
+            end--;
+        }
+        entries.put(key, text.substring(0, end));
+    }
+
+    private static void putLanguage(ByteBuffer table, int offset, String language) {
+        if (language == null) {
+            return;
+        }
+        byte[] code = language.getBytes(StandardCharsets.US_ASCII);
+        for (int i = 0; i < code.length; i++) {
+            table.put(offset + i, code[i]);
+        }
+    }
+
+    private static void checkLanguage(String language, String what) throws IOException {
+        if (language == null || !LANGUAGE_CODE.matcher(language).matches()) {
+            throw new IOException(what + " must be a lowercase ISO 639 code: " + language);
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package com.nava.samiyuri.light;
+
+import android.content.Context;
+import android.hardware.Sensor;
+import android.hardware.SensorEvent;
+import android.hardware.SensorEventListener2;
+import android.hardware.SensorManager;
+import android.os.Handler;
+import android.os.HandlerThread;
+import android.os.Process;
+import android.os.SystemClock;
+import android.util.Log;
+
+import com.nava.samiyuri.storage.GardenStore;
+
+import java.util.TimeZone;
+
+/**
+ * AmbientLightMonitor - Feeds the tablet's light sensor into the sunlight dose integrator.
+ * <p>
+ * When a child props the tablet up next to a windowsill buddy and taps "give
+ * sunlight", the tablet starts measuring the light that buddy actually gets.
+ * <p>
+ * Key Features:
+ * - Batched delivery: readings are collected in the sensor hub's FIFO for up to
+ *   {@link #MAX_REPORT_LATENCY_US} and handed over in one burst, so the application
+ *   processor is not woken for every reading
+ * - Uses the default non-wake-up light sensor; a sleeping device is never woken
+ * - Readings are processed on a dedicated background looper, never the UI thread
+ * - Downsampled into one-minute buckets, one day of history in a fixed-size buffer
+ * <p>
+ * Android only delivers light readings to foreground apps, so the garden screen
+ * starts monitoring when it becomes visible and stops when it is hidden. Stopping
+ * also forgets the active plant, since nobody knows where the tablet goes next,
+ * and saves today's doses to the {@link GardenStore}.
+ *
+ * @author Neriou
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class AmbientLightMonitor implements SensorEventListener2 {
+
+    private static final String TAG = "AmbientLightMonitor";
+
+    /**
+     * Requested interval between readings; the sensor reports on change only.
+     */
+    static final int SAMPLING_PERIOD_US = 1_000_000;
+
+    /**
+     * How long readings may wait in the sensor FIFO before being delivered.
+     */
+    static final int MAX_REPORT_LATENCY_US = 5 * 60 * 1_000_000;
+
+    private static final long HISTORY_BUCKET_MILLIS = 60 * 1000L;
+    private static final int HISTORY_CAPACITY = 24 * 60;
+
+    private static volatile AmbientLightMonitor instance;
+
+    private final GardenStore gardenStore;
+    private final SensorManager sensorManager;
+    private final Sensor lightSensor;
+    private final LightDoseIntegrator integrator =
+            new LightDoseIntegrator(HISTORY_BUCKET_MILLIS, HISTORY_CAPACITY, TimeZone.getDefault());
+
+    private HandlerThread sensorThread;
+
+    /**
+     * Set between {@link #stop()} and the completion of the final FIFO flush.
+     */
+    private boolean stopping;
+
+    /**
+     * Wall-clock time minus elapsed-realtime, to convert sensor timestamps.
+     */
+    private long wallClockOffsetMillis;
+
+    private AmbientLightMonitor(Context context) {
+        gardenStore = GardenStore.getInstance(context);
+        gardenStore.restoreLightDoses(integrator);
+        sensorManager = (SensorManager) context.getApplicationContext().getSystemService(Context.SENSOR_SERVICE);
+        lightSensor = sensorManager != null ? sensorManager.getDefaultSensor(Sensor.TYPE_LIGHT) : null;
+    }
+
+    /**
+     * Returns the process-wide monitor.
+     *
+     * @param context Any context; only the application context is retained
+     * @return The shared instance
+     */
+    public static AmbientLightMonitor getInstance(Context context) {
+        if (instance == null) {
+            synchronized (AmbientLightMonitor.class) {
+                if (instance == null) {
+                    instance = new AmbientLightMonitor(context);
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Returns whether this tablet has a light sensor at all.
+     *
+     * @return true if light can be measured
+     */
+    public boolean isAvailable() {
+        return lightSensor != null;
+    }
+
+    /**
+     * Starts receiving light readings. Safe to call when already started.
+     */
+    public synchronized void start() {
+        if (lightSensor == null) {
+            return;
+        }
+        if (sensorThread != null) {
+            // Restarted before the previous stop finished flushing; keep listening
+            stopping = false;
+            return;
+        }
+        wallClockOffsetMillis = System.currentTimeMillis() - SystemClock.elapsedRealtime();
+
+        sensorThread = new HandlerThread("light-sensor", Process.THREAD_PRIORITY_BACKGROUND);
+        sensorThread.start();
+
+        // Without a FIFO the sensor cannot batch; fall back to immediate delivery
+        int maxLatency = lightSensor.getFifoMaxEventCount() > 0 ? MAX_REPORT_LATENCY_US : 0;
+        boolean registered = sensorManager.registerListener(this, lightSensor,
+                SAMPLING_PERIOD_US, maxLatency, new Handler(sensorThread.getLooper()));
+        if (!registered) {
+            Log.w(TAG, "Light sensor refused registration");
+            sensorThread.quitSafely();
+            sensorThread = null;
+        }
+    }
+
+    /**
+     * Stops receiving light readings, credits the last reading up to now and
+     * clears the active plant.
+     */
+    public synchronized void stop() {
+        if (sensorThread == null || stopping) {
+            return;
+        }
+        // Deliver whatever is still waiting in the FIFO before unregistering;
+        // unregistering right away would drop up to five minutes of readings
+        stopping = true;
+        if (!sensorManager.flush(this)) {
+            unregister();
+        }
+    }
+
+    @Override
+    public void onFlushCompleted(Sensor sensor) {
+        synchronized (this) {
+            if (stopping) {
+                unregister();
+            }
+        }
+    }
+
+    private void unregister() {
+        sensorManager.unregisterListener(this);
+        sensorThread.quitSafely();
+        sensorThread = null;
+        stopping = false;
+        long now = System.currentTimeMillis();
+        integrator.pause(now);
+        integrator.setActivePlant(LightDoseIntegrator.NO_PLANT, now);
+        gardenStore.saveLightDoses(integrator);
+    }
+
+    /**
+     * Credits light from now on to the given plant, until the monitor stops.
+     *
+     * @param plantId The plant next to the tablet, or {@link LightDoseIntegrator#NO_PLANT}
+     */
+    public void setActivePlant(long plantId) {
+        integrator.setActivePlant(plantId, System.currentTimeMillis());
+    }
+
+    /**
+     * Returns the integrator that holds the daily doses and the history.
+     *
+     * @return The shared integrator
+     */
+    public LightDoseIntegrator getIntegrator() {
+        return integrator;
+    }
+
+    @Override
+    public void onSensorChanged(SensorEvent event) {
+        // Event timestamps are elapsed-realtime nanoseconds
+        long timestampMillis = wallClockOffsetMillis + event.timestamp / 1_000_000L;
+        integrator.onSample(timestampMillis, event.values[0]);
+    }
+
+    @Override
+    public void onAccuracyChanged(Sensor sensor, int accuracy) {
+        // Not used
+    }
+}
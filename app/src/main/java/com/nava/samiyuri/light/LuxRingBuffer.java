@@ -0,0 +1,87 @@
+package com.nava.samiyuri.light;
+
+/**
+ * LuxRingBuffer - Fixed-size history of downsampled light readings.
+ * <p>
+ * Backed by two primitive arrays that are allocated once, so recording a reading
+ * never allocates and the memory used is the same after an hour or a month. When
+ * the buffer is full, the oldest reading is overwritten.
+ * <p>
+ * Not thread-safe; {@link LightDoseIntegrator} guards access.
+ *
+ * @author Neriou
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class LuxRingBuffer {
+
+    private final long[] timestamps;
+    private final float[] lux;
+    private int head;
+    private int size;
+
+    /**
+     * Creates an empty buffer.
+     *
+     * @param capacity Maximum number of readings kept
+     */
+    public LuxRingBuffer(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity <= 0");
+        }
+        timestamps = new long[capacity];
+        lux = new float[capacity];
+    }
+
+    /**
+     * Appends a reading, overwriting the oldest one if the buffer is full.
+     *
+     * @param timestampMillis Wall-clock start of the reading's interval
+     * @param value Mean illuminance over the interval, in lux
+     */
+    void add(long timestampMillis, float value) {
+        int index = (head + size) % timestamps.length;
+        timestamps[index] = timestampMillis;
+        lux[index] = value;
+        if (size < timestamps.length) {
+            size++;
+        } else {
+            head = (head + 1) % timestamps.length;
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int capacity() {
+        return timestamps.length;
+    }
+
+    /**
+     * Returns the timestamp of a reading.
+     *
+     * @param i Index from 0 (oldest) to {@link #size()} - 1 (newest)
+     * @return Wall-clock start of the reading's interval
+     */
+    public long getTimestamp(int i) {
+        return timestamps[physical(i)];
+    }
+
+    /**
+     * Returns the mean illuminance of a reading.
+     *
+     * @param i Index from 0 (oldest) to {@link #size()} - 1 (newest)
+     * @return Mean illuminance in lux
+     */
+    public float getLux(int i) {
+        return lux[physical(i)];
+    }
+
+    private int physical(int i) {
+        if (i < 0 || i >= size) {
+            throw new IndexOutOfBoundsException("index " + i + ", size " + size);
+        }
+        return (head + i) % timestamps.length;
+    }
+}
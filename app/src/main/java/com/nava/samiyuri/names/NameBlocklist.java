@@ -0,0 +1,279 @@
+package com.nava.samiyuri.names;
+
+import android.content.Context;
+import android.content.res.AssetFileDescriptor;
+import android.os.Handler;
+import android.os.Looper;
+import android.util.Log;
+
+import androidx.annotation.Nullable;
+
+import com.nava.samiyuri.text.TextNormalizer;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.util.function.Consumer;
+
+import static com.nava.samiyuri.names.NameBlocklistFormat.*;
+
+/**
+ * NameBlocklist - Finds blocked words in buddy names, one pass per keystroke.
+ * <p>
+ * The blocklists of all supported languages are compiled ahead of time into an
+ * Aho-Corasick automaton (see {@link NameBlocklistWriter}) that is memory-mapped
+ * from the APK. Screening a name feeds each character once through the
+ * automaton: no regular expressions, no substrings and no allocation, so it can
+ * run on every keystroke while the child types.
+ * <p>
+ * Key Features:
+ * - Text is folded character by character with {@link TextNormalizer}, so
+ *   accents, case and apostrophes cannot be used to slip a word through
+ * - Terms marked "part" are blocked anywhere, even inside a longer word;
+ *   terms marked "word" only on their own, so harmless names containing them
+ *   are still allowed
+ * - Loaded once in the background by {@link #preload(Context)}; screens that
+ *   must not accept an unscreened name wait with {@link #whenLoaded(Context, Consumer)}
+ * <p>
+ * Thread-safe: the mapped buffer is only read with absolute gets.
+ *
+ * @author Neriou
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class NameBlocklist {
+
+    private static final String TAG = "NameBlocklist";
+
+    /** Asset path of the compiled blocklist; stored uncompressed in the APK. */
+    public static final String ASSET_PATH = "names/blocklist.smac";
+
+    private static volatile NameBlocklist instance;
+    private static boolean preloadStarted;
+
+    /** Serializes mapping the asset, so concurrent loads share one instance. */
+    private static final Object LOAD_LOCK = new Object();
+
+    private final ByteBuffer buffer;
+    private final int stateTable;
+    private final int stateStride;
+    private final int transitionTable;
+    private final int transitionStride;
+
+    /**
+     * Wraps a compiled blocklist.
+     *
+     * @param buffer The compiled bytes, typically memory-mapped
+     * @throws IOException If the data is not a supported blocklist
+     */
+    public NameBlocklist(ByteBuffer buffer) throws IOException {
+        this.buffer = buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        if (buffer.capacity() < HEADER_SIZE || this.buffer.getInt(H_MAGIC) != MAGIC) {
+            throw new IOException("Not a name blocklist");
+        }
+        if (this.buffer.getInt(H_VERSION) > VERSION) {
+            throw new IOException("Unsupported name blocklist version " + this.buffer.getInt(H_VERSION));
+        }
+        stateStride = this.buffer.getInt(H_STATE_STRIDE);
+        transitionStride = this.buffer.getInt(H_TRANSITION_STRIDE);
+        if (stateStride < STATE_STRIDE || transitionStride < TRANSITION_STRIDE
+                || this.buffer.getInt(H_STATE_COUNT) < 1) {
+            throw new IOException("Corrupt name blocklist header");
+        }
+        stateTable = this.buffer.getInt(H_STATE_TABLE);
+        transitionTable = this.buffer.getInt(H_TRANSITION_TABLE);
+        long end = (long) transitionTable + (long) this.buffer.getInt(H_TRANSITION_COUNT) * transitionStride;
+        if (end > buffer.capacity()) {
+            throw new IOException("Truncated name blocklist");
+        }
+    }
+
+    /**
+     * Memory-maps the blocklist bundled with the app.
+     *
+     * @param context Any context
+     * @return The bundled blocklist
+     * @throws IOException If the asset is missing, compressed or corrupt
+     */
+    public static NameBlocklist openAsset(Context context) throws IOException {
+        try (AssetFileDescriptor descriptor = context.getAssets().openFd(ASSET_PATH);
+             FileInputStream in = descriptor.createInputStream()) {
+            FileChannel channel = in.getChannel();
+            return new NameBlocklist(channel.map(FileChannel.MapMode.READ_ONLY,
+                    descriptor.getStartOffset(), descriptor.getLength()));
+        }
+    }
+
+    /**
+     * Starts mapping the bundled blocklist on a background thread.
+     * <p>
+     * Safe to call more than once; only the first call does any work.
+     *
+     * @param context Any context; only the application context is used
+     */
+    public static synchronized void preload(Context context) {
+        if (preloadStarted) {
+            return;
+        }
+        preloadStarted = true;
+        Context appContext = context.getApplicationContext();
+        new Thread(() -> {
+            try {
+                loadShared(appContext);
+            } catch (IOException e) {
+                Log.e(TAG, "Cannot open name blocklist", e);
+            }
+        }, "blocklist-load").start();
+    }
+
+    /**
+     * Hands the bundled blocklist to a callback on the main thread.
+     * <p>
+     * Unlike {@link #getIfLoaded()}, this waits for a load still in progress and
+     * retries one that failed, so a caller can refuse a name whenever the
+     * blocklist cannot be read instead of letting it through unscreened.
+     *
+     * @param context Any context; only the application context is used
+     * @param callback Receives the blocklist, or null if it cannot be read
+     */
+    public static void whenLoaded(Context context, Consumer<NameBlocklist> callback) {
+        NameBlocklist loaded = instance;
+        if (loaded != null) {
+            callback.accept(loaded);
+            return;
+        }
+        Context appContext = context.getApplicationContext();
+        Handler mainHandler = new Handler(Looper.getMainLooper());
+        new Thread(() -> {
+            NameBlocklist blocklist = null;
+            try {
+                blocklist = loadShared(appContext);
+            } catch (IOException e) {
+                Log.e(TAG, "Cannot open name blocklist", e);
+            }
+            NameBlocklist result = blocklist;
+            mainHandler.post(() -> callback.accept(result));
+        }, "blocklist-load").start();
+    }
+
+    private static NameBlocklist loadShared(Context appContext) throws IOException {
+        synchronized (LOAD_LOCK) {
+            if (instance == null) {
+                instance = openAsset(appContext);
+            }
+            return instance;
+        }
+    }
+
+    /**
+     * Returns the bundled blocklist if {@link #preload(Context)} has finished.
+     *
+     * @return The blocklist, or null while it is still loading or unavailable
+     */
+    @Nullable
+    public static NameBlocklist getIfLoaded() {
+        return instance;
+    }
+
+    /**
+     * Returns whether a text contains a blocked term.
+     *
+     * @param text The text to screen, as typed
+     * @return true if any list blocks a word or part of a word of the text
+     */
+    public boolean containsBlockedTerm(CharSequence text) {
+        int state = 0;
+        int wordLength = 0;
+        // A whole-word term ended here; blocked if the word ends here too
+        boolean pendingWholeWord = false;
+
+        for (int i = 0; i < text.length(); i++) {
+            char folded = TextNormalizer.fold(text.charAt(i));
+            if (folded == TextNormalizer.DROPPED || Character.getType(folded) == Character.NON_SPACING_MARK) {
+                // Apostrophes and separately typed accents do not split a word
+                continue;
+            }
+            if (!TextNormalizer.isWordChar(folded)) {
+                if (pendingWholeWord) {
+                    return true;
+                }
+                // Terms never span words; start over at the next one
+                state = 0;
+                wordLength = 0;
+                continue;
+            }
+
+            pendingWholeWord = false;
+            wordLength++;
+            state = step(state, folded);
+
+            // Every term ending at this character: the state's own, then its dictionary links
+            int match = output(state) != 0 ? state : dictionaryLink(state);
+            while (match != 0) {
+                int output = output(match);
+                if ((output & OUTPUT_WHOLE_WORD) == 0) {
+                    return true;
+                }
+                if ((output & OUTPUT_LENGTH_MASK) == wordLength) {
+                    pendingWholeWord = true;
+                }
+                match = dictionaryLink(match);
+            }
+        }
+        return pendingWholeWord;
+    }
+
+    /**
+     * Moves the automaton on a folded character, following failure links.
+     */
+    private int step(int state, char c) {
+        while (true) {
+            int target = transition(state, c);
+            if (target >= 0) {
+                return target;
+            }
+            if (state == 0) {
+                return 0;
+            }
+            state = buffer.getInt(stateRecord(state) + S_FAILURE);
+        }
+    }
+
+    /**
+     * Binary-searches a state's sorted transitions.
+     *
+     * @return The target state, or -1 if the state has no transition on the character
+     */
+    private int transition(int state, char c) {
+        int record = stateRecord(state);
+        int low = buffer.getInt(record + S_FIRST_TRANSITION);
+        int high = low + buffer.getInt(record + S_TRANSITION_COUNT) - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int base = transitionTable + mid * transitionStride;
+            int character = buffer.getInt(base + T_CHARACTER);
+            if (character < c) {
+                low = mid + 1;
+            } else if (character > c) {
+                high = mid - 1;
+            } else {
+                return buffer.getInt(base + T_TARGET);
+            }
+        }
+        return -1;
+    }
+
+    private int output(int state) {
+        return buffer.getInt(stateRecord(state) + S_OUTPUT);
+    }
+
+    private int dictionaryLink(int state) {
+        return buffer.getInt(stateRecord(state) + S_DICTIONARY_LINK);
+    }
+
+    private int stateRecord(int state) {
+        return stateTable + state * stateStride;
+    }
+}
@@ -0,0 +1,71 @@
+package com.nava.samiyuri.names;
+
+/**
+ * NameBlocklistFormat - Layout constants shared by the blocklist writer and reader.
+ * <p>
+ * The blocklist is an Aho-Corasick automaton over {@code TextNormalizer}-folded
+ * text, serialized as a single read-only asset and memory-mapped at run time:
+ * <pre>
+ *   +-------------------+  offset 0
+ *   | header            |  HEADER_SIZE bytes
+ *   +-------------------+
+ *   | state table       |  stateCount * stateStride records, root first, breadth-first order
+ *   +-------------------+
+ *   | transition table  |  transitionCount * transitionStride records, sorted by
+ *   |                   |  character within each state
+ *   +-------------------+
+ * </pre>
+ * All numbers are little-endian, like the other compiled assets.
+ * <p>
+ * A state's output is the length of the blocked term ending at it, 0 for none,
+ * with {@link #OUTPUT_WHOLE_WORD} set for terms that only count as a whole word.
+ * Its dictionary link is the nearest state on its failure chain that has an
+ * output, 0 for none, so all terms ending at a position are found without
+ * walking states that end none.
+ *
+ * @author Neriou
+ * @version 1.0
+ * @since 2026-10-18
+ */
+final class NameBlocklistFormat {
+
+    /** File magic, the ASCII bytes "SMAC" read as a little-endian int. */
+    static final int MAGIC = 0x43414D53;
+
+    /** Current format version written by this build. */
+    static final int VERSION = 1;
+
+    // Header field offsets
+    static final int HEADER_SIZE = 32;
+    static final int H_MAGIC = 0;
+    static final int H_VERSION = 4;
+    static final int H_STATE_COUNT = 8;
+    static final int H_STATE_STRIDE = 12;
+    static final int H_TRANSITION_COUNT = 16;
+    static final int H_TRANSITION_STRIDE = 20;
+    static final int H_STATE_TABLE = 24;
+    static final int H_TRANSITION_TABLE = 28;
+
+    // State record: first transition, transition count, failure, output, dictionary link
+    static final int STATE_STRIDE = 20;
+    static final int S_FIRST_TRANSITION = 0;
+    static final int S_TRANSITION_COUNT = 4;
+    static final int S_FAILURE = 8;
+    static final int S_OUTPUT = 12;
+    static final int S_DICTIONARY_LINK = 16;
+
+    // Transition record: folded character, target state
+    static final int TRANSITION_STRIDE = 8;
+    static final int T_CHARACTER = 0;
+    static final int T_TARGET = 4;
+
+    /** Output flag of terms that are only blocked as a whole word. */
+    static final int OUTPUT_WHOLE_WORD = 0x10000;
+
+    /** Mask of the term length in an output. */
+    static final int OUTPUT_LENGTH_MASK = 0xFFFF;
+
+    private NameBlocklistFormat() {
+        // Constants only
+    }
+}
@@ -0,0 +1,207 @@
+package com.nava.samiyuri.names;
+
+import com.nava.samiyuri.text.TextNormalizer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static com.nava.samiyuri.names.NameBlocklistFormat.*;
+
+/**
+ * NameBlocklistWriter - Compiles the name blocklists into a serialized Aho-Corasick automaton.
+ * <p>
+ * Blocked terms are authored as a tab-separated text file
+ * ({@code app/src/names/blocklist.tsv}) with one term per line: language, match
+ * mode ({@code part} blocks the term anywhere in a word, {@code word} only as a
+ * whole word) and the term. Lines starting with '#' are comments. All languages
+ * are compiled into one automaton: a name is screened against every list, since
+ * children in a class do not all speak the language the tablet is set to.
+ * <p>
+ * The asset is compiled during the build by the {@code generateAssets} Gradle
+ * task and is not checked in. The output is deterministic.
+ *
+ * @author Neriou
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class NameBlocklistWriter {
+
+    private NameBlocklistWriter() {
+        // Static utility
+    }
+
+    /**
+     * BlockedTerm - One parsed line of the blocklist source.
+     */
+    public static final class BlockedTerm {
+
+        final String language;
+        final boolean wholeWord;
+        final String term;
+
+        BlockedTerm(String language, boolean wholeWord, String term) {
+            this.language = language;
+            this.wholeWord = wholeWord;
+            this.term = term;
+        }
+    }
+
+    /**
+     * Parses the tab-separated blocklist source.
+     *
+     * @param source The source text
+     * @return The terms in file order, normalized
+     * @throws IOException If reading fails or a line is malformed
+     */
+    public static List<BlockedTerm> readSource(Reader source) throws IOException {
+        List<BlockedTerm> terms = new ArrayList<>();
+        BufferedReader reader = new BufferedReader(source);
+        String line;
+        int lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.trim().isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            String[] fields = line.split("\t");
+            if (fields.length != 3) {
+                throw new IOException("Line " + lineNumber + ": expected language, match mode, term");
+            }
+            String mode = fields[1].trim();
+            if (!mode.equals("part") && !mode.equals("word")) {
+                throw new IOException("Line " + lineNumber + ": match mode must be part or word");
+            }
+            String term = TextNormalizer.normalize(fields[2].trim());
+            for (int i = 0; i < term.length(); i++) {
+                if (!TextNormalizer.isWordChar(term.charAt(i))) {
+                    throw new IOException("Line " + lineNumber + ": terms must be single words");
+                }
+            }
+            if (term.isEmpty() || term.length() > OUTPUT_LENGTH_MASK) {
+                throw new IOException("Line " + lineNumber + ": bad term length");
+            }
+            terms.add(new BlockedTerm(fields[0].trim(), mode.equals("word"), term));
+        }
+        return terms;
+    }
+
+    /**
+     * Compiles terms into the automaton format.
+     *
+     * @param terms The terms to block
+     * @param out Destination of the compiled bytes
+     * @throws IOException If writing fails
+     */
+    public static void write(List<BlockedTerm> terms, OutputStream out) throws IOException {
+        // Build the trie; TreeMap children keep state numbering deterministic
+        List<Node> trie = new ArrayList<>();
+        trie.add(new Node());
+        for (BlockedTerm term : terms) {
+            Node node = trie.get(0);
+            for (int i = 0; i < term.term.length(); i++) {
+                char c = term.term.charAt(i);
+                Node child = node.children.get(c);
+                if (child == null) {
+                    child = new Node();
+                    node.children.put(c, child);
+                    trie.add(child);
+                }
+                node = child;
+            }
+            int output = term.term.length() | (term.wholeWord ? OUTPUT_WHOLE_WORD : 0);
+            // The same term in two lists: blocking it anywhere wins over whole-word only
+            node.output = node.output == 0 ? output : node.output & output;
+        }
+
+        // Number states breadth-first and compute failure and dictionary links
+        List<Node> states = new ArrayList<>();
+        ArrayDeque<Node> queue = new ArrayDeque<>();
+        Node root = trie.get(0);
+        root.id = 0;
+        states.add(root);
+        queue.add(root);
+        while (!queue.isEmpty()) {
+            Node node = queue.poll();
+            for (Map.Entry<Character, Node> entry : node.children.entrySet()) {
+                Node child = entry.getValue();
+                child.id = states.size();
+                states.add(child);
+
+                Node failure = node == root ? root : next(node.failure, entry.getKey(), root);
+                child.failure = failure;
+                child.dictionaryLink = failure.output != 0 ? failure : failure.dictionaryLink;
+                queue.add(child);
+            }
+        }
+
+        int transitionCount = states.size() - 1;
+        int stateTable = HEADER_SIZE;
+        int transitionTable = stateTable + states.size() * STATE_STRIDE;
+        ByteBuffer bytes = ByteBuffer.allocate(transitionTable + transitionCount * TRANSITION_STRIDE)
+                .order(ByteOrder.LITTLE_ENDIAN);
+
+        bytes.putInt(H_MAGIC, MAGIC);
+        bytes.putInt(H_VERSION, VERSION);
+        bytes.putInt(H_STATE_COUNT, states.size());
+        bytes.putInt(H_STATE_STRIDE, STATE_STRIDE);
+        bytes.putInt(H_TRANSITION_COUNT, transitionCount);
+        bytes.putInt(H_TRANSITION_STRIDE, TRANSITION_STRIDE);
+        bytes.putInt(H_STATE_TABLE, stateTable);
+        bytes.putInt(H_TRANSITION_TABLE, transitionTable);
+
+        int transition = 0;
+        for (Node state : states) {
+            int record = stateTable + state.id * STATE_STRIDE;
+            bytes.putInt(record + S_FIRST_TRANSITION, transition);
+            bytes.putInt(record + S_TRANSITION_COUNT, state.children.size());
+            bytes.putInt(record + S_FAILURE, state.failure != null ? state.failure.id : 0);
+            bytes.putInt(record + S_OUTPUT, state.output);
+            bytes.putInt(record + S_DICTIONARY_LINK, state.dictionaryLink != null ? state.dictionaryLink.id : 0);
+            for (Map.Entry<Character, Node> entry : state.children.entrySet()) {
+                int target = transitionTable + transition++ * TRANSITION_STRIDE;
+                bytes.putInt(target + T_CHARACTER, entry.getKey());
+                bytes.putInt(target + T_TARGET, entry.getValue().id);
+            }
+        }
+
+        out.write(bytes.array());
+        out.flush();
+    }
+
+    /**
+     * Follows failure links from a state until a transition on the character exists.
+     */
+    private static Node next(Node state, char c, Node root) {
+        while (true) {
+            Node child = state.children.get(c);
+            if (child != null) {
+                return child;
+            }
+            if (state == root) {
+                return root;
+            }
+            state = state.failure;
+        }
+    }
+
+    /**
+     * Node - A trie state while compiling.
+     */
+    private static final class Node {
+
+        final Map<Character, Node> children = new TreeMap<>();
+        int id;
+        int output;
+        Node failure;
+        Node dictionaryLink;
+    }
+}
@@ -0,0 +1,115 @@
+package com.nava.samiyuri.names;
+
+import androidx.annotation.Nullable;
+
+/**
+ * NameValidator - Decides whether a child's name for a buddy can be accepted.
+ * <p>
+ * Rules, checked in this order:
+ * - The name must not be blank
+ * - At most {@link #MAX_LENGTH} characters, not counting surrounding spaces
+ * - Only letters (any script, with or without accents), digits, spaces,
+ *   hyphens, periods and the apostrophes used in Quechua and Aymara spelling
+ * - At least one letter or digit, so punctuation alone is not a name
+ * - No word from the {@link NameBlocklist} of any supported language
+ * <p>
+ * Validation walks the name once and allocates nothing, so it runs on every
+ * keystroke.
+ *
+ * @author Neriou
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class NameValidator {
+
+    /**
+     * Longest accepted name; fits the buddy card title at its largest text size.
+     */
+    public static final int MAX_LENGTH = 20;
+
+    /**
+     * Result - Outcome of validating a name.
+     */
+    public enum Result {
+        VALID,
+        EMPTY,
+        TOO_LONG,
+        INVALID_CHARACTER,
+        NO_LETTERS,
+        BLOCKED
+    }
+
+    private NameValidator() {
+        // Static utility
+    }
+
+    /**
+     * Validates a name.
+     *
+     * @param name The name as typed
+     * @param blocklist The blocklist to screen against, or null to skip it, e.g. while
+     *                  typing before it is loaded; accepting a name requires it
+     * @return The first rule the name breaks, or {@link Result#VALID}
+     */
+    public static Result validate(CharSequence name, @Nullable NameBlocklist blocklist) {
+        int start = 0;
+        int end = name.length();
+        while (start < end && Character.isWhitespace(name.charAt(start))) {
+            start++;
+        }
+        while (end > start && Character.isWhitespace(name.charAt(end - 1))) {
+            end--;
+        }
+        if (start == end) {
+            return Result.EMPTY;
+        }
+        if (Character.codePointCount(name, start, end) > MAX_LENGTH) {
+            return Result.TOO_LONG;
+        }
+
+        boolean hasLetterOrDigit = false;
+        for (int i = start; i < end; ) {
+            int codePoint = Character.codePointAt(name, i);
+            if (!isAllowed(codePoint)) {
+                return Result.INVALID_CHARACTER;
+            }
+            hasLetterOrDigit |= Character.isLetterOrDigit(codePoint);
+            i += Character.charCount(codePoint);
+        }
+        if (!hasLetterOrDigit) {
+            return Result.NO_LETTERS;
+        }
+
+        if (blocklist != null && blocklist.containsBlockedTerm(name)) {
+            return Result.BLOCKED;
+        }
+        return Result.VALID;
+    }
+
+    private static boolean isAllowed(int codePoint) {
+        if (Character.isLetterOrDigit(codePoint)) {
+            return true;
+        }
+        switch (Character.getType(codePoint)) {
+            case Character.NON_SPACING_MARK:
+            case Character.COMBINING_SPACING_MARK:
+                // Accents typed as separate combining characters
+                return true;
+            default:
+                break;
+        }
+        switch (codePoint) {
+            case ' ':
+            case '-':
+            case '.':
+            case '\'':
+            case '‘': // left single quotation mark
+            case '’': // right single quotation mark
+            case 'ʼ': // modifier letter apostrophe, as in Quechua "ch'aska"
+            case 'ʻ': // modifier letter turned comma
+                return true;
+            default:
+                return false;
+        }
+    }
+}
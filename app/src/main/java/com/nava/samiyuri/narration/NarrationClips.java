@@ -0,0 +1,79 @@
+package com.nava.samiyuri.narration;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * NarrationClips - Names the recorded clips that read the app's texts aloud.
+ * <p>
+ * Clips are compressed audio assets, one directory per language:
+ * <pre>
+ *   narration/es/story-1-1.ogg      page 1 of the story, first paragraph
+ *   narration/es/story-1-2.ogg      page 1 of the story, second paragraph
+ *   narration/es/status_happy.ogg   the string resource "status_happy"
+ * </pre>
+ * The story is recorded per paragraph, so a long page is a short queue of clips
+ * played back to back, and re-recording one paragraph does not touch the rest.
+ * Anything else is named after the string resource it reads.
+ * <p>
+ * A clip is read in the language its text is shown in. A language that shows
+ * another language's text, or has not been recorded yet, is simply not narrated
+ * rather than read in the wrong language.
+ * <p>
+ * Clips should all share one sample rate and channel count, so consecutive clips
+ * play through the same stream without a gap. Ogg files are stored uncompressed in
+ * the APK, so they can be streamed straight from it.
+ * <p>
+ * No clips are recorded yet. Until the {@value #ASSET_DIRECTORY} asset directory
+ * exists, the build turns narration off and {@link NarrationPlayer} ignores
+ * every request.
+ *
+ * @author Neriou
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class NarrationClips {
+
+    /** Asset directory holding one subdirectory per language. */
+    public static final String ASSET_DIRECTORY = "narration";
+
+    /** File extension of a clip. */
+    public static final String EXTENSION = ".ogg";
+
+    private static final String STORY_PREFIX = "story-";
+
+    private NarrationClips() {
+        // Static utility
+    }
+
+    /**
+     * Returns the clips that read one story page, in order.
+     *
+     * @param pageIndex Zero-based page index
+     * @param text The page text, with paragraphs separated by blank lines
+     * @return One clip per paragraph
+     */
+    public static List<String> forStoryPage(int pageIndex, String text) {
+        List<String> clips = new ArrayList<>();
+        int paragraph = 0;
+        for (String part : text.split("\n\n")) {
+            if (!part.trim().isEmpty()) {
+                paragraph++;
+                clips.add(String.format(Locale.ROOT, "%s%d-%d", STORY_PREFIX, pageIndex + 1, paragraph));
+            }
+        }
+        return clips;
+    }
+
+    /**
+     * Returns the asset path of a clip.
+     *
+     * @param language The language code
+     * @param clip The clip name
+     * @return e.g. {@code narration/qu/story-1-1.ogg}
+     */
+    public static String assetPath(String language, String clip) {
+        return ASSET_DIRECTORY + "/" + language + "/" + clip + EXTENSION;
+    }
+}
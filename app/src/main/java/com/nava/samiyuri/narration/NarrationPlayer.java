@@ -0,0 +1,415 @@
+package com.nava.samiyuri.narration;
+
+import android.content.Context;
+import android.content.res.AssetFileDescriptor;
+import android.content.res.AssetManager;
+import android.media.AudioAttributes;
+import android.media.AudioFormat;
+import android.media.AudioTrack;
+import android.media.MediaCodec;
+import android.media.MediaExtractor;
+import android.media.MediaFormat;
+import android.os.Process;
+import android.util.Log;
+
+import com.nava.samiyuri.BuildConfig;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * NarrationPlayer - Reads texts aloud for children who cannot read yet.
+ * <p>
+ * Plays a queue of recorded {@link NarrationClips clips} from the APK's assets.
+ * Clips are streamed: the compressed data is read packet by packet into the
+ * decoder's input buffers, and decoded audio goes straight from the decoder's
+ * output buffers into one small stream. No clip, and no story, is ever held in
+ * memory as a whole.
+ * <p>
+ * Key Features:
+ * - One decoder at a time, reused from clip to clip; only a clip in another
+ *   codec replaces it
+ * - While a clip plays, the next one is already opened and positioned, so its
+ *   first packet is ready the moment the decoder finishes
+ * - About {@link #STREAM_BUFFER_MILLIS} of decoded audio is buffered in the
+ *   stream, which keeps playing while the decoder is restarted for the next clip:
+ *   consecutive clips follow each other without a gap
+ * - Starting new narration, or {@link #stop()}, cuts the current one at once
+ * - Missing clips are skipped silently, so texts not recorded yet are just not read
+ * - Held back entirely while the app ships no clips at all
+ *   ({@code BuildConfig.NARRATION_ENABLED}): requests are ignored without
+ *   starting the audio thread
+ * <p>
+ * All decoding runs on one audio-priority thread; the methods may be called from
+ * any thread.
+ *
+ * @author Neriou
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class NarrationPlayer {
+
+    private static final String TAG = "NarrationPlayer";
+
+    /** Decoded audio kept ahead of the speaker, to bridge decoder restarts. */
+    static final int STREAM_BUFFER_MILLIS = 250;
+
+    private static final long DEQUEUE_TIMEOUT_US = 10_000;
+
+    private static volatile NarrationPlayer instance;
+
+    private final AssetManager assets;
+    private final ExecutorService worker = Executors.newSingleThreadExecutor(runnable -> new Thread(() -> {
+        Process.setThreadPriority(Process.THREAD_PRIORITY_AUDIO);
+        runnable.run();
+    }, "narration"));
+
+    /**
+     * Incremented by every request; a queue stops as soon as it is no longer the latest.
+     */
+    private final AtomicLong generation = new AtomicLong();
+
+    // Worker thread only
+    private final Map<String, Set<String>> recordedClips = new HashMap<>();
+    private final MediaCodec.BufferInfo info = new MediaCodec.BufferInfo();
+    private MediaCodec decoder;
+    private String decoderMime;
+    private AudioTrack track;
+    private int trackSampleRate;
+    private int trackChannels;
+
+    private NarrationPlayer(Context context) {
+        assets = context.getApplicationContext().getAssets();
+    }
+
+    /**
+     * Returns the process-wide narration player.
+     *
+     * @param context Any context; only the application context is used
+     * @return The shared instance
+     */
+    public static NarrationPlayer getInstance(Context context) {
+        if (instance == null) {
+            synchronized (NarrationPlayer.class) {
+                if (instance == null) {
+                    instance = new NarrationPlayer(context);
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Reads clips aloud, one after the other, replacing any narration in progress.
+     *
+     * @param language The language the texts are shown in
+     * @param clips Clip names in reading order; those not recorded are skipped
+     */
+    public void speak(String language, List<String> clips) {
+        if (!BuildConfig.NARRATION_ENABLED) {
+            return;
+        }
+        long token = generation.incrementAndGet();
+        String[] queue = clips.toArray(new String[0]);
+        worker.execute(() -> play(token, language, queue));
+    }
+
+    /**
+     * Stops narrating and releases the decoder and the stream.
+     */
+    public void stop() {
+        if (!BuildConfig.NARRATION_ENABLED) {
+            return;
+        }
+        generation.incrementAndGet();
+        worker.execute(this::releaseOutput);
+    }
+
+    // ------------------------------------------------------------------
+    // Worker thread
+    // ------------------------------------------------------------------
+
+    private void play(long token, String language, String[] clips) {
+        Set<String> recorded = recordedClips(language);
+        ArrayDeque<String> queue = new ArrayDeque<>();
+        for (String clip : clips) {
+            if (recorded.contains(clip + NarrationClips.EXTENSION)) {
+                queue.add(NarrationClips.assetPath(language, clip));
+            }
+        }
+        if (generation.get() != token || queue.isEmpty()) {
+            return;
+        }
+
+        Clip current = openNext(queue);
+        Clip next = null;
+        try {
+            while (current != null && generation.get() == token) {
+                if (!startDecoder(current.format)) {
+                    current.release();
+                    current = next != null ? next : openNext(queue);
+                    next = null;
+                    continue;
+                }
+                boolean inputDone = false;
+                boolean outputDone = false;
+                while (!outputDone && generation.get() == token) {
+                    if (!inputDone) {
+                        inputDone = feed(current.extractor);
+                    }
+                    outputDone = drain();
+                    if (next == null && !queue.isEmpty() && track != null) {
+                        // Audio is flowing; get the next clip ready meanwhile
+                        next = openNext(queue);
+                    }
+                }
+                current.release();
+                current = null;
+                if (generation.get() != token) {
+                    break;
+                }
+                current = next != null ? next : openNext(queue);
+                next = null;
+            }
+
+            if (track != null) {
+                if (generation.get() == token) {
+                    // Plays out what is still buffered, then stops
+                    track.stop();
+                } else {
+                    track.pause();
+                    track.flush();
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            Log.e(TAG, "Narration failed", e);
+            releaseOutput();
+        } finally {
+            if (current != null) {
+                current.release();
+            }
+            if (next != null) {
+                next.release();
+            }
+        }
+    }
+
+    /**
+     * Queues one compressed packet into the decoder.
+     *
+     * @return true once the end of the clip has been queued
+     */
+    private boolean feed(MediaExtractor extractor) {
+        int index = decoder.dequeueInputBuffer(DEQUEUE_TIMEOUT_US);
+        if (index < 0) {
+            return false;
+        }
+        ByteBuffer input = decoder.getInputBuffer(index);
+        int size = input != null ? extractor.readSampleData(input, 0) : -1;
+        if (size < 0) {
+            decoder.queueInputBuffer(index, 0, 0, 0, MediaCodec.BUFFER_FLAG_END_OF_STREAM);
+            return true;
+        }
+        decoder.queueInputBuffer(index, 0, size, extractor.getSampleTime(), 0);
+        extractor.advance();
+        return false;
+    }
+
+    /**
+     * Moves one decoded buffer into the stream, blocking while the stream is full.
+     *
+     * @return true once the decoder has output the end of the clip
+     */
+    private boolean drain() throws IOException {
+        int index = decoder.dequeueOutputBuffer(info, DEQUEUE_TIMEOUT_US);
+        if (index == MediaCodec.INFO_OUTPUT_FORMAT_CHANGED) {
+            openTrack(decoder.getOutputFormat());
+            return false;
+        }
+        if (index < 0) {
+            return false;
+        }
+        if (info.size > 0) {
+            if (track == null) {
+                openTrack(decoder.getOutputFormat());
+            }
+            ByteBuffer output = decoder.getOutputBuffer(index);
+            if (output != null) {
+                output.position(info.offset);
+                output.limit(info.offset + info.size);
+                if (track.getPlayState() != AudioTrack.PLAYSTATE_PLAYING) {
+                    track.play();
+                }
+                track.write(output, info.size, AudioTrack.WRITE_BLOCKING);
+            }
+        }
+        decoder.releaseOutputBuffer(index, false);
+        return (info.flags & MediaCodec.BUFFER_FLAG_END_OF_STREAM) != 0;
+    }
+
+    /**
+     * Prepares the decoder for a clip, reusing it when the codec is the same.
+     *
+     * @return false if no decoder can play the clip
+     */
+    private boolean startDecoder(MediaFormat format) {
+        String mime = format.getString(MediaFormat.KEY_MIME);
+        try {
+            if (decoder != null && mime.equals(decoderMime)) {
+                decoder.stop();
+            } else {
+                if (decoder != null) {
+                    decoder.release();
+                    decoder = null;
+                }
+                decoder = MediaCodec.createDecoderByType(mime);
+                decoderMime = mime;
+            }
+            decoder.configure(format, null, null, 0);
+            decoder.start();
+            return true;
+        } catch (IOException | RuntimeException e) {
+            Log.e(TAG, "No decoder for " + mime, e);
+            if (decoder != null) {
+                decoder.release();
+                decoder = null;
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Opens the stream for a decoded format, keeping the current one if it matches.
+     */
+    private void openTrack(MediaFormat format) throws IOException {
+        int sampleRate = format.getInteger(MediaFormat.KEY_SAMPLE_RATE);
+        int channels = format.getInteger(MediaFormat.KEY_CHANNEL_COUNT);
+        if (track != null && sampleRate == trackSampleRate && channels == trackChannels) {
+            return;
+        }
+        if (track != null) {
+            Log.w(TAG, "Narration clips differ in format; reopening the stream");
+            track.release();
+            track = null;
+        }
+        if (channels < 1 || channels > 2) {
+            throw new IOException("Unsupported channel count " + channels);
+        }
+
+        int channelMask = channels == 1 ? AudioFormat.CHANNEL_OUT_MONO : AudioFormat.CHANNEL_OUT_STEREO;
+        int minBufferBytes = AudioTrack.getMinBufferSize(sampleRate, channelMask, AudioFormat.ENCODING_PCM_16BIT);
+        int bufferBytes = sampleRate * channels * 2 * STREAM_BUFFER_MILLIS / 1000;
+        track = new AudioTrack.Builder()
+                .setAudioAttributes(new AudioAttributes.Builder()
+                        .setUsage(AudioAttributes.USAGE_MEDIA)
+                        .setContentType(AudioAttributes.CONTENT_TYPE_SPEECH)
+                        .build())
+                .setAudioFormat(new AudioFormat.Builder()
+                        .setEncoding(AudioFormat.ENCODING_PCM_16BIT)
+                        .setSampleRate(sampleRate)
+                        .setChannelMask(channelMask)
+                        .build())
+                .setTransferMode(AudioTrack.MODE_STREAM)
+                .setBufferSizeInBytes(Math.max(minBufferBytes, bufferBytes))
+                .build();
+        trackSampleRate = sampleRate;
+        trackChannels = channels;
+    }
+
+    private void releaseOutput() {
+        if (decoder != null) {
+            decoder.release();
+            decoder = null;
+            decoderMime = null;
+        }
+        if (track != null) {
+            track.release();
+            track = null;
+        }
+    }
+
+    /**
+     * Opens the next clip of the queue that can be read, skipping broken ones.
+     *
+     * @return The clip, or null when the queue is exhausted
+     */
+    private Clip openNext(ArrayDeque<String> queue) {
+        while (!queue.isEmpty()) {
+            String path = queue.poll();
+            try {
+                return Clip.open(assets, path);
+            } catch (IOException | RuntimeException e) {
+                Log.e(TAG, "Cannot open narration clip " + path, e);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the file names recorded for a language, listing its directory only once.
+     */
+    private Set<String> recordedClips(String language) {
+        Set<String> recorded = recordedClips.get(language);
+        if (recorded == null) {
+            try {
+                String[] files = assets.list(NarrationClips.ASSET_DIRECTORY + "/" + language);
+                recorded = files != null ? new HashSet<>(Arrays.asList(files)) : Collections.emptySet();
+            } catch (IOException e) {
+                recorded = Collections.emptySet();
+            }
+            recordedClips.put(language, recorded);
+        }
+        return recorded;
+    }
+
+    /**
+     * Clip - An opened clip, positioned at its first audio packet.
+     */
+    private static final class Clip {
+
+        final MediaExtractor extractor;
+        final MediaFormat format;
+
+        private Clip(MediaExtractor extractor, MediaFormat format) {
+            this.extractor = extractor;
+            this.format = format;
+        }
+
+        static Clip open(AssetManager assets, String path) throws IOException {
+            MediaExtractor extractor = new MediaExtractor();
+            try (AssetFileDescriptor descriptor = assets.openFd(path)) {
+                // The extractor keeps its own reference; ours may be closed right away
+                extractor.setDataSource(descriptor.getFileDescriptor(),
+                        descriptor.getStartOffset(), descriptor.getLength());
+            } catch (IOException | RuntimeException e) {
+                extractor.release();
+                throw e;
+            }
+            for (int i = 0; i < extractor.getTrackCount(); i++) {
+                MediaFormat format = extractor.getTrackFormat(i);
+                String mime = format.getString(MediaFormat.KEY_MIME);
+                if (mime != null && mime.startsWith("audio/")) {
+                    extractor.selectTrack(i);
+                    return new Clip(extractor, format);
+                }
+            }
+            extractor.release();
+            throw new IOException("No audio in " + path);
+        }
+
+        void release() {
+            extractor.release();
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.nava.samiyuri.onboarding;
+
+import android.view.LayoutInflater;
+import android.view.View;
+import android.view.ViewGroup;
+
+import com.nava.samiyuri.LanguagePreferences;
+import com.nava.samiyuri.databinding.ScreenLanguageSelectionBinding;
+import com.nava.samiyuri.device.DevicePerformance;
+
+/**
+ * LanguageSelectionScreen - Where children (with their parents) choose their language.
+ * <p>
+ * The selection is crucial for creating an inclusive, accessible experience that
+ * honors the linguistic diversity of Peru and ensures children can learn in their
+ * native or preferred language.
+ * <p>
+ * Key Features:
+ * - Support for 5 languages: English, Spanish, Quechua, Aymara, and Ashaninka
+ * - Persistent language preference storage via {@link LanguagePreferences}
+ * - Immediate locale application; the next screen already renders in the new language
+ * - Child-friendly interface with large, colorful buttons
+ *
+ * @author Neriou
+ * @version 1.0
+ * @since 2025-07-06
+ */
+final class LanguageSelectionScreen extends OnboardingScreen {
+
+    private ScreenLanguageSelectionBinding binding;
+
+    @Override
+    protected View onCreateView(LayoutInflater inflater, ViewGroup container) {
+        binding = ScreenLanguageSelectionBinding.inflate(inflater, container, false);
+
+        // Set up click listeners for all language selection buttons
+        setupLanguageSelectionListeners();
+
+        // Add visual press feedback to enhance tactile experience
+        addPressAnimation(binding.buttonLanguageEnglish);
+        addPressAnimation(binding.buttonLanguageSpanish);
+        addPressAnimation(binding.buttonLanguageQuechua);
+        addPressAnimation(binding.buttonLanguageAymara);
+        addPressAnimation(binding.buttonLanguageAshaninka);
+
+        return binding.getRoot();
+    }
+
+    /**
+     * Sets up click listeners for all language selection buttons.
+     * <p>
+     * Each button triggers the language selection process with the appropriate
+     * locale code (see {@link LanguagePreferences} for the supported codes).
+     */
+    private void setupLanguageSelectionListeners() {
+
+        // English selection - International standard language
+        binding.buttonLanguageEnglish.setOnClickListener(v ->
+                selectLanguageAndProceed("en"));
+
+        // Spanish selection - Primary official language of Peru
+        binding.buttonLanguageSpanish.setOnClickListener(v ->
+                selectLanguageAndProceed("es"));
+
+        // Quechua selection - Indigenous language family of the Andes
+        // Most widely spoken indigenous language in Peru
+        binding.buttonLanguageQuechua.setOnClickListener(v ->
+                selectLanguageAndProceed("qu"));
+
+        // Aymara selection - Indigenous language of the Altiplano region
+        // Spoken primarily in southern Peru, Bolivia, and northern Chile
+        binding.buttonLanguageAymara.setOnClickListener(v ->
+                selectLanguageAndProceed("ay"));
+
+        // Ashaninka selection - Indigenous language of the Amazon region
+        // Note: May fallback to Spanish on devices without full Ashaninka support
+        binding.buttonLanguageAshaninka.setOnClickListener(v ->
+                selectLanguageAndProceed("cni"));
+    }
+
+    /**
+     * Applies the selected language and moves on to the story.
+     * <p>
+     * The language change takes effect immediately, so the story screen is
+     * inflated in the new language without restarting anything.
+     *
+     * @param languageCode The ISO language code (e.g., "en", "es", "qu")
+     */
+    private void selectLanguageAndProceed(String languageCode) {
+        LanguagePreferences.apply(host, languageCode);
+        LanguagePreferences.save(host, languageCode);
+        host.advanceTo(OnboardingStep.STORY);
+    }
+
+    /**
+     * Applies press animation effect to a specific view.
+     * <p>
+     * The animation parameters are optimized for:
+     * - Quick response time (100ms duration)
+     * - Subtle effect (95% scale) that's noticeable but not jarring
+     * - Smooth performance on low-specification devices, which skip it entirely
+     *
+     * @param view The view to apply the press animation effect to
+     */
+    private void addPressAnimation(View view) {
+        if (!DevicePerformance.getTier().hasPressFeedback()) {
+            return;
+        }
+        view.setOnTouchListener((v, event) -> {
+            switch (event.getAction()) {
+                case android.view.MotionEvent.ACTION_DOWN:
+                    // Scale down slightly when pressed for immediate feedback
+                    v.animate().scaleX(0.95f).scaleY(0.95f).setDuration(100);
+                    break;
+                case android.view.MotionEvent.ACTION_UP:
+                case android.view.MotionEvent.ACTION_CANCEL:
+                    // Scale back to normal when released
+                    v.animate().scaleX(1.0f).scaleY(1.0f).setDuration(100);
+                    break;
+            }
+
+            // Return false to allow other touch events (like onClick) to proceed
+            return false;
+        });
+    }
+
+    @Override
+    protected void onDestroyView() {
+        binding = null;
+        super.onDestroyView();
+    }
+}
@@ -0,0 +1,156 @@
+package com.nava.samiyuri.onboarding;
+
+import android.text.Editable;
+import android.text.TextWatcher;
+import android.view.LayoutInflater;
+import android.view.View;
+import android.view.ViewGroup;
+import android.widget.EditText;
+import android.widget.Toast;
+
+import com.nava.samiyuri.MainScreenPrewarmer;
+import com.nava.samiyuri.R;
+import com.nava.samiyuri.databinding.ScreenNamingCeremonyBinding;
+import com.nava.samiyuri.garden.PlantRecord;
+import com.nava.samiyuri.names.NameBlocklist;
+import com.nava.samiyuri.names.NameValidator;
+import com.nava.samiyuri.storage.GardenStore;
+
+/**
+ * NamingCeremonyScreen - Name your plant buddies.
+ * <p>
+ * Names are checked with {@link NameValidator} while they are typed, so the
+ * child sees what to change next to the field instead of after pressing start.
+ * Starting waits for the name blocklist and is refused if it cannot be read, so
+ * a name is never accepted without being screened.
+ *
+ * @author Neriou
+ * @version 1.0
+ * @since 2025-07-06
+ */
+final class NamingCeremonyScreen extends OnboardingScreen {
+
+    private ScreenNamingCeremonyBinding binding;
+
+    @Override
+    protected View onCreateView(LayoutInflater inflater, ViewGroup container) {
+        binding = ScreenNamingCeremonyBinding.inflate(inflater, container, false);
+
+        validateWhileTyping(binding.editTextRadishName);
+        validateWhileTyping(binding.editTextLettuceName);
+
+        binding.buttonStartAdventure.setOnClickListener(v -> {
+            String radishName = binding.editTextRadishName.getText().toString().trim();
+            String lettuceName = binding.editTextLettuceName.getText().toString().trim();
+
+            if (radishName.isEmpty() || lettuceName.isEmpty()) {
+                Toast.makeText(host, R.string.name_error_empty, Toast.LENGTH_SHORT).show();
+                return;
+            }
+
+            // Normally loaded long ago; the button stays disabled in the rare case it is not
+            binding.buttonStartAdventure.setEnabled(false);
+            NameBlocklist.whenLoaded(host, blocklist -> {
+                if (binding == null) {
+                    return;
+                }
+                binding.buttonStartAdventure.setEnabled(true);
+                if (blocklist == null) {
+                    Toast.makeText(host, R.string.name_error_unavailable, Toast.LENGTH_LONG).show();
+                    return;
+                }
+                startAdventure(radishName, lettuceName, blocklist);
+            });
+        });
+
+        return binding.getRoot();
+    }
+
+    /**
+     * Saves both names and finishes onboarding, unless a field still has a problem.
+     */
+    private void startAdventure(String radishName, String lettuceName, NameBlocklist blocklist) {
+        // Both fields show their problem, if any; bottom first so focus ends on the top one
+        boolean lettuceRejected = showError(binding.editTextLettuceName, blocklist);
+        boolean radishRejected = showError(binding.editTextRadishName, blocklist);
+        if (radishRejected || lettuceRejected) {
+            return;
+        }
+        // Persist the names; the write happens on the garden store's I/O thread
+        GardenStore gardenStore = GardenStore.getInstance(host);
+        gardenStore.nameBuddy(GardenStore.STARTER_RADISH_ID, PlantRecord.SPECIES_RADISH, radishName);
+        gardenStore.nameBuddy(GardenStore.STARTER_LETTUCE_ID, PlantRecord.SPECIES_LETTUCE, lettuceName);
+
+        host.completeOnboarding(radishName, lettuceName);
+    }
+
+    /**
+     * Re-validates a name field on every keystroke.
+     */
+    private void validateWhileTyping(EditText field) {
+        field.addTextChangedListener(new TextWatcher() {
+            @Override
+            public void beforeTextChanged(CharSequence s, int start, int count, int after) {
+                // Not used
+            }
+
+            @Override
+            public void onTextChanged(CharSequence s, int start, int before, int count) {
+                // Not used
+            }
+
+            @Override
+            public void afterTextChanged(Editable s) {
+                field.setError(errorMessage(NameValidator.validate(s, NameBlocklist.getIfLoaded())));
+            }
+        });
+    }
+
+    /**
+     * Shows the field's validation error, if any, and focuses it.
+     *
+     * @return true if the name cannot be accepted
+     */
+    private boolean showError(EditText field, NameBlocklist blocklist) {
+        String message = errorMessage(NameValidator.validate(field.getText(), blocklist));
+        field.setError(message);
+        if (message == null) {
+            return false;
+        }
+        field.requestFocus();
+        return true;
+    }
+
+    /**
+     * Returns the message for a validation result.
+     *
+     * @return The localized message, or null if there is nothing to show yet
+     */
+    private String errorMessage(NameValidator.Result result) {
+        switch (result) {
+            case TOO_LONG:
+                return host.getString(R.string.name_error_too_long, NameValidator.MAX_LENGTH);
+            case INVALID_CHARACTER:
+                return host.getString(R.string.name_error_characters);
+            case NO_LETTERS:
+                return host.getString(R.string.name_error_no_letters);
+            case BLOCKED:
+                return host.getString(R.string.name_error_blocked);
+            default:
+                // An empty field is only an error once the child tries to start
+                return null;
+        }
+    }
+
+    @Override
+    protected void onShown() {
+        // Returning here after a configuration change restarts the pre-warm
+        MainScreenPrewarmer.start(host);
+    }
+
+    @Override
+    protected void onDestroyView() {
+        binding = null;
+        super.onDestroyView();
+    }
+}
@@ -0,0 +1,215 @@
+package com.nava.samiyuri.onboarding;
+
+import android.content.Intent;
+import android.os.Build;
+import android.os.Bundle;
+import android.view.View;
+import android.view.animation.Animation;
+import android.view.animation.AnimationUtils;
+
+import androidx.appcompat.app.AppCompatActivity;
+
+import com.nava.samiyuri.LanguagePreferences;
+import com.nava.samiyuri.MainActivity;
+import com.nava.samiyuri.MainScreenPrewarmer;
+import com.nava.samiyuri.R;
+import com.nava.samiyuri.databinding.ActivityOnboardingBinding;
+import com.nava.samiyuri.device.DevicePerformance;
+import com.nava.samiyuri.device.DeviceTier;
+import com.nava.samiyuri.narration.NarrationPlayer;
+import com.nava.samiyuri.snapshot.LaunchSnapshot;
+import com.nava.samiyuri.snapshot.LaunchSnapshotStore;
+
+/**
+ * OnboardingActivity - Single host for the whole onboarding flow.
+ * <p>
+ * Welcome, language selection, story and naming ceremony used to be four separate
+ * activities. Each hop paid for activity creation, window setup and a theme
+ * re-inflate, which is very visible on slow devices. They are now lightweight
+ * {@link OnboardingScreen}s swapped in place inside this one window, sharing the
+ * already-loaded theme, fonts and resources. A step transition costs a single
+ * layout inflation.
+ * <p>
+ * The current step survives configuration changes; a rotated device resumes
+ * where the child was instead of replaying the splash.
+ * <p>
+ * A returning child whose garden screen left a {@link LaunchSnapshot} skips the
+ * whole flow: the garden screen opens at once, showing the snapshot while it builds.
+ * The snapshot is decoded in the background; this activity shows nothing of its
+ * own until it is known whether there is one, and never waits for it on the main
+ * thread.
+ *
+ * @author Neriou
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class OnboardingActivity extends AppCompatActivity {
+
+    /**
+     * Saved-state key for the step being shown.
+     */
+    private static final String STATE_STEP = "onboarding_step";
+
+    private ActivityOnboardingBinding binding;
+    private OnboardingStep currentStep;
+    private OnboardingScreen currentScreen;
+    private View currentView;
+
+    /**
+     * Set once the garden screen has been launched and will claim the pre-warmed tree.
+     */
+    private boolean handingOff;
+
+    @Override
+    protected void onCreate(Bundle savedInstanceState) {
+        super.onCreate(savedInstanceState);
+        String savedLanguage = LanguagePreferences.getSaved(this);
+        if (savedInstanceState == null && savedLanguage != null && !savedLanguage.isEmpty()) {
+            // A returning child; the window background stays up until the snapshot is known
+            LaunchSnapshotStore.getInstance(this).loadForLaunch(snapshot -> {
+                if (isFinishing() || isDestroyed()) {
+                    return;
+                }
+                if (snapshot != null) {
+                    resumeFromSnapshot(snapshot, savedLanguage);
+                } else {
+                    showOnboarding(OnboardingStep.WELCOME);
+                }
+            });
+            return;
+        }
+
+        OnboardingStep step = OnboardingStep.WELCOME;
+        if (savedInstanceState != null) {
+            step = OnboardingStep.valueOf(
+                    savedInstanceState.getString(STATE_STEP, OnboardingStep.WELCOME.name()));
+        }
+
+        // Attach the first screen during onCreate so the framework restores its
+        // view state (e.g. half-typed buddy names) after a configuration change
+        showOnboarding(step);
+    }
+
+    /**
+     * Sets up the onboarding window and shows its first screen.
+     *
+     * @param step The step to start at
+     */
+    private void showOnboarding(OnboardingStep step) {
+        binding = ActivityOnboardingBinding.inflate(getLayoutInflater());
+        setContentView(binding.getRoot());
+        advanceTo(step);
+    }
+
+    /**
+     * Replaces the current screen with the screen for the given step.
+     *
+     * @param step The step to show
+     */
+    void advanceTo(OnboardingStep step) {
+        OnboardingScreen nextScreen = step.createScreen();
+        View nextView = nextScreen.create(this, getLayoutInflater(), binding.onboardingContainer);
+
+        if (currentScreen != null) {
+            currentScreen.onDestroyView();
+            binding.onboardingContainer.removeView(currentView);
+            // Low-end devices swap screens without the fade
+            DeviceTier tier = DevicePerformance.getTier();
+            if (tier.hasAnimations()) {
+                Animation fadeIn = AnimationUtils.loadAnimation(this, R.anim.fade_in);
+                fadeIn.scaleCurrentDuration(tier.getAnimationScale());
+                nextView.startAnimation(fadeIn);
+            }
+        }
+        binding.onboardingContainer.addView(nextView);
+
+        currentStep = step;
+        currentScreen = nextScreen;
+        currentView = nextView;
+        nextScreen.onShown();
+    }
+
+    /**
+     * Leaves onboarding for the garden screen.
+     *
+     * @param radishName The name given to the radish buddy
+     * @param lettuceName The name given to the lettuce buddy
+     */
+    void completeOnboarding(String radishName, String lettuceName) {
+        Intent intent = new Intent(this, MainActivity.class);
+        intent.putExtra("RADISH_NAME", radishName);
+        intent.putExtra("LETTUCE_NAME", lettuceName);
+        handingOff = true;
+        startActivity(intent);
+
+        // Finish so that back from the garden leaves the app instead of replaying onboarding
+        finish();
+    }
+
+    /**
+     * Sends a returning child straight back to their garden, as the launch
+     * snapshot left it.
+     *
+     * @param snapshot The garden screen's state when it was left
+     * @param savedLanguage The child's chosen language
+     */
+    private void resumeFromSnapshot(LaunchSnapshot snapshot, String savedLanguage) {
+        LanguagePreferences.apply(this, savedLanguage);
+
+        // Build the real garden screen in the background while the snapshot is shown
+        MainScreenPrewarmer.start(this);
+
+        Intent intent = new Intent(this, MainActivity.class);
+        intent.putExtra("RADISH_NAME", snapshot.getRadishName());
+        intent.putExtra("LETTUCE_NAME", snapshot.getLettuceName());
+        intent.putExtra(MainActivity.EXTRA_PLANT_INDEX, snapshot.getPlantIndex());
+        intent.putExtra(MainActivity.EXTRA_MOOD_INDEX, snapshot.getMoodIndex());
+        handingOff = true;
+        startActivity(intent);
+
+        // The snapshot is the garden as the child left it; no transition into it
+        disableOpenTransition();
+        finish();
+    }
+
+    @SuppressWarnings("deprecation")
+    private void disableOpenTransition() {
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.UPSIDE_DOWN_CAKE) {
+            overrideActivityTransition(OVERRIDE_TRANSITION_OPEN, 0, 0);
+        } else {
+            overridePendingTransition(0, 0);
+        }
+    }
+
+    @Override
+    protected void onStop() {
+        super.onStop();
+
+        // Never keep reading the story to a child who has left the app
+        NarrationPlayer.getInstance(this).stop();
+    }
+
+    @Override
+    protected void onSaveInstanceState(Bundle outState) {
+        super.onSaveInstanceState(outState);
+        if (currentStep != null) {
+            outState.putString(STATE_STEP, currentStep.name());
+        }
+    }
+
+    @Override
+    protected void onDestroy() {
+        super.onDestroy();
+        if (currentScreen != null) {
+            currentScreen.onDestroyView();
+            currentScreen = null;
+        }
+        currentView = null;
+        binding = null;
+
+        // A pre-warmed garden screen that will never be attached must not keep this activity alive
+        if (!handingOff) {
+            MainScreenPrewarmer.cancel(this);
+        }
+    }
+}
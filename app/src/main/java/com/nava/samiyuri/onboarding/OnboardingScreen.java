@@ -0,0 +1,61 @@
+package com.nava.samiyuri.onboarding;
+
+import android.view.LayoutInflater;
+import android.view.View;
+import android.view.ViewGroup;
+
+/**
+ * OnboardingScreen - A lightweight, in-place screen hosted by {@link OnboardingActivity}.
+ * <p>
+ * Screens are plain view controllers rather than activities or fragments. They
+ * inflate into the host's single window, share its theme, fonts and resources,
+ * and are swapped in place, so moving to the next step costs one layout
+ * inflation instead of a full activity launch.
+ * <p>
+ * Lifecycle: {@link #onCreateView} once, then {@link #onShown()} when the view is
+ * attached, then {@link #onDestroyView()} when the host moves on.
+ *
+ * @author Neriou
+ * @version 1.0
+ * @since 2026-10-18
+ */
+abstract class OnboardingScreen {
+
+    /**
+     * The hosting activity; valid from {@link #onCreateView} until {@link #onDestroyView()}.
+     */
+    protected OnboardingActivity host;
+
+    /**
+     * Attaches the screen to its host and builds its view.
+     */
+    final View create(OnboardingActivity host, LayoutInflater inflater, ViewGroup container) {
+        this.host = host;
+        return onCreateView(inflater, container);
+    }
+
+    /**
+     * Inflates and wires the screen's view.
+     *
+     * @param inflater The host's layout inflater
+     * @param container The container the view will be added to; do not attach to it
+     * @return The root view of the screen
+     */
+    protected abstract View onCreateView(LayoutInflater inflater, ViewGroup container);
+
+    /**
+     * Called once the screen's view is attached and visible.
+     */
+    protected void onShown() {
+        // Optional
+    }
+
+    /**
+     * Called when the host replaces this screen or is destroyed.
+     * <p>
+     * Screens must cancel pending callbacks and drop view references here.
+     */
+    protected void onDestroyView() {
+        host = null;
+    }
+}
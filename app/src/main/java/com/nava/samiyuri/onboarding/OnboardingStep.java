@@ -0,0 +1,53 @@
+package com.nava.samiyuri.onboarding;
+
+/**
+ * OnboardingStep - The screens a child passes through before reaching the garden.
+ * <p>
+ * Each step knows how to create its screen, which lets the host restore the
+ * current step after a configuration change without any per-screen bookkeeping.
+ *
+ * @author Neriou
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public enum OnboardingStep {
+
+    /** Splash screen with the app branding. */
+    WELCOME {
+        @Override
+        OnboardingScreen createScreen() {
+            return new WelcomeScreen();
+        }
+    },
+
+    /** Choose the app language (first launch only). */
+    LANGUAGE_SELECTION {
+        @Override
+        OnboardingScreen createScreen() {
+            return new LanguageSelectionScreen();
+        }
+    },
+
+    /** Introduction story and adventure setup. */
+    STORY {
+        @Override
+        OnboardingScreen createScreen() {
+            return new StoryScreen();
+        }
+    },
+
+    /** Name the plant buddies. */
+    NAMING_CEREMONY {
+        @Override
+        OnboardingScreen createScreen() {
+            return new NamingCeremonyScreen();
+        }
+    };
+
+    /**
+     * Creates a fresh screen for this step.
+     *
+     * @return A new, not yet attached screen
+     */
+    abstract OnboardingScreen createScreen();
+}
@@ -0,0 +1,161 @@
+package com.nava.samiyuri.onboarding;
+
+import android.content.Context;
+import android.os.Handler;
+import android.os.Looper;
+import android.util.Log;
+import android.view.LayoutInflater;
+import android.view.View;
+import android.view.ViewGroup;
+
+import com.nava.samiyuri.LanguagePreferences;
+import com.nava.samiyuri.MainScreenPrewarmer;
+import com.nava.samiyuri.R;
+import com.nava.samiyuri.databinding.ScreenStoryBinding;
+import com.nava.samiyuri.langpack.LanguagePackManager;
+import com.nava.samiyuri.narration.NarrationClips;
+import com.nava.samiyuri.narration.NarrationPlayer;
+import com.nava.samiyuri.story.StoryManifest;
+import com.nava.samiyuri.story.StoryPage;
+import com.nava.samiyuri.story.StoryPager;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * StoryScreen - Introduction story and adventure setup.
+ * <p>
+ * The story is read page by page from the manifest of the chosen language. The
+ * manifest is loaded off the main thread, since its language pack may still be
+ * mapping, and the first page is shown when it arrives. The next button turns
+ * the page, and on the last page moves on to the naming ceremony. Pages ahead
+ * are prepared by a {@link StoryPager} while the current one is read.
+ * <p>
+ * Each page is read aloud as it is shown, for children who cannot read yet;
+ * tapping the text reads it again.
+ *
+ * @author Neriou
+ * @version 1.0
+ * @since 2025-07-06
+ */
+final class StoryScreen extends OnboardingScreen {
+
+    private static final String TAG = "StoryScreen";
+
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+    private final ExecutorService loader = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "story-load");
+        thread.setPriority(Thread.NORM_PRIORITY - 1);
+        return thread;
+    });
+
+    private ScreenStoryBinding binding;
+
+    /** The loaded story and its pager; null until the manifest has been read. */
+    private List<StoryPage> pages;
+    private StoryPager pager;
+
+    /**
+     * Language the story text is shown in, which is the one it is narrated in;
+     * null for the placeholder, which has no narration.
+     */
+    private String storyLanguage;
+
+    @Override
+    protected View onCreateView(LayoutInflater inflater, ViewGroup container) {
+        binding = ScreenStoryBinding.inflate(inflater, container, false);
+
+        binding.buttonNext.setEnabled(false);
+        binding.buttonNext.setOnClickListener(v -> {
+            if (pager.hasNextPage()) {
+                showPage(pager.getCurrentPage() + 1);
+            } else {
+                host.advanceTo(OnboardingStep.NAMING_CEREMONY);
+            }
+        });
+        binding.storyText.setOnClickListener(v -> {
+            if (pager != null) {
+                narrate(pager.getCurrentPage());
+            }
+        });
+
+        loadStory();
+        return binding.getRoot();
+    }
+
+    @Override
+    protected void onShown() {
+        // Build the garden screen in the background while the story is being read
+        MainScreenPrewarmer.start(host);
+    }
+
+    @Override
+    protected void onDestroyView() {
+        NarrationPlayer.getInstance(host).stop();
+        loader.shutdownNow();
+        if (pager != null) {
+            pager.release();
+            pager = null;
+        }
+        pages = null;
+        binding = null;
+        super.onDestroyView();
+    }
+
+    /**
+     * Loads the story in the chosen language on a background thread, then shows
+     * it, or the one-page placeholder if no manifest can be read.
+     */
+    private void loadStory() {
+        String deviceLanguage = host.getResources().getConfiguration().getLocales().get(0).getLanguage();
+        Context appContext = host.getApplicationContext();
+        loader.execute(() -> {
+            String savedLanguage = LanguagePreferences.getSaved(appContext);
+            String languageCode = savedLanguage != null ? savedLanguage : deviceLanguage;
+            List<StoryPage> loaded = null;
+            String language = null;
+            try {
+                loaded = StoryManifest.load(appContext, languageCode);
+                language = LanguagePackManager.getInstance(appContext)
+                        .awaitEntryLanguage(languageCode, StoryManifest.PACK_ENTRY);
+            } catch (IOException e) {
+                Log.e(TAG, "Failed to load story", e);
+            }
+            List<StoryPage> story = loaded;
+            String narrationLanguage = language;
+            mainHandler.post(() -> showStory(story, narrationLanguage));
+        });
+    }
+
+    private void showStory(List<StoryPage> story, String language) {
+        if (binding == null) {
+            return; // The screen went away while the story was loading
+        }
+        if (story != null) {
+            pages = story;
+            storyLanguage = language;
+        } else {
+            pages = Collections.singletonList(new StoryPage("@drawable/ic_launcher_foreground",
+                    host.getString(R.string.story_placeholder_text)));
+            storyLanguage = null;
+        }
+        pager = new StoryPager(host, pages, binding.storyImage, binding.storyText);
+        showPage(0);
+        binding.buttonNext.setEnabled(true);
+    }
+
+    private void showPage(int index) {
+        pager.showPage(index);
+        narrate(index);
+    }
+
+    private void narrate(int index) {
+        if (storyLanguage != null) {
+            NarrationPlayer.getInstance(host).speak(storyLanguage,
+                    NarrationClips.forStoryPage(index, pages.get(index).getText()));
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.nava.samiyuri.onboarding;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.view.LayoutInflater;
+import android.view.View;
+import android.view.ViewGroup;
+
+import com.nava.samiyuri.LanguagePreferences;
+import com.nava.samiyuri.databinding.ScreenWelcomeBinding;
+
+/**
+ * WelcomeScreen - The first impression and gateway to the Samiyura garden adventure.
+ * <p>
+ * This screen serves as the app's splash screen and intelligent routing system.
+ * It performs essential startup tasks while presenting the app's branding to users.
+ * The screen determines the user's journey based on their previous interactions:
+ * first-time users are guided through language selection, while returning users
+ * proceed directly to the story.
+ * <p>
+ * Key Responsibilities:
+ * - Display app branding and create anticipation for the garden adventure
+ * - Check for existing language preferences from previous app usage
+ * - Apply saved language settings to ensure consistent user experience
+ * - Route users to appropriate next screen based on their setup status
+ *
+ * @author Neriou
+ * @version 1.0
+ * @since 2025-07-06
+ */
+final class WelcomeScreen extends OnboardingScreen {
+
+    /**
+     * Duration of the splash screen display in milliseconds.
+     * <p>
+     * The 2-second duration provides a comfortable pacing that feels
+     * intentional rather than sluggish, especially important for children
+     * who may have shorter attention spans.
+     */
+    private static final int SPLASH_DELAY = 2000; // 2 seconds
+
+    private final Handler handler = new Handler(Looper.getMainLooper());
+    private final Runnable navigateToNextScreen = this::navigateToNextScreen;
+
+    @Override
+    protected View onCreateView(LayoutInflater inflater, ViewGroup container) {
+        return ScreenWelcomeBinding.inflate(inflater, container, false).getRoot();
+    }
+
+    @Override
+    protected void onShown() {
+        // Check for existing language preference and apply it immediately
+        // This ensures the subsequent screens display in the user's preferred language
+        String savedLanguage = LanguagePreferences.getSaved(host);
+        if (savedLanguage != null && !savedLanguage.isEmpty()) {
+            LanguagePreferences.apply(host, savedLanguage);
+        }
+
+        // Use Handler with postDelayed to create a smooth, timed transition
+        // This approach is more efficient than Thread.sleep() and doesn't block the UI
+        handler.postDelayed(navigateToNextScreen, SPLASH_DELAY);
+    }
+
+    /**
+     * Determines and navigates to the appropriate next screen based on user setup status.
+     * <p>
+     * Navigation Logic:
+     * - First-time users: Directed to language selection for proper setup
+     * - Returning users: Skip directly to the story screen with their saved preferences
+     */
+    private void navigateToNextScreen() {
+        String savedLanguage = LanguagePreferences.getSaved(host);
+        if (savedLanguage == null || savedLanguage.isEmpty()) {
+            host.advanceTo(OnboardingStep.LANGUAGE_SELECTION);
+        } else {
+            host.advanceTo(OnboardingStep.STORY);
+        }
+    }
+
+    @Override
+    protected void onDestroyView() {
+        // Never navigate from a screen that is no longer shown
+        handler.removeCallbacks(navigateToNextScreen);
+        super.onDestroyView();
+    }
+}
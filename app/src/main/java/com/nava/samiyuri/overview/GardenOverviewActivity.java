@@ -0,0 +1,48 @@
+package com.nava.samiyuri.overview;
+
+import android.os.Bundle;
+
+import androidx.appcompat.app.AppCompatActivity;
+import androidx.core.graphics.Insets;
+import androidx.core.view.ViewCompat;
+import androidx.core.view.WindowInsetsCompat;
+
+import com.nava.samiyuri.databinding.ActivityGardenOverviewBinding;
+import com.nava.samiyuri.storage.GardenStore;
+
+/**
+ * GardenOverviewActivity - Every buddy of the garden on one screen.
+ * <p>
+ * Opened from the garden screen's title. The grid itself is drawn by
+ * {@link GardenOverviewView}; this activity only loads the buddies from the
+ * {@link GardenStore} once the garden has been read from disk.
+ *
+ * @author Neriou
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class GardenOverviewActivity extends AppCompatActivity {
+
+    private ActivityGardenOverviewBinding binding;
+
+    @Override
+    protected void onCreate(Bundle savedInstanceState) {
+        super.onCreate(savedInstanceState);
+        binding = ActivityGardenOverviewBinding.inflate(getLayoutInflater());
+        setContentView(binding.getRoot());
+
+        // Handle system window insets for modern Android edge-to-edge display
+        ViewCompat.setOnApplyWindowInsetsListener(binding.getRoot(), (v, insets) -> {
+            Insets systemBars = insets.getInsets(WindowInsetsCompat.Type.systemBars());
+            v.setPadding(systemBars.left, systemBars.top, systemBars.right, systemBars.bottom);
+            return insets;
+        });
+
+        GardenStore store = GardenStore.getInstance(this);
+        store.whenLoaded(() -> {
+            if (!isDestroyed()) {
+                binding.overviewGrid.setBuddies(store.getPlants());
+            }
+        });
+    }
+}
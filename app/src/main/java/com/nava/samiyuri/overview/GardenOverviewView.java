@@ -0,0 +1,234 @@
+package com.nava.samiyuri.overview;
+
+import android.content.Context;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.Paint;
+import android.graphics.Rect;
+import android.text.TextPaint;
+import android.text.TextUtils;
+import android.util.AttributeSet;
+import android.util.TypedValue;
+import android.view.GestureDetector;
+import android.view.MotionEvent;
+import android.view.View;
+import android.widget.OverScroller;
+
+import com.nava.samiyuri.R;
+import com.nava.samiyuri.garden.PlantRecord;
+import com.nava.samiyuri.text.FontPreloader;
+
+import java.util.List;
+
+/**
+ * GardenOverviewView - A scrolling grid showing every buddy at once.
+ * <p>
+ * A whole classroom garden can hold hundreds of buddies, so this view does not
+ * create a child view per buddy. It scrolls itself and, on each frame, draws only
+ * the rows on screen: every cell is one blit from the shared {@link SpriteAtlas}
+ * plus one line of text. A frame therefore costs the same with 10 or 500 buddies.
+ * <p>
+ * Key Features:
+ * - Column count adapts to the width, cells stay at least 96dp wide
+ * - Moods cycle like on the garden screen, offset per buddy so that the grid
+ *   does not change in lockstep
+ * - Names are ellipsized lazily, only for cells that have been on screen
+ *
+ * @author Neriou
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class GardenOverviewView extends View {
+
+    /**
+     * Time between automatic mood changes in milliseconds, as on the garden screen.
+     */
+    private static final long MOOD_CYCLE_INTERVAL = 3000;
+
+    private static final int MIN_CELL_WIDTH_DP = 96;
+    private static final int LABEL_HEIGHT_DP = 24;
+    private static final int CELL_GAP_DP = 8;
+    private static final int LABEL_TEXT_SIZE_SP = 14;
+
+    private final SpriteAtlas atlas;
+    private final OverviewGrid grid;
+    private final int gap;
+    private final Rect destination = new Rect();
+    private final Paint spritePaint = new Paint();
+    private final TextPaint labelPaint = new TextPaint(Paint.ANTI_ALIAS_FLAG);
+
+    private final OverScroller scroller;
+    private final GestureDetector gestures;
+
+    private long[] ids = new long[0];
+    private int[] speciesRows = new int[0];
+    private String[] names = new String[0];
+    private String[] labels = new String[0];
+    private int moodTick;
+
+    private final Runnable moodCyclingRunnable = new Runnable() {
+        @Override
+        public void run() {
+            moodTick++;
+            invalidate();
+            postDelayed(this, MOOD_CYCLE_INTERVAL);
+        }
+    };
+
+    public GardenOverviewView(Context context) {
+        this(context, null);
+    }
+
+    public GardenOverviewView(Context context, AttributeSet attrs) {
+        super(context, attrs);
+        atlas = SpriteAtlas.get(context);
+        gap = dp(CELL_GAP_DP);
+        grid = new OverviewGrid(dp(MIN_CELL_WIDTH_DP),
+                atlas.getCellSize() + gap + dp(LABEL_HEIGHT_DP));
+
+        labelPaint.setColor(Color.WHITE);
+        labelPaint.setTextAlign(Paint.Align.CENTER);
+        labelPaint.setTextSize(TypedValue.applyDimension(TypedValue.COMPLEX_UNIT_SP,
+                LABEL_TEXT_SIZE_SP, getResources().getDisplayMetrics()));
+        labelPaint.setTypeface(FontPreloader.getInstance(context).getTypeface(R.font.lmmono_font_family));
+
+        scroller = new OverScroller(context);
+        gestures = new GestureDetector(context, new GestureDetector.SimpleOnGestureListener() {
+            @Override
+            public boolean onDown(MotionEvent e) {
+                scroller.forceFinished(true);
+                return true;
+            }
+
+            @Override
+            public boolean onScroll(MotionEvent e1, MotionEvent e2, float distanceX, float distanceY) {
+                scrollTo(0, clampScroll(getScrollY() + Math.round(distanceY)));
+                return true;
+            }
+
+            @Override
+            public boolean onFling(MotionEvent e1, MotionEvent e2, float velocityX, float velocityY) {
+                scroller.fling(0, getScrollY(), 0, Math.round(-velocityY), 0, 0, 0, getMaxScroll());
+                postInvalidateOnAnimation();
+                return true;
+            }
+        });
+    }
+
+    /**
+     * Shows a new set of buddies.
+     *
+     * @param plants The buddies to show, in grid order
+     */
+    public void setBuddies(List<PlantRecord> plants) {
+        int count = plants.size();
+        ids = new long[count];
+        speciesRows = new int[count];
+        names = new String[count];
+        labels = new String[count];
+        for (int i = 0; i < count; i++) {
+            PlantRecord plant = plants.get(i);
+            ids[i] = plant.getId();
+            speciesRows[i] = SpriteAtlas.speciesIndex(plant.getSpecies());
+            names[i] = plant.getName();
+        }
+        grid.layout(getContentWidth(), count);
+        scrollTo(0, clampScroll(getScrollY()));
+        invalidate();
+    }
+
+    @Override
+    protected void onSizeChanged(int w, int h, int oldw, int oldh) {
+        super.onSizeChanged(w, h, oldw, oldh);
+        grid.layout(getContentWidth(), ids.length);
+
+        // Names were ellipsized for the old cell width
+        labels = new String[ids.length];
+        scrollTo(0, clampScroll(getScrollY()));
+    }
+
+    @Override
+    protected void onAttachedToWindow() {
+        super.onAttachedToWindow();
+        postDelayed(moodCyclingRunnable, MOOD_CYCLE_INTERVAL);
+    }
+
+    @Override
+    protected void onDetachedFromWindow() {
+        removeCallbacks(moodCyclingRunnable);
+        scroller.forceFinished(true);
+        super.onDetachedFromWindow();
+    }
+
+    @Override
+    public boolean onTouchEvent(MotionEvent event) {
+        return gestures.onTouchEvent(event) || super.onTouchEvent(event);
+    }
+
+    @Override
+    public void computeScroll() {
+        if (scroller.computeScrollOffset()) {
+            scrollTo(0, scroller.getCurrY());
+            postInvalidateOnAnimation();
+        }
+    }
+
+    @Override
+    protected int computeVerticalScrollRange() {
+        return grid.getHeight() + getPaddingTop() + getPaddingBottom();
+    }
+
+    @Override
+    protected void onDraw(Canvas canvas) {
+        super.onDraw(canvas);
+
+        // The canvas is already translated by the scroll offset; only rows
+        // intersecting the window are drawn
+        int top = getScrollY() - getPaddingTop();
+        int first = grid.firstVisible(top);
+        int end = grid.endVisible(top + getHeight());
+
+        int cellWidth = grid.getCellWidth();
+        int avatarSize = atlas.getCellSize();
+        float labelBaseline = avatarSize + gap - labelPaint.ascent();
+        for (int i = first; i < end; i++) {
+            int left = getPaddingLeft() + grid.getCellLeft(i);
+            int cellTop = getPaddingTop() + grid.getCellTop(i);
+
+            if (speciesRows[i] >= 0) {
+                int avatarLeft = left + (cellWidth - avatarSize) / 2;
+                destination.set(avatarLeft, cellTop, avatarLeft + avatarSize, cellTop + avatarSize);
+                atlas.draw(canvas, speciesRows[i], moodOf(i), destination, spritePaint);
+            }
+
+            if (labels[i] == null) {
+                labels[i] = TextUtils.ellipsize(names[i], labelPaint, cellWidth - gap,
+                        TextUtils.TruncateAt.END).toString();
+            }
+            canvas.drawText(labels[i], left + cellWidth / 2f, cellTop + labelBaseline, labelPaint);
+        }
+    }
+
+    /**
+     * Current mood of a cell, offset by the buddy's id.
+     */
+    private int moodOf(int position) {
+        return (int) ((moodTick + ids[position]) % SpriteAtlas.MOOD_COUNT);
+    }
+
+    private int getContentWidth() {
+        return Math.max(0, getWidth() - getPaddingLeft() - getPaddingRight());
+    }
+
+    private int getMaxScroll() {
+        return Math.max(0, computeVerticalScrollRange() - getHeight());
+    }
+
+    private int clampScroll(int scrollY) {
+        return Math.max(0, Math.min(scrollY, getMaxScroll()));
+    }
+
+    private int dp(int value) {
+        return Math.round(value * getResources().getDisplayMetrics().density);
+    }
+}
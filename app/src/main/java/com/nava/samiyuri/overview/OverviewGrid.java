@@ -0,0 +1,102 @@
+package com.nava.samiyuri.overview;
+
+/**
+ * OverviewGrid - Cell geometry of the garden overview.
+ * <p>
+ * Kept apart from the view so that the arithmetic deciding which cells are
+ * visible can be tested without a device. All values are in pixels.
+ *
+ * @author Neriou
+ * @version 1.0
+ * @since 2026-10-18
+ */
+final class OverviewGrid {
+
+    private final int minCellWidth;
+    private final int cellHeight;
+
+    private int itemCount;
+    private int columns = 1;
+    private int cellWidth;
+
+    /**
+     * @param minCellWidth Narrowest a cell may get; decides the column count
+     * @param cellHeight Height of every row
+     */
+    OverviewGrid(int minCellWidth, int cellHeight) {
+        if (minCellWidth <= 0 || cellHeight <= 0) {
+            throw new IllegalArgumentException("Cell size must be positive");
+        }
+        this.minCellWidth = minCellWidth;
+        this.cellHeight = cellHeight;
+        this.cellWidth = minCellWidth;
+    }
+
+    /**
+     * Lays out the grid for a width and an item count.
+     *
+     * @param width Available width
+     * @param itemCount Number of cells
+     */
+    void layout(int width, int itemCount) {
+        this.itemCount = itemCount;
+        columns = Math.max(1, width / minCellWidth);
+        cellWidth = Math.max(minCellWidth, width / columns);
+    }
+
+    int getColumns() {
+        return columns;
+    }
+
+    int getCellWidth() {
+        return cellWidth;
+    }
+
+    int getCellHeight() {
+        return cellHeight;
+    }
+
+    int getRows() {
+        return (itemCount + columns - 1) / columns;
+    }
+
+    /**
+     * Total height of the grid.
+     */
+    int getHeight() {
+        return getRows() * cellHeight;
+    }
+
+    int getCellLeft(int position) {
+        return (position % columns) * cellWidth;
+    }
+
+    int getCellTop(int position) {
+        return (position / columns) * cellHeight;
+    }
+
+    /**
+     * Returns the first cell that intersects a vertical range.
+     *
+     * @param top Top of the visible range
+     * @return The first visible position, clamped to the item count
+     */
+    int firstVisible(int top) {
+        int row = Math.max(0, top) / cellHeight;
+        return Math.min(itemCount, row * columns);
+    }
+
+    /**
+     * Returns the position after the last cell that intersects a vertical range.
+     *
+     * @param bottom Bottom of the visible range, exclusive
+     * @return The end position, clamped to the item count
+     */
+    int endVisible(int bottom) {
+        if (bottom <= 0) {
+            return 0;
+        }
+        int rows = (bottom + cellHeight - 1) / cellHeight;
+        return (int) Math.min(itemCount, (long) rows * columns);
+    }
+}
@@ -0,0 +1,201 @@
+package com.nava.samiyuri.overview;
+
+import android.content.Context;
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Paint;
+import android.graphics.Rect;
+import android.graphics.drawable.Drawable;
+import android.util.Log;
+
+import com.nava.samiyuri.BuildConfig;
+import com.nava.samiyuri.R;
+import com.nava.samiyuri.cache.CacheGovernor;
+import com.nava.samiyuri.cache.GovernedCache;
+import com.nava.samiyuri.garden.PlantRecord;
+
+/**
+ * SpriteAtlas - Every species × mood avatar rasterized once into a single bitmap.
+ * <p>
+ * The avatars are vector drawables. Drawing one is cheap, but drawing hundreds of
+ * them per frame means replaying hundreds of paths. The atlas rasterizes each
+ * species and mood exactly once per screen density, so a cell on screen is a
+ * plain sub-rectangle copy from one bitmap, and consecutive cells share the same
+ * texture on the GPU.
+ * <p>
+ * Key Features:
+ * - One source of truth for which drawable shows which species in which mood,
+ *   shared with the garden screen's mood cycling
+ * - Rows are species, columns are moods; cells are square
+ * - Atlases are kept in a low-priority governed cache, keyed by density, and are
+ *   rebuilt on demand after being trimmed
+ *
+ * @author Neriou
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class SpriteAtlas {
+
+    private static final String TAG = "SpriteAtlas";
+
+    public static final int MOOD_HAPPY = 0;
+    public static final int MOOD_SAD = 1;
+    public static final int MOOD_THIRSTY = 2;
+    public static final int MOOD_COUNT = 3;
+
+    /**
+     * Species with mood avatars, in atlas row order.
+     */
+    private static final String[] SPECIES = {
+            PlantRecord.SPECIES_RADISH,
+            PlantRecord.SPECIES_LETTUCE
+    };
+
+    /**
+     * Mood avatars per species, in atlas column order (happy, sad, thirsty).
+     */
+    private static final int[][] MOOD_DRAWABLES = {
+            {
+                    R.drawable.plant_radish_happy,
+                    R.drawable.plant_radish_sad,
+                    R.drawable.plant_radish_thirsty
+            },
+            {
+                    R.drawable.iceberg_lettuce_happy,
+                    R.drawable.iceberg_lettuce_sad,
+                    R.drawable.iceberg_lettuce_thirsty
+            }
+    };
+
+    /**
+     * Side of one atlas cell in dp, the size avatars are shown at in the overview,
+     * so blits there are 1:1 copies that need no filtering.
+     */
+    private static final int CELL_SIZE_DP = 72;
+
+    /**
+     * Empty margin around each avatar in its cell, in dp, so a scaled blit never
+     * bleeds a neighbour's edge in.
+     */
+    private static final int CELL_PADDING_DP = 2;
+
+    private static final GovernedCache<Integer, SpriteAtlas> ATLASES =
+            CacheGovernor.getInstance().register(GovernedCache.<Integer, SpriteAtlas>counting(
+                    "sprite-atlas", GovernedCache.Priority.LOW, 2));
+
+    private final Bitmap bitmap;
+    private final int cellSize;
+    private final Rect[] cells = new Rect[SPECIES.length * MOOD_COUNT];
+
+    private SpriteAtlas(Context context) {
+        float density = context.getResources().getDisplayMetrics().density;
+        cellSize = Math.round(CELL_SIZE_DP * density);
+        int padding = Math.round(CELL_PADDING_DP * density);
+
+        bitmap = Bitmap.createBitmap(cellSize * MOOD_COUNT, cellSize * SPECIES.length, Bitmap.Config.ARGB_8888);
+        Canvas canvas = new Canvas(bitmap);
+        for (int species = 0; species < SPECIES.length; species++) {
+            for (int mood = 0; mood < MOOD_COUNT; mood++) {
+                Rect cell = new Rect(mood * cellSize, species * cellSize,
+                        (mood + 1) * cellSize, (species + 1) * cellSize);
+                cells[species * MOOD_COUNT + mood] = cell;
+
+                Drawable drawable = context.getDrawable(MOOD_DRAWABLES[species][mood]);
+                if (drawable == null) {
+                    continue;
+                }
+                drawable.setBounds(fitCentered(drawable, cell, padding));
+                drawable.draw(canvas);
+            }
+        }
+        bitmap.prepareToDraw();
+    }
+
+    /**
+     * Returns the atlas for the context's screen density, building it if needed.
+     * <p>
+     * Building rasterizes six vector drawables; call it once when a screen is
+     * created, not per frame.
+     *
+     * @param context Context whose density the atlas is rasterized for
+     * @return The atlas
+     */
+    public static SpriteAtlas get(Context context) {
+        int densityDpi = context.getResources().getDisplayMetrics().densityDpi;
+        SpriteAtlas atlas = ATLASES.get(densityDpi);
+        if (atlas == null) {
+            long start = System.nanoTime();
+            atlas = new SpriteAtlas(context);
+            ATLASES.put(densityDpi, atlas);
+            if (BuildConfig.DEBUG) {
+                Log.d(TAG, "Built " + atlas.bitmap.getWidth() + "x" + atlas.bitmap.getHeight()
+                        + " atlas for " + densityDpi + " dpi in " + (System.nanoTime() - start) / 1000 + " µs");
+            }
+        }
+        return atlas;
+    }
+
+    /**
+     * Returns the mood avatars of a species.
+     *
+     * @param species A species identifier such as {@link PlantRecord#SPECIES_RADISH}
+     * @return Drawable resources indexed by mood, or null if the species has no moods
+     */
+    public static int[] getMoodDrawables(String species) {
+        int index = speciesIndex(species);
+        return index < 0 ? null : MOOD_DRAWABLES[index].clone();
+    }
+
+    /**
+     * Returns the atlas row of a species.
+     *
+     * @param species A species identifier
+     * @return The row, or -1 if the species has no moods
+     */
+    public static int speciesIndex(String species) {
+        for (int i = 0; i < SPECIES.length; i++) {
+            if (SPECIES[i].equals(species)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Side of one cell in pixels; blits at this size need no filtering.
+     */
+    public int getCellSize() {
+        return cellSize;
+    }
+
+    /**
+     * Copies one avatar from the atlas.
+     *
+     * @param canvas Destination canvas
+     * @param speciesIndex Atlas row from {@link #speciesIndex(String)}
+     * @param mood Mood column, e.g. {@link #MOOD_HAPPY}
+     * @param destination Where to draw, in canvas coordinates
+     * @param paint Paint for the blit; enable filtering when scaling
+     */
+    public void draw(Canvas canvas, int speciesIndex, int mood, Rect destination, Paint paint) {
+        canvas.drawBitmap(bitmap, cells[speciesIndex * MOOD_COUNT + mood], destination, paint);
+    }
+
+    /**
+     * Returns bounds that fit a drawable inside a cell, keeping its aspect ratio.
+     */
+    private static Rect fitCentered(Drawable drawable, Rect cell, int padding) {
+        int available = cell.width() - 2 * padding;
+        int width = drawable.getIntrinsicWidth();
+        int height = drawable.getIntrinsicHeight();
+        if (width <= 0 || height <= 0) {
+            width = height = available;
+        }
+        float scale = Math.min((float) available / width, (float) available / height);
+        int scaledWidth = Math.round(width * scale);
+        int scaledHeight = Math.round(height * scale);
+        int left = cell.left + (cell.width() - scaledWidth) / 2;
+        int top = cell.top + (cell.height() - scaledHeight) / 2;
+        return new Rect(left, top, left + scaledWidth, top + scaledHeight);
+    }
+}
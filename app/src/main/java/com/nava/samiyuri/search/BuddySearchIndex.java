@@ -0,0 +1,211 @@
+package com.nava.samiyuri.search;
+
+import com.nava.samiyuri.text.TextNormalizer;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * BuddySearchIndex - Prefix index over plant buddy names for jump-to-buddy search.
+ * <p>
+ * Once a garden holds dozens of buddies, stepping through them one at a time is
+ * too slow. This index answers "which buddies have a word starting with what the
+ * child has typed so far" with one walk down a trie, without looking at the plant
+ * list at all.
+ * <p>
+ * Key Features:
+ * - Names are folded with {@link TextNormalizer}: "Ñawi", "nawi", "Q'umir" and
+ *   "qumir" are found by the same keystrokes
+ * - Every word of a name is indexed, so "Don Rabanito" is found by "rab" too
+ * - Incremental: adding or renaming a buddy only touches the trie paths of its
+ *   old and new name
+ * - Several typed words must all match; the last one may be incomplete
+ * <p>
+ * Each trie node keeps the ids of all buddies with a word through it, so a query
+ * costs the length of the query plus the size of the result.
+ * <p>
+ * Not thread-safe; use from the main thread.
+ *
+ * @author Neriou
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class BuddySearchIndex {
+
+    private final Node root = new Node();
+
+    /**
+     * Normalized full name per indexed buddy, used for removal and ranking.
+     */
+    private final Map<Long, String> names = new HashMap<>();
+
+    /**
+     * Adds a buddy, or updates its name if it is already indexed.
+     *
+     * @param plantId The buddy's identifier
+     * @param name The buddy's display name
+     */
+    public void put(long plantId, String name) {
+        String normalized = TextNormalizer.normalize(name);
+        String previous = names.get(plantId);
+        if (normalized.equals(previous)) {
+            return;
+        }
+        if (previous != null) {
+            unindex(plantId, previous);
+        }
+        names.put(plantId, normalized);
+        for (String prefix : distinctWords(normalized)) {
+            Node node = root;
+            for (int i = 0; i < prefix.length(); i++) {
+                node = node.childOrCreate(prefix.charAt(i));
+                node.ids.add(plantId);
+            }
+        }
+    }
+
+    /**
+     * Removes a buddy from the index.
+     *
+     * @param plantId The buddy's identifier
+     */
+    public void remove(long plantId) {
+        String previous = names.remove(plantId);
+        if (previous != null) {
+            unindex(plantId, previous);
+        }
+    }
+
+    /**
+     * Returns the number of indexed buddies.
+     *
+     * @return Indexed buddy count
+     */
+    public int size() {
+        return names.size();
+    }
+
+    /**
+     * Finds buddies matching what the child has typed.
+     * <p>
+     * Results are ranked: names that start with the query first, then names with
+     * a later word that matches, each group alphabetically.
+     *
+     * @param query The text typed so far
+     * @param limit Maximum number of results
+     * @return Matching buddy ids, best first; empty for a blank query
+     */
+    public List<Long> search(String query, int limit) {
+        List<String> words = words(TextNormalizer.normalize(query));
+        if (words.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        // Intersect the id sets of each typed word, smallest first
+        List<Set<Long>> sets = new ArrayList<>();
+        for (String word : words) {
+            Node node = find(word);
+            if (node == null) {
+                return Collections.emptyList();
+            }
+            sets.add(node.ids);
+        }
+        Collections.sort(sets, (a, b) -> Integer.compare(a.size(), b.size()));
+        Set<Long> matches = new HashSet<>(sets.get(0));
+        for (int i = 1; i < sets.size(); i++) {
+            matches.retainAll(sets.get(i));
+        }
+
+        String leading = words.get(0);
+        List<Long> ranked = new ArrayList<>(matches);
+        Collections.sort(ranked, (a, b) -> {
+            String nameA = names.get(a);
+            String nameB = names.get(b);
+            boolean startsA = nameA.startsWith(leading);
+            boolean startsB = nameB.startsWith(leading);
+            if (startsA != startsB) {
+                return startsA ? -1 : 1;
+            }
+            int result = nameA.compareTo(nameB);
+            return result != 0 ? result : Long.compare(a, b);
+        });
+        return ranked.size() > limit ? new ArrayList<>(ranked.subList(0, limit)) : ranked;
+    }
+
+    private void unindex(long plantId, String normalized) {
+        for (String prefix : distinctWords(normalized)) {
+            Node node = root;
+            for (int i = 0; i < prefix.length() && node != null; i++) {
+                Node child = node.children.get(prefix.charAt(i));
+                if (child == null) {
+                    break;
+                }
+                child.ids.remove(plantId);
+                if (child.ids.isEmpty()) {
+                    // Nobody else passes through here; drop the whole branch
+                    node.children.remove(prefix.charAt(i));
+                    break;
+                }
+                node = child;
+            }
+        }
+    }
+
+    private Node find(String prefix) {
+        Node node = root;
+        for (int i = 0; i < prefix.length() && node != null; i++) {
+            node = node.children.get(prefix.charAt(i));
+        }
+        return node;
+    }
+
+    /**
+     * Returns the distinct words of a name; each word is indexed with all its prefixes.
+     */
+    private static Set<String> distinctWords(String normalized) {
+        return new LinkedHashSet<>(words(normalized));
+    }
+
+    private static List<String> words(String normalized) {
+        List<String> words = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i <= normalized.length(); i++) {
+            boolean wordChar = i < normalized.length() && TextNormalizer.isWordChar(normalized.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                words.add(normalized.substring(start, i));
+                start = -1;
+            }
+        }
+        return words;
+    }
+
+    /**
+     * Node - One character of the trie.
+     */
+    private static final class Node {
+
+        final Map<Character, Node> children = new HashMap<>(4);
+
+        /**
+         * Buddies with a word whose prefix ends at this node.
+         */
+        final Set<Long> ids = new HashSet<>(4);
+
+        Node childOrCreate(char c) {
+            Node child = children.get(c);
+            if (child == null) {
+                child = new Node();
+                children.put(c, child);
+            }
+            return child;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.nava.samiyuri.snapshot;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ * LaunchSnapshot - The minimal garden screen state needed to show it again at launch.
+ * <p>
+ * Together with a small picture of the screen, this is what the garden screen
+ * leaves behind when it goes to the background: the buddy names, which buddy was
+ * on the card and in which mood. On the next cold start a returning child sees
+ * that picture right away, and the live screen is rebuilt from this state so it
+ * matches the picture when it fades in.
+ * <p>
+ * The snapshot also records the configuration it was captured in. A picture taken
+ * in another language, orientation, screen size or theme, or by another build of
+ * the app, would not match the live screen and is never shown.
+ * <p>
+ * Instances are immutable.
+ *
+ * @author Neriou
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class LaunchSnapshot {
+
+    /** Record magic, the ASCII bytes "SMLS". */
+    static final int MAGIC = 0x534D4C53;
+
+    /** Current record version written by this build. */
+    static final int VERSION = 1;
+
+    private final String configurationKey;
+    private final String radishName;
+    private final String lettuceName;
+    private final int plantIndex;
+    private final int moodIndex;
+    private final long capturedAtMillis;
+
+    /**
+     * Creates a snapshot state.
+     *
+     * @param configurationKey Describes the configuration the picture was taken in
+     * @param radishName The radish buddy's name
+     * @param lettuceName The lettuce buddy's name
+     * @param plantIndex Carousel position of the buddy on the card
+     * @param moodIndex Mood shown on the card (0=happy, 1=sad, 2=thirsty)
+     * @param capturedAtMillis When the picture was taken
+     */
+    public LaunchSnapshot(String configurationKey, String radishName, String lettuceName,
+                          int plantIndex, int moodIndex, long capturedAtMillis) {
+        this.configurationKey = configurationKey;
+        this.radishName = radishName;
+        this.lettuceName = lettuceName;
+        this.plantIndex = plantIndex;
+        this.moodIndex = moodIndex;
+        this.capturedAtMillis = capturedAtMillis;
+    }
+
+    public String getConfigurationKey() {
+        return configurationKey;
+    }
+
+    public String getRadishName() {
+        return radishName;
+    }
+
+    public String getLettuceName() {
+        return lettuceName;
+    }
+
+    public int getPlantIndex() {
+        return plantIndex;
+    }
+
+    public int getMoodIndex() {
+        return moodIndex;
+    }
+
+    public long getCapturedAtMillis() {
+        return capturedAtMillis;
+    }
+
+    /**
+     * Writes this state as a versioned record.
+     *
+     * @param out The stream to write to
+     * @throws IOException If the stream cannot be written
+     */
+    void writeTo(DataOutputStream out) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeUTF(configurationKey);
+        out.writeUTF(radishName);
+        out.writeUTF(lettuceName);
+        out.writeInt(plantIndex);
+        out.writeInt(moodIndex);
+        out.writeLong(capturedAtMillis);
+    }
+
+    /**
+     * Reads a record written by {@link #writeTo(DataOutputStream)}.
+     *
+     * @param in The stream to read from
+     * @return The snapshot state
+     * @throws IOException If the record is truncated, or was not written by this version
+     */
+    static LaunchSnapshot readFrom(DataInputStream in) throws IOException {
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not a launch snapshot");
+        }
+        int version = in.readInt();
+        if (version != VERSION) {
+            throw new IOException("Unsupported launch snapshot version " + version);
+        }
+        String configurationKey = in.readUTF();
+        String radishName = in.readUTF();
+        String lettuceName = in.readUTF();
+        int plantIndex = in.readInt();
+        int moodIndex = in.readInt();
+        long capturedAtMillis = in.readLong();
+        if (plantIndex < 0 || moodIndex < 0) {
+            throw new IOException("Corrupt launch snapshot");
+        }
+        return new LaunchSnapshot(configurationKey, radishName, lettuceName,
+                plantIndex, moodIndex, capturedAtMillis);
+    }
+}
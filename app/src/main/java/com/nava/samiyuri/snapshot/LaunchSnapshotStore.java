@@ -0,0 +1,362 @@
+package com.nava.samiyuri.snapshot;
+
+import android.app.Activity;
+import android.content.Context;
+import android.content.pm.PackageManager;
+import android.content.res.Configuration;
+import android.graphics.Bitmap;
+import android.graphics.BitmapFactory;
+import android.graphics.Rect;
+import android.os.Handler;
+import android.os.Looper;
+import android.util.Log;
+import android.view.PixelCopy;
+import android.view.View;
+
+import androidx.annotation.MainThread;
+import androidx.annotation.Nullable;
+
+import com.nava.samiyuri.LanguagePreferences;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * LaunchSnapshotStore - Keeps the last picture of the garden screen for the next cold start.
+ * <p>
+ * A returning child used to sit through the splash, the story and the naming
+ * ceremony, and then wait for the garden screen to build, before seeing their
+ * buddy again. Now, whenever the garden screen goes to the background, a
+ * reduced-resolution copy of what it shows is saved together with its
+ * {@link LaunchSnapshot} state. The next launch shows that picture in the very
+ * first frame while the real screen is built behind it.
+ * <p>
+ * Key Features:
+ * - The screen is copied from the window surface with {@link PixelCopy}, which
+ *   also works for hardware bitmaps and never redraws the view tree
+ * - The picture is {@link #DOWNSCALE} times smaller than the screen and stored as
+ *   lossy WebP next to the state, in one file replaced atomically, so picture and
+ *   state can never come from different captures
+ * - The file is read and decoded on a background thread started with the
+ *   application, and is only offered at launch when it was captured in the
+ *   current configuration by the current build
+ * - The decoded picture is handed out once and then forgotten, so it costs no
+ *   memory after the launch it was meant for
+ * <p>
+ * Reads and writes run in order on one I/O thread, so a launch that follows a
+ * capture in the same process always sees the new file.
+ *
+ * @author Neriou
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class LaunchSnapshotStore {
+
+    private static final String TAG = "LaunchSnapshotStore";
+
+    private static final String FILE_NAME = "launch-snapshot.bin";
+
+    /** Factor by which the picture is smaller than the screen in each dimension. */
+    static final int DOWNSCALE = 3;
+
+    private static final int WEBP_QUALITY = 80;
+
+    /** Largest picture accepted when reading, a guard against a corrupt length. */
+    private static final int MAX_IMAGE_BYTES = 4 * 1024 * 1024;
+
+    /**
+     * Longest a launch waits for the snapshot before falling back to the splash.
+     * <p>
+     * The file is a few tens of kilobytes and normally decoded long before the
+     * first activity asks for it.
+     */
+    private static final long LAUNCH_WAIT_MILLIS = 300;
+
+    private static volatile LaunchSnapshotStore instance;
+
+    private final Context appContext;
+    private final File file;
+    private final ExecutorService ioExecutor;
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+
+    /**
+     * The read in progress or done, or null until the next {@link #preload()}.
+     * Guarded by {@code this}.
+     */
+    private Future<Loaded> pending;
+
+    private LaunchSnapshotStore(Context appContext) {
+        this.appContext = appContext;
+        this.file = new File(appContext.getFilesDir(), FILE_NAME);
+        this.ioExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "launch-snapshot");
+            thread.setPriority(Thread.NORM_PRIORITY - 1);
+            return thread;
+        });
+    }
+
+    /**
+     * Returns the process-wide launch snapshot store.
+     *
+     * @param context Any context; only the application context is used
+     * @return The shared instance
+     */
+    public static LaunchSnapshotStore getInstance(Context context) {
+        if (instance == null) {
+            synchronized (LaunchSnapshotStore.class) {
+                if (instance == null) {
+                    instance = new LaunchSnapshotStore(context.getApplicationContext());
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Starts reading and decoding the saved snapshot on the I/O thread.
+     * <p>
+     * Safe to call more than once; only the first call after a capture or a
+     * launch does any work.
+     */
+    public synchronized void preload() {
+        if (pending == null) {
+            pending = ioExecutor.submit(this::read);
+        }
+    }
+
+    /**
+     * Hands the snapshot to launch with to a callback on the main thread, without
+     * waiting for it there.
+     * <p>
+     * The callback runs once: with the snapshot as soon as it is decoded, or with
+     * null if there is none or it is not ready within {@link #LAUNCH_WAIT_MILLIS}.
+     *
+     * @param callback Receives the snapshot state, or null if there is no usable
+     *                 snapshot for this configuration or it is not ready in time
+     */
+    @MainThread
+    public void loadForLaunch(Consumer<LaunchSnapshot> callback) {
+        Future<Loaded> future;
+        synchronized (this) {
+            preload();
+            future = pending;
+        }
+        AtomicBoolean answered = new AtomicBoolean();
+        Runnable timeout = () -> {
+            if (answered.compareAndSet(false, true)) {
+                Log.d(TAG, "Launch snapshot not decoded in time, showing the splash");
+                callback.accept(null);
+            }
+        };
+        mainHandler.postDelayed(timeout, LAUNCH_WAIT_MILLIS);
+
+        // Queued behind the read on the same thread, so the future is done by now
+        ioExecutor.execute(() -> {
+            LaunchSnapshot snapshot = null;
+            try {
+                Loaded loaded = future.get();
+                snapshot = loaded != null ? loaded.snapshot : null;
+            } catch (ExecutionException e) {
+                Log.w(TAG, "Could not read the launch snapshot", e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            LaunchSnapshot result = snapshot;
+            mainHandler.post(() -> {
+                if (answered.compareAndSet(false, true)) {
+                    mainHandler.removeCallbacks(timeout);
+                    callback.accept(result);
+                }
+            });
+        });
+    }
+
+    /**
+     * Hands out the decoded picture for the launch that {@link #loadForLaunch(Consumer)} approved.
+     * <p>
+     * The store forgets the picture; a later launch reads the file again.
+     *
+     * @return The picture, or null if it is not decoded
+     */
+    @Nullable
+    public synchronized Bitmap takeImage() {
+        Future<Loaded> future = pending;
+        if (future == null || !future.isDone()) {
+            return null;
+        }
+        pending = null;
+        try {
+            Loaded loaded = future.get();
+            return loaded != null ? loaded.image : null;
+        } catch (ExecutionException | InterruptedException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Copies what a view shows and saves it with the screen state.
+     * <p>
+     * Must be called while the view's window is still visible, e.g. from
+     * {@code onPause()}. The copy is taken asynchronously and the file is written
+     * on the I/O thread; a copy that fails is silently dropped.
+     *
+     * @param activity The activity whose window shows the view
+     * @param content The view to capture, normally the screen's root
+     * @param radishName The radish buddy's name
+     * @param lettuceName The lettuce buddy's name
+     * @param plantIndex Carousel position of the buddy on the card
+     * @param moodIndex Mood shown on the card
+     */
+    @MainThread
+    public void capture(Activity activity, View content, String radishName, String lettuceName,
+                        int plantIndex, int moodIndex) {
+        int width = content.getWidth();
+        int height = content.getHeight();
+        if (width == 0 || height == 0 || !content.isAttachedToWindow()) {
+            return;
+        }
+
+        int[] location = new int[2];
+        content.getLocationInWindow(location);
+        Rect source = new Rect(location[0], location[1], location[0] + width, location[1] + height);
+        // PixelCopy scales the copy down to the size of the destination
+        Bitmap image = Bitmap.createBitmap(Math.max(1, width / DOWNSCALE),
+                Math.max(1, height / DOWNSCALE), Bitmap.Config.ARGB_8888);
+        long capturedAt = System.currentTimeMillis();
+
+        try {
+            PixelCopy.request(activity.getWindow(), source, image, result -> {
+                if (result != PixelCopy.SUCCESS) {
+                    Log.d(TAG, "Garden screen copy failed: " + result);
+                    image.recycle();
+                    return;
+                }
+                synchronized (this) {
+                    // The next launch must read what is written now
+                    pending = null;
+                }
+                ioExecutor.execute(() -> write(image,
+                        radishName, lettuceName, plantIndex, moodIndex, capturedAt));
+            }, mainHandler);
+        } catch (IllegalArgumentException e) {
+            // The window has already lost its surface
+            image.recycle();
+        }
+    }
+
+    private void write(Bitmap image, String radishName, String lettuceName,
+                       int plantIndex, int moodIndex, long capturedAt) {
+        LaunchSnapshot snapshot = new LaunchSnapshot(configurationKey(),
+                radishName, lettuceName, plantIndex, moodIndex, capturedAt);
+        ByteArrayOutputStream encoded = new ByteArrayOutputStream();
+        boolean compressed = image.compress(Bitmap.CompressFormat.WEBP_LOSSY, WEBP_QUALITY, encoded);
+        image.recycle();
+        if (!compressed) {
+            Log.w(TAG, "Could not encode the launch snapshot");
+            return;
+        }
+
+        File temp = new File(file.getPath() + ".tmp");
+        try {
+            try (FileOutputStream stream = new FileOutputStream(temp);
+                 DataOutputStream out = new DataOutputStream(new BufferedOutputStream(stream))) {
+                snapshot.writeTo(out);
+                out.writeInt(encoded.size());
+                encoded.writeTo(out);
+                out.flush();
+                stream.getFD().sync();
+            }
+            if (!temp.renameTo(file)) {
+                throw new IOException("Could not replace " + file);
+            }
+        } catch (IOException e) {
+            //noinspection ResultOfMethodCallIgnored
+            temp.delete();
+            Log.w(TAG, "Could not save the launch snapshot", e);
+        }
+    }
+
+    @Nullable
+    private Loaded read() {
+        if (!file.isFile()) {
+            return null;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            LaunchSnapshot snapshot = LaunchSnapshot.readFrom(in);
+            if (!snapshot.getConfigurationKey().equals(configurationKey())) {
+                Log.d(TAG, "Launch snapshot was captured in another configuration");
+                return null;
+            }
+            int length = in.readInt();
+            if (length <= 0 || length > MAX_IMAGE_BYTES) {
+                throw new IOException("Corrupt launch snapshot image length " + length);
+            }
+            byte[] bytes = new byte[length];
+            in.readFully(bytes);
+            Bitmap image = BitmapFactory.decodeByteArray(bytes, 0, length);
+            if (image == null) {
+                throw new IOException("Could not decode the launch snapshot image");
+            }
+            return new Loaded(snapshot, image);
+        } catch (IOException e) {
+            Log.w(TAG, "Discarding unreadable launch snapshot", e);
+            //noinspection ResultOfMethodCallIgnored
+            file.delete();
+            return null;
+        }
+    }
+
+    /**
+     * Describes everything that changes how the garden screen looks.
+     * <p>
+     * Computed from the application context on the I/O thread, both when saving
+     * and when reading, so the two are always comparable.
+     */
+    private String configurationKey() {
+        Configuration configuration = appContext.getResources().getConfiguration();
+        long installedAt;
+        try {
+            installedAt = appContext.getPackageManager()
+                    .getPackageInfo(appContext.getPackageName(), 0).lastUpdateTime;
+        } catch (PackageManager.NameNotFoundException e) {
+            installedAt = 0;
+        }
+        return String.format(Locale.ROOT, "%s/%d/%dx%d/%d/%d/%.2f/%d",
+                LanguagePreferences.getSaved(appContext),
+                configuration.orientation,
+                configuration.screenWidthDp,
+                configuration.screenHeightDp,
+                configuration.densityDpi,
+                configuration.uiMode & Configuration.UI_MODE_NIGHT_MASK,
+                configuration.fontScale,
+                installedAt);
+    }
+
+    /**
+     * Loaded - A decoded snapshot ready to be shown.
+     */
+    private static final class Loaded {
+
+        final LaunchSnapshot snapshot;
+        final Bitmap image;
+
+        Loaded(LaunchSnapshot snapshot, Bitmap image) {
+            this.snapshot = snapshot;
+            this.image = image;
+        }
+    }
+}
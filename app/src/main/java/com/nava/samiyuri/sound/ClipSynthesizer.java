@@ -0,0 +1,120 @@
+package com.nava.samiyuri.sound;
+
+/**
+ * ClipSynthesizer - Renders the sound effects as 16-bit mono PCM.
+ * <p>
+ * The effects are a few tenths of a second of simple tones, so they are
+ * synthesized at start-up instead of being shipped as compressed audio: nothing
+ * to decode, and the clips come out at the device's native output rate, so the
+ * audio path never has to resample them.
+ * <p>
+ * Every tone gets a short attack ramp and an exponential decay that reaches
+ * silence at its end, so clips start and stop without clicks. Peaks stay at
+ * {@link #PEAK} of full scale, which leaves headroom for several voices mixed
+ * together.
+ *
+ * @author Neriou
+ * @version 1.0
+ * @since 2026-10-18
+ */
+final class ClipSynthesizer {
+
+    /** Peak amplitude of a single clip, as a fraction of full scale. */
+    static final double PEAK = 0.3;
+
+    private static final double ATTACK_SECONDS = 0.003;
+
+    private ClipSynthesizer() {
+    }
+
+    /**
+     * Renders one effect.
+     *
+     * @param effect The effect to render
+     * @param sampleRate Output sample rate in Hz
+     * @return The clip's samples
+     */
+    static short[] render(SoundEffect effect, int sampleRate) {
+        switch (effect) {
+            case WATER: {
+                // Two droplets: short sine sweeps upwards, the second one higher
+                double[] out = new double[samples(0.26, sampleRate)];
+                sweep(out, sampleRate, 0.00, 0.10, 350, 950);
+                sweep(out, sampleRate, 0.13, 0.13, 500, 1300);
+                return toPcm(out);
+            }
+            case SUN: {
+                // C major arpeggio, each note ringing into the next
+                double[] out = new double[samples(0.42, sampleRate)];
+                tone(out, sampleRate, 0.00, 0.22, 1046.5, 1.0);
+                tone(out, sampleRate, 0.08, 0.22, 1318.5, 0.9);
+                tone(out, sampleRate, 0.16, 0.26, 1568.0, 0.8);
+                return toPcm(out);
+            }
+            case LAB: {
+                // "Hmm?" - a low tone answered by a higher one
+                double[] out = new double[samples(0.18, sampleRate)];
+                tone(out, sampleRate, 0.00, 0.08, 660, 1.0);
+                tone(out, sampleRate, 0.09, 0.09, 990, 1.0);
+                return toPcm(out);
+            }
+            case NAVIGATE:
+            default: {
+                double[] out = new double[samples(0.03, sampleRate)];
+                tone(out, sampleRate, 0.00, 0.03, 1400, 0.6);
+                return toPcm(out);
+            }
+        }
+    }
+
+    private static int samples(double seconds, int sampleRate) {
+        return (int) Math.ceil(seconds * sampleRate);
+    }
+
+    /**
+     * Adds a decaying sine tone.
+     */
+    private static void tone(double[] out, int sampleRate, double startSeconds, double seconds,
+                             double frequency, double level) {
+        sweep(out, sampleRate, startSeconds, seconds, frequency, frequency, level);
+    }
+
+    private static void sweep(double[] out, int sampleRate, double startSeconds, double seconds,
+                              double fromFrequency, double toFrequency) {
+        sweep(out, sampleRate, startSeconds, seconds, fromFrequency, toFrequency, 1.0);
+    }
+
+    /**
+     * Adds a decaying sine whose frequency glides linearly between two values.
+     */
+    private static void sweep(double[] out, int sampleRate, double startSeconds, double seconds,
+                              double fromFrequency, double toFrequency, double level) {
+        int start = (int) (startSeconds * sampleRate);
+        int length = Math.min(samples(seconds, sampleRate), out.length - start);
+        int attack = Math.max(1, samples(ATTACK_SECONDS, sampleRate));
+        double phase = 0;
+        for (int i = 0; i < length; i++) {
+            double progress = (double) i / length;
+            double frequency = fromFrequency + (toFrequency - fromFrequency) * progress;
+            phase += 2 * Math.PI * frequency / sampleRate;
+
+            // Fade in over the attack, then decay to silence at the end
+            double envelope = Math.min(1.0, (double) i / attack)
+                    * Math.exp(-5 * progress) * (1 - progress);
+            out[start + i] += level * envelope * Math.sin(phase);
+        }
+    }
+
+    private static short[] toPcm(double[] out) {
+        double max = 0;
+        for (double sample : out) {
+            max = Math.max(max, Math.abs(sample));
+        }
+        double scale = max > 0 ? PEAK * Short.MAX_VALUE / max : 0;
+        short[] pcm = new short[out.length];
+        for (int i = 0; i < out.length; i++) {
+            pcm[i] = (short) Math.round(out[i] * scale);
+        }
+        return pcm;
+    }
+}
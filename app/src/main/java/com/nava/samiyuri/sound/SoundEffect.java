@@ -0,0 +1,23 @@
+package com.nava.samiyuri.sound;
+
+/**
+ * SoundEffect - The short sounds that answer a child's taps.
+ *
+ * @author Neriou
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public enum SoundEffect {
+
+    /** Two rising droplets, for watering a buddy. */
+    WATER,
+
+    /** A bright three-note chime, for giving sunlight. */
+    SUN,
+
+    /** A curious two-tone bleep, for the lab check. */
+    LAB,
+
+    /** A soft tick, for pressing arrows, the menu and other navigation. */
+    NAVIGATE
+}
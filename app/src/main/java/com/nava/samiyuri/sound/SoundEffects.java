@@ -0,0 +1,236 @@
+package com.nava.samiyuri.sound;
+
+import android.content.Context;
+import android.media.AudioAttributes;
+import android.media.AudioFormat;
+import android.media.AudioManager;
+import android.media.AudioTrack;
+import android.os.Process;
+import android.util.Log;
+
+/**
+ * SoundEffects - Plays the care and navigation sounds with as little delay as possible.
+ * <p>
+ * Young children connect a sound with their tap only if it comes right away. A
+ * player per sound, or a clip decoded on demand, easily takes longer than a frame
+ * to start. Here every clip is rendered to PCM once at start-up, and one audio
+ * thread keeps a low-latency stream open while the garden screen is visible, so
+ * playing a sound only hands a clip to the mixer.
+ * <p>
+ * Key Features:
+ * - Clips are synthesized at the device's native output rate, so the stream can
+ *   take the platform's fast mixer path without resampling
+ * - One {@link AudioTrack} in low-latency performance mode, its buffer trimmed to
+ *   two bursts, fed by a thread at urgent audio priority
+ * - A fixed pool of {@link #VOICES} voices mixes simultaneous taps; no player is
+ *   ever created per sound
+ * - The stream keeps playing silence between sounds; it is never paused while open
+ * <p>
+ * Keeping the stream running is a deliberate trade-off. Restarting a paused
+ * low-latency track costs tens of milliseconds before the first sample is heard,
+ * exactly the delay this class exists to avoid, so pausing after a quiet spell
+ * would make the first tap after it lag. The price is one audio thread wake-up
+ * per burst for as long as the garden screen is visible. Like the light sensor,
+ * the stream only runs between {@link #start()} and {@link #stop()}, which the
+ * garden screen calls when it becomes visible and hidden, so a hidden garden costs
+ * nothing. {@link #play(SoundEffect)} may be called from any thread.
+ *
+ * @author Neriou
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class SoundEffects {
+
+    private static final String TAG = "SoundEffects";
+
+    /** Number of sounds that can be heard at once. */
+    static final int VOICES = 4;
+
+    private static final int DEFAULT_SAMPLE_RATE = 48000;
+    private static final int DEFAULT_FRAMES_PER_BURST = 256;
+
+    private static volatile SoundEffects instance;
+
+    private final int sampleRate;
+    private final int framesPerBurst;
+    private final VoiceMixer mixer = new VoiceMixer(VOICES);
+
+    /**
+     * Rendered clips indexed by effect ordinal; null until {@link #preload()} finishes.
+     */
+    private volatile short[][] clips;
+    private boolean preloadStarted;
+
+    /**
+     * The thread feeding the current stream; a thread that finds it has been
+     * replaced releases its track and exits.
+     */
+    private Thread audioThread;
+
+    private SoundEffects(Context context) {
+        AudioManager audioManager = (AudioManager) context.getApplicationContext()
+                .getSystemService(Context.AUDIO_SERVICE);
+        sampleRate = readProperty(audioManager, AudioManager.PROPERTY_OUTPUT_SAMPLE_RATE, DEFAULT_SAMPLE_RATE);
+        framesPerBurst = readProperty(audioManager,
+                AudioManager.PROPERTY_OUTPUT_FRAMES_PER_BUFFER, DEFAULT_FRAMES_PER_BURST);
+    }
+
+    /**
+     * Returns the process-wide sound effects player.
+     *
+     * @param context Any context; only the application context is used
+     * @return The shared instance
+     */
+    public static SoundEffects getInstance(Context context) {
+        if (instance == null) {
+            synchronized (SoundEffects.class) {
+                if (instance == null) {
+                    instance = new SoundEffects(context);
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Renders every clip on a background thread.
+     * <p>
+     * Safe to call more than once; only the first call does any work.
+     */
+    public synchronized void preload() {
+        if (preloadStarted) {
+            return;
+        }
+        preloadStarted = true;
+        Thread loader = new Thread(() -> {
+            SoundEffect[] effects = SoundEffect.values();
+            short[][] rendered = new short[effects.length][];
+            for (SoundEffect effect : effects) {
+                rendered[effect.ordinal()] = ClipSynthesizer.render(effect, sampleRate);
+            }
+            clips = rendered;
+        }, "sound-preload");
+        loader.setPriority(Thread.NORM_PRIORITY - 1);
+        loader.start();
+    }
+
+    /**
+     * Opens the audio stream. Safe to call when already started.
+     */
+    public synchronized void start() {
+        if (audioThread != null) {
+            return;
+        }
+        audioThread = new Thread(this::runStream, "sound-effects");
+        audioThread.start();
+    }
+
+    /**
+     * Closes the audio stream; sounds played until the next {@link #start()} are dropped.
+     */
+    public synchronized void stop() {
+        audioThread = null;
+    }
+
+    /**
+     * Plays a sound effect right away.
+     * <p>
+     * Does nothing while the clips are still being rendered or the stream is closed.
+     *
+     * @param effect The sound to play
+     */
+    public void play(SoundEffect effect) {
+        short[][] rendered = clips;
+        if (rendered == null) {
+            return;
+        }
+        synchronized (this) {
+            if (audioThread == null) {
+                return;
+            }
+        }
+        mixer.trigger(rendered[effect.ordinal()]);
+    }
+
+    private void runStream() {
+        Process.setThreadPriority(Process.THREAD_PRIORITY_URGENT_AUDIO);
+        Thread self = Thread.currentThread();
+
+        AudioTrack track;
+        try {
+            track = createTrack();
+        } catch (UnsupportedOperationException | IllegalArgumentException e) {
+            Log.e(TAG, "Cannot open the sound effects stream", e);
+            synchronized (this) {
+                if (audioThread == self) {
+                    audioThread = null;
+                }
+            }
+            return;
+        }
+
+        short[] buffer = new short[framesPerBurst];
+        try {
+            track.play();
+            while (true) {
+                synchronized (this) {
+                    if (audioThread != self) {
+                        break;
+                    }
+                }
+                // Silence is written too, so the next sound starts without a play() delay
+                mixer.mix(buffer, framesPerBurst);
+
+                // Blocks until the stream has room, which paces this loop
+                int written = track.write(buffer, 0, framesPerBurst);
+                if (written < 0) {
+                    Log.w(TAG, "Sound effects stream failed: " + written);
+                    break;
+                }
+            }
+        } finally {
+            track.release();
+            synchronized (this) {
+                if (audioThread == self) {
+                    audioThread = null;
+                }
+            }
+        }
+    }
+
+    private AudioTrack createTrack() {
+        int minBufferBytes = AudioTrack.getMinBufferSize(sampleRate,
+                AudioFormat.CHANNEL_OUT_MONO, AudioFormat.ENCODING_PCM_16BIT);
+        AudioTrack track = new AudioTrack.Builder()
+                .setAudioAttributes(new AudioAttributes.Builder()
+                        .setUsage(AudioAttributes.USAGE_GAME)
+                        .setContentType(AudioAttributes.CONTENT_TYPE_SONIFICATION)
+                        .build())
+                .setAudioFormat(new AudioFormat.Builder()
+                        .setEncoding(AudioFormat.ENCODING_PCM_16BIT)
+                        .setSampleRate(sampleRate)
+                        .setChannelMask(AudioFormat.CHANNEL_OUT_MONO)
+                        .build())
+                .setPerformanceMode(AudioTrack.PERFORMANCE_MODE_LOW_LATENCY)
+                .setTransferMode(AudioTrack.MODE_STREAM)
+                .setBufferSizeInBytes(Math.max(minBufferBytes, framesPerBurst * 2 * 2))
+                .build();
+
+        // Two bursts: one playing, one being written; any more only adds delay
+        track.setBufferSizeInFrames(framesPerBurst * 2);
+        return track;
+    }
+
+    private static int readProperty(AudioManager audioManager, String property, int fallback) {
+        String value = audioManager != null ? audioManager.getProperty(property) : null;
+        if (value == null) {
+            return fallback;
+        }
+        try {
+            int parsed = Integer.parseInt(value);
+            return parsed > 0 ? parsed : fallback;
+        } catch (NumberFormatException e) {
+            return fallback;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.nava.samiyuri.sound;
+
+import java.util.Arrays;
+
+/**
+ * VoiceMixer - Mixes up to a fixed number of clips into one output stream.
+ * <p>
+ * Each voice is just a reference to a preloaded clip and a read position, so
+ * starting a sound allocates nothing. When every voice is busy, a new clip takes
+ * over the voice that started longest ago: it is the closest to its end and the
+ * least missed.
+ * <p>
+ * Thread-safe: clips are triggered from the UI thread and mixed on the audio
+ * thread. Both hold the lock only for a few microseconds.
+ *
+ * @author Neriou
+ * @version 1.0
+ * @since 2026-10-18
+ */
+final class VoiceMixer {
+
+    private final short[][] clips;
+    private final int[] positions;
+    private final long[] startOrder;
+    private long triggers;
+    private int[] accumulator = new int[0];
+
+    /**
+     * Creates a mixer.
+     *
+     * @param voices Maximum number of clips audible at once
+     */
+    VoiceMixer(int voices) {
+        clips = new short[voices][];
+        positions = new int[voices];
+        startOrder = new long[voices];
+    }
+
+    /**
+     * Starts playing a clip on a free voice, or on the oldest one if all are busy.
+     *
+     * @param clip The clip's samples
+     */
+    synchronized void trigger(short[] clip) {
+        int voice = 0;
+        for (int i = 0; i < clips.length; i++) {
+            if (clips[i] == null) {
+                voice = i;
+                break;
+            }
+            if (startOrder[i] < startOrder[voice]) {
+                voice = i;
+            }
+        }
+        clips[voice] = clip;
+        positions[voice] = 0;
+        startOrder[voice] = ++triggers;
+    }
+
+    /**
+     * Returns whether no clip is playing.
+     *
+     * @return true if the next mix would be silent
+     */
+    synchronized boolean isIdle() {
+        for (short[] clip : clips) {
+            if (clip != null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Mixes the next frames of every playing clip, clamping to the 16-bit range.
+     *
+     * @param out Receives the mixed samples; written even when silent
+     * @param frames Number of frames to mix
+     */
+    synchronized void mix(short[] out, int frames) {
+        if (accumulator.length < frames) {
+            accumulator = new int[frames];
+        }
+        int[] sum = accumulator;
+        Arrays.fill(sum, 0, frames, 0);
+
+        for (int voice = 0; voice < clips.length; voice++) {
+            short[] clip = clips[voice];
+            if (clip == null) {
+                continue;
+            }
+            int position = positions[voice];
+            int count = Math.min(frames, clip.length - position);
+            for (int i = 0; i < count; i++) {
+                sum[i] += clip[position + i];
+            }
+            position += count;
+            if (position >= clip.length) {
+                clips[voice] = null;
+            }
+            positions[voice] = position;
+        }
+
+        for (int i = 0; i < frames; i++) {
+            int sample = sum[i];
+            out[i] = (short) (sample > Short.MAX_VALUE ? Short.MAX_VALUE
+                    : sample < Short.MIN_VALUE ? Short.MIN_VALUE : sample);
+        }
+    }
+}
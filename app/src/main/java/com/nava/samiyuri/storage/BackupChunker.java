@@ -0,0 +1,244 @@
+package com.nava.samiyuri.storage;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * BackupChunker - Splits garden files into content-addressed backup chunks.
+ * <p>
+ * Files are cut with a content-defined rolling hash, so inserting a few care
+ * events into the middle of a snapshot only changes the chunks around the
+ * insertion rather than every chunk after it. Each chunk is stored once under
+ * the SHA-256 of its content, and a small manifest lists which chunks make up
+ * which file. Between two backups, only chunks that did not exist before are
+ * new files; everything else is byte-for-byte unchanged.
+ * <p>
+ * Only the chunk directory and manifest are included in Android backup rules;
+ * the live journal and snapshots are excluded, so the backup never holds two
+ * copies of the garden.
+ *
+ * @author Neriou
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class BackupChunker {
+
+    /** Smallest chunk emitted, except at the end of a file. */
+    static final int MIN_CHUNK = 2 * 1024;
+
+    /** Largest chunk emitted; cuts are forced here. */
+    static final int MAX_CHUNK = 32 * 1024;
+
+    /** Boundary mask giving an average chunk size of about 8 KB. */
+    private static final long BOUNDARY_MASK = (1L << 13) - 1;
+
+    private static final String MANIFEST_NAME = "manifest.bin";
+    private static final String CHUNK_DIR_NAME = "chunks";
+
+    /**
+     * Per-byte random values for the gear rolling hash.
+     * <p>
+     * Generated from a fixed seed so that every device cuts the same content at
+     * the same boundaries.
+     */
+    private static final long[] GEAR = new long[256];
+
+    static {
+        long seed = 0x5A4D5955524155L;
+        for (int i = 0; i < GEAR.length; i++) {
+            // SplitMix64
+            seed += 0x9E3779B97F4A7C15L;
+            long z = seed;
+            z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+            z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+            GEAR[i] = z ^ (z >>> 31);
+        }
+    }
+
+    private final File backupDirectory;
+    private final File chunkDirectory;
+
+    /**
+     * Creates a chunker writing into the given backup directory.
+     *
+     * @param backupDirectory Directory included in Android backup rules
+     */
+    public BackupChunker(File backupDirectory) {
+        this.backupDirectory = backupDirectory;
+        this.chunkDirectory = new File(backupDirectory, CHUNK_DIR_NAME);
+    }
+
+    /**
+     * Chunks the given files and replaces the manifest.
+     * <p>
+     * Chunks no longer referenced by the new manifest are deleted afterwards.
+     *
+     * @param baseDirectory Directory the file paths in the manifest are relative to
+     * @param files The files to back up
+     * @return The number of chunks that did not exist before
+     * @throws IOException If a file cannot be read or a chunk cannot be written
+     */
+    public int backup(File baseDirectory, List<File> files) throws IOException {
+        if (!chunkDirectory.isDirectory() && !chunkDirectory.mkdirs()) {
+            throw new IOException("Cannot create " + chunkDirectory);
+        }
+
+        int written = 0;
+        Set<String> referenced = new HashSet<>();
+        File tempManifest = new File(backupDirectory, MANIFEST_NAME + ".tmp");
+        try (DataOutputStream manifest = new DataOutputStream(new FileOutputStream(tempManifest))) {
+            manifest.writeInt(files.size());
+            byte[] buffer = new byte[MAX_CHUNK];
+            for (File file : files) {
+                List<String> hashes = new ArrayList<>();
+                try (InputStream in = new BufferedInputStream(new FileInputStream(file))) {
+                    int length;
+                    while ((length = nextChunk(in, buffer)) > 0) {
+                        String hash = sha256(buffer, length);
+                        hashes.add(hash);
+                        if (referenced.add(hash) && writeChunkIfAbsent(hash, buffer, length)) {
+                            written++;
+                        }
+                    }
+                }
+                manifest.writeUTF(relativePath(baseDirectory, file));
+                manifest.writeInt(hashes.size());
+                for (String hash : hashes) {
+                    manifest.writeUTF(hash);
+                }
+            }
+        }
+        if (!tempManifest.renameTo(new File(backupDirectory, MANIFEST_NAME))) {
+            throw new IOException("Could not replace backup manifest");
+        }
+
+        // Drop chunks that no file refers to any more
+        File[] existing = chunkDirectory.listFiles();
+        if (existing != null) {
+            for (File chunk : existing) {
+                if (!referenced.contains(chunk.getName())) {
+                    //noinspection ResultOfMethodCallIgnored
+                    chunk.delete();
+                }
+            }
+        }
+        return written;
+    }
+
+    /**
+     * Returns whether a restorable manifest exists.
+     *
+     * @return true if {@link #restore(File)} has something to restore
+     */
+    public boolean hasBackup() {
+        return new File(backupDirectory, MANIFEST_NAME).isFile();
+    }
+
+    /**
+     * Reassembles every file listed in the manifest.
+     *
+     * @param baseDirectory Directory to restore the files into
+     * @return The number of files restored
+     * @throws IOException If the manifest or a chunk is missing or unreadable
+     */
+    public int restore(File baseDirectory) throws IOException {
+        try (DataInputStream manifest = new DataInputStream(
+                new FileInputStream(new File(backupDirectory, MANIFEST_NAME)))) {
+            int fileCount = manifest.readInt();
+            for (int i = 0; i < fileCount; i++) {
+                File target = new File(baseDirectory, manifest.readUTF());
+                File parent = target.getParentFile();
+                if (parent != null && !parent.isDirectory() && !parent.mkdirs()) {
+                    throw new IOException("Cannot create " + parent);
+                }
+                int chunkCount = manifest.readInt();
+                File temp = new File(target.getPath() + ".tmp");
+                try (FileOutputStream out = new FileOutputStream(temp)) {
+                    byte[] buffer = new byte[MAX_CHUNK];
+                    for (int c = 0; c < chunkCount; c++) {
+                        try (InputStream in = new FileInputStream(
+                                new File(chunkDirectory, manifest.readUTF()))) {
+                            int read;
+                            while ((read = in.read(buffer)) > 0) {
+                                out.write(buffer, 0, read);
+                            }
+                        }
+                    }
+                }
+                if (!temp.renameTo(target)) {
+                    throw new IOException("Could not restore " + target);
+                }
+            }
+            return fileCount;
+        }
+    }
+
+    /**
+     * Reads the next content-defined chunk into the buffer.
+     *
+     * @return The chunk length, or 0 at end of input
+     */
+    static int nextChunk(InputStream in, byte[] buffer) throws IOException {
+        long hash = 0;
+        int length = 0;
+        int b;
+        while (length < MAX_CHUNK && (b = in.read()) >= 0) {
+            buffer[length++] = (byte) b;
+            hash = (hash << 1) + GEAR[b];
+            if (length >= MIN_CHUNK && (hash & BOUNDARY_MASK) == 0) {
+                break;
+            }
+        }
+        return length;
+    }
+
+    private boolean writeChunkIfAbsent(String hash, byte[] buffer, int length) throws IOException {
+        File chunk = new File(chunkDirectory, hash);
+        if (chunk.isFile()) {
+            return false;
+        }
+        File temp = new File(chunkDirectory, hash + ".tmp");
+        try (FileOutputStream out = new FileOutputStream(temp)) {
+            out.write(buffer, 0, length);
+        }
+        if (!temp.renameTo(chunk)) {
+            throw new IOException("Could not store backup chunk " + hash);
+        }
+        return true;
+    }
+
+    private static String relativePath(File base, File file) {
+        String basePath = base.getAbsolutePath() + File.separator;
+        String path = file.getAbsolutePath();
+        return path.startsWith(basePath) ? path.substring(basePath.length()) : file.getName();
+    }
+
+    private static String sha256(byte[] data, int length) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(data, 0, length);
+            byte[] hash = digest.digest();
+            StringBuilder hex = new StringBuilder(hash.length * 2);
+            for (byte value : hash) {
+                hex.append(Character.forDigit((value >> 4) & 0xF, 16));
+                hex.append(Character.forDigit(value & 0xF, 16));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256 is guaranteed on every Android and Java platform
+            throw new IllegalStateException(e);
+        }
+    }
+}
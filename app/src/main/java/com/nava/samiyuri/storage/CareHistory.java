@@ -0,0 +1,203 @@
+package com.nava.samiyuri.storage;
+
+import com.nava.samiyuri.garden.CareAction;
+import com.nava.samiyuri.garden.CareEvent;
+import com.nava.samiyuri.garden.GardenSnapshot;
+import com.nava.samiyuri.sync.SyncOp;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * CareHistory - One buddy's care events, newest first, read page by page from disk.
+ * <p>
+ * A buddy cared for daily over a school year collects hundreds of events, and the
+ * timeline must not hold them all in memory. Most of the history lives in the
+ * compacted snapshot, where a plant's events are contiguous and sorted by time;
+ * those are read straight from the memory mapping, one page at a time. Only the
+ * short journal tail written since the last compaction is scanned up front, and
+ * only this plant's events from it are kept, as two primitive arrays.
+ * <p>
+ * Key Features:
+ * - Fixed-size pages, addressable by page number; the total count is known
+ *   without reading any event, so the timeline can size itself immediately
+ * - Snapshot and journal tail are merged by timestamp, so events imported from
+ *   another tablet appear where they happened, not where they were received
+ * - Memory held per open history: the tail arrays plus two cursors per page
+ *   reached so far
+ * <p>
+ * The history is a view of the garden at the time it was opened; care recorded
+ * afterwards is not included. A compaction running meanwhile may delete the
+ * snapshot file, which is harmless: the mapping stays valid until it is released.
+ * <p>
+ * Thread-safe; pages are meant to be read on a background thread.
+ *
+ * @author Neriou
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class CareHistory {
+
+    /**
+     * Events per page; about two screens of timeline rows.
+     */
+    public static final int PAGE_SIZE = 32;
+
+    private final long plantId;
+    private final int pageSize;
+
+    private final GardenSnapshot snapshot;
+    private final int snapshotFrom;
+    private final int snapshotCount;
+
+    /**
+     * This plant's journal tail events, newest first.
+     */
+    private final long[] tailTimestamps;
+    private final byte[] tailActions;
+
+    /**
+     * Merge cursors at the start of each page reached so far: even slots index the
+     * tail, odd slots count snapshot events consumed from the newest end.
+     */
+    private int[] pageCursors = new int[16];
+    private int knownPages = 1;
+
+    private CareHistory(GardenSnapshot snapshot, long plantId, long[] tailTimestamps,
+                        byte[] tailActions, int pageSize) {
+        this.plantId = plantId;
+        this.snapshot = snapshot;
+        this.snapshotFrom = snapshot != null ? snapshot.firstCareEventIndex(plantId) : 0;
+        this.snapshotCount = snapshot != null ? snapshot.getCareEventCountForPlant(plantId) : 0;
+        this.tailTimestamps = tailTimestamps;
+        this.tailActions = tailActions;
+        this.pageSize = pageSize;
+    }
+
+    /**
+     * Opens the history of a plant from the garden directory.
+     * <p>
+     * Must run on the store's I/O thread, or on whichever single thread writes the
+     * journal, so that no journal record is half written.
+     *
+     * @param gardenDirectory The garden directory holding the snapshot generations
+     * @param journal The open garden journal
+     * @param plantId The plant whose history to read
+     * @param pageSize Events per page
+     * @return The history
+     * @throws IOException If the snapshot or a journal segment cannot be read
+     */
+    public static CareHistory open(File gardenDirectory, GardenJournal journal, long plantId, int pageSize)
+            throws IOException {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("pageSize <= 0");
+        }
+        SnapshotGeneration generation = SnapshotGeneration.latest(gardenDirectory);
+        GardenSnapshot snapshot = generation != null ? GardenSnapshot.open(generation.snapshotFile) : null;
+
+        // Collect this plant's events from the segments not yet folded into the snapshot
+        List<CareEvent> tail = new ArrayList<>();
+        for (File segment : journal.getAllSegments()) {
+            if (generation == null || GardenJournal.segmentNumber(segment) > generation.number) {
+                GardenJournal.replay(segment, op -> {
+                    if (op.getType() == SyncOp.TYPE_CARE && op.getCareEvent().getPlantId() == plantId) {
+                        tail.add(op.getCareEvent());
+                    }
+                });
+            }
+        }
+        tail.sort((a, b) -> Long.compare(b.getTimestampMillis(), a.getTimestampMillis()));
+
+        long[] timestamps = new long[tail.size()];
+        byte[] actions = new byte[tail.size()];
+        for (int i = 0; i < timestamps.length; i++) {
+            timestamps[i] = tail.get(i).getTimestampMillis();
+            actions[i] = (byte) tail.get(i).getAction().getCode();
+        }
+        return new CareHistory(snapshot, plantId, timestamps, actions, pageSize);
+    }
+
+    /**
+     * Returns the total number of events, without reading them.
+     *
+     * @return Event count
+     */
+    public int size() {
+        return snapshotCount + tailTimestamps.length;
+    }
+
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    public int getPageCount() {
+        return (size() + pageSize - 1) / pageSize;
+    }
+
+    /**
+     * Reads one page of events.
+     * <p>
+     * Pages are cheapest to read in order; reading far ahead first walks the
+     * cursors through the pages in between without decoding their events.
+     *
+     * @param page Zero-based page number
+     * @return The page's events, newest first; empty past the last page
+     */
+    public synchronized List<CareEvent> readPage(int page) {
+        if (page < 0 || page >= getPageCount()) {
+            return new ArrayList<>();
+        }
+        while (knownPages <= page) {
+            merge(knownPages - 1, null);
+        }
+        List<CareEvent> events = new ArrayList<>(pageSize);
+        merge(page, events);
+        return events;
+    }
+
+    /**
+     * Merges one page worth of events from the tail and the snapshot, recording
+     * where the next page starts.
+     *
+     * @param page The page to merge; its start cursors must be known
+     * @param out Receives decoded events, or null to only advance the cursors
+     */
+    private void merge(int page, List<CareEvent> out) {
+        int tail = pageCursors[page * 2];
+        int consumed = pageCursors[page * 2 + 1];
+        for (int n = 0; n < pageSize; n++) {
+            boolean tailLeft = tail < tailTimestamps.length;
+            boolean snapshotLeft = consumed < snapshotCount;
+            if (!tailLeft && !snapshotLeft) {
+                break;
+            }
+            int snapshotIndex = snapshotFrom + snapshotCount - 1 - consumed;
+            boolean takeTail = tailLeft && (!snapshotLeft
+                    || tailTimestamps[tail] >= snapshot.getCareEventTimestamp(snapshotIndex));
+            if (takeTail) {
+                if (out != null) {
+                    out.add(new CareEvent(plantId, CareAction.fromCode(tailActions[tail]),
+                            tailTimestamps[tail]));
+                }
+                tail++;
+            } else {
+                if (out != null) {
+                    out.add(snapshot.readCareEvent(snapshotIndex));
+                }
+                consumed++;
+            }
+        }
+
+        if (page + 1 == knownPages) {
+            if (pageCursors.length < (knownPages + 1) * 2) {
+                pageCursors = Arrays.copyOf(pageCursors, pageCursors.length * 2);
+            }
+            pageCursors[knownPages * 2] = tail;
+            pageCursors[knownPages * 2 + 1] = consumed;
+            knownPages++;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.nava.samiyuri.storage;
+
+import android.app.job.JobInfo;
+import android.app.job.JobParameters;
+import android.app.job.JobScheduler;
+import android.app.job.JobService;
+import android.content.ComponentName;
+import android.content.Context;
+import android.os.Process;
+import android.util.Log;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GardenCompactionJobService - Runs journal compaction and backup chunking in the background.
+ * <p>
+ * The job only runs while the device is idle and charging, so the extra disk
+ * and CPU work never competes with a child using the app or drains the battery.
+ * If the device leaves either state mid-run, the job is asked to stop, the
+ * compactor notices between segments and the job is rescheduled.
+ *
+ * @author Neriou
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class GardenCompactionJobService extends JobService {
+
+    private static final String TAG = "GardenCompaction";
+
+    /** Unique job identifier within the app. */
+    private static final int JOB_ID = 2801;
+
+    private volatile boolean stopped;
+
+    /**
+     * Schedules the daily compaction job unless it is already pending.
+     *
+     * @param context Any context
+     */
+    public static void schedule(Context context) {
+        JobScheduler scheduler = context.getSystemService(JobScheduler.class);
+        if (scheduler == null || scheduler.getPendingJob(JOB_ID) != null) {
+            return;
+        }
+        JobInfo job = new JobInfo.Builder(JOB_ID,
+                new ComponentName(context, GardenCompactionJobService.class))
+                .setRequiresDeviceIdle(true)
+                .setRequiresCharging(true)
+                .setPeriodic(TimeUnit.DAYS.toMillis(1))
+                .build();
+        scheduler.schedule(job);
+    }
+
+    @Override
+    public boolean onStartJob(JobParameters params) {
+        stopped = false;
+        Thread worker = new Thread(() -> {
+            Process.setThreadPriority(Process.THREAD_PRIORITY_BACKGROUND);
+            boolean reschedule = false;
+            try {
+                GardenStore.getInstance(this).compactAndBackup(() -> stopped);
+            } catch (IOException e) {
+                Log.e(TAG, "Garden compaction failed", e);
+                reschedule = true;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            jobFinished(params, reschedule);
+        }, "garden-compactor");
+        worker.start();
+        return true;
+    }
+
+    @Override
+    public boolean onStopJob(JobParameters params) {
+        stopped = true;
+        return true;
+    }
+}
@@ -0,0 +1,287 @@
+package com.nava.samiyuri.storage;
+
+import com.nava.samiyuri.garden.CareAction;
+import com.nava.samiyuri.garden.CareEvent;
+import com.nava.samiyuri.garden.PlantRecord;
+import com.nava.samiyuri.sync.SyncOp;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+
+/**
+ * GardenJournal - Append-only log of every garden operation, split into segments.
+ * <p>
+ * Each care tap and plant edit is appended as one small checksummed record to the
+ * active segment. Segments are rotated by size and at every app start, after which
+ * they are sealed and never written again. Sealed segments can be folded into a
+ * snapshot by {@link JournalCompactor} without coordinating with writers, which is
+ * what keeps compaction from ever stalling a care-button write.
+ * <p>
+ * Record layout: {@code [int length][int crc32][payload]}. Records are not synced to
+ * disk individually; if the device loses power mid-write, the torn record at the
+ * tail of the segment fails its checksum and replay stops there.
+ *
+ * @author Neriou
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class GardenJournal {
+
+    /**
+     * Segment size at which the active segment is sealed and a new one started.
+     * <p>
+     * 64 KB holds well over a thousand care taps, so a typical classroom produces
+     * only a handful of segments between compactions.
+     */
+    static final long SEGMENT_LIMIT_BYTES = 64 * 1024;
+
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".log";
+
+    /**
+     * Largest payload a valid record can have; anything bigger is corruption.
+     */
+    private static final int MAX_RECORD_BYTES = 64 * 1024;
+
+    private final File directory;
+    private final long lastFoldedSegment;
+    private File activeSegment;
+    private FileOutputStream activeStream;
+    private long activeSize;
+
+    /**
+     * Opens the journal in the given directory and starts a fresh active segment.
+     *
+     * @param directory The journal directory; created if missing
+     * @throws IOException If the directory or the active segment cannot be created
+     */
+    public GardenJournal(File directory) throws IOException {
+        this(directory, 0);
+    }
+
+    /**
+     * Opens the journal of a garden that already has a compacted snapshot.
+     * <p>
+     * New segments are numbered after both the newest segment on disk and the
+     * newest snapshot generation. A journal restored from a backup taken right
+     * after a full compaction has no segments at all; numbering from 1 again
+     * would make every new segment look already folded, and it would be skipped.
+     *
+     * @param directory The journal directory; created if missing
+     * @param lastFoldedSegment Number of the newest snapshot generation, or 0 if none
+     * @throws IOException If the directory or the active segment cannot be created
+     */
+    public GardenJournal(File directory, long lastFoldedSegment) throws IOException {
+        this.directory = directory;
+        this.lastFoldedSegment = lastFoldedSegment;
+        if (!directory.isDirectory() && !directory.mkdirs()) {
+            throw new IOException("Cannot create journal directory " + directory);
+        }
+        openNewSegment();
+    }
+
+    /**
+     * Appends one operation to the active segment.
+     *
+     * @param op The operation to persist
+     * @throws IOException If the record cannot be written
+     */
+    public synchronized void append(SyncOp op) throws IOException {
+        byte[] record = encode(op);
+        activeStream.write(record);
+        activeSize += record.length;
+        if (activeSize >= SEGMENT_LIMIT_BYTES) {
+            rotate();
+        }
+    }
+
+    /**
+     * Seals the active segment and starts a new one.
+     *
+     * @throws IOException If the new segment cannot be created
+     */
+    public synchronized void rotate() throws IOException {
+        activeStream.close();
+        openNewSegment();
+    }
+
+    /**
+     * Returns all sealed segments, oldest first.
+     * <p>
+     * Sealed segments are immutable, so callers may read them without holding
+     * any lock while new records keep arriving in the active segment.
+     *
+     * @return The sealed segment files
+     */
+    public synchronized List<File> getSealedSegments() {
+        List<File> sealed = new ArrayList<>();
+        for (File segment : listSegments(directory)) {
+            if (!segment.equals(activeSegment)) {
+                sealed.add(segment);
+            }
+        }
+        return sealed;
+    }
+
+    /**
+     * Returns every segment including the active one, oldest first.
+     *
+     * @return All segment files
+     */
+    public synchronized List<File> getAllSegments() {
+        return listSegments(directory);
+    }
+
+    /**
+     * Closes the active segment. The journal must not be used afterwards.
+     *
+     * @throws IOException If closing fails
+     */
+    public synchronized void close() throws IOException {
+        activeStream.close();
+    }
+
+    /**
+     * Replays every intact record of a segment, oldest first.
+     *
+     * @param segment The segment file
+     * @param consumer Receives each decoded operation
+     * @return The number of records replayed
+     * @throws IOException If the segment cannot be read
+     */
+    public static int replay(File segment, Consumer<SyncOp> consumer) throws IOException {
+        int count = 0;
+        try (DataInputStream in = new DataInputStream(
+                new BufferedInputStream(new FileInputStream(segment)))) {
+            CRC32 crc = new CRC32();
+            while (true) {
+                int length;
+                int checksum;
+                byte[] payload;
+                try {
+                    length = in.readInt();
+                    checksum = in.readInt();
+                    if (length <= 0 || length > MAX_RECORD_BYTES) {
+                        break;
+                    }
+                    payload = new byte[length];
+                    in.readFully(payload);
+                } catch (EOFException e) {
+                    break;
+                }
+                crc.reset();
+                crc.update(payload, 0, payload.length);
+                if ((int) crc.getValue() != checksum) {
+                    // Torn or corrupt tail - everything after it is unreliable
+                    break;
+                }
+                consumer.accept(decode(payload));
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Extracts the sequence number from a segment file name.
+     *
+     * @param segment A segment file
+     * @return Its sequence number
+     */
+    public static long segmentNumber(File segment) {
+        String name = segment.getName();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(),
+                name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    // ------------------------------------------------------------------
+    // Internals
+    // ------------------------------------------------------------------
+
+    private void openNewSegment() throws IOException {
+        List<File> existing = listSegments(directory);
+        long last = existing.isEmpty() ? 0 : segmentNumber(existing.get(existing.size() - 1));
+        long next = Math.max(last, lastFoldedSegment) + 1;
+        activeSegment = new File(directory,
+                String.format(Locale.ROOT, "%s%010d%s", SEGMENT_PREFIX, next, SEGMENT_SUFFIX));
+        activeStream = new FileOutputStream(activeSegment, true);
+        activeSize = activeSegment.length();
+    }
+
+    private static List<File> listSegments(File directory) {
+        File[] files = directory.listFiles((dir, name) ->
+                name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX));
+        if (files == null) {
+            return new ArrayList<>();
+        }
+        // Zero-padded names sort in sequence order
+        Arrays.sort(files);
+        return new ArrayList<>(Arrays.asList(files));
+    }
+
+    private static byte[] encode(SyncOp op) throws IOException {
+        ByteArrayOutputStream payloadBytes = new ByteArrayOutputStream(64);
+        DataOutputStream payload = new DataOutputStream(payloadBytes);
+        payload.writeUTF(op.getReplicaId());
+        payload.writeLong(op.getCounter());
+        payload.writeLong(op.getLamport());
+        payload.writeByte(op.getType());
+        if (op.getType() == SyncOp.TYPE_CARE) {
+            CareEvent event = op.getCareEvent();
+            payload.writeLong(event.getPlantId());
+            payload.writeByte(event.getAction().getCode());
+            payload.writeLong(event.getTimestampMillis());
+        } else {
+            PlantRecord plant = op.getPlant();
+            payload.writeLong(plant.getId());
+            payload.writeUTF(plant.getName());
+            payload.writeUTF(plant.getSpecies());
+            payload.writeInt(plant.getGrowthStage());
+            payload.writeLong(plant.getCreatedAtMillis());
+            payload.writeLong(plant.getUpdatedAtMillis());
+        }
+        payload.flush();
+        byte[] body = payloadBytes.toByteArray();
+
+        CRC32 crc = new CRC32();
+        crc.update(body, 0, body.length);
+        ByteArrayOutputStream recordBytes = new ByteArrayOutputStream(body.length + 8);
+        DataOutputStream record = new DataOutputStream(recordBytes);
+        record.writeInt(body.length);
+        record.writeInt((int) crc.getValue());
+        record.write(body);
+        record.flush();
+        return recordBytes.toByteArray();
+    }
+
+    private static SyncOp decode(byte[] body) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(body));
+        String replica = in.readUTF();
+        long counter = in.readLong();
+        long lamport = in.readLong();
+        int type = in.readUnsignedByte();
+        if (type == SyncOp.TYPE_CARE) {
+            long plantId = in.readLong();
+            CareAction action = CareAction.fromCode(in.readUnsignedByte());
+            long timestamp = in.readLong();
+            return SyncOp.care(replica, counter, lamport, new CareEvent(plantId, action, timestamp));
+        }
+        PlantRecord plant = new PlantRecord(in.readLong(), in.readUTF(), in.readUTF(),
+                in.readInt(), in.readLong(), in.readLong());
+        return SyncOp.plant(replica, counter, lamport, plant);
+    }
+}
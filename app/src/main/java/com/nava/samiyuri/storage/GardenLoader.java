@@ -0,0 +1,81 @@
+package com.nava.samiyuri.storage;
+
+import com.nava.samiyuri.garden.Garden;
+import com.nava.samiyuri.garden.GardenSnapshot;
+import com.nava.samiyuri.sync.SyncEngine;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * GardenLoader - Rebuilds a garden from its directory, the way the app does at start-up.
+ * <p>
+ * Loads the newest compacted snapshot generation, restores the sync baseline that
+ * was current when it was written, opens the journal and replays every sealed
+ * segment not yet folded into the snapshot. Opening the journal starts a fresh
+ * active segment, so each load seals the previous session's segment.
+ * <p>
+ * {@link GardenStore} runs this on its I/O thread; the workload simulator runs it
+ * directly, so both exercise exactly the same path.
+ *
+ * @author Neriou
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class GardenLoader {
+
+    /** Name of the journal directory inside the garden directory. */
+    public static final String JOURNAL_DIRECTORY = "journal";
+
+    private final Garden garden;
+    private final SyncEngine engine;
+    private final GardenJournal journal;
+
+    private GardenLoader(Garden garden, SyncEngine engine, GardenJournal journal) {
+        this.garden = garden;
+        this.engine = engine;
+        this.journal = journal;
+    }
+
+    /**
+     * Loads the garden stored in a directory.
+     *
+     * @param gardenDirectory The garden directory holding snapshots and the journal
+     * @param replicaId This device's sync replica identifier
+     * @return The loaded garden with its engine and open journal
+     * @throws IOException If the snapshot or a journal segment cannot be read
+     */
+    public static GardenLoader load(File gardenDirectory, String replicaId) throws IOException {
+        Garden garden = new Garden();
+        SnapshotGeneration generation = SnapshotGeneration.latest(gardenDirectory);
+        if (generation != null) {
+            garden = GardenSnapshot.open(generation.snapshotFile).toGarden();
+        }
+        SyncEngine engine = new SyncEngine(replicaId, garden);
+        if (generation != null) {
+            engine.restoreBaseline(generation.readHorizon(), generation.readLamport(),
+                    generation.readPlantStamps());
+        }
+
+        GardenJournal journal = new GardenJournal(new File(gardenDirectory, JOURNAL_DIRECTORY),
+                generation != null ? generation.number : 0);
+        for (File segment : journal.getSealedSegments()) {
+            if (generation == null || GardenJournal.segmentNumber(segment) > generation.number) {
+                GardenJournal.replay(segment, engine::apply);
+            }
+        }
+        return new GardenLoader(garden, engine, journal);
+    }
+
+    public Garden getGarden() {
+        return garden;
+    }
+
+    public SyncEngine getEngine() {
+        return engine;
+    }
+
+    public GardenJournal getJournal() {
+        return journal;
+    }
+}
@@ -0,0 +1,475 @@
+package com.nava.samiyuri.storage;
+
+import android.app.backup.BackupManager;
+import android.content.Context;
+import android.content.SharedPreferences;
+import android.os.Handler;
+import android.os.Looper;
+import android.util.Log;
+
+import com.nava.samiyuri.garden.CareAction;
+import com.nava.samiyuri.garden.CareEvent;
+import com.nava.samiyuri.garden.Garden;
+import com.nava.samiyuri.garden.GardenSnapshot;
+import com.nava.samiyuri.garden.GardenSnapshotWriter;
+import com.nava.samiyuri.garden.PlantRecord;
+import com.nava.samiyuri.light.LightDoseIntegrator;
+import com.nava.samiyuri.sync.SyncEngine;
+import com.nava.samiyuri.sync.SyncOp;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * GardenStore - The single source of truth for the persisted garden.
+ * <p>
+ * The store owns the in-memory {@link Garden}, the {@link SyncEngine} that
+ * mutates it and the {@link GardenJournal} that persists every change. All disk
+ * work happens on one dedicated I/O thread, so callers on the UI thread only ever
+ * enqueue work and never wait for the disk.
+ * <p>
+ * On start-up the store loads the newest compacted snapshot and replays the
+ * journal on top of it. If the app data was wiped but a backup exists, the
+ * garden is first reassembled from its backup chunks.
+ * <p>
+ * Files layout inside the app's private storage:
+ * <pre>
+ *   garden/base-NNNN.smyg, base-NNNN.state   compacted snapshot generations
+ *   garden/journal/segment-NNNN.log          append-only operation journal
+ *   backup/manifest.bin, backup/chunks/      content-addressed backup chunks
+ *   light-doses.bin                          today's sunlight dose per buddy
+ * </pre>
+ *
+ * @author Neriou
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class GardenStore {
+
+    /** Fixed identifier of the radish buddy named during onboarding. */
+    public static final long STARTER_RADISH_ID = 1;
+
+    /** Fixed identifier of the lettuce buddy named during onboarding. */
+    public static final long STARTER_LETTUCE_ID = 2;
+
+    private static final String TAG = "GardenStore";
+    /**
+     * Device-local preferences, deliberately excluded from backup so that a
+     * restored tablet never reuses another tablet's sync replica identifier.
+     */
+    private static final String DEVICE_PREFERENCES_FILE_NAME = "samiyura_device";
+    private static final String REPLICA_ID_KEY = "sync_replica_id";
+    /**
+     * Today's light doses. Kept apart from the journal: they change with every
+     * sensor burst, are not care events, and are worthless by tomorrow.
+     */
+    private static final String LIGHT_DOSES_FILE_NAME = "light-doses.bin";
+
+    private static volatile GardenStore instance;
+
+    private final Context appContext;
+    private final File gardenDirectory;
+    private final File backupDirectory;
+    private final File lightDosesFile;
+    private final ExecutorService ioExecutor;
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+    private final CountDownLatch loaded = new CountDownLatch(1);
+    private final List<Runnable> changeListeners = new CopyOnWriteArrayList<>();
+
+    // Assigned once on the I/O thread during load, then only read
+    private volatile Garden garden;
+    private volatile SyncEngine engine;
+    private volatile GardenJournal journal;
+
+    /**
+     * Returns the process-wide store, creating it and starting the load on first use.
+     *
+     * @param context Any context; the application context is retained
+     * @return The shared garden store
+     */
+    public static GardenStore getInstance(Context context) {
+        GardenStore store = instance;
+        if (store == null) {
+            synchronized (GardenStore.class) {
+                store = instance;
+                if (store == null) {
+                    store = new GardenStore(context.getApplicationContext());
+                    instance = store;
+                }
+            }
+        }
+        return store;
+    }
+
+    private GardenStore(Context appContext) {
+        this.appContext = appContext;
+        this.gardenDirectory = new File(appContext.getFilesDir(), "garden");
+        this.backupDirectory = new File(appContext.getFilesDir(), "backup");
+        this.lightDosesFile = new File(appContext.getFilesDir(), LIGHT_DOSES_FILE_NAME);
+        this.ioExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "garden-io");
+            thread.setPriority(Thread.NORM_PRIORITY - 1);
+            return thread;
+        });
+        ioExecutor.execute(this::load);
+    }
+
+    // ------------------------------------------------------------------
+    // Mutations - enqueued on the I/O thread, never blocking the caller
+    // ------------------------------------------------------------------
+
+    /**
+     * Records a care action on a plant buddy.
+     *
+     * @param plantId The plant that received the care
+     * @param action The kind of care given
+     */
+    public void recordCare(long plantId, CareAction action) {
+        long now = System.currentTimeMillis();
+        ioExecutor.execute(() -> persist(engine.recordCare(plantId, action, now)));
+    }
+
+    /**
+     * Creates a buddy or renames it if it already exists.
+     *
+     * @param plantId The plant identifier
+     * @param species The species identifier
+     * @param name The name chosen by the child
+     */
+    public void nameBuddy(long plantId, String species, String name) {
+        long now = System.currentTimeMillis();
+        ioExecutor.execute(() -> {
+            PlantRecord existing;
+            synchronized (engine) {
+                existing = garden.getPlant(plantId);
+            }
+            if (existing != null && existing.getName().equals(name)) {
+                return;
+            }
+            PlantRecord plant = existing == null
+                    ? new PlantRecord(plantId, name, species, 0, now, now)
+                    : new PlantRecord(plantId, name, species, existing.getGrowthStage(),
+                            existing.getCreatedAtMillis(), now);
+            persist(engine.putPlant(plant));
+        });
+    }
+
+    /**
+     * Saves today's light dose of every buddy.
+     *
+     * @param integrator The integrator holding the doses
+     */
+    public void saveLightDoses(LightDoseIntegrator integrator) {
+        ioExecutor.execute(() -> {
+            File temp = new File(lightDosesFile.getPath() + ".tmp");
+            try {
+                try (FileOutputStream stream = new FileOutputStream(temp);
+                     DataOutputStream out = new DataOutputStream(new BufferedOutputStream(stream))) {
+                    integrator.writeDoses(out, System.currentTimeMillis());
+                    out.flush();
+                    stream.getFD().sync();
+                }
+                if (!temp.renameTo(lightDosesFile)) {
+                    throw new IOException("Could not replace " + lightDosesFile);
+                }
+            } catch (IOException e) {
+                //noinspection ResultOfMethodCallIgnored
+                temp.delete();
+                Log.w(TAG, "Could not save light doses", e);
+            }
+        });
+    }
+
+    /**
+     * Adds the light doses saved by {@link #saveLightDoses} to an integrator.
+     *
+     * @param integrator The integrator to restore into
+     */
+    public void restoreLightDoses(LightDoseIntegrator integrator) {
+        ioExecutor.execute(() -> {
+            if (!lightDosesFile.isFile()) {
+                return;
+            }
+            try (DataInputStream in = new DataInputStream(
+                    new BufferedInputStream(new FileInputStream(lightDosesFile)))) {
+                integrator.readDoses(in);
+            } catch (IOException e) {
+                Log.w(TAG, "Could not restore light doses", e);
+            }
+        });
+    }
+
+    // ------------------------------------------------------------------
+    // Reads
+    // ------------------------------------------------------------------
+
+    /**
+     * Runs a callback on the main thread once the garden has been loaded.
+     * <p>
+     * Because the I/O thread runs tasks in order, the callback also observes every
+     * mutation that was enqueued before it.
+     *
+     * @param callback The callback to run on the main thread
+     */
+    public void whenLoaded(Runnable callback) {
+        ioExecutor.execute(() -> mainHandler.post(callback));
+    }
+
+    /**
+     * Returns the plants currently in the garden.
+     *
+     * @return A copy of the plant list, empty if the garden has not loaded yet
+     */
+    public List<PlantRecord> getPlants() {
+        SyncEngine currentEngine = engine;
+        if (currentEngine == null) {
+            return Collections.emptyList();
+        }
+        synchronized (currentEngine) {
+            return garden.getPlants();
+        }
+    }
+
+    /**
+     * Reads the garden on the I/O thread, after every mutation enqueued so far.
+     * <p>
+     * The reader runs while the garden is locked, so it should only extract what
+     * it needs; anything slower belongs in the consumer, which runs right after
+     * on the I/O thread without the lock.
+     *
+     * @param reader Extracts a result from the garden; must not keep references to it
+     * @param consumer Receives the result on the I/O thread
+     * @param <T> Result type
+     */
+    public <T> void read(Function<Garden, T> reader, Consumer<T> consumer) {
+        ioExecutor.execute(() -> {
+            T result;
+            synchronized (engine) {
+                result = reader.apply(garden);
+            }
+            consumer.accept(result);
+        });
+    }
+
+    /**
+     * Registers a listener told about every change to the garden.
+     * <p>
+     * The listener runs on the I/O thread once per mutation, so it should only
+     * schedule its own work, e.g. with {@link #read(Function, Consumer)}.
+     *
+     * @param listener The listener to add
+     */
+    public void addChangeListener(Runnable listener) {
+        changeListeners.add(listener);
+    }
+
+    /**
+     * Opens one buddy's care history for paged reading.
+     * <p>
+     * The history is opened on the I/O thread after every mutation enqueued so
+     * far, then handed to the callback on the main thread. Its pages are read
+     * from disk on demand, see {@link CareHistory}.
+     *
+     * @param plantId The plant whose history to open
+     * @param callback Receives the history on the main thread, or null if the
+     *                 garden could not be read from disk
+     */
+    public void openCareHistory(long plantId, Consumer<CareHistory> callback) {
+        ioExecutor.execute(() -> {
+            CareHistory history = null;
+            GardenJournal currentJournal = journal;
+            if (currentJournal != null) {
+                try {
+                    history = CareHistory.open(gardenDirectory, currentJournal, plantId, CareHistory.PAGE_SIZE);
+                } catch (IOException | RuntimeException e) {
+                    Log.e(TAG, "Failed to open care history", e);
+                }
+            }
+            CareHistory opened = history;
+            mainHandler.post(() -> callback.accept(opened));
+        });
+    }
+
+    // ------------------------------------------------------------------
+    // Teacher export / import
+    // ------------------------------------------------------------------
+
+    /**
+     * Exports the whole garden as a snapshot file, e.g. for copying over USB.
+     *
+     * @param target The snapshot file to write
+     * @return A future completing when the export is written
+     */
+    public Future<?> exportSnapshot(File target) {
+        return ioExecutor.submit(() -> {
+            synchronized (engine) {
+                GardenSnapshotWriter.write(garden, target, System.currentTimeMillis());
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Merges a snapshot exported on another tablet into this garden.
+     * <p>
+     * The snapshot is read lazily through its memory mapping. Plants not yet in
+     * this garden are added and care events not yet recorded are appended, so
+     * importing the same file twice changes nothing.
+     *
+     * @param source The snapshot file to import
+     * @return A future yielding the number of new care events imported
+     */
+    public Future<Integer> importSnapshot(File source) {
+        return ioExecutor.submit(() -> {
+            GardenSnapshot snapshot = GardenSnapshot.open(source);
+            int imported = 0;
+            for (int i = 0; i < snapshot.getPlantCount(); i++) {
+                long plantId = snapshot.getPlantId(i);
+                Set<CareEvent> known;
+                boolean missing;
+                synchronized (engine) {
+                    missing = garden.getPlant(plantId) == null;
+                    known = new HashSet<>();
+                    for (CareEvent event : garden.getCareEvents()) {
+                        if (event.getPlantId() == plantId) known.add(event);
+                    }
+                }
+                if (missing) {
+                    persist(engine.putPlant(snapshot.readPlant(i)));
+                }
+                for (CareEvent event : snapshot.readCareEventsForPlant(plantId)) {
+                    if (known.add(event)) {
+                        persist(engine.recordCare(plantId, event.getAction(), event.getTimestampMillis()));
+                        imported++;
+                    }
+                }
+            }
+            return imported;
+        });
+    }
+
+    // ------------------------------------------------------------------
+    // Maintenance - called from GardenCompactionJobService on its own thread
+    // ------------------------------------------------------------------
+
+    /**
+     * Compacts old journal segments and refreshes the incremental backup.
+     * <p>
+     * Runs on the calling thread, not the I/O thread, so care taps keep being
+     * written while this is in progress.
+     *
+     * @param cancelled Polled to stop early when the device leaves idle or charging
+     * @throws IOException If compaction or backup fails
+     * @throws InterruptedException If interrupted while waiting for the initial load
+     */
+    public void compactAndBackup(JournalCompactor.CancellationSignal cancelled)
+            throws IOException, InterruptedException {
+        loaded.await();
+        GardenJournal currentJournal = journal;
+        // Without a journal, loading failed; leave the files and the last good backup alone
+        if (currentJournal == null) {
+            Log.w(TAG, "Garden not loaded, skipping compaction and backup");
+            return;
+        }
+        int folded = new JournalCompactor(gardenDirectory, currentJournal)
+                .compact(System.currentTimeMillis(), cancelled);
+        if (cancelled.isCancelled()) {
+            return;
+        }
+
+        List<File> files = new ArrayList<>();
+        SnapshotGeneration generation = SnapshotGeneration.latest(gardenDirectory);
+        if (generation != null) {
+            files.add(generation.stateFile);
+            files.add(generation.snapshotFile);
+        }
+        files.addAll(currentJournal.getSealedSegments());
+        int newChunks = new BackupChunker(backupDirectory).backup(appContext.getFilesDir(), files);
+        if (newChunks > 0) {
+            new BackupManager(appContext).dataChanged();
+        }
+        Log.i(TAG, "Compacted " + folded + " segments, " + newChunks + " new backup chunks");
+    }
+
+    // ------------------------------------------------------------------
+    // Internals - I/O thread only
+    // ------------------------------------------------------------------
+
+    private void load() {
+        Garden loadedGarden = new Garden();
+        SyncEngine loadedEngine = null;
+        try {
+            restoreFromBackupIfEmpty();
+
+            GardenLoader loader = GardenLoader.load(gardenDirectory, replicaId());
+            loadedGarden = loader.getGarden();
+            loadedEngine = loader.getEngine();
+            journal = loader.getJournal();
+        } catch (IOException | RuntimeException e) {
+            Log.e(TAG, "Failed to load garden, starting empty", e);
+            loadedGarden = new Garden();
+            loadedEngine = new SyncEngine(replicaId(), loadedGarden);
+        } finally {
+            garden = loadedGarden;
+            engine = loadedEngine;
+            loaded.countDown();
+        }
+    }
+
+    private void restoreFromBackupIfEmpty() throws IOException {
+        File journalDirectory = new File(gardenDirectory, GardenLoader.JOURNAL_DIRECTORY);
+        String[] segments = journalDirectory.list();
+        boolean empty = SnapshotGeneration.latest(gardenDirectory) == null
+                && (segments == null || segments.length == 0);
+        BackupChunker chunker = new BackupChunker(backupDirectory);
+        if (empty && chunker.hasBackup()) {
+            int restored = chunker.restore(appContext.getFilesDir());
+            Log.i(TAG, "Restored " + restored + " garden files from backup");
+        }
+    }
+
+    private void persist(SyncOp op) {
+        GardenJournal currentJournal = journal;
+        // Without a journal, loading failed and the change is kept in memory for this session
+        if (currentJournal != null) {
+            try {
+                currentJournal.append(op);
+            } catch (IOException e) {
+                Log.e(TAG, "Failed to journal garden change", e);
+            }
+        }
+        for (Runnable listener : changeListeners) {
+            listener.run();
+        }
+    }
+
+    private String replicaId() {
+        SharedPreferences preferences =
+                appContext.getSharedPreferences(DEVICE_PREFERENCES_FILE_NAME, Context.MODE_PRIVATE);
+        String id = preferences.getString(REPLICA_ID_KEY, null);
+        if (id == null) {
+            id = UUID.randomUUID().toString();
+            preferences.edit().putString(REPLICA_ID_KEY, id).apply();
+        }
+        return id;
+    }
+}
@@ -0,0 +1,123 @@
+package com.nava.samiyuri.storage;
+
+import com.nava.samiyuri.garden.Garden;
+import com.nava.samiyuri.garden.GardenSnapshot;
+import com.nava.samiyuri.sync.SyncEngine;
+import com.nava.samiyuri.sync.VersionVector;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JournalCompactor - Folds old journal segments into a new base snapshot.
+ * <p>
+ * Compaction reads the newest {@link SnapshotGeneration}, replays the sealed
+ * segments that are older than the retention window on top of it, and writes the
+ * result as the next generation. Only then are the folded segments deleted.
+ * <p>
+ * The compactor never touches the active segment and takes the journal lock only
+ * to list sealed segments, so care taps keep being appended at full speed while
+ * a compaction is running.
+ * <p>
+ * Recent segments are kept rather than folded so that tablets syncing within the
+ * retention window still receive exact deltas. A tablet that has been away for
+ * longer is refused by the exchange with a
+ * {@link com.nava.samiyuri.sync.SyncHorizonException} and should import an
+ * exported garden snapshot instead.
+ *
+ * @author Neriou
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class JournalCompactor {
+
+    /**
+     * How long operations stay in the journal before they may be compacted.
+     */
+    static final long RETENTION_MS = TimeUnit.DAYS.toMillis(14);
+
+    private final File gardenDirectory;
+    private final GardenJournal journal;
+
+    /**
+     * Creates a compactor for a garden directory.
+     *
+     * @param gardenDirectory Directory holding the snapshot generations
+     * @param journal The journal whose sealed segments are compacted
+     */
+    public JournalCompactor(File gardenDirectory, GardenJournal journal) {
+        this.gardenDirectory = gardenDirectory;
+        this.journal = journal;
+    }
+
+    /**
+     * Runs one compaction pass.
+     *
+     * @param nowMillis Current wall-clock time, used for the retention cutoff
+     * @param cancelled Polled between segments; compaction stops early when it returns true
+     * @return The number of segments folded into the new snapshot
+     * @throws IOException If the snapshot cannot be read or written
+     */
+    public int compact(long nowMillis, CancellationSignal cancelled) throws IOException {
+        // Only a contiguous run of the oldest sealed segments can be folded
+        List<File> candidates = new ArrayList<>();
+        long cutoff = nowMillis - RETENTION_MS;
+        for (File segment : journal.getSealedSegments()) {
+            if (segment.lastModified() >= cutoff) break;
+            candidates.add(segment);
+        }
+
+        SnapshotGeneration current = SnapshotGeneration.latest(gardenDirectory);
+        if (current != null) {
+            // Segments already folded into the current generation may linger after a crash
+            candidates.removeIf(segment -> GardenJournal.segmentNumber(segment) <= current.number);
+        }
+        if (candidates.isEmpty()) {
+            return 0;
+        }
+
+        Garden garden;
+        SyncEngine engine;
+        if (current != null) {
+            garden = GardenSnapshot.open(current.snapshotFile).toGarden();
+            engine = new SyncEngine("compactor", garden);
+            engine.restoreBaseline(current.readHorizon(), current.readLamport(), current.readPlantStamps());
+        } else {
+            garden = new Garden();
+            engine = new SyncEngine("compactor", garden);
+        }
+
+        for (File segment : candidates) {
+            if (cancelled.isCancelled()) {
+                return 0;
+            }
+            GardenJournal.replay(segment, engine::apply);
+        }
+
+        long last = GardenJournal.segmentNumber(candidates.get(candidates.size() - 1));
+        VersionVector horizon = engine.getVersionVector();
+        SnapshotGeneration next = SnapshotGeneration.write(
+                gardenDirectory, last, garden, horizon, engine.getLamport(), engine.getPlantStamps(), nowMillis);
+
+        next.deleteOlder(gardenDirectory);
+        for (File segment : candidates) {
+            //noinspection ResultOfMethodCallIgnored
+            segment.delete();
+        }
+        return candidates.size();
+    }
+
+    /**
+     * CancellationSignal - Lets the scheduler stop a compaction early.
+     */
+    public interface CancellationSignal {
+
+        /**
+         * @return true if the compaction should stop as soon as possible
+         */
+        boolean isCancelled();
+    }
+}
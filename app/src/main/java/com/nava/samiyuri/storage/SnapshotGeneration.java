@@ -0,0 +1,179 @@
+package com.nava.samiyuri.storage;
+
+import com.nava.samiyuri.garden.Garden;
+import com.nava.samiyuri.garden.GardenSnapshot;
+import com.nava.samiyuri.garden.GardenSnapshotWriter;
+import com.nava.samiyuri.sync.PlantStamp;
+import com.nava.samiyuri.sync.VersionVector;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * SnapshotGeneration - One compacted base snapshot plus its sync horizon.
+ * <p>
+ * A generation is named after the last journal segment folded into it, and
+ * consists of two files: the garden snapshot and a small state file holding the
+ * version vector, Lamport clock and winning plant edit stamps at compaction time. The state file is written
+ * first and the snapshot last, so a generation only counts once both exist. A
+ * crash mid-compaction therefore always leaves the previous generation intact.
+ *
+ * @author Neriou
+ * @version 1.0
+ * @since 2026-10-18
+ */
+final class SnapshotGeneration {
+
+    private static final String PREFIX = "base-";
+    private static final String STATE_SUFFIX = ".state";
+
+    final long number;
+    final File snapshotFile;
+    final File stateFile;
+
+    private SnapshotGeneration(File directory, long number) {
+        this.number = number;
+        String base = String.format(Locale.ROOT, "%s%010d", PREFIX, number);
+        this.snapshotFile = new File(directory, base + GardenSnapshot.FILE_EXTENSION);
+        this.stateFile = new File(directory, base + STATE_SUFFIX);
+    }
+
+    /**
+     * Finds the newest complete generation in a directory.
+     *
+     * @param directory The garden directory
+     * @return The newest generation, or null if none is complete
+     */
+    static SnapshotGeneration latest(File directory) {
+        File[] files = directory.listFiles((dir, name) ->
+                name.startsWith(PREFIX) && name.endsWith(GardenSnapshot.FILE_EXTENSION));
+        SnapshotGeneration best = null;
+        if (files != null) {
+            for (File file : files) {
+                String name = file.getName();
+                long number;
+                try {
+                    number = Long.parseLong(name.substring(PREFIX.length(),
+                            name.length() - GardenSnapshot.FILE_EXTENSION.length()));
+                } catch (NumberFormatException e) {
+                    continue;
+                }
+                SnapshotGeneration candidate = new SnapshotGeneration(directory, number);
+                if (candidate.stateFile.isFile() && (best == null || number > best.number)) {
+                    best = candidate;
+                }
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Writes a new complete generation.
+     *
+     * @param directory The garden directory
+     * @param number The last journal segment folded into this generation
+     * @param garden The compacted garden state
+     * @param horizon The version vector covering every folded operation
+     * @param lamport The Lamport clock at compaction time
+     * @param plantStamps The winning edit stamp per plant at compaction time
+     * @param nowMillis Wall-clock time recorded in the snapshot
+     * @return The written generation
+     * @throws IOException If either file cannot be written
+     */
+    static SnapshotGeneration write(File directory, long number, Garden garden,
+                                    VersionVector horizon, long lamport,
+                                    Map<Long, PlantStamp> plantStamps, long nowMillis)
+            throws IOException {
+        SnapshotGeneration generation = new SnapshotGeneration(directory, number);
+
+        File tempState = new File(directory, generation.stateFile.getName() + ".tmp");
+        try (FileOutputStream file = new FileOutputStream(tempState);
+             DataOutputStream out = new DataOutputStream(file)) {
+            horizon.writeTo(out);
+            out.writeLong(lamport);
+            out.writeInt(plantStamps.size());
+            for (Map.Entry<Long, PlantStamp> entry : plantStamps.entrySet()) {
+                out.writeLong(entry.getKey());
+                out.writeLong(entry.getValue().getLamport());
+                out.writeUTF(entry.getValue().getReplicaId());
+            }
+            out.flush();
+            file.getFD().sync();
+        }
+        if (!tempState.renameTo(generation.stateFile)) {
+            throw new IOException("Could not write " + generation.stateFile);
+        }
+
+        // Written last: its presence is what makes the generation complete
+        GardenSnapshotWriter.write(garden, generation.snapshotFile, nowMillis);
+        return generation;
+    }
+
+    /**
+     * Deletes every generation older than this one.
+     *
+     * @param directory The garden directory
+     */
+    void deleteOlder(File directory) {
+        File[] files = directory.listFiles((dir, name) -> name.startsWith(PREFIX));
+        if (files == null) return;
+        for (File file : files) {
+            if (!file.equals(snapshotFile) && !file.equals(stateFile)) {
+                //noinspection ResultOfMethodCallIgnored
+                file.delete();
+            }
+        }
+    }
+
+    /**
+     * Reads the sync horizon stored with this generation.
+     *
+     * @return The version vector at compaction time
+     * @throws IOException If the state file cannot be read
+     */
+    VersionVector readHorizon() throws IOException {
+        try (DataInputStream in = new DataInputStream(new FileInputStream(stateFile))) {
+            return VersionVector.readFrom(in);
+        }
+    }
+
+    /**
+     * Reads the Lamport clock stored with this generation.
+     *
+     * @return The Lamport clock at compaction time
+     * @throws IOException If the state file cannot be read
+     */
+    long readLamport() throws IOException {
+        try (DataInputStream in = new DataInputStream(new FileInputStream(stateFile))) {
+            VersionVector.readFrom(in);
+            return in.readLong();
+        }
+    }
+
+    /**
+     * Reads the winning plant edit stamps stored with this generation.
+     *
+     * @return The stamps keyed by plant identifier
+     * @throws IOException If the state file cannot be read
+     */
+    Map<Long, PlantStamp> readPlantStamps() throws IOException {
+        try (DataInputStream in = new DataInputStream(new FileInputStream(stateFile))) {
+            VersionVector.readFrom(in);
+            in.readLong();
+            int count = in.readInt();
+            Map<Long, PlantStamp> stamps = new HashMap<>();
+            for (int i = 0; i < count; i++) {
+                long plantId = in.readLong();
+                stamps.put(plantId, new PlantStamp(in.readLong(), in.readUTF()));
+            }
+            return stamps;
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.nava.samiyuri.story;
+
+import android.content.Context;
+
+import com.nava.samiyuri.langpack.LanguagePackManager;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * StoryManifest - Reads the story pages for a language from its language pack.
+ * <p>
+ * Each language pack has its own manifest, the {@value #PACK_ENTRY} entry, so a
+ * translation may use a different number of pages than the English original.
+ * A manifest is plain text:
+ * <pre>
+ *   # Comment lines start with '#'
+ *   == @drawable/plant_radish
+ *   Text of the first page. Lines of a paragraph are
+ *   joined with spaces.
+ *
+ *   A blank line starts a new paragraph.
+ *   == story/garden.webp
+ *   Text of the second page.
+ * </pre>
+ * A line starting with {@code ==} opens a page and names its illustration,
+ * either a drawable resource or an asset path.
+ * <p>
+ * Languages without a manifest use the one of their fallback pack, like the
+ * rest of their content.
+ *
+ * @author Neriou
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class StoryManifest {
+
+    /**
+     * Name of the language pack entry that holds the story manifest.
+     */
+    public static final String PACK_ENTRY = "story";
+
+    private static final String PAGE_MARKER = "==";
+
+    private StoryManifest() {
+        // Static utility
+    }
+
+    /**
+     * Loads the story for a language. Waits for the language's pack if it is
+     * still being mapped, so call it off the main thread.
+     *
+     * @param context Any context
+     * @param languageCode The preferred language, e.g. "qu"
+     * @return The pages, never empty
+     * @throws IOException If no manifest can be read
+     */
+    public static List<StoryPage> load(Context context, String languageCode) throws IOException {
+        String manifest = LanguagePackManager.getInstance(context).awaitString(languageCode, PACK_ENTRY);
+        List<StoryPage> pages = manifest != null ? parse(new StringReader(manifest)) : null;
+        if (pages == null || pages.isEmpty()) {
+            throw new IOException("No story manifest for " + languageCode);
+        }
+        return pages;
+    }
+
+    /**
+     * Parses a story manifest.
+     *
+     * @param source The manifest text
+     * @return The pages in reading order
+     * @throws IOException If reading fails or text appears before the first page
+     */
+    public static List<StoryPage> parse(Reader source) throws IOException {
+        List<StoryPage> pages = new ArrayList<>();
+        BufferedReader reader = new BufferedReader(source);
+        String illustration = null;
+        StringBuilder text = new StringBuilder();
+        String line;
+        int lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.startsWith("#")) {
+                continue;
+            }
+            if (line.startsWith(PAGE_MARKER)) {
+                if (illustration != null) {
+                    pages.add(new StoryPage(illustration, text.toString().trim()));
+                }
+                illustration = line.substring(PAGE_MARKER.length()).trim();
+                if (illustration.isEmpty()) {
+                    throw new IOException("Line " + lineNumber + ": page without illustration");
+                }
+                text.setLength(0);
+            } else if (illustration == null) {
+                if (!line.trim().isEmpty()) {
+                    throw new IOException("Line " + lineNumber + ": text before the first page");
+                }
+            } else if (line.trim().isEmpty()) {
+                // Blank line: paragraph break
+                if (text.length() > 0 && text.charAt(text.length() - 1) != '\n') {
+                    text.append("\n\n");
+                }
+            } else {
+                // Lines of one paragraph are joined, so the manifest may wrap freely
+                if (text.length() > 0 && text.charAt(text.length() - 1) != '\n') {
+                    text.append(' ');
+                }
+                text.append(line.trim());
+            }
+        }
+        if (illustration != null) {
+            pages.add(new StoryPage(illustration, text.toString().trim()));
+        }
+        return pages;
+    }
+}
@@ -0,0 +1,51 @@
+package com.nava.samiyuri.story;
+
+/**
+ * StoryPage - One page of the onboarding story: an illustration and its text.
+ *
+ * @author Neriou
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class StoryPage {
+
+    /**
+     * Prefix of illustrations that name a drawable resource instead of an asset.
+     */
+    static final String DRAWABLE_PREFIX = "@drawable/";
+
+    private final String illustration;
+    private final String text;
+
+    /**
+     * @param illustration Either {@code @drawable/name} or an asset path such as
+     *                     {@code story/garden.webp}
+     * @param text The page text
+     */
+    public StoryPage(String illustration, String text) {
+        this.illustration = illustration;
+        this.text = text;
+    }
+
+    public String getIllustration() {
+        return illustration;
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    /**
+     * Returns whether the illustration is a drawable resource.
+     *
+     * @return true for {@code @drawable/} references, false for asset paths
+     */
+    public boolean isDrawableIllustration() {
+        return illustration.startsWith(DRAWABLE_PREFIX);
+    }
+
+    @Override
+    public String toString() {
+        return "StoryPage{" + illustration + ", " + text.length() + " chars}";
+    }
+}
@@ -0,0 +1,253 @@
+package com.nava.samiyuri.story;
+
+import android.content.Context;
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.ImageDecoder;
+import android.graphics.drawable.Drawable;
+import android.os.Handler;
+import android.os.Looper;
+import android.util.Log;
+import android.util.Size;
+import android.view.View;
+import android.widget.ImageView;
+import android.widget.TextView;
+
+import com.nava.samiyuri.BuildConfig;
+import com.nava.samiyuri.device.DevicePerformance;
+import com.nava.samiyuri.text.TextPrecomputer;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * StoryPager - Shows story pages one at a time and prepares the next ones in advance.
+ * <p>
+ * While the child reads a page, the next pages are prepared on
+ * a background thread: illustrations are decoded or rasterized at the size they
+ * are shown at, and texts are measured through {@link TextPrecomputer}. Turning
+ * the page then only swaps a ready bitmap and a measured text.
+ * <p>
+ * Key Features:
+ * - Illustrations are never decoded at full resolution, only at the size of the
+ *   illustration view, and are moved to graphics memory as hardware bitmaps,
+ *   keeping the Java heap small on 2 GB devices
+ * - At most the current page and the pages ahead hold an illustration; pages
+ *   behind the reader are released as soon as it moves on
+ * - How many pages are prepared ahead follows the device tier: one on low-end
+ *   devices, more where memory allows
+ * - Preparation waits for the illustration view's first layout, since decoding
+ *   needs its size
+ * <p>
+ * Call from the main thread only, and {@link #release()} when the story screen goes away.
+ *
+ * @author Neriou
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class StoryPager {
+
+    private static final String TAG = "StoryPager";
+
+    private final Context context;
+
+    /**
+     * Pages prepared ahead of the current one.
+     */
+    private final int lookAhead = DevicePerformance.getTier().getPrefetchDepth();
+
+    private final List<StoryPage> pages;
+    private final ImageView illustrationView;
+    private final TextView textView;
+
+    private final Bitmap[] illustrations;
+    private final boolean[] requested;
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+    private final ExecutorService preparer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "story-prepare");
+        thread.setPriority(Thread.NORM_PRIORITY - 1);
+        return thread;
+    });
+
+    private int currentPage = -1;
+    private int targetWidth;
+    private int targetHeight;
+    private boolean released;
+
+    /**
+     * @param context The story screen's context; used to load illustrations
+     * @param pages The story pages
+     * @param illustrationView Shows the current page's illustration
+     * @param textView Shows the current page's text
+     */
+    public StoryPager(Context context, List<StoryPage> pages, ImageView illustrationView, TextView textView) {
+        this.context = context;
+        this.pages = pages;
+        this.illustrationView = illustrationView;
+        this.textView = textView;
+        this.illustrations = new Bitmap[pages.size()];
+        this.requested = new boolean[pages.size()];
+
+        if (illustrationView.getWidth() > 0 && illustrationView.getHeight() > 0) {
+            // Created after the story finished loading, once the screen was laid out
+            targetWidth = illustrationView.getWidth();
+            targetHeight = illustrationView.getHeight();
+            return;
+        }
+        illustrationView.addOnLayoutChangeListener(new View.OnLayoutChangeListener() {
+            @Override
+            public void onLayoutChange(View v, int left, int top, int right, int bottom,
+                                       int oldLeft, int oldTop, int oldRight, int oldBottom) {
+                if (right - left <= 0 || bottom - top <= 0) {
+                    return;
+                }
+                v.removeOnLayoutChangeListener(this);
+                targetWidth = right - left;
+                targetHeight = bottom - top;
+                prepareAhead();
+            }
+        });
+    }
+
+    public int getPageCount() {
+        return pages.size();
+    }
+
+    public int getCurrentPage() {
+        return currentPage;
+    }
+
+    public boolean hasNextPage() {
+        return currentPage + 1 < pages.size();
+    }
+
+    /**
+     * Shows a page and starts preparing the pages after it.
+     *
+     * @param index Zero-based page index
+     */
+    public void showPage(int index) {
+        if (released || index < 0 || index >= pages.size()) {
+            return;
+        }
+        currentPage = index;
+
+        // Measured ahead of time, so normally set at once
+        TextPrecomputer.getInstance().setTextAsync(textView, pages.get(index).getText());
+
+        // A page that is not ready yet shows its illustration as soon as it is
+        illustrationView.setImageBitmap(illustrations[index]);
+
+        // Release everything behind the reader
+        for (int i = 0; i < index; i++) {
+            illustrations[i] = null;
+        }
+        prepareAhead();
+    }
+
+    /**
+     * Stops preparation and drops every prepared page.
+     */
+    public void release() {
+        released = true;
+        preparer.shutdownNow();
+        for (int i = 0; i < illustrations.length; i++) {
+            illustrations[i] = null;
+        }
+    }
+
+    private void prepareAhead() {
+        if (released || currentPage < 0) {
+            return;
+        }
+        int last = Math.min(pages.size() - 1, currentPage + lookAhead);
+        for (int i = currentPage + 1; i <= last; i++) {
+            TextPrecomputer.getInstance().prefetch(textView, pages.get(i).getText());
+        }
+        if (targetWidth == 0) {
+            return; // Not laid out yet - continued from the layout listener
+        }
+        for (int i = currentPage; i <= last; i++) {
+            if (!requested[i]) {
+                requested[i] = true;
+                prepare(i, targetWidth, targetHeight);
+            }
+        }
+    }
+
+    private void prepare(int index, int width, int height) {
+        StoryPage page = pages.get(index);
+        preparer.execute(() -> {
+            long start = System.nanoTime();
+            Bitmap bitmap = loadIllustration(page, width, height);
+            if (BuildConfig.DEBUG) {
+                Log.d(TAG, "Prepared page " + index + " in " + (System.nanoTime() - start) / 1000 + " µs");
+            }
+            mainHandler.post(() -> {
+                if (released || index < currentPage) {
+                    return; // The reader has moved past this page meanwhile
+                }
+                illustrations[index] = bitmap;
+                if (index == currentPage) {
+                    illustrationView.setImageBitmap(bitmap);
+                }
+            });
+        });
+    }
+
+    /**
+     * Decodes or rasterizes a page's illustration to fit inside the given box.
+     *
+     * @return The illustration, or null if it cannot be loaded
+     */
+    private Bitmap loadIllustration(StoryPage page, int width, int height) {
+        try {
+            if (page.isDrawableIllustration()) {
+                return rasterize(page, width, height);
+            }
+            ImageDecoder.Source source = ImageDecoder.createSource(context.getAssets(), page.getIllustration());
+            return ImageDecoder.decodeBitmap(source, (decoder, info, src) -> {
+                // Decode straight to the displayed size; the default allocator
+                // already places the pixels in graphics memory
+                Size size = info.getSize();
+                float scale = Math.min(1f, Math.min((float) width / size.getWidth(),
+                        (float) height / size.getHeight()));
+                decoder.setTargetSize(Math.max(1, Math.round(size.getWidth() * scale)),
+                        Math.max(1, Math.round(size.getHeight() * scale)));
+            });
+        } catch (IOException | RuntimeException e) {
+            Log.e(TAG, "Failed to load illustration " + page.getIllustration(), e);
+            return null;
+        }
+    }
+
+    private Bitmap rasterize(StoryPage page, int width, int height) {
+        String name = page.getIllustration().substring(StoryPage.DRAWABLE_PREFIX.length());
+        int drawableRes = context.getResources().getIdentifier(name, "drawable", context.getPackageName());
+        Drawable drawable = drawableRes != 0 ? context.getDrawable(drawableRes) : null;
+        if (drawable == null) {
+            Log.w(TAG, "Unknown illustration " + page.getIllustration());
+            return null;
+        }
+
+        int intrinsicWidth = drawable.getIntrinsicWidth() > 0 ? drawable.getIntrinsicWidth() : width;
+        int intrinsicHeight = drawable.getIntrinsicHeight() > 0 ? drawable.getIntrinsicHeight() : height;
+        float scale = Math.min((float) width / intrinsicWidth, (float) height / intrinsicHeight);
+        int bitmapWidth = Math.max(1, Math.round(intrinsicWidth * scale));
+        int bitmapHeight = Math.max(1, Math.round(intrinsicHeight * scale));
+
+        Bitmap software = Bitmap.createBitmap(bitmapWidth, bitmapHeight, Bitmap.Config.ARGB_8888);
+        drawable.setBounds(0, 0, bitmapWidth, bitmapHeight);
+        drawable.draw(new Canvas(software));
+
+        // Move the pixels to graphics memory; the software copy was never shown
+        Bitmap hardware = software.copy(Bitmap.Config.HARDWARE, false);
+        if (hardware == null) {
+            return software;
+        }
+        software.recycle();
+        return hardware;
+    }
+}
@@ -0,0 +1,218 @@
+package com.nava.samiyuri.sync;
+
+import com.nava.samiyuri.garden.CareAction;
+import com.nava.samiyuri.garden.CareEvent;
+import com.nava.samiyuri.garden.PlantRecord;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * DeltaCodec - Compact, compressed encoding for batches of {@link SyncOp}s.
+ * <p>
+ * A week of classroom activity is mostly care events that differ only in a few
+ * bytes, so the encoding is designed to leave as little as possible for the
+ * compressor to do:
+ * <p>
+ * - Replica identifiers are written once per batch and referenced by index
+ * - All integers are unsigned variable-length (7 bits per byte)
+ * - Counters and timestamps are delta-encoded against the previous operation
+ * - The whole batch is then deflated
+ * <p>
+ * The result is typically a few bytes per care event.
+ *
+ * @author Neriou
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class DeltaCodec {
+
+    private DeltaCodec() {
+        // Static utility
+    }
+
+    /**
+     * Encodes and compresses a batch of operations.
+     *
+     * @param ops The operations to encode
+     * @return The compressed batch
+     */
+    public static byte[] encode(List<SyncOp> ops) {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+            try (DataOutputStream out = new DataOutputStream(new DeflaterOutputStream(bytes, deflater))) {
+                Map<String, Integer> replicas = new HashMap<>();
+                List<String> replicaTable = new ArrayList<>();
+                for (SyncOp op : ops) {
+                    if (!replicas.containsKey(op.getReplicaId())) {
+                        replicas.put(op.getReplicaId(), replicaTable.size());
+                        replicaTable.add(op.getReplicaId());
+                    }
+                }
+                writeVarLong(out, replicaTable.size());
+                for (String replica : replicaTable) {
+                    writeString(out, replica);
+                }
+
+                writeVarLong(out, ops.size());
+                long previousCounter = 0;
+                long previousLamport = 0;
+                long previousTime = 0;
+                for (SyncOp op : ops) {
+                    writeVarLong(out, replicas.get(op.getReplicaId()));
+                    writeVarLong(out, zigZag(op.getCounter() - previousCounter));
+                    writeVarLong(out, zigZag(op.getLamport() - previousLamport));
+                    previousCounter = op.getCounter();
+                    previousLamport = op.getLamport();
+                    out.writeByte(op.getType());
+
+                    if (op.getType() == SyncOp.TYPE_CARE) {
+                        CareEvent event = op.getCareEvent();
+                        writeVarLong(out, event.getPlantId());
+                        out.writeByte(event.getAction().getCode());
+                        writeVarLong(out, zigZag(event.getTimestampMillis() - previousTime));
+                        previousTime = event.getTimestampMillis();
+                    } else {
+                        PlantRecord plant = op.getPlant();
+                        writeVarLong(out, plant.getId());
+                        writeString(out, plant.getName());
+                        writeString(out, plant.getSpecies());
+                        writeVarLong(out, plant.getGrowthStage());
+                        writeVarLong(out, zigZag(plant.getCreatedAtMillis() - previousTime));
+                        writeVarLong(out, zigZag(plant.getUpdatedAtMillis() - plant.getCreatedAtMillis()));
+                        previousTime = plant.getCreatedAtMillis();
+                    }
+                }
+            } finally {
+                deflater.end();
+            }
+            return bytes.toByteArray();
+        } catch (IOException e) {
+            // In-memory streams do not fail
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Decompresses and decodes a batch produced by {@link #encode(List)}.
+     *
+     * @param batch The compressed batch
+     * @return The decoded operations, in their original order
+     * @throws IOException If the batch is malformed
+     */
+    public static List<SyncOp> decode(byte[] batch) throws IOException {
+        try (DataInputStream in = new DataInputStream(
+                new InflaterInputStream(new ByteArrayInputStream(batch)))) {
+            int replicaCount = (int) readVarLong(in);
+            String[] replicaTable = new String[replicaCount];
+            for (int i = 0; i < replicaCount; i++) {
+                replicaTable[i] = readString(in);
+            }
+
+            int opCount = (int) readVarLong(in);
+            List<SyncOp> ops = new ArrayList<>(opCount);
+            long counter = 0;
+            long lamport = 0;
+            long time = 0;
+            for (int i = 0; i < opCount; i++) {
+                int replicaIndex = (int) readVarLong(in);
+                if (replicaIndex < 0 || replicaIndex >= replicaCount) {
+                    throw new IOException("Bad replica reference in sync batch");
+                }
+                String replica = replicaTable[replicaIndex];
+                counter += unZigZag(readVarLong(in));
+                lamport += unZigZag(readVarLong(in));
+                int type = in.readUnsignedByte();
+
+                if (type == SyncOp.TYPE_CARE) {
+                    long plantId = readVarLong(in);
+                    CareAction action;
+                    try {
+                        action = CareAction.fromCode(in.readUnsignedByte());
+                    } catch (IllegalArgumentException e) {
+                        throw new IOException(e.getMessage(), e);
+                    }
+                    time += unZigZag(readVarLong(in));
+                    ops.add(SyncOp.care(replica, counter, lamport, new CareEvent(plantId, action, time)));
+                } else if (type == SyncOp.TYPE_PLANT) {
+                    long id = readVarLong(in);
+                    String name = readString(in);
+                    String species = readString(in);
+                    int stage = (int) readVarLong(in);
+                    time += unZigZag(readVarLong(in));
+                    long updated = time + unZigZag(readVarLong(in));
+                    ops.add(SyncOp.plant(replica, counter, lamport,
+                            new PlantRecord(id, name, species, stage, time, updated)));
+                } else {
+                    throw new IOException("Unknown sync operation type " + type);
+                }
+            }
+            return ops;
+        }
+    }
+
+    // ------------------------------------------------------------------
+    // Primitive encodings
+    // ------------------------------------------------------------------
+
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static void writeVarLong(OutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static long readVarLong(InputStream in) throws IOException {
+        long result = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.read();
+            if (b < 0) {
+                throw new IOException("Truncated sync batch");
+            }
+            result |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return result;
+            }
+        }
+        throw new IOException("Malformed varint in sync batch");
+    }
+
+    private static void writeString(OutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(out, bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = (int) readVarLong(in);
+        if (length < 0 || length > 1 << 16) {
+            throw new IOException("Bad string length in sync batch");
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
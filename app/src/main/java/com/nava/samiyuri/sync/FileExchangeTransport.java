@@ -0,0 +1,95 @@
+package com.nava.samiyuri.sync;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.Files;
+import java.util.Locale;
+
+/**
+ * FileExchangeTransport - Carries sync frames through a shared folder.
+ * <p>
+ * Each frame becomes one numbered file named after the sending and receiving
+ * replica. The folder can live on a USB stick passed between tablets or on any
+ * other storage both sides can reach. Files are written under a temporary name
+ * and renamed when complete, so the reader never sees a partial frame, and are
+ * deleted once consumed.
+ *
+ * @author Neriou
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class FileExchangeTransport implements SyncTransport {
+
+    /**
+     * Interval between checks for the next incoming frame.
+     */
+    private static final long POLL_INTERVAL_MS = 20;
+
+    private final File directory;
+    private final String localId;
+    private final String peerId;
+    private final long timeoutMs;
+    private int sent;
+    private int received;
+
+    /**
+     * Creates a transport over a shared folder.
+     *
+     * @param directory The shared exchange folder
+     * @param localId Identifier of this side of the exchange
+     * @param peerId Identifier of the other side of the exchange
+     * @param timeoutMs How long {@link #receive()} waits for the next frame
+     */
+    public FileExchangeTransport(File directory, String localId, String peerId, long timeoutMs) {
+        this.directory = directory;
+        this.localId = localId;
+        this.peerId = peerId;
+        this.timeoutMs = timeoutMs;
+    }
+
+    @Override
+    public void send(byte[] frame) throws IOException {
+        File target = frameFile(localId, peerId, sent++);
+        File temp = new File(directory, target.getName() + ".tmp");
+        try (FileOutputStream out = new FileOutputStream(temp)) {
+            out.write(frame);
+            out.getFD().sync();
+        }
+        if (!temp.renameTo(target)) {
+            throw new IOException("Could not publish sync frame " + target);
+        }
+    }
+
+    @Override
+    public byte[] receive() throws IOException {
+        File source = frameFile(peerId, localId, received);
+        long deadline = System.currentTimeMillis() + timeoutMs;
+        while (!source.exists()) {
+            if (System.currentTimeMillis() > deadline) {
+                throw new IOException("Timed out waiting for sync frame " + source.getName());
+            }
+            try {
+                Thread.sleep(POLL_INTERVAL_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted waiting for sync frame");
+            }
+        }
+        byte[] frame = Files.readAllBytes(source.toPath());
+        //noinspection ResultOfMethodCallIgnored
+        source.delete();
+        received++;
+        return frame;
+    }
+
+    @Override
+    public void close() {
+        // Nothing to release; consumed frames are already deleted
+    }
+
+    private File frameFile(String from, String to, int sequence) {
+        return new File(directory, String.format(Locale.ROOT, "%s-%s-%06d.frame", from, to, sequence));
+    }
+}
@@ -0,0 +1,63 @@
+package com.nava.samiyuri.sync;
+
+/**
+ * PlantStamp - The last-writer-wins position of a plant edit.
+ * <p>
+ * A plant edit replaces the current one only if its stamp is newer: a higher
+ * Lamport clock wins, and equal clocks are broken by the higher replica id.
+ * The winning stamp of every plant is kept with each compacted snapshot, so an
+ * older edit arriving from a peer after a restart still loses.
+ * <p>
+ * Instances are immutable.
+ *
+ * @author Neriou
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class PlantStamp {
+
+    private final long lamport;
+    private final String replicaId;
+
+    /**
+     * Creates a stamp.
+     *
+     * @param lamport The Lamport clock of the edit
+     * @param replicaId The replica that made the edit
+     */
+    public PlantStamp(long lamport, String replicaId) {
+        this.lamport = lamport;
+        this.replicaId = replicaId;
+    }
+
+    /**
+     * Returns the stamp of a plant operation.
+     *
+     * @param op A plant operation
+     * @return Its stamp
+     */
+    static PlantStamp of(SyncOp op) {
+        return new PlantStamp(op.getLamport(), op.getReplicaId());
+    }
+
+    public long getLamport() {
+        return lamport;
+    }
+
+    public String getReplicaId() {
+        return replicaId;
+    }
+
+    /**
+     * Returns whether an edit with this stamp replaces one with the other stamp.
+     *
+     * @param current The stamp of the edit currently applied
+     * @return true if this stamp is newer
+     */
+    public boolean beats(PlantStamp current) {
+        if (lamport != current.lamport) {
+            return lamport > current.lamport;
+        }
+        return replicaId.compareTo(current.replicaId) > 0;
+    }
+}
@@ -0,0 +1,65 @@
+package com.nava.samiyuri.sync;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.Socket;
+
+/**
+ * SocketSyncTransport - Carries sync frames over a TCP socket.
+ * <p>
+ * Frames are length-prefixed. This works between tablets on the classroom
+ * Wi-Fi and over the loopback interface in tests.
+ *
+ * @author Neriou
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class SocketSyncTransport implements SyncTransport {
+
+    /**
+     * Upper bound for a single frame, protecting against corrupt length prefixes.
+     */
+    private static final int MAX_FRAME_SIZE = 4 * 1024 * 1024;
+
+    private final Socket socket;
+    private final DataInputStream in;
+    private final DataOutputStream out;
+
+    /**
+     * Wraps an already connected socket.
+     *
+     * @param socket The connected socket; closed together with this transport
+     * @throws IOException If the socket streams cannot be opened
+     */
+    public SocketSyncTransport(Socket socket) throws IOException {
+        this.socket = socket;
+        this.in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+        this.out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+    }
+
+    @Override
+    public void send(byte[] frame) throws IOException {
+        out.writeInt(frame.length);
+        out.write(frame);
+        out.flush();
+    }
+
+    @Override
+    public byte[] receive() throws IOException {
+        int length = in.readInt();
+        if (length < 0 || length > MAX_FRAME_SIZE) {
+            throw new IOException("Bad sync frame length " + length);
+        }
+        byte[] frame = new byte[length];
+        in.readFully(frame);
+        return frame;
+    }
+
+    @Override
+    public void close() throws IOException {
+        socket.close();
+    }
+}
@@ -0,0 +1,392 @@
+package com.nava.samiyuri.sync;
+
+import com.nava.samiyuri.garden.CareAction;
+import com.nava.samiyuri.garden.CareEvent;
+import com.nava.samiyuri.garden.Garden;
+import com.nava.samiyuri.garden.PlantRecord;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * SyncEngine - Merges garden changes made on several classroom tablets.
+ * <p>
+ * Every local change is recorded as a {@link SyncOp} and applied to the
+ * {@link Garden}. When two tablets meet, they compare {@link VersionVector}s and
+ * exchange only the operations the other side is missing, in compressed batches.
+ * Applying the same set of operations in any order yields the same garden on
+ * every tablet:
+ * <p>
+ * - Care events are a grow-only set; each operation is applied exactly once
+ * - Plant edits are last-writer-wins by Lamport clock, ties broken by replica id
+ * <p>
+ * The exchange is half-duplex so that it cannot deadlock on small socket buffers:
+ * <pre>
+ *   initiator                      responder
+ *     HELLO(vv)        ------->
+ *                      <-------    HELLO(vv), BATCH*, END
+ *     BATCH*, END      ------->
+ * </pre>
+ * A side whose compacted history the peer has not fully seen sends BEHIND
+ * instead of its batches, and both sides fail with {@link SyncHorizonException}
+ * rather than exchange a delta with holes.
+ * The garden must only be modified through this engine. All methods synchronize
+ * on the engine, and the lock is never held during transport I/O, so a care tap
+ * on the UI thread is never blocked by a slow network peer.
+ *
+ * @author Neriou
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class SyncEngine {
+
+    /**
+     * Maximum operations per compressed batch.
+     * <p>
+     * Large enough for deflate to find the repetition between care events, small
+     * enough that a batch never needs more than a few kilobytes of buffer.
+     */
+    static final int MAX_OPS_PER_BATCH = 256;
+
+    private static final int FRAME_HELLO = 1;
+    private static final int FRAME_BATCH = 2;
+    private static final int FRAME_END = 3;
+    private static final int FRAME_BEHIND = 4;
+
+    private final String replicaId;
+    private final Garden garden;
+    private final VersionVector seen = new VersionVector();
+
+    /**
+     * Operations folded into the compacted snapshot; no longer in {@link #log}.
+     */
+    private final VersionVector baseline = new VersionVector();
+    private final List<SyncOp> log = new ArrayList<>();
+
+    /**
+     * Winning (lamport, replica) stamp per plant for last-writer-wins edits.
+     */
+    private final Map<Long, PlantStamp> plantWinners = new HashMap<>();
+
+    private long lamport;
+
+    /**
+     * Creates an engine for this tablet.
+     *
+     * @param replicaId Stable, unique identifier of this tablet
+     * @param garden The garden that operations are applied to
+     */
+    public SyncEngine(String replicaId, Garden garden) {
+        this.replicaId = replicaId;
+        this.garden = garden;
+    }
+
+    public String getReplicaId() {
+        return replicaId;
+    }
+
+    /**
+     * Records a care action performed on this tablet.
+     *
+     * @param plantId The plant that received the care
+     * @param action The kind of care
+     * @param timestampMillis Wall-clock time of the action
+     * @return The operation that was recorded
+     */
+    public synchronized SyncOp recordCare(long plantId, CareAction action, long timestampMillis) {
+        SyncOp op = SyncOp.care(replicaId, seen.get(replicaId) + 1, ++lamport,
+                new CareEvent(plantId, action, timestampMillis));
+        apply(op);
+        return op;
+    }
+
+    /**
+     * Records a plant creation or edit performed on this tablet.
+     *
+     * @param plant The new state of the plant
+     * @return The operation that was recorded
+     */
+    public synchronized SyncOp putPlant(PlantRecord plant) {
+        SyncOp op = SyncOp.plant(replicaId, seen.get(replicaId) + 1, ++lamport, plant);
+        apply(op);
+        return op;
+    }
+
+    /**
+     * Applies an operation from any replica, ignoring ones already seen.
+     * <p>
+     * Also used to replay persisted operations when the app starts.
+     *
+     * @param op The operation to apply
+     * @return true if the operation was new and has been applied
+     */
+    public synchronized boolean apply(SyncOp op) {
+        if (seen.covers(op.getReplicaId(), op.getCounter())) {
+            return false;
+        }
+        seen.advance(op.getReplicaId(), op.getCounter());
+        lamport = Math.max(lamport, op.getLamport());
+        log.add(op);
+
+        if (op.getType() == SyncOp.TYPE_CARE) {
+            garden.addCareEvent(op.getCareEvent());
+        } else {
+            long plantId = op.getPlant().getId();
+            PlantStamp stamp = PlantStamp.of(op);
+            PlantStamp winner = plantWinners.get(plantId);
+            if (winner == null || stamp.beats(winner)) {
+                plantWinners.put(plantId, stamp);
+                garden.putPlant(op.getPlant());
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Marks operations folded into a compacted snapshot as already applied.
+     * <p>
+     * The garden passed to the constructor must already contain the snapshot's
+     * state. Operations at or below the horizon are then ignored if a peer sends
+     * them again, instead of duplicating care history, and plant edits older than
+     * the compacted ones lose as they would have before compaction.
+     *
+     * @param horizon The version vector the snapshot was compacted at
+     * @param lamportClock The Lamport clock value at compaction time
+     * @param plantStamps The winning edit stamp per plant at compaction time
+     */
+    public synchronized void restoreBaseline(VersionVector horizon, long lamportClock,
+                                             Map<Long, PlantStamp> plantStamps) {
+        for (Map.Entry<String, Long> entry : horizon.asMap().entrySet()) {
+            seen.advance(entry.getKey(), entry.getValue());
+            baseline.advance(entry.getKey(), entry.getValue());
+        }
+        lamport = Math.max(lamport, lamportClock);
+        for (Map.Entry<Long, PlantStamp> entry : plantStamps.entrySet()) {
+            PlantStamp winner = plantWinners.get(entry.getKey());
+            if (winner == null || entry.getValue().beats(winner)) {
+                plantWinners.put(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    /**
+     * Returns the current Lamport clock value.
+     *
+     * @return The highest Lamport timestamp seen or issued
+     */
+    public synchronized long getLamport() {
+        return lamport;
+    }
+
+    /**
+     * Returns the winning edit stamp of every plant, for storing with a snapshot.
+     *
+     * @return A copy keyed by plant identifier
+     */
+    public synchronized Map<Long, PlantStamp> getPlantStamps() {
+        return new HashMap<>(plantWinners);
+    }
+
+    /**
+     * Returns a copy of this tablet's version vector.
+     *
+     * @return The highest counter seen per replica
+     */
+    public synchronized VersionVector getVersionVector() {
+        VersionVector copy = new VersionVector();
+        for (Map.Entry<String, Long> entry : seen.asMap().entrySet()) {
+            copy.advance(entry.getKey(), entry.getValue());
+        }
+        return copy;
+    }
+
+    /**
+     * Returns every operation known to this tablet, in the order it was applied.
+     *
+     * @return An unmodifiable copy of the operation log
+     */
+    public synchronized List<SyncOp> getLog() {
+        return Collections.unmodifiableList(new ArrayList<>(log));
+    }
+
+    /**
+     * Returns whether a peer has seen every operation folded into the compacted
+     * snapshot, which is what {@link #opsMissingFrom(VersionVector)} needs to be complete.
+     *
+     * @param peer The peer's version vector
+     * @return true if the peer is at or past this tablet's baseline
+     */
+    public synchronized boolean coversBaseline(VersionVector peer) {
+        for (Map.Entry<String, Long> entry : baseline.asMap().entrySet()) {
+            if (!peer.covers(entry.getKey(), entry.getValue())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the operations a peer with the given version vector has not seen.
+     * <p>
+     * Operations folded into the compacted snapshot are not included; check
+     * {@link #coversBaseline(VersionVector)} first.
+     *
+     * @param peer The peer's version vector
+     * @return The missing operations, in application order
+     */
+    public synchronized List<SyncOp> opsMissingFrom(VersionVector peer) {
+        List<SyncOp> missing = new ArrayList<>();
+        for (SyncOp op : log) {
+            if (!peer.covers(op.getReplicaId(), op.getCounter())) {
+                missing.add(op);
+            }
+        }
+        return missing;
+    }
+
+    // ------------------------------------------------------------------
+    // Exchange protocol
+    // ------------------------------------------------------------------
+
+    /**
+     * Runs the initiating side of an exchange.
+     *
+     * @param transport The channel to the peer
+     * @return Statistics describing what was exchanged
+     * @throws SyncHorizonException If either side is behind the other's compacted history
+     * @throws IOException If the transport fails or the peer misbehaves
+     */
+    public Result initiate(SyncTransport transport) throws IOException {
+        Result result = new Result();
+        send(transport, helloFrame(getVersionVector()), result);
+
+        VersionVector peer = readHello(receive(transport, result));
+        receiveBatches(transport, result);
+        sendBatches(transport, peer, result);
+        return result;
+    }
+
+    /**
+     * Runs the responding side of an exchange.
+     *
+     * @param transport The channel to the peer
+     * @return Statistics describing what was exchanged
+     * @throws SyncHorizonException If either side is behind the other's compacted history
+     * @throws IOException If the transport fails or the peer misbehaves
+     */
+    public Result respond(SyncTransport transport) throws IOException {
+        Result result = new Result();
+        VersionVector peer = readHello(receive(transport, result));
+
+        send(transport, helloFrame(getVersionVector()), result);
+        sendBatches(transport, peer, result);
+        receiveBatches(transport, result);
+        return result;
+    }
+
+    private void sendBatches(SyncTransport transport, VersionVector peer, Result result) throws IOException {
+        if (!coversBaseline(peer)) {
+            // The operations the peer lacks were compacted away; a partial delta would lose them
+            send(transport, new byte[]{FRAME_BEHIND}, result);
+            throw new SyncHorizonException("Peer is behind this tablet's compacted history");
+        }
+        List<SyncOp> ops = opsMissingFrom(peer);
+        for (int from = 0; from < ops.size(); from += MAX_OPS_PER_BATCH) {
+            List<SyncOp> batch = ops.subList(from, Math.min(ops.size(), from + MAX_OPS_PER_BATCH));
+            byte[] encoded = DeltaCodec.encode(batch);
+            byte[] frame = new byte[encoded.length + 1];
+            frame[0] = FRAME_BATCH;
+            System.arraycopy(encoded, 0, frame, 1, encoded.length);
+            send(transport, frame, result);
+            result.opsSent += batch.size();
+        }
+        send(transport, new byte[]{FRAME_END}, result);
+    }
+
+    private void receiveBatches(SyncTransport transport, Result result) throws IOException {
+        while (true) {
+            byte[] frame = receive(transport, result);
+            if (frame.length == 1 && frame[0] == FRAME_END) {
+                return;
+            }
+            if (frame.length == 1 && frame[0] == FRAME_BEHIND) {
+                throw new SyncHorizonException("This tablet is behind the peer's compacted history");
+            }
+            if (frame.length == 0 || frame[0] != FRAME_BATCH) {
+                throw new IOException("Unexpected sync frame");
+            }
+            List<SyncOp> ops = DeltaCodec.decode(Arrays.copyOfRange(frame, 1, frame.length));
+            synchronized (this) {
+                for (SyncOp op : ops) {
+                    if (apply(op)) {
+                        result.opsReceived++;
+                    }
+                }
+            }
+        }
+    }
+
+    private static byte[] helloFrame(VersionVector vector) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeByte(FRAME_HELLO);
+        vector.writeTo(out);
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    private static VersionVector readHello(byte[] frame) throws IOException {
+        if (frame.length == 0 || frame[0] != FRAME_HELLO) {
+            throw new IOException("Expected sync hello");
+        }
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(frame, 1, frame.length - 1));
+        return VersionVector.readFrom(in);
+    }
+
+    private static void send(SyncTransport transport, byte[] frame, Result result) throws IOException {
+        transport.send(frame);
+        result.bytesSent += frame.length;
+    }
+
+    private static byte[] receive(SyncTransport transport, Result result) throws IOException {
+        byte[] frame = transport.receive();
+        result.bytesReceived += frame.length;
+        return frame;
+    }
+
+    /**
+     * Result - Statistics for one exchange.
+     */
+    public static final class Result {
+
+        private int opsSent;
+        private int opsReceived;
+        private long bytesSent;
+        private long bytesReceived;
+
+        public int getOpsSent() {
+            return opsSent;
+        }
+
+        public int getOpsReceived() {
+            return opsReceived;
+        }
+
+        public long getBytesSent() {
+            return bytesSent;
+        }
+
+        public long getBytesReceived() {
+            return bytesReceived;
+        }
+    }
+}
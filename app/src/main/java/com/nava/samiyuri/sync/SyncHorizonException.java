@@ -0,0 +1,30 @@
+package com.nava.samiyuri.sync;
+
+import java.io.IOException;
+
+/**
+ * SyncHorizonException - An exchange that cannot send a complete delta.
+ * <p>
+ * Operations older than a tablet's compacted snapshot are no longer in its
+ * operation log. A peer that has not seen all of them would receive a delta
+ * with holes and silently miss care history, so the exchange stops instead,
+ * on both sides. The tablet that is behind should import an exported garden
+ * snapshot from the other one and sync again afterwards.
+ *
+ * @author Neriou
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class SyncHorizonException extends IOException {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Creates the exception.
+     *
+     * @param message Which side is behind
+     */
+    public SyncHorizonException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,87 @@
+package com.nava.samiyuri.sync;
+
+import com.nava.samiyuri.garden.CareEvent;
+import com.nava.samiyuri.garden.PlantRecord;
+
+/**
+ * SyncOp - One replicated change to the garden.
+ * <p>
+ * An operation is identified by the replica that produced it and a counter that
+ * increases by one for every operation on that replica. Two kinds exist:
+ * <p>
+ * - Care operations add a {@link CareEvent}. Care history is a grow-only set, so
+ *   care operations from different tablets never conflict and merge by union.
+ * - Plant operations set a {@link PlantRecord}. Plant edits are last-writer-wins,
+ *   ordered by a Lamport clock with the replica identifier as tie-breaker, so every
+ *   tablet converges on the same name and growth stage regardless of arrival order.
+ *
+ * @author Neriou
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class SyncOp {
+
+    /** Operation type for a care event. */
+    public static final int TYPE_CARE = 1;
+
+    /** Operation type for a plant edit. */
+    public static final int TYPE_PLANT = 2;
+
+    private final String replicaId;
+    private final long counter;
+    private final long lamport;
+    private final CareEvent careEvent;
+    private final PlantRecord plant;
+
+    private SyncOp(String replicaId, long counter, long lamport, CareEvent careEvent, PlantRecord plant) {
+        this.replicaId = replicaId;
+        this.counter = counter;
+        this.lamport = lamport;
+        this.careEvent = careEvent;
+        this.plant = plant;
+    }
+
+    /**
+     * Creates a care operation.
+     */
+    public static SyncOp care(String replicaId, long counter, long lamport, CareEvent event) {
+        return new SyncOp(replicaId, counter, lamport, event, null);
+    }
+
+    /**
+     * Creates a plant edit operation.
+     */
+    public static SyncOp plant(String replicaId, long counter, long lamport, PlantRecord plant) {
+        return new SyncOp(replicaId, counter, lamport, null, plant);
+    }
+
+    public int getType() {
+        return careEvent != null ? TYPE_CARE : TYPE_PLANT;
+    }
+
+    public String getReplicaId() {
+        return replicaId;
+    }
+
+    public long getCounter() {
+        return counter;
+    }
+
+    public long getLamport() {
+        return lamport;
+    }
+
+    /**
+     * @return The care event, or null if this is a plant operation
+     */
+    public CareEvent getCareEvent() {
+        return careEvent;
+    }
+
+    /**
+     * @return The plant record, or null if this is a care operation
+     */
+    public PlantRecord getPlant() {
+        return plant;
+    }
+}
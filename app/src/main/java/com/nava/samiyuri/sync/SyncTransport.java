@@ -0,0 +1,35 @@
+package com.nava.samiyuri.sync;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * SyncTransport - A pluggable, frame-oriented channel between two tablets.
+ * <p>
+ * The {@link SyncEngine} only ever exchanges whole frames in a strict
+ * request/response order, so a transport needs no knowledge of the protocol.
+ * Any medium that can carry byte arrays in order will do: a socket, a shared
+ * folder on a USB stick, or an in-memory pipe in tests.
+ *
+ * @author Neriou
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public interface SyncTransport extends Closeable {
+
+    /**
+     * Sends one frame to the peer.
+     *
+     * @param frame The frame bytes
+     * @throws IOException If the frame cannot be delivered
+     */
+    void send(byte[] frame) throws IOException;
+
+    /**
+     * Blocks until the next frame from the peer arrives.
+     *
+     * @return The frame bytes
+     * @throws IOException If the channel fails or is closed before a frame arrives
+     */
+    byte[] receive() throws IOException;
+}
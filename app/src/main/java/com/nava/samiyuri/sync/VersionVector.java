@@ -0,0 +1,100 @@
+package com.nava.samiyuri.sync;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * VersionVector - Tracks how many operations have been seen from each tablet.
+ * <p>
+ * Every tablet (replica) numbers its own operations 1, 2, 3... A version vector
+ * records the highest number seen per replica. Comparing two vectors tells one
+ * device exactly which operations the other one is missing, so only those need
+ * to be sent.
+ * <p>
+ * This class is not thread-safe; {@link SyncEngine} guards its vector.
+ *
+ * @author Neriou
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class VersionVector {
+
+    private final Map<String, Long> counters = new HashMap<>();
+
+    /**
+     * Returns the highest operation counter seen from a replica.
+     *
+     * @param replicaId The replica identifier
+     * @return The counter, or 0 if nothing has been seen from that replica
+     */
+    public long get(String replicaId) {
+        Long value = counters.get(replicaId);
+        return value == null ? 0 : value;
+    }
+
+    /**
+     * Returns whether the operation with the given identity has already been seen.
+     *
+     * @param replicaId The replica that produced the operation
+     * @param counter The operation's counter within that replica
+     * @return true if this vector already covers the operation
+     */
+    public boolean covers(String replicaId, long counter) {
+        return counter <= get(replicaId);
+    }
+
+    /**
+     * Raises the counter for a replica, never lowering it.
+     *
+     * @param replicaId The replica identifier
+     * @param counter The newly seen counter
+     */
+    public void advance(String replicaId, long counter) {
+        if (counter > get(replicaId)) {
+            counters.put(replicaId, counter);
+        }
+    }
+
+    /**
+     * Returns an unmodifiable view of all counters.
+     *
+     * @return Counters keyed by replica identifier
+     */
+    public Map<String, Long> asMap() {
+        return Collections.unmodifiableMap(counters);
+    }
+
+    /**
+     * Writes the vector in a compact form.
+     *
+     * @param out The destination
+     * @throws IOException If writing fails
+     */
+    public void writeTo(DataOutput out) throws IOException {
+        out.writeInt(counters.size());
+        for (Map.Entry<String, Long> entry : counters.entrySet()) {
+            out.writeUTF(entry.getKey());
+            out.writeLong(entry.getValue());
+        }
+    }
+
+    /**
+     * Reads a vector written by {@link #writeTo(DataOutput)}.
+     *
+     * @param in The source
+     * @return The decoded vector
+     * @throws IOException If reading fails
+     */
+    public static VersionVector readFrom(DataInput in) throws IOException {
+        VersionVector vector = new VersionVector();
+        int size = in.readInt();
+        for (int i = 0; i < size; i++) {
+            vector.advance(in.readUTF(), in.readLong());
+        }
+        return vector;
+    }
+}
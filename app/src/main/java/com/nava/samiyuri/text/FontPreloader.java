@@ -0,0 +1,121 @@
+package com.nava.samiyuri.text;
+
+import android.content.Context;
+import android.graphics.Typeface;
+import android.os.Process;
+import android.os.SystemClock;
+import android.util.Log;
+
+import androidx.annotation.Nullable;
+import androidx.core.content.res.ResourcesCompat;
+
+import com.nava.samiyuri.BuildConfig;
+import com.nava.samiyuri.R;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * FontPreloader - Decodes the app's typefaces before the first screen needs them.
+ * <p>
+ * Every screen uses the Latin Modern font families. Without preloading, the first
+ * inflation of each family opens and parses the OTF files on the main thread,
+ * which shows up as a slow first frame on low-spec devices. This class decodes
+ * both families on a background thread while the splash is visible.
+ * <p>
+ * Key Features:
+ * - Decoding goes through {@link ResourcesCompat#getFont}, the same cache AppCompat
+ *   text views consult during inflation, so layouts pick up the decoded typefaces
+ *   without any change to the XML
+ * - Decoded typefaces are also kept here for code that sets fonts programmatically
+ * - Never blocks: {@link #getTypeface(int)} returns null until decoding is done
+ * <p>
+ * The font files themselves are subset at build time to the glyphs used by our
+ * five languages, see the {@code subsetFonts} task in the app build script.
+ *
+ * @author Neriou
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class FontPreloader {
+
+    private static final String TAG = "FontPreloader";
+
+    /**
+     * Font families decoded at start-up, most used first.
+     */
+    private static final int[] FONT_FAMILIES = {
+            R.font.lmroman_font_family,
+            R.font.lmmono_font_family
+    };
+
+    private static volatile FontPreloader instance;
+
+    private final Context appContext;
+    private final Map<Integer, Typeface> typefaces = new ConcurrentHashMap<>();
+    private boolean started;
+
+    private FontPreloader(Context context) {
+        this.appContext = context.getApplicationContext();
+    }
+
+    /**
+     * Returns the process-wide font preloader.
+     *
+     * @param context Any context; only the application context is retained
+     * @return The shared instance
+     */
+    public static FontPreloader getInstance(Context context) {
+        if (instance == null) {
+            synchronized (FontPreloader.class) {
+                if (instance == null) {
+                    instance = new FontPreloader(context);
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Starts decoding the app's font families on a background thread.
+     * <p>
+     * Safe to call more than once; only the first call does any work.
+     */
+    public synchronized void preload() {
+        if (started) {
+            return;
+        }
+        started = true;
+
+        Thread thread = new Thread(() -> {
+            Process.setThreadPriority(Process.THREAD_PRIORITY_BACKGROUND);
+            long startedAt = SystemClock.uptimeMillis();
+            for (int fontRes : FONT_FAMILIES) {
+                try {
+                    Typeface typeface = ResourcesCompat.getFont(appContext, fontRes);
+                    if (typeface != null) {
+                        typefaces.put(fontRes, typeface);
+                    }
+                } catch (RuntimeException e) {
+                    // Not fatal: inflation will load the font itself
+                    Log.w(TAG, "Could not preload font " + fontRes, e);
+                }
+            }
+            if (BuildConfig.DEBUG) {
+                Log.d(TAG, "Fonts preloaded in " + (SystemClock.uptimeMillis() - startedAt) + " ms");
+            }
+        }, "font-preload");
+        thread.start();
+    }
+
+    /**
+     * Returns a decoded typeface if preloading has finished for it.
+     *
+     * @param fontRes The font family resource, e.g. {@code R.font.lmroman_font_family}
+     * @return The decoded typeface, or null if it is not available yet
+     */
+    @Nullable
+    public Typeface getTypeface(int fontRes) {
+        return typefaces.get(fontRes);
+    }
+}
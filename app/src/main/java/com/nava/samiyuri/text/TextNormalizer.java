@@ -0,0 +1,101 @@
+package com.nava.samiyuri.text;
+
+import java.text.Normalizer;
+import java.util.Locale;
+
+/**
+ * TextNormalizer - Folds text so that children's spelling variants compare equal.
+ * <p>
+ * Children type on whatever keyboard the classroom tablet has. "Kántu", "kantu",
+ * "k'antu" and "k’antu" should all find the same buddy or tip. Normalized text is:
+ * <p>
+ * - Lower case, independent of the device locale
+ * - Free of diacritics: Spanish accents and tildes, diaereses used in Aymara and
+ *   Quechua spellings (á → a, ñ → n, ü → u)
+ * - Free of apostrophe-like marks used for ejective and aspirated consonants in
+ *   Quechua and Aymara (', ’, ‘, ʼ, ´, `)
+ * <p>
+ * {@link #fold(char)} works one character at a time from a precomputed table, so
+ * callers that run per keystroke can normalize without allocating.
+ *
+ * @author Neriou
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class TextNormalizer {
+
+    /**
+     * Returned by {@link #fold(char)} for characters that are dropped entirely.
+     */
+    public static final char DROPPED = 0;
+
+    /**
+     * Characters below this code point are folded by table lookup; it covers
+     * Basic Latin, Latin-1 Supplement and Latin Extended-A/B.
+     */
+    private static final int TABLE_SIZE = 0x250;
+
+    private static final char[] FOLD_TABLE = new char[TABLE_SIZE];
+
+    static {
+        for (int c = 0; c < TABLE_SIZE; c++) {
+            String decomposed = Normalizer.normalize(String.valueOf((char) c), Normalizer.Form.NFD);
+            FOLD_TABLE[c] = decomposed.toLowerCase(Locale.ROOT).charAt(0);
+        }
+        FOLD_TABLE['\''] = DROPPED;
+        FOLD_TABLE['`'] = DROPPED;
+        FOLD_TABLE['´'] = DROPPED; // acute accent
+    }
+
+    private TextNormalizer() {
+        // Static utility
+    }
+
+    /**
+     * Folds a single character.
+     *
+     * @param c The character to fold
+     * @return The folded character, or {@link #DROPPED} if it should be skipped
+     */
+    public static char fold(char c) {
+        if (c < TABLE_SIZE) {
+            return FOLD_TABLE[c];
+        }
+        switch (c) {
+            case '‘': // left single quotation mark
+            case '’': // right single quotation mark
+            case 'ʼ': // modifier letter apostrophe
+            case 'ʻ': // modifier letter turned comma
+                return DROPPED;
+            default:
+                return Character.toLowerCase(c);
+        }
+    }
+
+    /**
+     * Returns whether a folded character is part of a word.
+     *
+     * @param folded A character returned by {@link #fold(char)}
+     * @return true for letters and digits
+     */
+    public static boolean isWordChar(char folded) {
+        return folded != DROPPED && Character.isLetterOrDigit(folded);
+    }
+
+    /**
+     * Normalizes a whole string.
+     *
+     * @param text The text to normalize
+     * @return The folded text, with dropped characters removed
+     */
+    public static String normalize(CharSequence text) {
+        StringBuilder result = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char folded = fold(text.charAt(i));
+            if (folded != DROPPED) {
+                result.append(folded);
+            }
+        }
+        return result.toString();
+    }
+}
@@ -0,0 +1,196 @@
+package com.nava.samiyuri.text;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.text.PrecomputedText;
+import android.util.Log;
+import android.widget.TextView;
+
+import com.nava.samiyuri.BuildConfig;
+import com.nava.samiyuri.cache.CacheGovernor;
+import com.nava.samiyuri.cache.GovernedCache;
+import com.nava.samiyuri.device.DevicePerformance;
+
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * TextPrecomputer - Measures text off the main thread before it reaches a TextView.
+ * <p>
+ * Setting a plain string on a TextView shapes and measures every glyph on the main
+ * thread during the next layout pass. For one-line labels that is negligible. For
+ * the story, which in Quechua and Aymara runs to long paragraphs of long words,
+ * it is a visible stall. Here text is turned into a {@link PrecomputedText} on a
+ * background thread with the target view's exact text metrics parameters. The
+ * view then only breaks lines over widths that were already measured.
+ * <p>
+ * Key Features:
+ * - Results are cached per text and metrics parameters. The parameters include
+ *   the view's text locale, so each language is cached on its own
+ * - No width in the cache key: glyph measurement does not depend on the width,
+ *   and line breaking for the actual width is the cheap part that stays in layout
+ * - The latest request per view wins. A result that arrives after the view has
+ *   been given other text is dropped
+ * - Until its text is measured a view keeps showing what it showed before, so
+ *   text is never measured on the main thread
+ * - {@link #prefetch} warms the cache for text a view will show later, like the
+ *   garden screen's mood statuses and each buddy's name and growth stage
+ * <p>
+ * Call from the main thread only.
+ *
+ * @author Neriou
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class TextPrecomputer {
+
+    private static final String TAG = "TextPrecomputer";
+
+    /**
+     * Precomputed texts kept for reuse: a story page in each language plus the
+     * garden screen's status lines.
+     */
+    private static final int MAX_CACHED_TEXTS = 48;
+
+    private static volatile TextPrecomputer instance;
+
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+    private final ExecutorService measurer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "text-measure");
+        thread.setPriority(Thread.NORM_PRIORITY - 1);
+        return thread;
+    });
+    private final GovernedCache<Key, PrecomputedText> cache =
+            CacheGovernor.getInstance().register(GovernedCache.<Key, PrecomputedText>counting(
+                    "precomputed-text", GovernedCache.Priority.NORMAL,
+                    DevicePerformance.getTier().scaleCacheSize(MAX_CACHED_TEXTS)));
+
+    /**
+     * The text most recently requested for each view, so stale results are dropped.
+     */
+    private final Map<TextView, Key> pending = new WeakHashMap<>();
+
+    private TextPrecomputer() {
+    }
+
+    /**
+     * Returns the process-wide text precomputer.
+     *
+     * @return The shared instance
+     */
+    public static TextPrecomputer getInstance() {
+        if (instance == null) {
+            synchronized (TextPrecomputer.class) {
+                if (instance == null) {
+                    instance = new TextPrecomputer();
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Sets text on a view, measured in the background where possible.
+     * <p>
+     * If the text was measured before for the same parameters, it is set at once.
+     * Otherwise the view keeps its previous text until the measured text is ready.
+     * Setting the plain text in between would measure it on the main thread and
+     * lay the view out twice, so callers should {@link #prefetch} text they know
+     * they will show.
+     *
+     * @param view The view to update
+     * @param text The text to show
+     */
+    public void setTextAsync(TextView view, CharSequence text) {
+        Key key = new Key(text.toString(), view.getTextMetricsParams());
+        PrecomputedText cached = cache.get(key);
+        if (cached != null) {
+            pending.remove(view);
+            view.setText(cached);
+            return;
+        }
+
+        pending.put(view, key);
+        measure(key, result -> {
+            if (!key.equals(pending.get(view))) {
+                return; // The view was given other text meanwhile
+            }
+            pending.remove(view);
+            if (result.getParams().equals(view.getTextMetricsParams())) {
+                view.setText(result);
+            } else {
+                // The view's style changed while measuring, measure again for the new one
+                setTextAsync(view, key.text);
+            }
+        });
+    }
+
+    /**
+     * Measures texts a view will show later, without changing the view.
+     *
+     * @param view The view whose parameters to measure with
+     * @param texts The texts to measure
+     */
+    public void prefetch(TextView view, CharSequence... texts) {
+        PrecomputedText.Params params = view.getTextMetricsParams();
+        for (CharSequence text : texts) {
+            Key key = new Key(text.toString(), params);
+            if (cache.get(key) == null) {
+                measure(key, null);
+            }
+        }
+    }
+
+    private void measure(Key key, Callback callback) {
+        measurer.execute(() -> {
+            long start = System.nanoTime();
+            PrecomputedText result = PrecomputedText.create(key.text, key.params);
+            if (BuildConfig.DEBUG) {
+                Log.d(TAG, "Measured " + key.text.length() + " chars in "
+                        + (System.nanoTime() - start) / 1000 + " µs");
+            }
+            mainHandler.post(() -> {
+                cache.put(key, result);
+                if (callback != null) {
+                    callback.onMeasured(result);
+                }
+            });
+        });
+    }
+
+    /**
+     * Callback - Receives a measurement on the main thread.
+     */
+    private interface Callback {
+        void onMeasured(PrecomputedText result);
+    }
+
+    /**
+     * Key - Text plus the metrics parameters it was measured with.
+     */
+    private static final class Key {
+
+        final String text;
+        final PrecomputedText.Params params;
+
+        Key(String text, PrecomputedText.Params params) {
+            this.text = text;
+            this.params = params;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key other = (Key) o;
+            return text.equals(other.text) && params.equals(other.params);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * text.hashCode() + params.hashCode();
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package com.nava.samiyuri.widget;
+
+import com.nava.samiyuri.garden.CareAction;
+import com.nava.samiyuri.garden.CareEvent;
+import com.nava.samiyuri.garden.PlantRecord;
+import com.nava.samiyuri.overview.SpriteAtlas;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BuddyMoodSummary - Every buddy's mood, worked out from its care history in one pass.
+ * <p>
+ * The garden screen cycles through the moods for show, but the home-screen widget
+ * has to tell the truth: a buddy nobody has watered for a while is thirsty, and a
+ * buddy nobody has looked after at all for longer needs attention. Both follow
+ * from the time since the last care of each kind, counted from the day the buddy
+ * was named.
+ * <p>
+ * Key Features:
+ * - One pass over the care history for all buddies at once, however many there are
+ * - Moods use the same indices as {@link SpriteAtlas}, so they pick the same
+ *   avatars as the garden screen
+ * - Knows when the next mood will change if nobody gives any care, so the widget
+ *   can wake up exactly then instead of polling
+ * - A {@link #fingerprint()} that changes only when something the widget shows
+ *   changes
+ * <p>
+ * Instances are immutable.
+ *
+ * @author Neriou
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class BuddyMoodSummary {
+
+    /** Time without water after which a buddy is thirsty. */
+    static final long THIRSTY_AFTER_MILLIS = TimeUnit.DAYS.toMillis(2);
+
+    /** Time without any care after which a buddy needs attention. */
+    static final long NEEDS_ATTENTION_AFTER_MILLIS = TimeUnit.DAYS.toMillis(4);
+
+    /** Value of {@link #getNextChangeAtMillis()} when no mood will ever change by itself. */
+    public static final long NEVER = Long.MAX_VALUE;
+
+    private final List<Buddy> buddies;
+    private final long nextChangeAtMillis;
+
+    private BuddyMoodSummary(List<Buddy> buddies, long nextChangeAtMillis) {
+        this.buddies = buddies;
+        this.nextChangeAtMillis = nextChangeAtMillis;
+    }
+
+    /**
+     * Works out the mood of every buddy that has mood avatars.
+     *
+     * @param plants The buddies, in the order they should be shown
+     * @param events The whole care history, in any order
+     * @param nowMillis The current wall-clock time
+     * @return The summary
+     */
+    public static BuddyMoodSummary compute(List<PlantRecord> plants, List<CareEvent> events, long nowMillis) {
+        // Last care per buddy: [0] last watering, [1] last care of any kind
+        Map<Long, long[]> lastCare = new HashMap<>();
+        for (PlantRecord plant : plants) {
+            lastCare.put(plant.getId(), new long[]{plant.getCreatedAtMillis(), plant.getCreatedAtMillis()});
+        }
+        for (CareEvent event : events) {
+            long[] last = lastCare.get(event.getPlantId());
+            if (last == null) {
+                continue;
+            }
+            long at = event.getTimestampMillis();
+            if (event.getAction() == CareAction.WATER && at > last[0]) {
+                last[0] = at;
+            }
+            if (at > last[1]) {
+                last[1] = at;
+            }
+        }
+
+        List<Buddy> buddies = new ArrayList<>();
+        long nextChange = NEVER;
+        for (PlantRecord plant : plants) {
+            if (SpriteAtlas.speciesIndex(plant.getSpecies()) < 0) {
+                continue;
+            }
+            long[] last = lastCare.get(plant.getId());
+            long thirstyAt = last[0] + THIRSTY_AFTER_MILLIS;
+            long needsAttentionAt = last[1] + NEEDS_ATTENTION_AFTER_MILLIS;
+
+            int mood;
+            if (nowMillis >= needsAttentionAt) {
+                mood = SpriteAtlas.MOOD_SAD;
+            } else if (nowMillis >= thirstyAt) {
+                mood = SpriteAtlas.MOOD_THIRSTY;
+            } else {
+                mood = SpriteAtlas.MOOD_HAPPY;
+            }
+            if (thirstyAt > nowMillis) {
+                nextChange = Math.min(nextChange, thirstyAt);
+            }
+            if (needsAttentionAt > nowMillis) {
+                nextChange = Math.min(nextChange, needsAttentionAt);
+            }
+            buddies.add(new Buddy(plant.getId(), plant.getName(), plant.getSpecies(), mood));
+        }
+        return new BuddyMoodSummary(Collections.unmodifiableList(buddies), nextChange);
+    }
+
+    /**
+     * Returns the buddies with their moods.
+     *
+     * @return An unmodifiable list, in the order of the plants given
+     */
+    public List<Buddy> getBuddies() {
+        return buddies;
+    }
+
+    /**
+     * Returns when the next mood changes if no care is given until then.
+     *
+     * @return Wall-clock time in milliseconds, or {@link #NEVER}
+     */
+    public long getNextChangeAtMillis() {
+        return nextChangeAtMillis;
+    }
+
+    /**
+     * Describes everything the widget shows, for change detection.
+     *
+     * @return Equal strings for summaries that look the same
+     */
+    public String fingerprint() {
+        StringBuilder builder = new StringBuilder();
+        for (Buddy buddy : buddies) {
+            builder.append(buddy.plantId).append(':')
+                    .append(buddy.species).append(':')
+                    .append(buddy.mood).append(':')
+                    .append(buddy.name).append('\n');
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Buddy - One buddy as the widget shows it.
+     */
+    public static final class Buddy {
+
+        private final long plantId;
+        private final String name;
+        private final String species;
+        private final int mood;
+
+        Buddy(long plantId, String name, String species, int mood) {
+            this.plantId = plantId;
+            this.name = name;
+            this.species = species;
+            this.mood = mood;
+        }
+
+        public long getPlantId() {
+            return plantId;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getSpecies() {
+            return species;
+        }
+
+        /**
+         * Returns the mood, e.g. {@link SpriteAtlas#MOOD_THIRSTY}.
+         *
+         * @return The mood index
+         */
+        public int getMood() {
+            return mood;
+        }
+    }
+}
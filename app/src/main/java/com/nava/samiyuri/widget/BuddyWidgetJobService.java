@@ -0,0 +1,75 @@
+package com.nava.samiyuri.widget;
+
+import android.app.job.JobInfo;
+import android.app.job.JobParameters;
+import android.app.job.JobScheduler;
+import android.app.job.JobService;
+import android.content.ComponentName;
+import android.content.Context;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BuddyWidgetJobService - Wakes the widget once, when a buddy's mood is due to change.
+ * <p>
+ * Moods change by themselves only when care is overdue, which happens at most a
+ * few times a week. Instead of polling, {@link BuddyWidgetUpdater} schedules this
+ * one-shot job for the next such moment and schedules the following one when it
+ * runs. The job may run a little late, which lets the system batch its wake-up
+ * with other work.
+ *
+ * @author Neriou
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class BuddyWidgetJobService extends JobService {
+
+    /** Unique job identifier within the app. */
+    private static final int JOB_ID = 2802;
+
+    /** How late a mood change may be shown. */
+    private static final long MAX_DELAY_MILLIS = TimeUnit.HOURS.toMillis(1);
+
+    /**
+     * Schedules the next update, replacing any pending one.
+     *
+     * @param context Any context
+     * @param delayMillis Time until the next mood change
+     */
+    static void schedule(Context context, long delayMillis) {
+        JobScheduler scheduler = context.getSystemService(JobScheduler.class);
+        if (scheduler == null) {
+            return;
+        }
+        JobInfo job = new JobInfo.Builder(JOB_ID,
+                new ComponentName(context, BuddyWidgetJobService.class))
+                .setMinimumLatency(delayMillis)
+                .setOverrideDeadline(delayMillis + MAX_DELAY_MILLIS)
+                .build();
+        scheduler.schedule(job);
+    }
+
+    /**
+     * Cancels the pending update, if any.
+     *
+     * @param context Any context
+     */
+    static void cancel(Context context) {
+        JobScheduler scheduler = context.getSystemService(JobScheduler.class);
+        if (scheduler != null) {
+            scheduler.cancel(JOB_ID);
+        }
+    }
+
+    @Override
+    public boolean onStartJob(JobParameters params) {
+        BuddyWidgetUpdater.getInstance(this).requestUpdate(false, () -> jobFinished(params, false));
+        return true;
+    }
+
+    @Override
+    public boolean onStopJob(JobParameters params) {
+        // The update is short and finishes on its own; the next change schedules a new job
+        return false;
+    }
+}
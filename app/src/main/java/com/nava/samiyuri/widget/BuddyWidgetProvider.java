@@ -0,0 +1,41 @@
+package com.nava.samiyuri.widget;
+
+import android.appwidget.AppWidgetManager;
+import android.appwidget.AppWidgetProvider;
+import android.content.Context;
+import android.os.Bundle;
+
+/**
+ * BuddyWidgetProvider - The home-screen widget showing how every buddy feels.
+ * <p>
+ * Children can see whether a buddy is thirsty without opening the app. The
+ * provider itself does no work: it hands every request to
+ * {@link BuddyWidgetUpdater}, which renders all widgets in one pass on the garden
+ * store's I/O thread, and keeps the broadcast alive until that pass is done.
+ *
+ * @author Neriou
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class BuddyWidgetProvider extends AppWidgetProvider {
+
+    @Override
+    public void onUpdate(Context context, AppWidgetManager appWidgetManager, int[] appWidgetIds) {
+        // New widgets, a reboot or an app update: every widget needs its views again
+        PendingResult result = goAsync();
+        BuddyWidgetUpdater.getInstance(context).requestUpdate(true, result::finish);
+    }
+
+    @Override
+    public void onAppWidgetOptionsChanged(Context context, AppWidgetManager appWidgetManager,
+                                          int appWidgetId, Bundle newOptions) {
+        // A resized widget may need avatars from another size bucket
+        PendingResult result = goAsync();
+        BuddyWidgetUpdater.getInstance(context).requestUpdate(true, result::finish);
+    }
+
+    @Override
+    public void onDisabled(Context context) {
+        BuddyWidgetUpdater.getInstance(context).reset();
+    }
+}
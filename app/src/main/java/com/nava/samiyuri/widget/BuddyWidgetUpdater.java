@@ -0,0 +1,223 @@
+package com.nava.samiyuri.widget;
+
+import android.app.PendingIntent;
+import android.appwidget.AppWidgetManager;
+import android.content.ComponentName;
+import android.content.Context;
+import android.content.Intent;
+import android.content.SharedPreferences;
+import android.graphics.Bitmap;
+import android.os.Bundle;
+import android.util.Log;
+import android.view.View;
+import android.widget.RemoteViews;
+
+import androidx.annotation.Nullable;
+
+import com.nava.samiyuri.R;
+import com.nava.samiyuri.onboarding.OnboardingActivity;
+import com.nava.samiyuri.storage.GardenStore;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * BuddyWidgetUpdater - Keeps the home-screen widget in step with the buddies' moods.
+ * <p>
+ * The widget has no update period and is never polled. It is updated in exactly
+ * two situations: when the garden changes, and when a mood is due to change by
+ * itself because nobody gave care in time, for which a single one-shot job is
+ * scheduled. Between the two, the widget costs no battery at all.
+ * <p>
+ * Key Features:
+ * - Every update is one {@link BuddyMoodSummary} pass over the garden on the
+ *   garden store's I/O thread; care taps arriving while an update is queued are
+ *   folded into it
+ * - Widgets are only pushed when something they show changed; the last pushed
+ *   state survives process death, so a job that wakes the app for nothing
+ *   pushes nothing
+ * - Avatars come from {@link WidgetAvatars}, rendered once per size bucket
+ * <p>
+ * All work runs on the garden store's I/O thread.
+ *
+ * @author Neriou
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class BuddyWidgetUpdater {
+
+    private static final String TAG = "BuddyWidgetUpdater";
+
+    private static final String PREFERENCES_FILE_NAME = "samiyura_widget";
+    private static final String PUSHED_FINGERPRINT_KEY = "pushed_moods";
+
+    /** Most buddies shown side by side. */
+    private static final int MAX_BUDDIES = 4;
+
+    /** Space under each avatar for the buddy's name, and around each cell, in dp. */
+    private static final int NAME_HEIGHT_DP = 20;
+    private static final int CELL_PADDING_DP = 8;
+
+    private static volatile BuddyWidgetUpdater instance;
+
+    private final Context appContext;
+    private final AppWidgetManager manager;
+    private final ComponentName provider;
+    private final GardenStore gardenStore;
+    private final AtomicBoolean updateQueued = new AtomicBoolean();
+
+    /** Set when the next update must push even unchanged moods, e.g. for a new widget. */
+    private volatile boolean forceNext;
+
+    /** Time the pending mood change job is scheduled for; written on the I/O thread. */
+    private volatile long scheduledChangeAt;
+
+    private BuddyWidgetUpdater(Context appContext) {
+        this.appContext = appContext;
+        this.manager = AppWidgetManager.getInstance(appContext);
+        this.provider = new ComponentName(appContext, BuddyWidgetProvider.class);
+        this.gardenStore = GardenStore.getInstance(appContext);
+    }
+
+    /**
+     * Returns the process-wide widget updater.
+     *
+     * @param context Any context; only the application context is used
+     * @return The shared instance
+     */
+    public static BuddyWidgetUpdater getInstance(Context context) {
+        if (instance == null) {
+            synchronized (BuddyWidgetUpdater.class) {
+                if (instance == null) {
+                    instance = new BuddyWidgetUpdater(context.getApplicationContext());
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Starts following garden changes. Call once at start-up.
+     */
+    public void start() {
+        gardenStore.addChangeListener(() -> requestUpdate(false, null));
+    }
+
+    /**
+     * Queues an update of every widget.
+     *
+     * @param force true to push even if no mood changed, e.g. for a new or resized widget
+     * @param done Run on the I/O thread once the update is finished; null when nobody waits
+     */
+    void requestUpdate(boolean force, @Nullable Runnable done) {
+        if (force) {
+            forceNext = true;
+        }
+        if (done == null) {
+            // Care taps come one at a time; fold them into the update already queued
+            if (updateQueued.getAndSet(true)) {
+                return;
+            }
+            if (!force && manager.getAppWidgetIds(provider).length == 0) {
+                updateQueued.set(false);
+                return;
+            }
+        }
+        gardenStore.read(garden -> {
+            updateQueued.set(false);
+            return BuddyMoodSummary.compute(garden.getPlants(), garden.getCareEvents(),
+                    System.currentTimeMillis());
+        }, summary -> {
+            push(summary);
+            if (done != null) {
+                done.run();
+            }
+        });
+    }
+
+    /**
+     * Forgets the widget state once the last widget has been removed.
+     */
+    void reset() {
+        scheduledChangeAt = 0;
+        BuddyWidgetJobService.cancel(appContext);
+        preferences().edit().clear().apply();
+    }
+
+    private void push(BuddyMoodSummary summary) {
+        int[] widgetIds = manager.getAppWidgetIds(provider);
+        if (widgetIds.length == 0) {
+            scheduleNextChange(BuddyMoodSummary.NEVER);
+            return;
+        }
+        scheduleNextChange(summary.getNextChangeAtMillis());
+
+        boolean force = forceNext;
+        forceNext = false;
+        String fingerprint = summary.fingerprint();
+        SharedPreferences preferences = preferences();
+        if (!force && fingerprint.equals(preferences.getString(PUSHED_FINGERPRINT_KEY, null))) {
+            return;
+        }
+
+        for (int widgetId : widgetIds) {
+            manager.updateAppWidget(widgetId, render(summary, manager.getAppWidgetOptions(widgetId)));
+        }
+        preferences.edit().putString(PUSHED_FINGERPRINT_KEY, fingerprint).apply();
+        Log.d(TAG, "Pushed moods of " + summary.getBuddies().size() + " buddies to " + widgetIds.length + " widgets");
+    }
+
+    private RemoteViews render(BuddyMoodSummary summary, Bundle options) {
+        String packageName = appContext.getPackageName();
+        RemoteViews views = new RemoteViews(packageName, R.layout.widget_buddies);
+        views.removeAllViews(R.id.widget_buddies);
+
+        List<BuddyMoodSummary.Buddy> buddies = summary.getBuddies();
+        int count = Math.min(MAX_BUDDIES, buddies.size());
+        views.setViewVisibility(R.id.widget_empty, count == 0 ? View.VISIBLE : View.GONE);
+
+        if (count > 0) {
+            // The smallest size the launcher may show this widget at, in any orientation
+            int widthDp = options.getInt(AppWidgetManager.OPTION_APPWIDGET_MIN_WIDTH);
+            int heightDp = options.getInt(AppWidgetManager.OPTION_APPWIDGET_MIN_HEIGHT);
+            int bucketDp = WidgetAvatars.bucketFor(Math.min(
+                    widthDp / count - CELL_PADDING_DP, heightDp - NAME_HEIGHT_DP - CELL_PADDING_DP));
+
+            for (int i = 0; i < count; i++) {
+                BuddyMoodSummary.Buddy buddy = buddies.get(i);
+                RemoteViews cell = new RemoteViews(packageName, R.layout.widget_buddy);
+                Bitmap avatar = WidgetAvatars.get(appContext, buddy.getSpecies(), buddy.getMood(), bucketDp);
+                if (avatar != null) {
+                    cell.setImageViewBitmap(R.id.widget_buddy_avatar, avatar);
+                }
+                cell.setContentDescription(R.id.widget_buddy_avatar, buddy.getName());
+                cell.setTextViewText(R.id.widget_buddy_name, buddy.getName());
+                views.addView(R.id.widget_buddies, cell);
+            }
+        }
+
+        // Tapping the widget opens the garden, straight from its launch snapshot when there is one
+        Intent open = new Intent(appContext, OnboardingActivity.class)
+                .setAction(Intent.ACTION_MAIN)
+                .addCategory(Intent.CATEGORY_LAUNCHER);
+        views.setOnClickPendingIntent(R.id.widget_root, PendingIntent.getActivity(appContext, 0, open,
+                PendingIntent.FLAG_IMMUTABLE | PendingIntent.FLAG_UPDATE_CURRENT));
+        return views;
+    }
+
+    private void scheduleNextChange(long changeAt) {
+        if (changeAt == scheduledChangeAt) {
+            return;
+        }
+        scheduledChangeAt = changeAt;
+        if (changeAt == BuddyMoodSummary.NEVER) {
+            BuddyWidgetJobService.cancel(appContext);
+        } else {
+            BuddyWidgetJobService.schedule(appContext, Math.max(0, changeAt - System.currentTimeMillis()));
+        }
+    }
+
+    private SharedPreferences preferences() {
+        return appContext.getSharedPreferences(PREFERENCES_FILE_NAME, Context.MODE_PRIVATE);
+    }
+}
@@ -0,0 +1,109 @@
+package com.nava.samiyuri.widget;
+
+import android.content.Context;
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.drawable.Drawable;
+
+import androidx.annotation.Nullable;
+
+import com.nava.samiyuri.cache.CacheGovernor;
+import com.nava.samiyuri.cache.GovernedCache;
+import com.nava.samiyuri.device.DevicePerformance;
+import com.nava.samiyuri.overview.SpriteAtlas;
+
+/**
+ * WidgetAvatars - Mood avatars rasterized once per size for the home-screen widget.
+ * <p>
+ * A widget is drawn by the launcher from bitmaps we send it. Rasterizing the
+ * vector avatars for every update, at whatever size the child stretched the
+ * widget to, would redo the same work each time. Instead the requested size is
+ * rounded down to one of a few {@link #BUCKETS_DP size buckets}, and each species,
+ * mood and bucket is rendered once and then reused by every update and every
+ * widget on the home screen.
+ * <p>
+ * The bitmaps live in a low-priority governed cache, so they are dropped first
+ * under memory pressure and rendered again on the next update.
+ *
+ * @author Neriou
+ * @version 1.0
+ * @since 2026-10-18
+ */
+final class WidgetAvatars {
+
+    /** Avatar sizes rendered, in dp, smallest first. */
+    static final int[] BUCKETS_DP = {40, 56, 72, 96, 128};
+
+    /** Cache budget in bytes on a mid-range device. */
+    private static final int MAX_CACHED_BYTES = 2 * 1024 * 1024;
+
+    private static final GovernedCache<Integer, Bitmap> AVATARS =
+            CacheGovernor.getInstance().register(new GovernedCache<Integer, Bitmap>(
+                    "widget-avatars", GovernedCache.Priority.LOW,
+                    DevicePerformance.getTier().scaleCacheSize(MAX_CACHED_BYTES),
+                    (key, bitmap) -> bitmap.getAllocationByteCount()));
+
+    private WidgetAvatars() {
+        // Static utility
+    }
+
+    /**
+     * Returns the largest bucket that fits in the available space.
+     *
+     * @param availableDp Space available for one avatar, in dp
+     * @return A value from {@link #BUCKETS_DP}; the smallest one if nothing fits
+     */
+    static int bucketFor(int availableDp) {
+        int bucket = BUCKETS_DP[0];
+        for (int size : BUCKETS_DP) {
+            if (size <= availableDp) {
+                bucket = size;
+            }
+        }
+        return bucket;
+    }
+
+    /**
+     * Returns the avatar of a species in a mood, rendering it on first use.
+     *
+     * @param context Context whose resources and density the avatar is rendered with
+     * @param species A species with mood avatars
+     * @param mood A mood index, e.g. {@link SpriteAtlas#MOOD_HAPPY}
+     * @param bucketDp Size from {@link #bucketFor(int)}
+     * @return The avatar, or null if the species has no avatars
+     */
+    @Nullable
+    static Bitmap get(Context context, String species, int mood, int bucketDp) {
+        int speciesIndex = SpriteAtlas.speciesIndex(species);
+        if (speciesIndex < 0) {
+            return null;
+        }
+        int sizePx = Math.round(bucketDp * context.getResources().getDisplayMetrics().density);
+        Integer key = (sizePx << 8) | (speciesIndex * SpriteAtlas.MOOD_COUNT + mood);
+        Bitmap avatar = AVATARS.get(key);
+        if (avatar != null) {
+            return avatar;
+        }
+
+        Drawable drawable = context.getDrawable(SpriteAtlas.getMoodDrawables(species)[mood]);
+        if (drawable == null) {
+            return null;
+        }
+        avatar = Bitmap.createBitmap(sizePx, sizePx, Bitmap.Config.ARGB_8888);
+        // Centered in a square, keeping the avatar's own proportions
+        int width = drawable.getIntrinsicWidth();
+        int height = drawable.getIntrinsicHeight();
+        if (width <= 0 || height <= 0) {
+            width = height = sizePx;
+        }
+        float scale = Math.min((float) sizePx / width, (float) sizePx / height);
+        int scaledWidth = Math.round(width * scale);
+        int scaledHeight = Math.round(height * scale);
+        int left = (sizePx - scaledWidth) / 2;
+        int top = (sizePx - scaledHeight) / 2;
+        drawable.setBounds(left, top, left + scaledWidth, top + scaledHeight);
+        drawable.draw(new Canvas(avatar));
+        AVATARS.put(key, avatar);
+        return avatar;
+    }
+}
@@ -0,0 +1,142 @@
+package com.nava.samiyuri;
+
+import com.nava.samiyuri.knowledge.KnowledgeBase;
+import com.nava.samiyuri.knowledge.KnowledgeBaseWriter;
+import com.nava.samiyuri.langpack.LanguagePack;
+import com.nava.samiyuri.langpack.LanguagePackWriter;
+import com.nava.samiyuri.names.NameBlocklist;
+import com.nava.samiyuri.names.NameBlocklistWriter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Compiles the app's data asset sources in memory, for tests.
+ * <p>
+ * Paths are relative to the app module, the working directory Gradle runs unit
+ * tests in. The packaged assets are compiled by the {@code generateAssets} build
+ * task, which tests do not depend on.
+ */
+public final class AssetSources {
+
+    /** Source of the growing tips. */
+    public static final File KNOWLEDGE_SOURCE = new File("src/knowledge/tips.tsv");
+
+    /** Source of the name blocklist. */
+    public static final File BLOCKLIST_SOURCE = new File("src/names/blocklist.tsv");
+
+    /** Directory holding one {@code <language>.pack} source per language. */
+    public static final File LANGUAGE_PACK_SOURCES = new File("src/langpacks");
+
+    /** Hand-made assets, such as story illustrations, packaged as they are. */
+    public static final File ASSET_DIRECTORY = new File("src/main/assets");
+
+    private static final String PACK_SUFFIX = ".pack";
+
+    private AssetSources() {
+        // Static utility
+    }
+
+    /**
+     * Compiles the growing tips.
+     *
+     * @return The knowledge base bytes
+     * @throws IOException If the source cannot be read or compiled
+     */
+    public static byte[] knowledgeBase() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (Reader source = reader(KNOWLEDGE_SOURCE)) {
+            KnowledgeBaseWriter.write(KnowledgeBaseWriter.readSource(source), out);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Compiles the name blocklist.
+     *
+     * @return The blocklist automaton bytes
+     * @throws IOException If the source cannot be read or compiled
+     */
+    public static byte[] nameBlocklist() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (Reader source = reader(BLOCKLIST_SOURCE)) {
+            NameBlocklistWriter.write(NameBlocklistWriter.readSource(source), out);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Parses the pack source of a language.
+     *
+     * @param language A language with a pack source
+     * @return The parsed source
+     * @throws IOException If the source cannot be read or parsed
+     */
+    public static LanguagePackWriter.Source languagePackSource(String language) throws IOException {
+        try (Reader source = reader(new File(LANGUAGE_PACK_SOURCES, language + PACK_SUFFIX))) {
+            return LanguagePackWriter.readSource(language, source);
+        }
+    }
+
+    /**
+     * Compiles the pack of a language.
+     *
+     * @param language A language with a pack source
+     * @return The pack bytes
+     * @throws IOException If the source cannot be read or compiled
+     */
+    public static byte[] languagePack(String language) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        LanguagePackWriter.write(languagePackSource(language), out);
+        return out.toByteArray();
+    }
+
+    /**
+     * Lists the languages that have a pack source.
+     *
+     * @return Language codes, sorted
+     */
+    public static List<String> languagePackLanguages() {
+        String[] names = LANGUAGE_PACK_SOURCES.list((dir, name) -> name.endsWith(PACK_SUFFIX));
+        List<String> languages = new ArrayList<>();
+        if (names != null) {
+            Arrays.sort(names);
+            for (String name : names) {
+                languages.add(name.substring(0, name.length() - PACK_SUFFIX.length()));
+            }
+        }
+        return languages;
+    }
+
+    /**
+     * Compiles every data asset into a directory laid out like the app's assets.
+     *
+     * @param assetDirectory Directory to write into
+     * @throws IOException If a source cannot be compiled or an asset cannot be written
+     */
+    public static void compileInto(File assetDirectory) throws IOException {
+        write(new File(assetDirectory, KnowledgeBase.ASSET_PATH), knowledgeBase());
+        write(new File(assetDirectory, NameBlocklist.ASSET_PATH), nameBlocklist());
+        for (String language : languagePackLanguages()) {
+            write(new File(assetDirectory, LanguagePack.ASSET_DIRECTORY + LanguagePack.fileName(language)),
+                    languagePack(language));
+        }
+    }
+
+    private static void write(File asset, byte[] bytes) throws IOException {
+        Files.createDirectories(asset.getParentFile().toPath());
+        Files.write(asset.toPath(), bytes);
+    }
+
+    private static Reader reader(File source) throws IOException {
+        return new InputStreamReader(Files.newInputStream(source.toPath()), StandardCharsets.UTF_8);
+    }
+}
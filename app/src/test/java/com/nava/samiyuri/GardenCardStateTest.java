@@ -0,0 +1,58 @@
+package com.nava.samiyuri;
+
+import org.junit.Test;
+
+import static com.nava.samiyuri.GardenCardState.AVATAR;
+import static com.nava.samiyuri.GardenCardState.CARE_VISIBILITY;
+import static com.nava.samiyuri.GardenCardState.GROWTH_STAGE;
+import static com.nava.samiyuri.GardenCardState.NAME;
+import static com.nava.samiyuri.GardenCardState.STATUS;
+import static org.junit.Assert.*;
+
+/**
+ * Tests for which parts of the buddy card a new card state updates.
+ */
+public class GardenCardStateTest {
+
+    private static final GardenCardState RADISH = GardenCardState.forPlant(
+            "Rosita", R.drawable.plant_radish_happy, R.string.status_happy);
+
+    @Test
+    public void changesFrom_renderingAnEqualStateChangesNothing() {
+        assertEquals(0, GardenCardState.forPlant(
+                "Rosita", R.drawable.plant_radish_happy, R.string.status_happy).changesFrom(RADISH));
+
+        GardenCardState placeholder = GardenCardState.forPlaceholder("Add New Buddy", R.drawable.ic_add);
+        assertEquals(0, GardenCardState.forPlaceholder("Add New Buddy", R.drawable.ic_add)
+                .changesFrom(placeholder));
+    }
+
+    @Test
+    public void changesFrom_firstRenderUpdatesEverythingShown() {
+        assertEquals(NAME | AVATAR | CARE_VISIBILITY | STATUS | GROWTH_STAGE, RADISH.changesFrom(null));
+        assertEquals(NAME | AVATAR | CARE_VISIBILITY, GardenCardState.forPlaceholder(
+                "Add New Buddy", R.drawable.ic_add).changesFrom(null));
+    }
+
+    @Test
+    public void changesFrom_moodChangeUpdatesOnlyAvatarAndStatus() {
+        GardenCardState thirsty = RADISH.withMood(R.drawable.plant_radish_thirsty, R.string.status_thirsty);
+        assertEquals(AVATAR | STATUS, thirsty.changesFrom(RADISH));
+
+        // Same mood again, e.g. a retained mood restored after rotation
+        assertEquals(0, thirsty.withMood(R.drawable.plant_radish_thirsty, R.string.status_thirsty)
+                .changesFrom(thirsty));
+    }
+
+    @Test
+    public void changesFrom_buddySwitchUpdatesNameAndGrowthStage() {
+        GardenCardState sameLookingBuddy = GardenCardState.forPlant(
+                "Lucho", R.drawable.plant_radish_happy, R.string.status_happy);
+        assertEquals(NAME | GROWTH_STAGE, sameLookingBuddy.changesFrom(RADISH));
+
+        // Switching to the placeholder hides the care lines instead of formatting them
+        GardenCardState placeholder = GardenCardState.forPlaceholder("Add New Buddy", R.drawable.ic_add);
+        assertEquals(NAME | AVATAR | CARE_VISIBILITY, placeholder.changesFrom(RADISH));
+        assertEquals(NAME | AVATAR | CARE_VISIBILITY | STATUS | GROWTH_STAGE, RADISH.changesFrom(placeholder));
+    }
+}
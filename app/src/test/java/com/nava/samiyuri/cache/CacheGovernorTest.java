@@ -0,0 +1,53 @@
+package com.nava.samiyuri.cache;
+
+import android.content.ComponentCallbacks2;
+
+import org.junit.After;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for LRU accounting and priority-ordered trimming.
+ */
+public class CacheGovernorTest {
+
+    private final CacheGovernor governor = CacheGovernor.getInstance();
+    private final GovernedCache<String, byte[]> thumbnails = governor.register(
+            new GovernedCache<>("thumbnails", GovernedCache.Priority.LOW, 100, (k, v) -> v.length));
+    private final GovernedCache<String, byte[]> avatars = governor.register(
+            new GovernedCache<>("avatars", GovernedCache.Priority.HIGH, 100, (k, v) -> v.length));
+
+    @After
+    public void tearDown() {
+        governor.unregister(thumbnails);
+        governor.unregister(avatars);
+    }
+
+    @Test
+    public void put_evictsLeastRecentlyUsedAndCountsHits() {
+        thumbnails.put("a", new byte[40]);
+        thumbnails.put("b", new byte[40]);
+        assertNotNull(thumbnails.get("a"));
+        thumbnails.put("c", new byte[40]);
+
+        assertNull(thumbnails.get("b"));
+        CacheStats stats = thumbnails.stats();
+        assertEquals(80, stats.getSize());
+        assertEquals(1, stats.getEvictionCount());
+        assertEquals(0.5, stats.getHitRate(), 1e-9);
+    }
+
+    @Test
+    public void trim_shrinksLowPriorityBeforeHighPriority() {
+        thumbnails.put("t", new byte[60]);
+        avatars.put("a", new byte[60]);
+
+        governor.trim(ComponentCallbacks2.TRIM_MEMORY_RUNNING_LOW);
+        assertEquals(0, thumbnails.size());
+        assertEquals(60, avatars.size());
+
+        governor.trim(ComponentCallbacks2.TRIM_MEMORY_COMPLETE);
+        assertEquals(0, avatars.size());
+    }
+}
@@ -0,0 +1,63 @@
+package com.nava.samiyuri.device;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for device tier classification and the choices each tier makes.
+ */
+public class DeviceTierTest {
+
+    private static final long GB = 1L << 30;
+
+    @Test
+    public void classify_placesTypicalDevices() {
+        // Android Go school tablet
+        assertEquals(DeviceTier.LOW, DeviceTier.classify(new DeviceSignals(128, true, 2 * GB, 4, 60f, false)));
+        // Budget phone: enough memory but a quad-core CPU
+        assertEquals(DeviceTier.LOW, DeviceTier.classify(new DeviceSignals(192, false, 3 * GB, 4, 60f, false)));
+        // Mid-range phone
+        assertEquals(DeviceTier.MID, DeviceTier.classify(new DeviceSignals(256, false, 4 * GB, 8, 60f, false)));
+        // Plenty of memory but a 60 Hz display stays mid-range
+        assertEquals(DeviceTier.MID, DeviceTier.classify(new DeviceSignals(512, false, 8 * GB, 8, 60f, false)));
+        // Flagship
+        assertEquals(DeviceTier.HIGH, DeviceTier.classify(new DeviceSignals(512, false, 8 * GB, 8, 120f, false)));
+    }
+
+    @Test
+    public void classify_usesTheHeapLimit() {
+        // Enough memory and cores, but a small per-app heap
+        assertEquals(DeviceTier.LOW, DeviceTier.classify(new DeviceSignals(128, false, 4 * GB, 8, 60f, false)));
+        // Flagship hardware held back by a mid-range heap limit
+        assertEquals(DeviceTier.MID, DeviceTier.classify(new DeviceSignals(192, false, 8 * GB, 8, 120f, false)));
+        assertEquals(DeviceTier.HIGH, DeviceTier.classify(new DeviceSignals(256, false, 8 * GB, 8, 120f, false)));
+    }
+
+    @Test
+    public void classify_batterySaverAlwaysMeansLow() {
+        assertEquals(DeviceTier.LOW, DeviceTier.classify(new DeviceSignals(512, false, 8 * GB, 8, 120f, true)));
+    }
+
+    @Test
+    public void tiers_scaleWorkDownOnLowEndDevices() {
+        assertFalse(DeviceTier.LOW.hasAnimations());
+        assertFalse(DeviceTier.LOW.hasPressFeedback());
+        assertTrue(DeviceTier.LOW.getAvatarScale() < 1f);
+        assertEquals(8, DeviceTier.LOW.scaleCacheSize(16));
+        assertEquals(1, DeviceTier.LOW.scaleCacheSize(1));
+
+        assertTrue(DeviceTier.MID.hasAnimations());
+        assertEquals(16, DeviceTier.MID.scaleCacheSize(16));
+        assertEquals(1f, DeviceTier.MID.getAvatarScale(), 0f);
+
+        assertTrue(DeviceTier.HIGH.getPrefetchDepth() > DeviceTier.MID.getPrefetchDepth());
+        assertTrue(DeviceTier.MID.getPrefetchDepth() > DeviceTier.LOW.getPrefetchDepth());
+        assertTrue(DeviceTier.HIGH.scaleCacheSize(16) > 16);
+    }
+
+    @Test
+    public void getTier_defaultsToMidBeforeStartUp() {
+        assertEquals(DeviceTier.MID, DevicePerformance.getTier());
+    }
+}
@@ -0,0 +1,65 @@
+package com.nava.samiyuri.diagnostics;
+
+import org.junit.Test;
+
+import java.io.StringWriter;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for signature grouping and ranking of main-thread violations.
+ */
+public class ViolationAggregatorTest {
+
+    private final ViolationAggregator aggregator = new ViolationAggregator("com.nava.samiyuri");
+
+    @Test
+    public void record_groupsByAppFramesAndRanksByCount() {
+        StackTraceElement[] preferencesRead = {
+                frame("android.app.SharedPreferencesImpl", "awaitLoadedLocked", 1),
+                frame("com.nava.samiyuri.LanguagePreferences", "getSaved", 72),
+                frame("com.nava.samiyuri.onboarding.WelcomeScreen", "onShown", 60),
+        };
+        StackTraceElement[] samePlaceOtherLine = {
+                frame("android.app.SharedPreferencesImpl", "getString", 2),
+                frame("com.nava.samiyuri.LanguagePreferences", "getSaved", 73),
+                frame("com.nava.samiyuri.onboarding.WelcomeScreen", "onShown", 61),
+        };
+        StackTraceElement[] journalWrite = {
+                frame("java.io.FileOutputStream", "write", 1),
+                frame("com.nava.samiyuri.storage.GardenJournal", "append", 90),
+        };
+
+        assertTrue(aggregator.record("DiskReadViolation", preferencesRead, 0));
+        assertFalse(aggregator.record("DiskReadViolation", samePlaceOtherLine, 0));
+        assertTrue(aggregator.record("DiskWriteViolation", journalWrite, 0));
+
+        List<ViolationAggregator.Group> ranked = aggregator.ranked();
+        assertEquals(2, ranked.size());
+        assertEquals("DiskReadViolation", ranked.get(0).kind);
+        assertEquals(2, ranked.get(0).count);
+        assertEquals("DiskWriteViolation", ranked.get(1).kind);
+    }
+
+    @Test
+    public void record_slowDispatchesIgnoreInstanceHashesAndTrackDuration() throws Exception {
+        aggregator.record("SlowDispatch",
+                "Handler (android.os.Handler) {1a2b3c} com.nava.samiyuri.GardenScreenState$1@4d5e6f", 60);
+        aggregator.record("SlowDispatch",
+                "Handler (android.os.Handler) {7a8b9c} com.nava.samiyuri.GardenScreenState$1@0a0b0c", 90);
+
+        List<ViolationAggregator.Group> ranked = aggregator.ranked();
+        assertEquals(1, ranked.size());
+        assertEquals(150, ranked.get(0).totalMillis);
+        assertEquals(90, ranked.get(0).maxMillis);
+
+        StringWriter report = new StringWriter();
+        aggregator.writeReport(report, "report");
+        assertTrue(report.toString().contains("#1  SlowDispatch  x2  total 150 ms  max 90 ms"));
+    }
+
+    private static StackTraceElement frame(String className, String method, int line) {
+        return new StackTraceElement(className, method, className + ".java", line);
+    }
+}
@@ -0,0 +1,92 @@
+package com.nava.samiyuri.garden;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Round-trip tests for the memory-mapped garden snapshot format.
+ */
+public class GardenSnapshotTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void writeThenOpen_roundTripsAllRecords() throws IOException {
+        Garden garden = new Garden();
+        garden.putPlant(new PlantRecord(1, "Rábano Rojo", PlantRecord.SPECIES_RADISH, 2, 100, 200));
+        garden.putPlant(new PlantRecord(2, "Ch'uqi", PlantRecord.SPECIES_LETTUCE, 0, 150, 150));
+        garden.addCareEvent(new CareEvent(2, CareAction.WATER, 1000));
+        garden.addCareEvent(new CareEvent(1, CareAction.SUNLIGHT, 900));
+        garden.addCareEvent(new CareEvent(1, CareAction.WATER, 800));
+        garden.addPhoto(new PhotoRecord(1, 500, 640, 480, "photos/1/500.jpg"));
+
+        File file = folder.newFile("class" + GardenSnapshot.FILE_EXTENSION);
+        GardenSnapshotWriter.write(garden, file, 42);
+        GardenSnapshot snapshot = GardenSnapshot.open(file);
+
+        assertEquals(1, snapshot.getVersion());
+        assertEquals(42, snapshot.getCreatedAtMillis());
+        assertEquals(2, snapshot.getPlantCount());
+        assertEquals("Ch'uqi", snapshot.getPlantName(1));
+        assertEquals(garden.getPlant(1), snapshot.readPlant(snapshot.indexOfPlant(1)));
+        assertEquals(3, snapshot.getCareEventCount());
+        assertEquals(1, snapshot.getPhotoCount());
+        assertEquals(garden.getPhotos().get(0), snapshot.readPhoto(0));
+    }
+
+    @Test
+    public void careEventsForPlant_areSortedAndIsolated() throws IOException {
+        Garden garden = new Garden();
+        garden.putPlant(new PlantRecord(1, "A", PlantRecord.SPECIES_RADISH, 0, 0, 0));
+        garden.putPlant(new PlantRecord(3, "B", PlantRecord.SPECIES_LETTUCE, 0, 0, 0));
+        garden.addCareEvent(new CareEvent(3, CareAction.LAB_CHECK, 30));
+        garden.addCareEvent(new CareEvent(1, CareAction.WATER, 20));
+        garden.addCareEvent(new CareEvent(3, CareAction.WATER, 10));
+
+        File file = folder.newFile("sorted.smyg");
+        GardenSnapshotWriter.write(garden, file, 0);
+        GardenSnapshot snapshot = GardenSnapshot.open(file);
+
+        List<CareEvent> history = snapshot.readCareEventsForPlant(3);
+        assertEquals(2, history.size());
+        assertEquals(10, history.get(0).getTimestampMillis());
+        assertEquals(CareAction.LAB_CHECK, history.get(1).getAction());
+        assertEquals(1, snapshot.getCareEventCountForPlant(1));
+        assertEquals(0, snapshot.getCareEventCountForPlant(2));
+    }
+
+    @Test
+    public void recordsForPlant_findTheLargestPlantId() throws IOException {
+        Garden garden = new Garden();
+        garden.putPlant(new PlantRecord(Long.MAX_VALUE, "Z", PlantRecord.SPECIES_RADISH, 0, 0, 0));
+        garden.addCareEvent(new CareEvent(Long.MAX_VALUE, CareAction.WATER, 10));
+        garden.addCareEvent(new CareEvent(Long.MAX_VALUE, CareAction.SUNLIGHT, 20));
+        garden.addPhoto(new PhotoRecord(Long.MAX_VALUE, 30, 640, 480, "photos/z.jpg"));
+
+        File file = folder.newFile("largest.smyg");
+        GardenSnapshotWriter.write(garden, file, 0);
+        GardenSnapshot snapshot = GardenSnapshot.open(file);
+
+        assertEquals(2, snapshot.getCareEventCountForPlant(Long.MAX_VALUE));
+        assertEquals(2, snapshot.readCareEventsForPlant(Long.MAX_VALUE).size());
+        assertEquals(1, snapshot.readPhotosForPlant(Long.MAX_VALUE).size());
+    }
+
+    @Test(expected = IOException.class)
+    public void open_rejectsForeignFiles() throws IOException {
+        File file = folder.newFile("notes.txt");
+        try (FileOutputStream out = new FileOutputStream(file)) {
+            out.write(new byte[128]);
+        }
+        GardenSnapshot.open(file);
+    }
+}
@@ -0,0 +1,57 @@
+package com.nava.samiyuri.knowledge;
+
+import com.nava.samiyuri.AssetSources;
+
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for the compiled knowledge base and its inverted index.
+ */
+public class KnowledgeBaseTest {
+
+    @Test
+    public void getTip_fallsBackToSpanishThenEnglish() throws Exception {
+        KnowledgeBase knowledgeBase = compile(AssetSources.knowledgeBase());
+
+        GrowingTip english = knowledgeBase.getTip("radish", 5, "en");
+        assertEquals("en", english.getLanguage());
+        assertTrue(english.getText().startsWith("Harvest"));
+
+        assertEquals("qu", knowledgeBase.getTip("lettuce", 0, "qu").getLanguage());
+        assertEquals("ay", knowledgeBase.getTip("radish", 3, "ay").getLanguage());
+
+        // Ashaninka has no tips yet; Spanish is the first fallback
+        GrowingTip ashaninka = knowledgeBase.getTip("lettuce", 0, "cni");
+        assertEquals("es", ashaninka.getLanguage());
+
+        assertNull(knowledgeBase.getTip("cactus", 0, "en"));
+        assertNull(knowledgeBase.getTip("radish", 9, "en"));
+    }
+
+    @Test
+    public void search_isAccentInsensitiveAndMatchesLastWordAsPrefix() throws Exception {
+        KnowledgeBase knowledgeBase = compile(AssetSources.knowledgeBase());
+
+        // "rabanito" tips, typed without the accent of "raíz" and cut short
+        List<GrowingTip> results = knowledgeBase.search("raiz rab", "es", 10);
+        assertFalse(results.isEmpty());
+        for (GrowingTip tip : results) {
+            assertEquals("radish", tip.getSpecies());
+            assertEquals("es", tip.getLanguage());
+        }
+
+        assertEquals(1, knowledgeBase.search("spray bottle", "en", 10).size());
+        // Quechua apostrophes may be typed or left out
+        assertEquals("qu", knowledgeBase.search("chiqllukunata", "qu", 10).get(0).getLanguage());
+        assertTrue(knowledgeBase.search("zzz", "en", 10).isEmpty());
+    }
+
+    private static KnowledgeBase compile(byte[] bytes) throws Exception {
+        return new KnowledgeBase(ByteBuffer.wrap(bytes));
+    }
+}
@@ -0,0 +1,93 @@
+package com.nava.samiyuri.langpack;
+
+import com.nava.samiyuri.AssetSources;
+
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for the language pack format and the shipped packs.
+ */
+public class LanguagePackTest {
+
+    @Test
+    public void getString_findsEntriesAndKeepsTheirText() throws Exception {
+        LanguagePack pack = compile("qu", "# comment\n"
+                + "@version 7\n"
+                + "@fallback es\n"
+                + "\n"
+                + "[story]\n"
+                + "== @drawable/plant_radish\n"
+                + "Huk p'unchawsi...\n"
+                + "\n"
+                + "[greeting]\n"
+                + "Allillanchu, ñañay!\n"
+                + "\n"
+                + "\n"
+                + "[story.title]\n"
+                + "Yachay\n");
+
+        assertEquals("qu", pack.getLanguage());
+        assertEquals("es", pack.getFallbackLanguage());
+        assertEquals(7, pack.getVersion());
+        assertEquals(3, pack.size());
+
+        assertEquals("== @drawable/plant_radish\nHuk p'unchawsi...", pack.getString("story"));
+        assertEquals("Allillanchu, ñañay!", pack.getString("greeting"));
+        assertEquals("Yachay", pack.getString("story.title"));
+        assertTrue(pack.contains("story.title"));
+        assertNull(pack.getString("stor"));
+        assertNull(pack.getString("zzz"));
+        assertFalse(pack.contains(""));
+    }
+
+    @Test
+    public void emptyPack_hasNoEntries() throws Exception {
+        LanguagePack pack = compile("cni", "@version 1\n@fallback es\n");
+
+        assertEquals("cni", pack.getLanguage());
+        assertEquals(0, pack.size());
+        assertNull(pack.getString("story"));
+    }
+
+    @Test(expected = IOException.class)
+    public void readSource_rejectsTextBeforeFirstEntry() throws Exception {
+        LanguagePackWriter.readSource("en", new StringReader("@version 1\nStray text\n[story]\nText\n"));
+    }
+
+    @Test(expected = IOException.class)
+    public void readSource_requiresVersion() throws Exception {
+        LanguagePackWriter.readSource("en", new StringReader("[story]\nText\n"));
+    }
+
+    @Test
+    public void shippedPacks_compileAndFallBackToShippedPacks() throws Exception {
+        List<String> languages = AssetSources.languagePackLanguages();
+        assertTrue(languages.size() >= 5);
+        for (String language : languages) {
+            LanguagePack pack = new LanguagePack(ByteBuffer.wrap(AssetSources.languagePack(language)));
+            if (pack.getFallbackLanguage() != null) {
+                assertTrue(language + " falls back to a missing pack",
+                        languages.contains(pack.getFallbackLanguage()));
+            }
+        }
+    }
+
+    private static LanguagePack compile(String language, String source) throws Exception {
+        return new LanguagePack(ByteBuffer.wrap(
+                compiledBytes(LanguagePackWriter.readSource(language, new StringReader(source)))));
+    }
+
+    private static byte[] compiledBytes(LanguagePackWriter.Source source) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        LanguagePackWriter.write(source, out);
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,118 @@
+package com.nava.samiyuri.light;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.TimeZone;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for light dose integration over synthetic lux streams.
+ */
+public class LightDoseIntegratorTest {
+
+    private static final long MINUTE = 60 * 1000L;
+    private static final long HOUR = 60 * MINUTE;
+    private static final TimeZone LIMA = TimeZone.getTimeZone("America/Lima");
+
+    /** 2026-10-18 08:00 in Lima (UTC-5). */
+    private static final long MORNING = 1792328400000L;
+
+    private final LightDoseIntegrator integrator = new LightDoseIntegrator(MINUTE, 60, LIMA);
+
+    @Test
+    public void onSample_integratesSteadyLightForActivePlantOnly() {
+        integrator.setActivePlant(1, MORNING);
+        for (long t = MORNING; t <= MORNING + HOUR; t += 1000) {
+            integrator.onSample(t, 10000f);
+        }
+        integrator.setActivePlant(2, MORNING + HOUR);
+        integrator.onSample(MORNING + HOUR + MINUTE, 500f);
+
+        assertEquals(10000.0, integrator.getDailyDoseLuxHours(1, MORNING + 2 * HOUR), 1e-6);
+        assertEquals(60, integrator.getBrightLightMinutes(1, MORNING + 2 * HOUR));
+        assertEquals(10000.0 / 60, integrator.getDailyDoseLuxHours(2, MORNING + 2 * HOUR), 1e-6);
+
+        // One-minute buckets, capped at the ring buffer capacity
+        LuxRingBuffer history = integrator.getHistory();
+        assertEquals(60, history.size());
+        assertEquals(10000f, history.getLux(0), 1e-3);
+    }
+
+    @Test
+    public void onSample_holdsSparseReadingsButNotAcrossLongGaps() {
+        integrator.setActivePlant(1, MORNING);
+
+        // On-change sensor: one reading, then silence for 10 minutes
+        integrator.onSample(MORNING, 6000f);
+        integrator.onSample(MORNING + 10 * MINUTE, 0f);
+        assertEquals(1000.0, integrator.getDailyDoseLuxHours(1, MORNING + HOUR), 1e-6);
+
+        // A reading followed by a five-hour gap counts for at most the hold time
+        integrator.onSample(MORNING + HOUR, 2000f);
+        integrator.onSample(MORNING + 6 * HOUR, 0f);
+        double held = 2000.0 * LightDoseIntegrator.MAX_HOLD_MILLIS / HOUR;
+        assertEquals(1000.0 + held, integrator.getDailyDoseLuxHours(1, MORNING + 6 * HOUR), 1e-6);
+    }
+
+    @Test
+    public void pause_doesNotCreditTheLastReadingAfterARestart() {
+        integrator.setActivePlant(1, MORNING);
+        integrator.onSample(MORNING, 10000f);
+        integrator.pause(MORNING + 10 * MINUTE);
+        double beforeStop = 10000.0 * 10 / 60;
+        assertEquals(beforeStop, integrator.getDailyDoseLuxHours(1, MORNING + HOUR), 1e-6);
+
+        // The sensor starts again 20 minutes later in a dark room
+        integrator.onSample(MORNING + 30 * MINUTE, 0f);
+        integrator.flush(MORNING + HOUR);
+        assertEquals(beforeStop, integrator.getDailyDoseLuxHours(1, MORNING + HOUR), 1e-6);
+    }
+
+    @Test
+    public void onSample_splitsDoseAtLocalMidnight() {
+        long beforeMidnight = MORNING + 16 * HOUR - 10 * MINUTE;
+        integrator.setActivePlant(1, beforeMidnight);
+        integrator.onSample(beforeMidnight, 600f);
+        integrator.onSample(beforeMidnight + 20 * MINUTE, 0f);
+
+        // Only the 10 minutes after midnight belong to the new day
+        assertEquals(100.0, integrator.getDailyDoseLuxHours(1, MORNING + 17 * HOUR), 1e-6);
+        assertEquals(0.0, integrator.getDailyDoseLuxHours(2, MORNING + 17 * HOUR), 1e-9);
+    }
+
+    @Test
+    public void readDoses_restoresTodayAndAddsLightCreditedSince() throws IOException {
+        integrator.setActivePlant(1, MORNING);
+        integrator.onSample(MORNING, 6000f);
+        integrator.pause(MORNING + 10 * MINUTE);
+        integrator.setActivePlant(2, MORNING + 10 * MINUTE);
+        integrator.onSample(MORNING + 10 * MINUTE, 600f);
+        integrator.pause(MORNING + 20 * MINUTE);
+
+        ByteArrayOutputStream saved = new ByteArrayOutputStream();
+        integrator.writeDoses(new DataOutputStream(saved), MORNING + HOUR);
+
+        // The process restarts; the restored plant gets more light before the file is read
+        LightDoseIntegrator restarted = new LightDoseIntegrator(MINUTE, 60, LIMA);
+        restarted.setActivePlant(1, MORNING + 2 * HOUR);
+        restarted.onSample(MORNING + 2 * HOUR, 6000f);
+        restarted.pause(MORNING + 2 * HOUR + 10 * MINUTE);
+        restarted.readDoses(new DataInputStream(new ByteArrayInputStream(saved.toByteArray())));
+
+        assertEquals(2000.0, restarted.getDailyDoseLuxHours(1, MORNING + 3 * HOUR), 1e-6);
+        assertEquals(100.0, restarted.getDailyDoseLuxHours(2, MORNING + 3 * HOUR), 1e-6);
+
+        // Tomorrow the saved doses are no longer written out
+        ByteArrayOutputStream tomorrow = new ByteArrayOutputStream();
+        restarted.writeDoses(new DataOutputStream(tomorrow), MORNING + 24 * HOUR);
+        LightDoseIntegrator nextDay = new LightDoseIntegrator(MINUTE, 60, LIMA);
+        nextDay.readDoses(new DataInputStream(new ByteArrayInputStream(tomorrow.toByteArray())));
+        assertEquals(0.0, nextDay.getDailyDoseLuxHours(1, MORNING + 3 * HOUR), 1e-9);
+    }
+}
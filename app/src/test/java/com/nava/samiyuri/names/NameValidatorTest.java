@@ -0,0 +1,79 @@
+package com.nava.samiyuri.names;
+
+import com.nava.samiyuri.AssetSources;
+
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for buddy name validation and the compiled name blocklist.
+ */
+public class NameValidatorTest {
+
+    @Test
+    public void validate_acceptsAccentsApostrophesAndOtherScripts() throws Exception {
+        NameBlocklist blocklist = compile(AssetSources.nameBlocklist());
+
+        assertEquals(NameValidator.Result.VALID, NameValidator.validate("Ñawi", blocklist));
+        assertEquals(NameValidator.Result.VALID, NameValidator.validate("Ch'aska", blocklist));
+        assertEquals(NameValidator.Result.VALID, NameValidator.validate("Q’umir", blocklist));
+        assertEquals(NameValidator.Result.VALID, NameValidator.validate("Don Rabanito Jr.", blocklist));
+        // Accent typed as a separate combining character
+        assertEquals(NameValidator.Result.VALID, NameValidator.validate("Jose\u0301", blocklist));
+    }
+
+    @Test
+    public void validate_checksBlankLengthAndCharacters() {
+        assertEquals(NameValidator.Result.EMPTY, NameValidator.validate("   ", null));
+        assertEquals(NameValidator.Result.VALID, NameValidator.validate("  Lechuguita  ", null));
+        assertEquals(NameValidator.Result.VALID, NameValidator.validate("abcdefghijklmnopqrst", null));
+        assertEquals(NameValidator.Result.TOO_LONG, NameValidator.validate("abcdefghijklmnopqrstu", null));
+        assertEquals(NameValidator.Result.INVALID_CHARACTER, NameValidator.validate("Rabanito!", null));
+        assertEquals(NameValidator.Result.INVALID_CHARACTER, NameValidator.validate("a<b>", null));
+        assertEquals(NameValidator.Result.INVALID_CHARACTER, NameValidator.validate("Flor🌻", null));
+    }
+
+    @Test
+    public void validate_requiresALetterOrDigit() {
+        assertEquals(NameValidator.Result.NO_LETTERS, NameValidator.validate("---", null));
+        assertEquals(NameValidator.Result.NO_LETTERS, NameValidator.validate("..", null));
+        assertEquals(NameValidator.Result.NO_LETTERS, NameValidator.validate(" ' ", null));
+        assertEquals(NameValidator.Result.NO_LETTERS, NameValidator.validate("’ - ’", null));
+        assertEquals(NameValidator.Result.VALID, NameValidator.validate("7", null));
+        assertEquals(NameValidator.Result.VALID, NameValidator.validate("-A-", null));
+    }
+
+    @Test
+    public void blocklist_matchesPartsAndWholeWordsAcrossLanguages() throws Exception {
+        NameBlocklist blocklist = compile(AssetSources.nameBlocklist());
+
+        // "part" terms are blocked inside longer words, whatever the case or accents
+        assertTrue(blocklist.containsBlockedTerm("Shitake"));
+        assertTrue(blocklist.containsBlockedTerm("Pendejito"));
+        assertTrue(blocklist.containsBlockedTerm("CABRÓN"));
+        assertTrue(blocklist.containsBlockedTerm("Don Mierdas"));
+
+        // "word" terms only on their own
+        assertTrue(blocklist.containsBlockedTerm("Puta"));
+        assertTrue(blocklist.containsBlockedTerm("la puta planta"));
+        assertTrue(blocklist.containsBlockedTerm("Idiota-2"));
+        assertFalse(blocklist.containsBlockedTerm("Diputado"));
+        assertFalse(blocklist.containsBlockedTerm("Cacao"));
+        assertFalse(blocklist.containsBlockedTerm("Dickens"));
+
+        // Quechua and Aymara terms are checked in any app language, apostrophes ignored
+        assertTrue(blocklist.containsBlockedTerm("Suwa"));
+        assertTrue(blocklist.containsBlockedTerm("K’ari"));
+        assertFalse(blocklist.containsBlockedTerm("Karina"));
+
+        assertEquals(NameValidator.Result.BLOCKED, NameValidator.validate("Señor Púta", blocklist));
+        assertFalse(blocklist.containsBlockedTerm(""));
+    }
+
+    private static NameBlocklist compile(byte[] bytes) throws Exception {
+        return new NameBlocklist(ByteBuffer.wrap(bytes));
+    }
+}
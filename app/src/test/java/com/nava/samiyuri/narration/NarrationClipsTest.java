@@ -0,0 +1,41 @@
+package com.nava.samiyuri.narration;
+
+import com.nava.samiyuri.story.StoryManifest;
+import com.nava.samiyuri.story.StoryPage;
+
+import org.junit.Test;
+
+import java.io.StringReader;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for narration clip naming.
+ */
+public class NarrationClipsTest {
+
+    @Test
+    public void forStoryPage_namesOneClipPerParagraph() throws Exception {
+        List<StoryPage> pages = StoryManifest.parse(new StringReader(
+                "== @drawable/plant_radish\n"
+                        + "First paragraph,\nwrapped.\n\n\n"
+                        + "Second paragraph.\n"
+                        + "== @drawable/plant_lettuce\n"
+                        + "Only one.\n"));
+
+        assertEquals(Arrays.asList("story-1-1", "story-1-2"),
+                NarrationClips.forStoryPage(0, pages.get(0).getText()));
+        assertEquals(Collections.singletonList("story-2-1"),
+                NarrationClips.forStoryPage(1, pages.get(1).getText()));
+        assertTrue(NarrationClips.forStoryPage(2, "  ").isEmpty());
+    }
+
+    @Test
+    public void assetPath_isPerLanguage() {
+        assertEquals("narration/qu/story-3-1.ogg", NarrationClips.assetPath("qu", "story-3-1"));
+        assertEquals("narration/es/status_happy.ogg", NarrationClips.assetPath("es", "status_happy"));
+    }
+}
@@ -0,0 +1,45 @@
+package com.nava.samiyuri.overview;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for the overview grid geometry and visible-range culling.
+ */
+public class OverviewGridTest {
+
+    @Test
+    public void layout_fitsColumnsToWidthAndStretchesCells() {
+        OverviewGrid grid = new OverviewGrid(100, 120);
+        grid.layout(450, 500);
+
+        assertEquals(4, grid.getColumns());
+        assertEquals(112, grid.getCellWidth());
+        assertEquals(125, grid.getRows());
+        assertEquals(125 * 120, grid.getHeight());
+        assertEquals(2 * 112, grid.getCellLeft(6));
+        assertEquals(120, grid.getCellTop(6));
+
+        // Narrower than one cell still shows a single column
+        grid.layout(40, 3);
+        assertEquals(1, grid.getColumns());
+        assertEquals(3, grid.getRows());
+    }
+
+    @Test
+    public void visibleRange_coversOnlyRowsOnScreen() {
+        OverviewGrid grid = new OverviewGrid(100, 120);
+        grid.layout(400, 500);
+
+        // A 1000px window scrolled to 6000px shows rows 50..58 of 125
+        assertEquals(200, grid.firstVisible(6000));
+        assertEquals(236, grid.endVisible(7000));
+
+        // Clamped at both ends
+        assertEquals(0, grid.firstVisible(-50));
+        assertEquals(0, grid.endVisible(0));
+        assertEquals(500, grid.endVisible(1000000));
+        assertEquals(500, grid.firstVisible(1000000));
+    }
+}
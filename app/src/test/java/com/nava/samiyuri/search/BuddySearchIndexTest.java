@@ -0,0 +1,56 @@
+package com.nava.samiyuri.search;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for prefix search over buddy names.
+ */
+public class BuddySearchIndexTest {
+
+    private final BuddySearchIndex index = new BuddySearchIndex();
+
+    @Test
+    public void search_ignoresCaseAccentsAndApostrophes() {
+        index.put(1, "Ñawi");
+        index.put(2, "Q'umir Sara");
+        index.put(3, "Kántu");
+
+        assertEquals(Collections.singletonList(1L), index.search("nawi", 5));
+        assertEquals(Collections.singletonList(2L), index.search("QUMI", 5));
+        assertEquals(Collections.singletonList(2L), index.search("q’umir", 5));
+        assertEquals(Collections.singletonList(3L), index.search("kan", 5));
+        assertTrue(index.search("  ", 5).isEmpty());
+        assertTrue(index.search("x", 5).isEmpty());
+    }
+
+    @Test
+    public void search_matchesEveryWordAndRanksLeadingMatchesFirst() {
+        index.put(1, "Don Rabanito");
+        index.put(2, "Rabanita");
+        index.put(3, "Lechuga Rosa");
+
+        assertEquals(Arrays.asList(2L, 1L), index.search("rab", 5));
+        assertEquals(Collections.singletonList(1L), index.search("rab d", 5));
+        assertEquals(Collections.singletonList(2L), index.search("rab", 1));
+        assertTrue(index.search("rab rosa", 5).isEmpty());
+    }
+
+    @Test
+    public void put_renameAndRemoveUpdateIndexIncrementally() {
+        index.put(1, "Rosa Rosita");
+        index.put(2, "Rosendo");
+
+        index.put(1, "Lulu");
+        assertEquals(Collections.singletonList(2L), index.search("ros", 5));
+        assertEquals(Collections.singletonList(1L), index.search("lu", 5));
+
+        index.remove(2);
+        assertTrue(index.search("ros", 5).isEmpty());
+        assertEquals(1, index.size());
+    }
+}
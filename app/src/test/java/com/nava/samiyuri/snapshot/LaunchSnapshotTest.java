@@ -0,0 +1,74 @@
+package com.nava.samiyuri.snapshot;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for the launch snapshot state record.
+ */
+public class LaunchSnapshotTest {
+
+    @Test
+    public void writeTo_roundTripsEveryField() throws IOException {
+        LaunchSnapshot original = new LaunchSnapshot("qu/1/411x891/420/16/1.00/1760000000000",
+                "Ñawi", "Q'umir", 1, 2, 1760000123456L);
+
+        LaunchSnapshot read = LaunchSnapshot.readFrom(input(encode(original)));
+
+        assertEquals(original.getConfigurationKey(), read.getConfigurationKey());
+        assertEquals("Ñawi", read.getRadishName());
+        assertEquals("Q'umir", read.getLettuceName());
+        assertEquals(1, read.getPlantIndex());
+        assertEquals(2, read.getMoodIndex());
+        assertEquals(1760000123456L, read.getCapturedAtMillis());
+    }
+
+    @Test
+    public void readFrom_leavesTheStreamAtTheEndOfTheRecord() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        new LaunchSnapshot("key", "a", "b", 0, 0, 0).writeTo(out);
+        out.writeInt(42);
+
+        DataInputStream in = input(bytes.toByteArray());
+        LaunchSnapshot.readFrom(in);
+        assertEquals(42, in.readInt());
+    }
+
+    @Test(expected = IOException.class)
+    public void readFrom_rejectsOtherVersions() throws IOException {
+        byte[] bytes = encode(new LaunchSnapshot("key", "a", "b", 0, 0, 0));
+        // Version follows the 4-byte magic
+        bytes[7] = (byte) (LaunchSnapshot.VERSION + 1);
+        LaunchSnapshot.readFrom(input(bytes));
+    }
+
+    @Test(expected = IOException.class)
+    public void readFrom_rejectsOtherFiles() throws IOException {
+        LaunchSnapshot.readFrom(input("not a snapshot at all".getBytes()));
+    }
+
+    @Test(expected = IOException.class)
+    public void readFrom_rejectsTruncatedRecords() throws IOException {
+        byte[] bytes = encode(new LaunchSnapshot("key", "a", "b", 0, 0, 0));
+        LaunchSnapshot.readFrom(input(Arrays.copyOf(bytes, bytes.length - 3)));
+    }
+
+    private static byte[] encode(LaunchSnapshot snapshot) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        snapshot.writeTo(new DataOutputStream(bytes));
+        return bytes.toByteArray();
+    }
+
+    private static DataInputStream input(byte[] bytes) {
+        return new DataInputStream(new ByteArrayInputStream(bytes));
+    }
+}
@@ -0,0 +1,70 @@
+package com.nava.samiyuri.sound;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for sound effect synthesis and voice mixing.
+ */
+public class VoiceMixerTest {
+
+    @Test
+    public void render_producesShortClickFreeClipsWithHeadroom() {
+        int limit = (int) Math.ceil(ClipSynthesizer.PEAK * Short.MAX_VALUE) + 1;
+        for (SoundEffect effect : SoundEffect.values()) {
+            short[] clip = ClipSynthesizer.render(effect, 48000);
+            assertTrue(effect + " is too long", clip.length > 0 && clip.length <= 48000 / 2);
+
+            int peak = 0;
+            for (short sample : clip) {
+                peak = Math.max(peak, Math.abs(sample));
+            }
+            assertTrue(effect + " peaks at " + peak, peak > 0 && peak <= limit);
+
+            // Starts and ends near silence, so it never clicks
+            assertTrue(effect + " starts loud", Math.abs(clip[0]) < 200);
+            assertTrue(effect + " ends loud", Math.abs(clip[clip.length - 1]) < 200);
+        }
+    }
+
+    @Test
+    public void mix_sumsVoicesAndClampsToSixteenBits() {
+        VoiceMixer mixer = new VoiceMixer(4);
+        assertTrue(mixer.isIdle());
+
+        mixer.trigger(constant(3, 1000));
+        mixer.trigger(constant(5, 30000));
+        mixer.trigger(constant(5, 30000));
+        short[] out = new short[4];
+        mixer.mix(out, 4);
+        assertArrayEquals(new short[]{Short.MAX_VALUE, Short.MAX_VALUE, Short.MAX_VALUE, Short.MAX_VALUE}, out);
+
+        mixer.mix(out, 4);
+        // One sample left of the two long clips, then silence
+        assertEquals(Short.MAX_VALUE, out[0]);
+        assertArrayEquals(new short[]{0, 0, 0}, Arrays.copyOfRange(out, 1, 4));
+        assertTrue(mixer.isIdle());
+    }
+
+    @Test
+    public void trigger_reusesTheOldestVoiceWhenAllAreBusy() {
+        VoiceMixer mixer = new VoiceMixer(2);
+        mixer.trigger(constant(10, 1));
+        mixer.trigger(constant(10, 10));
+        // Takes over the first voice, not the second
+        mixer.trigger(constant(10, 100));
+
+        short[] out = new short[1];
+        mixer.mix(out, 1);
+        assertEquals(110, out[0]);
+    }
+
+    private static short[] constant(int length, int value) {
+        short[] clip = new short[length];
+        Arrays.fill(clip, (short) value);
+        return clip;
+    }
+}
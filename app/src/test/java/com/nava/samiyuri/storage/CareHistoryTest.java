@@ -0,0 +1,90 @@
+package com.nava.samiyuri.storage;
+
+import com.nava.samiyuri.garden.CareAction;
+import com.nava.samiyuri.garden.CareEvent;
+import com.nava.samiyuri.garden.Garden;
+import com.nava.samiyuri.garden.PlantRecord;
+import com.nava.samiyuri.sync.SyncEngine;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for paged care history reads over a snapshot plus journal tail.
+ */
+public class CareHistoryTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void readPage_mergesSnapshotAndTailNewestFirst() throws IOException {
+        File gardenDir = folder.newFolder("garden");
+        GardenJournal journal = new GardenJournal(new File(gardenDir, "journal"));
+        SyncEngine engine = new SyncEngine("tablet", new Garden());
+
+        journal.append(engine.putPlant(new PlantRecord(1, "Rosie", PlantRecord.SPECIES_RADISH, 0, 0, 0)));
+        journal.append(engine.putPlant(new PlantRecord(2, "Lulu", PlantRecord.SPECIES_LETTUCE, 0, 0, 0)));
+        for (int t = 10; t <= 100; t += 10) {
+            journal.append(engine.recordCare(1, CareAction.WATER, t));
+            journal.append(engine.recordCare(2, CareAction.SUNLIGHT, t));
+        }
+        journal.rotate();
+        compactAll(gardenDir, journal);
+
+        // Tail written after compaction, including an event imported late with an old timestamp
+        journal.append(engine.recordCare(1, CareAction.LAB_CHECK, 120));
+        journal.append(engine.recordCare(1, CareAction.SUNLIGHT, 55));
+        journal.append(engine.recordCare(2, CareAction.WATER, 130));
+
+        CareHistory history = CareHistory.open(gardenDir, journal, 1, 4);
+        assertEquals(12, history.size());
+        assertEquals(3, history.getPageCount());
+
+        List<Long> times = new ArrayList<>();
+        for (int page = 0; page < history.getPageCount(); page++) {
+            for (CareEvent event : history.readPage(page)) {
+                assertEquals(1, event.getPlantId());
+                times.add(event.getTimestampMillis());
+            }
+        }
+        assertEquals(List.of(120L, 100L, 90L, 80L, 70L, 60L, 55L, 50L, 40L, 30L, 20L, 10L), times);
+        assertEquals(CareAction.LAB_CHECK, history.readPage(0).get(0).getAction());
+        assertEquals(CareAction.SUNLIGHT, history.readPage(1).get(2).getAction());
+        assertTrue(history.readPage(3).isEmpty());
+    }
+
+    @Test
+    public void readPage_jumpsAheadWithoutReadingInOrder() throws IOException {
+        File gardenDir = folder.newFolder("garden");
+        GardenJournal journal = new GardenJournal(new File(gardenDir, "journal"));
+        SyncEngine engine = new SyncEngine("tablet", new Garden());
+        journal.append(engine.putPlant(new PlantRecord(1, "Rosie", PlantRecord.SPECIES_RADISH, 0, 0, 0)));
+        for (int t = 1; t <= 25; t++) {
+            journal.append(engine.recordCare(1, CareAction.WATER, t));
+        }
+
+        // No snapshot yet: the whole history comes from the journal
+        CareHistory history = CareHistory.open(gardenDir, journal, 1, 10);
+        List<CareEvent> last = history.readPage(2);
+        assertEquals(5, last.size());
+        assertEquals(5, last.get(0).getTimestampMillis());
+        assertEquals(25, history.readPage(0).get(0).getTimestampMillis());
+    }
+
+    private static void compactAll(File gardenDir, GardenJournal journal) throws IOException {
+        long now = System.currentTimeMillis();
+        for (File segment : journal.getSealedSegments()) {
+            assertTrue(segment.setLastModified(now - JournalCompactor.RETENTION_MS - 1000));
+        }
+        assertTrue(new JournalCompactor(gardenDir, journal).compact(now, () -> false) > 0);
+    }
+}
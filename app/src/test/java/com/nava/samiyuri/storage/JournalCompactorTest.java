@@ -0,0 +1,138 @@
+package com.nava.samiyuri.storage;
+
+import com.nava.samiyuri.garden.CareAction;
+import com.nava.samiyuri.garden.Garden;
+import com.nava.samiyuri.garden.GardenSnapshot;
+import com.nava.samiyuri.garden.PlantRecord;
+import com.nava.samiyuri.sync.SyncEngine;
+import com.nava.samiyuri.sync.SyncOp;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for journal compaction and incremental backup chunking.
+ */
+public class JournalCompactorTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void compact_foldsOnlyOldSealedSegmentsAndKeepsWritesFlowing() throws IOException {
+        File gardenDir = folder.newFolder("garden");
+        GardenJournal journal = new GardenJournal(new File(gardenDir, "journal"));
+        SyncEngine engine = new SyncEngine("tablet", new Garden());
+
+        journal.append(engine.putPlant(new PlantRecord(1, "Rosie", PlantRecord.SPECIES_RADISH, 0, 0, 0)));
+        journal.append(engine.recordCare(1, CareAction.WATER, 10));
+        journal.rotate();
+        journal.append(engine.recordCare(1, CareAction.SUNLIGHT, 20));
+
+        // Age the sealed segment past the retention window
+        long now = System.currentTimeMillis();
+        List<File> sealed = journal.getSealedSegments();
+        assertEquals(1, sealed.size());
+        assertTrue(sealed.get(0).setLastModified(now - JournalCompactor.RETENTION_MS - 1000));
+
+        int folded = new JournalCompactor(gardenDir, journal).compact(now, () -> false);
+        assertEquals(1, folded);
+        assertFalse(sealed.get(0).exists());
+
+        // The active segment keeps accepting writes after compaction
+        journal.append(engine.recordCare(1, CareAction.LAB_CHECK, 30));
+
+        SnapshotGeneration generation = SnapshotGeneration.latest(gardenDir);
+        assertNotNull(generation);
+        GardenSnapshot snapshot = GardenSnapshot.open(generation.snapshotFile);
+        assertEquals(1, snapshot.getPlantCount());
+        assertEquals(1, snapshot.getCareEventCount());
+        assertEquals(2, generation.readHorizon().get("tablet"));
+    }
+
+    @Test
+    public void load_afterRestoringAFullyCompactedGarden_keepsNewCare() throws IOException {
+        File gardenDir = folder.newFolder("restored");
+        GardenLoader first = GardenLoader.load(gardenDir, "tablet");
+        GardenJournal journal = first.getJournal();
+        journal.append(first.getEngine().putPlant(new PlantRecord(1, "Rosie", PlantRecord.SPECIES_RADISH, 0, 0, 0)));
+        journal.append(first.getEngine().recordCare(1, CareAction.WATER, 10));
+        journal.rotate();
+
+        long now = System.currentTimeMillis();
+        for (File segment : journal.getSealedSegments()) {
+            assertTrue(segment.setLastModified(now - JournalCompactor.RETENTION_MS - 1000));
+        }
+        assertEquals(1, new JournalCompactor(gardenDir, journal).compact(now, () -> false));
+        journal.close();
+
+        // A backup taken now holds the generation but no segments; restoring it empties the journal
+        for (File segment : journal.getAllSegments()) {
+            assertTrue(segment.delete());
+        }
+
+        GardenLoader restored = GardenLoader.load(gardenDir, "tablet");
+        restored.getJournal().append(restored.getEngine().recordCare(1, CareAction.SUNLIGHT, 20));
+        restored.getJournal().close();
+
+        GardenLoader reloaded = GardenLoader.load(gardenDir, "tablet");
+        assertEquals(2, reloaded.getGarden().getCareEvents().size());
+    }
+
+    @Test
+    public void load_afterCompaction_keepsThePlantEditThatWon() throws IOException {
+        File gardenDir = folder.newFolder("stamped");
+        GardenLoader first = GardenLoader.load(gardenDir, "tablet-b");
+        GardenJournal journal = first.getJournal();
+        // Lamport 1 and 2: the rename wins over anything tablet-a did at lamport 1
+        journal.append(first.getEngine().putPlant(new PlantRecord(1, "Rosie", PlantRecord.SPECIES_RADISH, 0, 0, 0)));
+        journal.append(first.getEngine().putPlant(new PlantRecord(1, "Rosita", PlantRecord.SPECIES_RADISH, 0, 0, 5)));
+        journal.rotate();
+
+        long now = System.currentTimeMillis();
+        for (File segment : journal.getSealedSegments()) {
+            assertTrue(segment.setLastModified(now - JournalCompactor.RETENTION_MS - 1000));
+        }
+        assertEquals(1, new JournalCompactor(gardenDir, journal).compact(now, () -> false));
+        journal.close();
+
+        // A peer that has not synced yet sends its older edit after the restart
+        GardenLoader reloaded = GardenLoader.load(gardenDir, "tablet-b");
+        SyncOp older = SyncOp.plant("tablet-a", 1, 1, new PlantRecord(1, "Rábano", PlantRecord.SPECIES_RADISH, 0, 0, 3));
+        assertTrue(reloaded.getEngine().apply(older));
+        assertEquals("Rosita", reloaded.getGarden().getPlant(1).getName());
+    }
+
+    @Test
+    public void backup_onlyWritesChangedChunksAndRestoresExactly() throws IOException {
+        File base = folder.newFolder("files");
+        File data = new File(base, "garden.bin");
+        byte[] content = new byte[200 * 1024];
+        new Random(7).nextBytes(content);
+        Files.write(data.toPath(), content);
+
+        BackupChunker chunker = new BackupChunker(new File(base, "backup"));
+        int first = chunker.backup(base, Collections.singletonList(data));
+        assertTrue(first > 1);
+
+        // Change a few bytes in the middle: only the chunks around them are new
+        content[100 * 1024] ^= 0x55;
+        Files.write(data.toPath(), content);
+        int second = chunker.backup(base, Collections.singletonList(data));
+        assertTrue("rewrote " + second + " of " + first, second <= 2);
+
+        assertTrue(data.delete());
+        assertEquals(1, chunker.restore(base));
+        assertArrayEquals(content, Files.readAllBytes(data.toPath()));
+    }
+}
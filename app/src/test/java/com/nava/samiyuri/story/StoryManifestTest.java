@@ -0,0 +1,69 @@
+package com.nava.samiyuri.story;
+
+import com.nava.samiyuri.AssetSources;
+
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for story manifest parsing and the shipped manifests.
+ */
+public class StoryManifestTest {
+
+    @Test
+    public void parse_joinsLinesAndKeepsParagraphs() throws IOException {
+        List<StoryPage> pages = StoryManifest.parse(new StringReader(
+                "# comment\n"
+                        + "\n"
+                        + "== @drawable/plant_radish\n"
+                        + "Once upon\n"
+                        + "  a time.\n"
+                        + "\n"
+                        + "\n"
+                        + "The end?\n"
+                        + "== story/garden.webp\n"
+                        + "Second page.\n"));
+
+        assertEquals(2, pages.size());
+        assertTrue(pages.get(0).isDrawableIllustration());
+        assertEquals("Once upon a time.\n\nThe end?", pages.get(0).getText());
+        assertFalse(pages.get(1).isDrawableIllustration());
+        assertEquals("story/garden.webp", pages.get(1).getIllustration());
+        assertEquals("Second page.", pages.get(1).getText());
+    }
+
+    @Test(expected = IOException.class)
+    public void parse_rejectsTextBeforeFirstPage() throws IOException {
+        StoryManifest.parse(new StringReader("Stray text\n== @drawable/plant_radish\nPage\n"));
+    }
+
+    @Test
+    public void shippedManifests_parseAndReferenceExistingDrawables() throws IOException {
+        int manifests = 0;
+        for (String language : AssetSources.languagePackLanguages()) {
+            String story = AssetSources.languagePackSource(language).entries.get(StoryManifest.PACK_ENTRY);
+            if (story == null) {
+                continue; // Falls back to another pack's story
+            }
+            manifests++;
+            List<StoryPage> pages = StoryManifest.parse(new StringReader(story));
+            assertFalse(language, pages.isEmpty());
+            for (StoryPage page : pages) {
+                assertFalse(language, page.getText().isEmpty());
+                String illustration = page.getIllustration();
+                File file = page.isDrawableIllustration()
+                        ? new File("src/main/res/drawable/"
+                                + illustration.substring(StoryPage.DRAWABLE_PREFIX.length()) + ".xml")
+                        : new File(AssetSources.ASSET_DIRECTORY, illustration);
+                assertTrue(language + ": " + illustration, file.isFile());
+            }
+        }
+        assertTrue(manifests >= 2);
+    }
+}
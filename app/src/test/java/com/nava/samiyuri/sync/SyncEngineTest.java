@@ -0,0 +1,139 @@
+package com.nava.samiyuri.sync;
+
+import com.nava.samiyuri.garden.CareAction;
+import com.nava.samiyuri.garden.Garden;
+import com.nava.samiyuri.garden.PlantRecord;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.Collections;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.*;
+
+/**
+ * Convergence tests for the garden sync engine over real transports.
+ */
+public class SyncEngineTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void loopbackSocket_mergesCareEventsAndConvergesPlantEdits() throws Exception {
+        Garden gardenA = new Garden();
+        Garden gardenB = new Garden();
+        SyncEngine a = new SyncEngine("tablet-a", gardenA);
+        SyncEngine b = new SyncEngine("tablet-b", gardenB);
+
+        a.putPlant(new PlantRecord(1, "Rosie", PlantRecord.SPECIES_RADISH, 0, 0, 0));
+        a.recordCare(1, CareAction.WATER, 1000);
+        b.recordCare(1, CareAction.SUNLIGHT, 1100);
+        b.putPlant(new PlantRecord(1, "Rosita", PlantRecord.SPECIES_RADISH, 1, 0, 1200));
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try (ServerSocket server = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+            Future<SyncEngine.Result> responder = executor.submit(() -> {
+                try (SyncTransport transport = new SocketSyncTransport(server.accept())) {
+                    return b.respond(transport);
+                }
+            });
+            try (SyncTransport transport = new SocketSyncTransport(
+                    new Socket(InetAddress.getLoopbackAddress(), server.getLocalPort()))) {
+                a.initiate(transport);
+            }
+            responder.get();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(2, gardenA.getCareEvents().size());
+        assertEquals(2, gardenB.getCareEvents().size());
+        assertEquals("Rosita", gardenA.getPlant(1).getName());
+        assertEquals(gardenA.getPlant(1), gardenB.getPlant(1));
+        assertEquals(a.getVersionVector().asMap(), b.getVersionVector().asMap());
+    }
+
+    @Test
+    public void fileExchange_sendsOnlyMissingDeltaInKilobytes() throws Exception {
+        Garden gardenA = new Garden();
+        SyncEngine a = new SyncEngine("a", gardenA);
+        SyncEngine b = new SyncEngine("b", new Garden());
+
+        a.putPlant(new PlantRecord(1, "Rosie", PlantRecord.SPECIES_RADISH, 0, 0, 0));
+        long time = 1_700_000_000_000L;
+        // A week of a busy classroom: 30 care taps per day on one tablet
+        for (int i = 0; i < 7 * 30; i++) {
+            a.recordCare(1, CareAction.values()[i % 3], time + i * 60_000L);
+        }
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<SyncEngine.Result> responder = executor.submit(() ->
+                    b.respond(new FileExchangeTransport(folder.getRoot(), "b", "a", 5000)));
+            SyncEngine.Result first = a.initiate(new FileExchangeTransport(folder.getRoot(), "a", "b", 5000));
+            responder.get();
+
+            assertEquals(211, first.getOpsSent());
+            assertTrue("delta was " + first.getBytesSent() + " bytes", first.getBytesSent() < 2048);
+
+            // A second exchange with nothing new transfers no operations
+            responder = executor.submit(() ->
+                    b.respond(new FileExchangeTransport(folder.getRoot(), "b2", "a2", 5000)));
+            SyncEngine.Result second = a.initiate(new FileExchangeTransport(folder.getRoot(), "a2", "b2", 5000));
+            responder.get();
+            assertEquals(0, second.getOpsSent());
+            assertEquals(0, second.getOpsReceived());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void exchange_refusesAPeerBehindTheCompactedHistory() throws Exception {
+        // Tablet a compacted its first three operations into a snapshot
+        Garden gardenA = new Garden();
+        gardenA.putPlant(new PlantRecord(1, "Rosie", PlantRecord.SPECIES_RADISH, 0, 0, 0));
+        SyncEngine a = new SyncEngine("a", gardenA);
+        VersionVector horizon = new VersionVector();
+        horizon.advance("a", 3);
+        a.restoreBaseline(horizon, 3, Collections.singletonMap(1L, new PlantStamp(1, "a")));
+        a.recordCare(1, CareAction.WATER, 1000);
+
+        SyncEngine b = new SyncEngine("b", new Garden());
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<SyncEngine.Result> responder = executor.submit(() ->
+                    a.respond(new FileExchangeTransport(folder.getRoot(), "a", "b", 5000)));
+            try {
+                b.initiate(new FileExchangeTransport(folder.getRoot(), "b", "a", 5000));
+                fail("Tablet b received a delta with holes");
+            } catch (SyncHorizonException expected) {
+                // b must import a snapshot first
+            }
+            try {
+                responder.get();
+                fail("Tablet a sent a delta with holes");
+            } catch (ExecutionException e) {
+                assertTrue(e.getCause() instanceof SyncHorizonException);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertTrue(b.getLog().isEmpty());
+
+        // Once b has everything up to the horizon, the delta is complete again
+        VersionVector imported = new VersionVector();
+        imported.advance("a", 3);
+        assertTrue(a.coversBaseline(imported));
+        assertEquals(1, a.opsMissingFrom(imported).size());
+    }
+}
@@ -0,0 +1,89 @@
+package com.nava.samiyuri.widget;
+
+import com.nava.samiyuri.garden.CareAction;
+import com.nava.samiyuri.garden.CareEvent;
+import com.nava.samiyuri.garden.PlantRecord;
+import com.nava.samiyuri.overview.SpriteAtlas;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for the widget's mood summary and avatar size buckets.
+ */
+public class BuddyMoodSummaryTest {
+
+    private static final long HOUR = 60 * 60 * 1000L;
+    private static final long DAY = 24 * HOUR;
+    private static final long NOW = 1_760_000_000_000L;
+
+    private final PlantRecord radish = new PlantRecord(1, "Ñawi", PlantRecord.SPECIES_RADISH, 0, NOW - 30 * DAY, NOW - 30 * DAY);
+    private final PlantRecord lettuce = new PlantRecord(2, "Q'umir", PlantRecord.SPECIES_LETTUCE, 0, NOW - 30 * DAY, NOW - 30 * DAY);
+
+    @Test
+    public void compute_derivesMoodsFromTheLastCareOfEachKind() {
+        List<CareEvent> events = Arrays.asList(
+                new CareEvent(1, CareAction.WATER, NOW - 5 * DAY),
+                new CareEvent(1, CareAction.SUNLIGHT, NOW - 3 * DAY),
+                new CareEvent(2, CareAction.WATER, NOW - 10 * DAY),
+                new CareEvent(2, CareAction.WATER, NOW - HOUR));
+
+        BuddyMoodSummary summary = BuddyMoodSummary.compute(Arrays.asList(radish, lettuce), events, NOW);
+
+        // Cared for three days ago, but not watered for five
+        assertEquals(SpriteAtlas.MOOD_THIRSTY, summary.getBuddies().get(0).getMood());
+        assertEquals(SpriteAtlas.MOOD_HAPPY, summary.getBuddies().get(1).getMood());
+        // The radish needs attention four days after its last care
+        assertEquals(NOW + DAY, summary.getNextChangeAtMillis());
+    }
+
+    @Test
+    public void compute_countsFromTheNamingDayAndSkipsUnknownSpecies() {
+        PlantRecord fresh = new PlantRecord(3, "Rosa", PlantRecord.SPECIES_RADISH, 0, NOW - HOUR, NOW - HOUR);
+        PlantRecord forgotten = new PlantRecord(4, "Lola", PlantRecord.SPECIES_LETTUCE, 0, NOW - 9 * DAY, NOW - 9 * DAY);
+        PlantRecord cactus = new PlantRecord(5, "Espina", "cactus", 0, NOW - 9 * DAY, NOW - 9 * DAY);
+
+        BuddyMoodSummary summary = BuddyMoodSummary.compute(
+                Arrays.asList(fresh, forgotten, cactus), Collections.emptyList(), NOW);
+
+        assertEquals(2, summary.getBuddies().size());
+        assertEquals(SpriteAtlas.MOOD_HAPPY, summary.getBuddies().get(0).getMood());
+        assertEquals(SpriteAtlas.MOOD_SAD, summary.getBuddies().get(1).getMood());
+        assertEquals(NOW - HOUR + BuddyMoodSummary.THIRSTY_AFTER_MILLIS, summary.getNextChangeAtMillis());
+    }
+
+    @Test
+    public void compute_neverChangesWhenEveryBuddyAlreadyNeedsAttention() {
+        BuddyMoodSummary summary = BuddyMoodSummary.compute(
+                Arrays.asList(radish, lettuce), Collections.emptyList(), NOW);
+        assertEquals(BuddyMoodSummary.NEVER, summary.getNextChangeAtMillis());
+    }
+
+    @Test
+    public void fingerprint_changesOnlyWithWhatTheWidgetShows() {
+        List<PlantRecord> plants = Arrays.asList(radish, lettuce);
+        List<CareEvent> watered = Collections.singletonList(new CareEvent(1, CareAction.WATER, NOW - HOUR));
+        String before = BuddyMoodSummary.compute(plants, watered, NOW).fingerprint();
+
+        // More care that does not change any mood
+        List<CareEvent> more = Arrays.asList(watered.get(0), new CareEvent(1, CareAction.LAB_CHECK, NOW));
+        assertEquals(before, BuddyMoodSummary.compute(plants, more, NOW).fingerprint());
+
+        // The radish becomes thirsty two days after its watering
+        assertNotEquals(before, BuddyMoodSummary.compute(plants, watered, NOW + 2 * DAY).fingerprint());
+    }
+
+    @Test
+    public void bucketFor_roundsDownToARenderedSize() {
+        assertEquals(40, WidgetAvatars.bucketFor(-10));
+        assertEquals(40, WidgetAvatars.bucketFor(55));
+        assertEquals(56, WidgetAvatars.bucketFor(56));
+        assertEquals(96, WidgetAvatars.bucketFor(127));
+        assertEquals(128, WidgetAvatars.bucketFor(500));
+    }
+}
@@ -0,0 +1,482 @@
+package com.nava.samiyuri.workload;
+
+import com.nava.samiyuri.AssetSources;
+import com.nava.samiyuri.garden.CareAction;
+import com.nava.samiyuri.garden.Garden;
+import com.nava.samiyuri.garden.PlantRecord;
+import com.nava.samiyuri.langpack.LanguagePack;
+import com.nava.samiyuri.names.NameBlocklist;
+import com.nava.samiyuri.names.NameValidator;
+import com.nava.samiyuri.storage.CareHistory;
+import com.nava.samiyuri.storage.GardenJournal;
+import com.nava.samiyuri.storage.GardenLoader;
+import com.nava.samiyuri.storage.GardenStore;
+import com.nava.samiyuri.storage.JournalCompactor;
+import com.nava.samiyuri.story.StoryManifest;
+import com.nava.samiyuri.story.StoryPage;
+import com.nava.samiyuri.sync.SyncEngine;
+import com.nava.samiyuri.sync.SyncOp;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.StringReader;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GardenWorkloadSimulator - Replays months of classroom use against the real storage code.
+ * <p>
+ * Every simulated tablet gets its own files directory and goes through the same
+ * life the app gives it: a process start that loads the garden with
+ * {@link GardenLoader}, a session of care taps, namings, language switches, photos
+ * and history views, a process death, and a nightly compaction pass. Time is
+ * virtual: the clock jumps from event to event, and journal segments are stamped
+ * with the virtual time they were last written, so a school year of retention
+ * windows and compactions runs in minutes.
+ * <p>
+ * Key Features:
+ * - Deterministic: all choices come from one seeded {@link Random} per tablet, and
+ *   every file name, size and timestamp follows from them, so equal seeds produce
+ *   equal {@link WorkloadReport#getFingerprint() fingerprints}
+ * - Exercises the shipped code paths: garden loading and journal replay, journal
+ *   appends, compaction, paged care history, name validation against the compiled
+ *   blocklist and story loading from the compiled language packs
+ * - Reports latency percentiles per operation, throughput, monthly storage
+ *   growth and the heap high-water mark
+ * - Ends by reloading every garden from disk and comparing it with what was written
+ * <p>
+ * What it leaves out: buddy moods only exist as the garden screen's display cycle,
+ * so there is no mood state to drive; and photos have no persistence path in the
+ * garden model yet, so photo additions only write the image files, whose growth is
+ * reported on its own.
+ * <p>
+ * Run a profile from the command line with
+ * {@code ./gradlew :app:testDebugUnitTest --tests '*GardenWorkloadSimulatorTest*' -PworkloadProfile=SCHOOL_YEAR},
+ * or call {@link #main(String[])} with a profile name, a seed and an output directory.
+ *
+ * @author Neriou
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class GardenWorkloadSimulator {
+
+    /** First simulated day, a Monday at the start of a school year. */
+    private static final LocalDate START_DATE = LocalDate.of(2025, 3, 3);
+
+    private static final long SECOND = TimeUnit.SECONDS.toMillis(1);
+    private static final long HOUR = TimeUnit.HOURS.toMillis(1);
+
+    /** Classes start at eight; sessions of a day are spread over the school hours. */
+    private static final long FIRST_SESSION_HOUR = 8;
+    private static final long SESSION_SPACING = HOUR * 6;
+
+    /** Compaction runs at night, when the tablets are idle and charging. */
+    private static final long COMPACTION_HOUR = 23;
+
+    /** Storage is sampled every this many days, and once more at the end. */
+    private static final int STORAGE_SAMPLE_DAYS = 30;
+
+    // Per-session chances of the less frequent actions
+    private static final double NEW_BUDDY_CHANCE = 0.05;
+    private static final double RENAME_CHANCE = 0.03;
+    private static final double LANGUAGE_SWITCH_CHANCE = 0.10;
+    private static final double PHOTO_CHANCE = 0.15;
+    private static final double HISTORY_CHANCE = 0.30;
+
+    /** Share of typed names that a child gets wrong: a symbol, too long, or a rude word. */
+    private static final double MISTYPED_NAME_CHANCE = 0.15;
+
+    private static final String[] LANGUAGES = {"es", "en", "qu", "ay", "cni"};
+    private static final String[] SYLLABLES = {
+            "ra", "ba", "ni", "to", "le", "chu", "gui", "ta", "ña", "wi", "q'u", "mir",
+            "sa", "cha", "ka", "ri", "lu", "pa", "ch'as", "ku"};
+    private static final String[] MISTYPED_NAMES = {
+            "Rabanito!", "Lechuguita Lechuguita Grande", "Pendejito", "Flor 🌻"};
+
+    private final WorkloadProfile profile;
+    private final long seed;
+    private final File workDirectory;
+    private final File assetDirectory;
+
+    /**
+     * Creates a simulator.
+     *
+     * @param profile The workload to run
+     * @param seed Seed for every random choice
+     * @param workDirectory Empty directory that receives one files directory per tablet
+     * @param assetDirectory Compiled assets, for the blocklist and language packs
+     *                       (see {@link AssetSources#compileInto(File)})
+     */
+    public GardenWorkloadSimulator(WorkloadProfile profile, long seed,
+                                   File workDirectory, File assetDirectory) {
+        this.profile = profile;
+        this.seed = seed;
+        this.workDirectory = workDirectory;
+        this.assetDirectory = assetDirectory;
+    }
+
+    /**
+     * Runs the whole workload.
+     *
+     * @return The report
+     * @throws IOException If a garden cannot be read or written
+     */
+    public WorkloadReport run() throws IOException {
+        WorkloadReport report = new WorkloadReport(profile, seed);
+        NameBlocklist blocklist = new NameBlocklist(ByteBuffer.wrap(
+                Files.readAllBytes(new File(assetDirectory, NameBlocklist.ASSET_PATH).toPath())));
+
+        Random seeds = new Random(seed);
+        List<Tablet> tablets = new ArrayList<>();
+        for (int i = 0; i < profile.tablets; i++) {
+            tablets.add(new Tablet(i, new File(workDirectory, "tablet-" + i), new Random(seeds.nextLong())));
+        }
+
+        List<MemoryPoolMXBean> heapPools = new ArrayList<>();
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                pool.resetPeakUsage();
+                heapPools.add(pool);
+            }
+        }
+        long started = System.nanoTime();
+
+        for (int day = 0; day < profile.days; day++) {
+            LocalDate date = START_DATE.plusDays(day);
+            long midnight = date.atStartOfDay(ZoneOffset.UTC).toInstant().toEpochMilli();
+            DayOfWeek weekday = date.getDayOfWeek();
+            boolean schoolDay = weekday != DayOfWeek.SATURDAY && weekday != DayOfWeek.SUNDAY;
+
+            for (Tablet tablet : tablets) {
+                if (schoolDay || !profile.schoolDaysOnly) {
+                    for (int session = 0; session < profile.sessionsPerDay; session++) {
+                        long start = midnight + FIRST_SESSION_HOUR * HOUR
+                                + session * SESSION_SPACING / profile.sessionsPerDay
+                                + tablet.random.nextInt(30 * 60) * SECOND;
+                        runSession(tablet, start, blocklist, report);
+                    }
+                }
+                runCompaction(tablet, midnight + COMPACTION_HOUR * HOUR, report);
+            }
+
+            if ((day + 1) % STORAGE_SAMPLE_DAYS == 0) {
+                sampleStorage(day + 1, tablets, report);
+            }
+        }
+        if (profile.days % STORAGE_SAMPLE_DAYS != 0) {
+            sampleStorage(profile.days, tablets, report);
+        }
+
+        report.wallNanos = System.nanoTime() - started;
+        for (MemoryPoolMXBean pool : heapPools) {
+            report.heapPeakBytes += pool.getPeakUsage().getUsed();
+        }
+        verify(tablets, report);
+        return report;
+    }
+
+    // ------------------------------------------------------------------
+    // Sessions
+    // ------------------------------------------------------------------
+
+    private void runSession(Tablet tablet, long startMillis, NameBlocklist blocklist,
+                            WorkloadReport report) throws IOException {
+        Random random = tablet.random;
+        long now = startMillis;
+
+        long t0 = System.nanoTime();
+        GardenLoader loader = GardenLoader.load(tablet.gardenDirectory, tablet.replicaId);
+        report.operation("app-start").record(System.nanoTime() - t0);
+        Garden garden = loader.getGarden();
+        SyncEngine engine = loader.getEngine();
+        GardenJournal journal = loader.getJournal();
+
+        if (garden.getPlants().isEmpty()) {
+            // Onboarding names the two starter buddies
+            journal.append(engine.putPlant(new PlantRecord(GardenStore.STARTER_RADISH_ID,
+                    typedName(random), PlantRecord.SPECIES_RADISH, 0, now, now)));
+            journal.append(engine.putPlant(new PlantRecord(GardenStore.STARTER_LETTUCE_ID,
+                    typedName(random), PlantRecord.SPECIES_LETTUCE, 0, now, now)));
+        }
+
+        if (random.nextDouble() < LANGUAGE_SWITCH_CHANCE) {
+            switchLanguage(LANGUAGES[random.nextInt(LANGUAGES.length)], report);
+        }
+        if (random.nextDouble() < NEW_BUDDY_CHANCE) {
+            String name = validatedName(random, blocklist, report);
+            if (name != null) {
+                String species = random.nextBoolean() ? PlantRecord.SPECIES_RADISH : PlantRecord.SPECIES_LETTUCE;
+                PlantRecord plant = new PlantRecord(garden.nextPlantId(), name, species, 0, now, now);
+                timedAppend(journal, engine.putPlant(plant), "new-buddy", report);
+            }
+        }
+        if (random.nextDouble() < RENAME_CHANCE) {
+            PlantRecord plant = pickPlant(garden, random);
+            String name = validatedName(random, blocklist, report);
+            if (name != null) {
+                PlantRecord renamed = new PlantRecord(plant.getId(), name, plant.getSpecies(),
+                        plant.getGrowthStage(), plant.getCreatedAtMillis(), now);
+                timedAppend(journal, engine.putPlant(renamed), "rename", report);
+            }
+        }
+
+        // Care taps, a few seconds to a minute apart
+        int taps = profile.tapsPerSession / 2 + random.nextInt(profile.tapsPerSession + 1);
+        CareAction[] actions = CareAction.values();
+        for (int i = 0; i < taps; i++) {
+            now += (3 + random.nextInt(60)) * SECOND;
+            PlantRecord plant = pickPlant(garden, random);
+            CareAction action = actions[random.nextInt(actions.length)];
+            timedAppend(journal, engine.recordCare(plant.getId(), action, now), "care-tap", report);
+            tablet.careEvents++;
+        }
+
+        if (random.nextDouble() < PHOTO_CHANCE) {
+            addPhoto(tablet, pickPlant(garden, random), now, random, report);
+        }
+        if (random.nextDouble() < HISTORY_CHANCE) {
+            long plantId = pickPlant(garden, random).getId();
+            t0 = System.nanoTime();
+            CareHistory history = CareHistory.open(tablet.gardenDirectory, journal, plantId, CareHistory.PAGE_SIZE);
+            history.readPage(0);
+            report.operation("history-open").record(System.nanoTime() - t0);
+        }
+
+        // The child leaves; the process is eventually killed
+        journal.close();
+        tablet.stampSegments(journal, now);
+    }
+
+    private void runCompaction(Tablet tablet, long nowMillis, WorkloadReport report) throws IOException {
+        if (!new File(tablet.gardenDirectory, GardenLoader.JOURNAL_DIRECTORY).isDirectory()) {
+            return;
+        }
+        // The compaction job starts the process, which loads the garden first
+        GardenLoader loader = GardenLoader.load(tablet.gardenDirectory, tablet.replicaId);
+        GardenJournal journal = loader.getJournal();
+        long t0 = System.nanoTime();
+        int folded = new JournalCompactor(tablet.gardenDirectory, journal).compact(nowMillis, () -> false);
+        if (folded > 0) {
+            report.operation("compaction").record(System.nanoTime() - t0);
+            report.count("segments-compacted", folded);
+        }
+        journal.close();
+        tablet.stampSegments(journal, nowMillis);
+    }
+
+    private static void timedAppend(GardenJournal journal, SyncOp op,
+                                    String operation, WorkloadReport report) throws IOException {
+        long t0 = System.nanoTime();
+        journal.append(op);
+        report.operation(operation).record(System.nanoTime() - t0);
+    }
+
+    private void switchLanguage(String language, WorkloadReport report) throws IOException {
+        long t0 = System.nanoTime();
+        LanguagePack pack = openPack(language);
+        String story = pack.getString(StoryManifest.PACK_ENTRY);
+        if (story == null && pack.getFallbackLanguage() != null) {
+            story = openPack(pack.getFallbackLanguage()).getString(StoryManifest.PACK_ENTRY);
+        }
+        List<StoryPage> pages = story != null ? StoryManifest.parse(new StringReader(story)) : null;
+        report.operation("language-switch").record(System.nanoTime() - t0);
+        if (pages == null || pages.isEmpty()) {
+            report.count("story-missing-" + language);
+        }
+    }
+
+    private LanguagePack openPack(String language) throws IOException {
+        return LanguagePack.open(new File(assetDirectory,
+                LanguagePack.ASSET_DIRECTORY + LanguagePack.fileName(language)));
+    }
+
+    private static void addPhoto(Tablet tablet, PlantRecord plant, long nowMillis, Random random,
+                                 WorkloadReport report) throws IOException {
+        // A compressed camera photo; the content does not matter, only its size
+        long size = (80 + random.nextInt(220)) * 1024L;
+        File photo = new File(tablet.photoDirectory,
+                String.format(Locale.ROOT, "plant-%d-%d.jpg", plant.getId(), nowMillis));
+        long t0 = System.nanoTime();
+        if (!tablet.photoDirectory.isDirectory() && !tablet.photoDirectory.mkdirs()) {
+            throw new IOException("Cannot create " + tablet.photoDirectory);
+        }
+        try (RandomAccessFile out = new RandomAccessFile(photo, "rw")) {
+            out.setLength(size);
+        }
+        report.operation("photo-add").record(System.nanoTime() - t0);
+    }
+
+    /**
+     * Lets the child type names until one is accepted, like the naming screen does.
+     *
+     * @return The accepted name, or null if the child gave up after three tries
+     */
+    private static String validatedName(Random random, NameBlocklist blocklist, WorkloadReport report) {
+        for (int attempt = 0; attempt < 3; attempt++) {
+            String name = random.nextDouble() < MISTYPED_NAME_CHANCE
+                    ? MISTYPED_NAMES[random.nextInt(MISTYPED_NAMES.length)]
+                    : typedName(random);
+            long t0 = System.nanoTime();
+            NameValidator.Result result = NameValidator.validate(name, blocklist);
+            report.operation("name-validate").record(System.nanoTime() - t0);
+            report.count("name-" + result.name().toLowerCase(Locale.ROOT));
+            if (result == NameValidator.Result.VALID) {
+                return name;
+            }
+        }
+        return null;
+    }
+
+    private static String typedName(Random random) {
+        StringBuilder name = new StringBuilder();
+        int syllables = 2 + random.nextInt(3);
+        for (int i = 0; i < syllables; i++) {
+            name.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+        }
+        name.setCharAt(0, Character.toUpperCase(name.charAt(0)));
+        return name.toString();
+    }
+
+    private static PlantRecord pickPlant(Garden garden, Random random) {
+        List<PlantRecord> plants = garden.getPlants();
+        return plants.get(random.nextInt(plants.size()));
+    }
+
+    // ------------------------------------------------------------------
+    // Measurement
+    // ------------------------------------------------------------------
+
+    private static void sampleStorage(int day, List<Tablet> tablets, WorkloadReport report) {
+        long journalBytes = 0;
+        long snapshotBytes = 0;
+        long photoBytes = 0;
+        int segments = 0;
+        for (Tablet tablet : tablets) {
+            File[] journalFiles = new File(tablet.gardenDirectory, GardenLoader.JOURNAL_DIRECTORY).listFiles();
+            if (journalFiles != null) {
+                for (File file : journalFiles) {
+                    journalBytes += file.length();
+                    segments++;
+                }
+            }
+            File[] gardenFiles = tablet.gardenDirectory.listFiles(File::isFile);
+            if (gardenFiles != null) {
+                for (File file : gardenFiles) {
+                    snapshotBytes += file.length();
+                }
+            }
+            File[] photos = tablet.photoDirectory.listFiles();
+            if (photos != null) {
+                for (File file : photos) {
+                    photoBytes += file.length();
+                }
+            }
+        }
+        report.storageSamples.add(String.format(Locale.ROOT, "day %d: %d/%d, %d, %d",
+                day, journalBytes, segments, snapshotBytes, photoBytes));
+    }
+
+    /**
+     * Reloads every garden the way a fresh process would and checks that no care
+     * event was lost or duplicated by journaling and compaction.
+     */
+    private static void verify(List<Tablet> tablets, WorkloadReport report) throws IOException {
+        for (Tablet tablet : tablets) {
+            GardenLoader loader = GardenLoader.load(tablet.gardenDirectory, tablet.replicaId);
+            Garden garden = loader.getGarden();
+            loader.getJournal().close();
+            int careEvents = garden.getCareEvents().size();
+            report.finalGardens.add(String.format(Locale.ROOT, "%s: %d, %d, %d",
+                    tablet.replicaId, garden.getPlants().size(), careEvents, loader.getEngine().getLamport()));
+            if (careEvents != tablet.careEvents) {
+                report.consistencyErrors.add(String.format(Locale.ROOT,
+                        "%s: wrote %d care events, reloaded %d", tablet.replicaId, tablet.careEvents, careEvents));
+            }
+        }
+    }
+
+    /**
+     * Runs a profile from the command line, from the app module directory.
+     *
+     * @param args Profile name, then optionally a seed and an output directory
+     * @throws IOException If the simulation or the report fails
+     */
+    public static void main(String[] args) throws IOException {
+        WorkloadProfile profile = WorkloadProfile.valueOf(args.length > 0 ? args[0] : "SMOKE");
+        long seed = args.length > 1 ? Long.parseLong(args[1]) : 1;
+        File output = new File(args.length > 2 ? args[2] : "build/reports/workload");
+        File assets = Files.createTempDirectory("samiyura-assets").toFile();
+        File work = Files.createTempDirectory("samiyura-workload").toFile();
+        try {
+            AssetSources.compileInto(assets);
+            WorkloadReport report = new GardenWorkloadSimulator(profile, seed, work, assets).run();
+            report.writeTo(new File(output, String.format(Locale.ROOT, "%s-%d.txt",
+                    profile.name().toLowerCase(Locale.ROOT), seed)));
+            System.out.print(report.format());
+        } finally {
+            deleteRecursively(work);
+            deleteRecursively(assets);
+        }
+    }
+
+    static void deleteRecursively(File file) {
+        File[] children = file.listFiles();
+        if (children != null) {
+            for (File child : children) {
+                deleteRecursively(child);
+            }
+        }
+        //noinspection ResultOfMethodCallIgnored
+        file.delete();
+    }
+
+    /**
+     * Tablet - One simulated device with its own files directory and random stream.
+     */
+    private static final class Tablet {
+
+        final String replicaId;
+        final File gardenDirectory;
+        final File photoDirectory;
+        final Random random;
+
+        /** Care events written so far, to check the reloaded garden against. */
+        int careEvents;
+
+        /** Segments already given their virtual modification time. */
+        private final Set<String> stamped = new HashSet<>();
+
+        Tablet(int index, File filesDirectory, Random random) {
+            this.replicaId = "sim-" + index;
+            this.gardenDirectory = new File(filesDirectory, "garden");
+            this.photoDirectory = new File(filesDirectory, "photos");
+            this.random = random;
+        }
+
+        /**
+         * Gives segments written during this process their virtual modification
+         * time, which is what the compactor's retention window is measured against.
+         */
+        void stampSegments(GardenJournal journal, long nowMillis) throws IOException {
+            for (File segment : journal.getAllSegments()) {
+                if (stamped.add(segment.getName()) && !segment.setLastModified(nowMillis)) {
+                    throw new IOException("Cannot stamp " + segment);
+                }
+            }
+        }
+    }
+}
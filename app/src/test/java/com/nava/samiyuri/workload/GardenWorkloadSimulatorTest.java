@@ -0,0 +1,73 @@
+package com.nava.samiyuri.workload;
+
+import com.nava.samiyuri.AssetSources;
+
+import org.junit.Assume;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.util.Locale;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for the garden workload simulator.
+ * <p>
+ * Also runs a full profile on request: run the unit tests with
+ * {@code -PworkloadProfile=SCHOOL_YEAR} (or any other profile) and read the
+ * report under {@code build/reports/workload}.
+ */
+public class GardenWorkloadSimulatorTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void run_isReproducibleForASeed() throws Exception {
+        WorkloadReport first = simulate(WorkloadProfile.SMOKE, 42);
+        WorkloadReport second = simulate(WorkloadProfile.SMOKE, 42);
+        WorkloadReport other = simulate(WorkloadProfile.SMOKE, 43);
+
+        assertEquals(first.getFingerprint(), second.getFingerprint());
+        assertNotEquals(first.getFingerprint(), other.getFingerprint());
+    }
+
+    @Test
+    public void run_compactsAndReloadsEveryGardenIntact() throws Exception {
+        WorkloadReport report = simulate(WorkloadProfile.SMOKE, 7);
+
+        assertTrue(report.getConsistencyErrors().toString(), report.getConsistencyErrors().isEmpty());
+        assertTrue(report.operations.get("care-tap").count() > 0);
+        // Three weeks is past the retention window, so at least one compaction ran
+        assertNotNull(report.operations.get("compaction"));
+        assertFalse(report.storageSamples.isEmpty());
+    }
+
+    @Test
+    public void requestedProfile() throws Exception {
+        String requested = System.getProperty("samiyura.workloadProfile");
+        Assume.assumeTrue("Run with -PworkloadProfile=<profile> to simulate a full workload",
+                requested != null && !requested.isEmpty());
+        WorkloadProfile profile = WorkloadProfile.valueOf(requested.toUpperCase(Locale.ROOT));
+        long seed = Long.getLong("samiyura.workloadSeed", 1);
+
+        WorkloadReport report = simulate(profile, seed);
+        report.writeTo(new File("build", String.format(Locale.ROOT, "reports/workload/%s-%d.txt",
+                profile.name().toLowerCase(Locale.ROOT), seed)));
+        System.out.print(report.format());
+        assertTrue(report.getConsistencyErrors().toString(), report.getConsistencyErrors().isEmpty());
+    }
+
+    private WorkloadReport simulate(WorkloadProfile profile, long seed) throws Exception {
+        File assets = folder.newFolder();
+        AssetSources.compileInto(assets);
+        File work = folder.newFolder();
+        try {
+            return new GardenWorkloadSimulator(profile, seed, work, assets).run();
+        } finally {
+            GardenWorkloadSimulator.deleteRecursively(work);
+        }
+    }
+}
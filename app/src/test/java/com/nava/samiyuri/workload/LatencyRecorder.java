@@ -0,0 +1,63 @@
+package com.nava.samiyuri.workload;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * LatencyRecorder - Collects the durations of one kind of operation.
+ * <p>
+ * Samples are kept as raw nanoseconds in a growable primitive array, so a run of
+ * millions of care taps neither boxes nor distorts the heap figures it reports.
+ * Percentiles use the nearest-rank method over the sorted samples.
+ *
+ * @author Neriou
+ * @version 1.0
+ * @since 2026-10-18
+ */
+final class LatencyRecorder {
+
+    private long[] samples = new long[256];
+    private int count;
+    private long totalNanos;
+
+    void record(long nanos) {
+        if (count == samples.length) {
+            samples = Arrays.copyOf(samples, count * 2);
+        }
+        samples[count++] = nanos;
+        totalNanos += nanos;
+    }
+
+    int count() {
+        return count;
+    }
+
+    long totalNanos() {
+        return totalNanos;
+    }
+
+    /**
+     * Returns a percentile of the recorded durations.
+     *
+     * @param percentile Between 0 and 100
+     * @return The duration in nanoseconds, or 0 if nothing was recorded
+     */
+    long percentile(double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        long[] sorted = Arrays.copyOf(samples, count);
+        Arrays.sort(sorted);
+        int rank = (int) Math.ceil(percentile / 100 * count);
+        return sorted[Math.max(0, Math.min(count, rank) - 1)];
+    }
+
+    /**
+     * Formats count and p50 / p90 / p99 / max in microseconds.
+     */
+    String summary() {
+        return String.format(Locale.ROOT, "n=%d p50=%dus p90=%dus p99=%dus max=%dus",
+                count, percentile(50) / 1000, percentile(90) / 1000,
+                percentile(99) / 1000, percentile(100) / 1000);
+    }
+}
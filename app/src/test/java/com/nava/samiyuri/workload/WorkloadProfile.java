@@ -0,0 +1,42 @@
+package com.nava.samiyuri.workload;
+
+/**
+ * WorkloadProfile - How much a simulated classroom uses the app, and for how long.
+ * <p>
+ * Each profile fixes the number of tablets, the simulated calendar and how busy
+ * every session is. Together with a seed, a profile fully determines the
+ * simulated workload.
+ *
+ * @author Neriou
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public enum WorkloadProfile {
+
+    /** One tablet for three weeks; long enough for the first compaction. */
+    SMOKE(1, 21, 2, 12, false),
+
+    /** A class of thirty tablets through one school week. */
+    CLASSROOM_WEEK(30, 7, 3, 15, true),
+
+    /** A class of thirty tablets through a school year of about 200 school days. */
+    SCHOOL_YEAR(30, 280, 2, 10, true),
+
+    /** One child who opens the app many times a day, every day, for a year. */
+    HEAVY_USER(1, 365, 8, 40, false);
+
+    final int tablets;
+    final int days;
+    final int sessionsPerDay;
+    final int tapsPerSession;
+    final boolean schoolDaysOnly;
+
+    WorkloadProfile(int tablets, int days, int sessionsPerDay, int tapsPerSession,
+                    boolean schoolDaysOnly) {
+        this.tablets = tablets;
+        this.days = days;
+        this.sessionsPerDay = sessionsPerDay;
+        this.tapsPerSession = tapsPerSession;
+        this.schoolDaysOnly = schoolDaysOnly;
+    }
+}
@@ -0,0 +1,162 @@
+package com.nava.samiyuri.workload;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * WorkloadReport - What one simulator run did and what it cost.
+ * <p>
+ * The report has two halves. The deterministic half - operation and outcome
+ * counts, storage growth and the final state of every garden - depends only on
+ * the profile and the seed, and is condensed into a {@link #getFingerprint()
+ * fingerprint}: two runs with the same fingerprint did exactly the same work.
+ * The measured half - latencies, throughput and heap high-water mark - depends on
+ * the machine and is only meaningful when comparing runs with equal fingerprints.
+ *
+ * @author Neriou
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class WorkloadReport {
+
+    private final WorkloadProfile profile;
+    private final long seed;
+
+    final Map<String, LatencyRecorder> operations = new LinkedHashMap<>();
+    final Map<String, Integer> outcomes = new LinkedHashMap<>();
+    final List<String> storageSamples = new ArrayList<>();
+    final List<String> finalGardens = new ArrayList<>();
+    final List<String> consistencyErrors = new ArrayList<>();
+    long wallNanos;
+    long heapPeakBytes;
+
+    WorkloadReport(WorkloadProfile profile, long seed) {
+        this.profile = profile;
+        this.seed = seed;
+    }
+
+    LatencyRecorder operation(String name) {
+        LatencyRecorder recorder = operations.get(name);
+        if (recorder == null) {
+            recorder = new LatencyRecorder();
+            operations.put(name, recorder);
+        }
+        return recorder;
+    }
+
+    void count(String outcome) {
+        count(outcome, 1);
+    }
+
+    void count(String outcome, int times) {
+        outcomes.merge(outcome, times, Integer::sum);
+    }
+
+    /**
+     * Returns the total number of timed operations.
+     *
+     * @return Operation count over all kinds
+     */
+    public long getOperationCount() {
+        long total = 0;
+        for (LatencyRecorder recorder : operations.values()) {
+            total += recorder.count();
+        }
+        return total;
+    }
+
+    /**
+     * Returns the gardens whose reloaded state differs from what was written.
+     *
+     * @return One line per inconsistent tablet; empty if every garden reloaded intact
+     */
+    public List<String> getConsistencyErrors() {
+        return consistencyErrors;
+    }
+
+    /**
+     * Returns a digest of the deterministic half of the report.
+     *
+     * @return Sixteen hex digits, equal for equal profile and seed
+     */
+    public String getFingerprint() {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(deterministicPart().getBytes(StandardCharsets.UTF_8));
+            StringBuilder hex = new StringBuilder();
+            for (int i = 0; i < 8; i++) {
+                hex.append(String.format(Locale.ROOT, "%02x", digest[i]));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Formats the full report as plain text.
+     *
+     * @return The report
+     */
+    public String format() {
+        StringBuilder out = new StringBuilder();
+        out.append("profile ").append(profile).append(" seed ").append(seed)
+                .append(" fingerprint ").append(getFingerprint()).append('\n');
+        out.append(deterministicPart());
+
+        out.append("\n# measured\n");
+        double seconds = wallNanos / 1e9;
+        out.append(String.format(Locale.ROOT, "wall %.2fs, %.0f ops/s, heap high-water %d KiB%n",
+                seconds, seconds > 0 ? getOperationCount() / seconds : 0, heapPeakBytes / 1024));
+        for (Map.Entry<String, LatencyRecorder> entry : operations.entrySet()) {
+            out.append(String.format(Locale.ROOT, "%-16s %s%n", entry.getKey(), entry.getValue().summary()));
+        }
+        return out.toString();
+    }
+
+    /**
+     * Writes the formatted report to a file, creating its directory.
+     *
+     * @param file The report file
+     * @throws IOException If the file cannot be written
+     */
+    public void writeTo(File file) throws IOException {
+        File directory = file.getParentFile();
+        if (directory != null && !directory.isDirectory() && !directory.mkdirs()) {
+            throw new IOException("Cannot create " + directory);
+        }
+        Files.write(file.toPath(), format().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String deterministicPart() {
+        StringBuilder out = new StringBuilder();
+        out.append("# operations\n");
+        for (Map.Entry<String, LatencyRecorder> entry : operations.entrySet()) {
+            out.append(entry.getKey()).append(' ').append(entry.getValue().count()).append('\n');
+        }
+        out.append("# outcomes\n");
+        for (Map.Entry<String, Integer> entry : outcomes.entrySet()) {
+            out.append(entry.getKey()).append(' ').append(entry.getValue()).append('\n');
+        }
+        out.append("# storage (day: journal bytes/segments, snapshot bytes, photo bytes)\n");
+        for (String sample : storageSamples) {
+            out.append(sample).append('\n');
+        }
+        out.append("# gardens (tablet: plants, care events, lamport)\n");
+        for (String garden : finalGardens) {
+            out.append(garden).append('\n');
+        }
+        out.append("# consistency\n");
+        out.append(consistencyErrors.isEmpty() ? "ok" : String.join("\n", consistencyErrors)).append('\n');
+        return out.toString();
+    }
+}